@@ -62,6 +62,7 @@
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 
 /**
@@ -373,4 +374,88 @@ public void testDefaultNumberOfPossibleValues() {
         assertThat("Unexpected possible values", colDomain.getValues(), is(nullValue()));
 
     }
+
+    /**
+     * Checks that merging domain creators of several partitions yields the same domain as processing all rows with one
+     * instance.
+     */
+    @Test
+    public void testMerge() {
+        DataTableSpec tableSpec =
+            new DataTableSpec(new DataColumnSpecCreator("Double col", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Int col", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Long col", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec());
+
+        DataTableDomainCreator single = new DataTableDomainCreator(tableSpec, false);
+        DataTableDomainCreator[] partitions = new DataTableDomainCreator[4];
+        for (int p = 0; p < partitions.length; p++) {
+            partitions[p] = new DataTableDomainCreator(tableSpec, false);
+        }
+        for (int i = 0; i < 1000; i++) {
+            DataRow row = new DefaultRow(RowKey.createRowKey((long)i),
+                i % 17 == 0 ? DataType.getMissingCell() : new DoubleCell(Math.sin(i) * i), new IntCell(i * 7919 % 1000),
+                new LongCell((long)i * Integer.MAX_VALUE - 500), new StringCell("Value " + (i % 20)));
+            single.updateDomain(row);
+            partitions[i % partitions.length].updateDomain(row);
+        }
+        // the last partition remains empty
+        DataTableDomainCreator merged = new DataTableDomainCreator(tableSpec, false);
+        for (DataTableDomainCreator partition : partitions) {
+            merged.merge(partition);
+        }
+        merged.merge(new DataTableDomainCreator(tableSpec, false));
+
+        DataTableSpec expected = single.createSpec();
+        DataTableSpec actual = merged.createSpec();
+        for (int c = 0; c < tableSpec.getNumColumns(); c++) {
+            assertThat("Unexpected domain in column " + c, actual.getColumnSpec(c).getDomain(),
+                is(expected.getColumnSpec(c).getDomain()));
+        }
+        assertThat("Unexpected possible values", actual.getColumnSpec(3).getDomain().getValues().size(), is(20));
+    }
+
+    /**
+     * Checks that possible values are dropped if they exceed the maximum in the merged domain, even though they don't
+     * in any of the partitions.
+     */
+    @Test
+    public void testMergeExceedsMaxPossibleValues() {
+        DataTableSpec tableSpec =
+            new DataTableSpec(new DataColumnSpecCreator("String col", StringCell.TYPE).createSpec());
+        DataTableDomainCreator first = new DataTableDomainCreator(tableSpec, false);
+        DataTableDomainCreator second = new DataTableDomainCreator(tableSpec, false);
+        first.setMaxPossibleValues(3);
+        second.setMaxPossibleValues(3);
+        for (int i = 0; i < 3; i++) {
+            first.updateDomain(new DefaultRow(RowKey.createRowKey((long)i), new StringCell("a" + i)));
+            second.updateDomain(new DefaultRow(RowKey.createRowKey((long)i), new StringCell("b" + i)));
+        }
+        first.merge(second);
+        assertThat("Unexpected possible values", first.createSpec().getColumnSpec(0).getDomain().getValues(),
+            is(nullValue()));
+    }
+
+    /**
+     * Checks that bounds of a double column are computed correctly if it contains cells of other types, too (which
+     * aren't tracked as primitives).
+     */
+    @Test
+    public void testBoundsMixedCells() {
+        DataTableSpec tableSpec =
+            new DataTableSpec(new DataColumnSpecCreator("Double col", DoubleCell.TYPE).createSpec());
+        RowKey rowKey = new RowKey("Row0");
+        DataTableDomainCreator domainCreator = new DataTableDomainCreator(tableSpec, false);
+        domainCreator.updateDomain(new DefaultRow(rowKey, new DoubleCell(0.5)));
+        domainCreator.updateDomain(new DefaultRow(rowKey, new IntCell(-3)));
+        domainCreator.updateDomain(new DefaultRow(rowKey, new DoubleCell(2.5)));
+        DataColumnDomain colDomain = domainCreator.createSpec().getColumnSpec(0).getDomain();
+        assertThat("Unexpected lower bound", colDomain.getLowerBound(), is((DataCell)new IntCell(-3)));
+        assertThat("Unexpected upper bound", colDomain.getUpperBound(), is((DataCell)new DoubleCell(2.5)));
+
+        domainCreator.updateDomain(new DefaultRow(rowKey, new IntCell(7)));
+        colDomain = domainCreator.createSpec().getColumnSpec(0).getDomain();
+        assertThat("Unexpected lower bound", colDomain.getLowerBound(), is((DataCell)new IntCell(-3)));
+        assertThat("Unexpected upper bound", colDomain.getUpperBound(), is((DataCell)new IntCell(7)));
+    }
 }
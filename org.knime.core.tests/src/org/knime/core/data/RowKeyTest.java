@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link RowKey}, in particular the compact keys created by {@link RowKey#createRowKey(long)}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class RowKeyTest {
+
+    private static final long[] INDICES = new long[]{0L, 1L, 9L, 10L, 99L, 100L, 12345L, -1L, -10L,
+        Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE / 10, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+
+    /** Compact keys are equal to and hash like their string counterparts. */
+    @Test
+    public void testCompactEqualsString() {
+        for (long index : INDICES) {
+            final RowKey compact = RowKey.createRowKey(index);
+            final RowKey string = new RowKey("Row" + index);
+            assertTrue(compact.isCompact());
+            assertFalse(string.isCompact());
+            assertEquals(index, compact.getCompactIndex());
+            assertEquals("Row" + index, compact.getString());
+            assertEquals("Row" + index, compact.toString());
+            assertEquals(string, compact);
+            assertEquals(compact, string);
+            assertEquals(compact, RowKey.createRowKey(index));
+            assertEquals("Hash code of key " + compact, string.hashCode(), compact.hashCode());
+        }
+    }
+
+    /** Different keys are not equal. */
+    @Test
+    public void testNotEquals() {
+        assertNotEquals(RowKey.createRowKey(1L), RowKey.createRowKey(2L));
+        assertNotEquals(RowKey.createRowKey(1L), new RowKey("Row01"));
+        assertNotEquals(new RowKey("Row01"), RowKey.createRowKey(1L));
+        assertNotEquals(RowKey.createRowKey(1L), new RowKey("row1"));
+        assertNotEquals(RowKey.createRowKey(1L), "Row1");
+    }
+
+    /** Compact keys don't keep their string, the hash code is stable. */
+    @Test
+    public void testCompactStringIsNotRetained() {
+        final RowKey compact = RowKey.createRowKey(42L);
+        final String first = compact.getString();
+        assertNotSame(first, compact.getString());
+        assertEquals(first, compact.getString());
+        assertEquals(first.hashCode(), compact.hashCode());
+        assertEquals(first.hashCode(), compact.hashCode());
+        assertTrue(compact.isCompact());
+        assertEquals(42L, compact.getCompactIndex());
+    }
+
+    /** Only compact keys have an index. */
+    @Test(expected = IllegalStateException.class)
+    public void testGetCompactIndexOfStringKey() {
+        new RowKey("Row1").getCompactIndex();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link RowSpliterator} and the row range support of the composite tables it relies on.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class RowSpliteratorTest {
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /** Parallel and sequential streams return all rows, ordered streams in table order. */
+    @Test
+    public void testStream() {
+        final int rowCount = 50000;
+        BufferedDataTable table = createTable("int", 0, rowCount);
+        try (Stream<DataRow> stream = table.stream(true)) {
+            assertEquals((long)rowCount * (rowCount - 1) / 2,
+                stream.mapToLong(r -> ((IntValue)r.getCell(0)).getIntValue()).sum());
+        }
+        try (Stream<DataRow> stream = table.stream(true)) {
+            assertOrdered(stream.collect(Collectors.toList()), 0, rowCount);
+        }
+        try (Stream<DataRow> stream = table.stream(false)) {
+            assertOrdered(stream.collect(Collectors.toList()), 0, rowCount);
+        }
+    }
+
+    /** Splitting a part that has been started already. */
+    @Test
+    public void testSplitAfterStart() {
+        final int rowCount = 1000;
+        BufferedDataTable table = createTable("int", 0, rowCount);
+        try (RowSpliterator spliterator = new RowSpliterator(table::iteratorBuilder, rowCount, 10)) {
+            final List<DataRow> rows = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                assertTrue(spliterator.tryAdvance(rows::add));
+            }
+            Spliterator<DataRow> prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            assertEquals(rowCount - 5, prefix.estimateSize() + spliterator.estimateSize());
+            prefix.forEachRemaining(rows::add);
+            assertOrdered(rows, 0, rows.size());
+            final int prefixEnd = rows.size();
+            spliterator.forEachRemaining(rows::add);
+            assertOrdered(rows, 0, rowCount);
+            assertTrue(prefixEnd < rowCount);
+        }
+    }
+
+    /**
+     * Concatenated and joined tables pass row ranges on to their underlying tables.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testCompositeTables() throws Exception {
+        final int half = 30000;
+        BufferedDataTable first = createTable("int", 0, half);
+        BufferedDataTable second = createTable("int", half, half);
+        BufferedDataTable concatenated = m_exec.createConcatenateTable(m_exec, first, second);
+        try (CloseableRowIterator it = concatenated.iteratorBuilder().filterRowsFromIndex(half - 10)
+            .filterRowsToIndex(half + 9).build()) {
+            List<DataRow> rows = new ArrayList<>();
+            it.forEachRemaining(rows::add);
+            assertOrdered(rows, half - 10, 20);
+        }
+        try (Stream<DataRow> stream = concatenated.stream(true)) {
+            assertOrdered(stream.collect(Collectors.toList()), 0, 2 * half);
+        }
+
+        BufferedDataTable joined =
+            m_exec.createJoinedTable(concatenated, createTable("other", 0, 2 * half), m_exec);
+        try (Stream<DataRow> stream = joined.stream(true)) {
+            List<DataRow> rows = stream.collect(Collectors.toList());
+            assertOrdered(rows, 0, 2 * half);
+            for (DataRow row : rows) {
+                assertEquals(row.getCell(0), row.getCell(1));
+            }
+        }
+    }
+
+    private BufferedDataTable createTable(final String column, final int offset, final int rowCount) {
+        BufferedDataContainer container =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator(column, IntCell.TYPE).createSpec()));
+        for (int i = offset; i < offset + rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static void assertOrdered(final List<DataRow> rows, final int offset, final int count) {
+        assertEquals(count, rows.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(RowKey.createRowKey((long)offset + i), rows.get(i).getKey());
+            assertEquals(offset + i, ((IntValue)rows.get(i).getCell(0)).getIntValue());
+        }
+    }
+}
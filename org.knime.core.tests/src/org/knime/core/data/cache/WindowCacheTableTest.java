@@ -61,6 +61,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DirectAccessTable.UnknownRowCountException;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DefaultRowIterator;
@@ -478,6 +480,62 @@ public void testCachingStrategy() throws IndexOutOfBoundsException, CanceledExec
         }
     }
 
+    /**
+     * Tests that the rows returned after jumping backward and forward (which positions a new iterator at the
+     * requested rows rather than at the start of the table) are correct.
+     * @throws IndexOutOfBoundsException
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public void testGetRowsAfterJumps() throws IndexOutOfBoundsException, CanceledExecutionException {
+        WindowCacheTable cache = new WindowCacheTable(CONT.getTable());
+        cache.setCacheSize(2 * CUSTOM_LOOK_AHEAD_SIZE);
+        cache.setLookAheadSize(CUSTOM_LOOK_AHEAD_SIZE);
+        for (int start : new int[] {NUM_ROWS - 10, 100, 0, NUM_ROWS / 2, 5, NUM_ROWS - 1}) {
+            List<DataRow> rows = cache.getRows(start, 10, new ExecutionMonitor());
+            assertEquals("Wrong number of rows returned", Math.min(10, NUM_ROWS - start), rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals("Wrong row returned", "r" + (start + i), rows.get(i).getKey().getString());
+            }
+        }
+    }
+
+    /**
+     * Tests that the rows returned after jumps are correct for a table whose iterator builder doesn't support row
+     * filters, in which case the new iterator skips the leading rows itself.
+     * @throws IndexOutOfBoundsException
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public void testGetRowsAfterJumpsWithoutRowFilter() throws IndexOutOfBoundsException, CanceledExecutionException {
+        final DataTable table = CONT.getTable();
+        WindowCacheTable cache = new WindowCacheTable(new DataTable() {
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return table.getDataTableSpec();
+            }
+
+            @Override
+            public RowIterator iterator() {
+                return table.iterator();
+            }
+
+            @Override
+            public RowIteratorBuilder<? extends RowIterator> iteratorBuilder() {
+                return new DefaultRowIteratorBuilder<RowIterator>(table::iterator, getDataTableSpec());
+            }
+        });
+        cache.setCacheSize(2 * CUSTOM_LOOK_AHEAD_SIZE);
+        cache.setLookAheadSize(CUSTOM_LOOK_AHEAD_SIZE);
+        for (int start : new int[] {NUM_ROWS - 10, 100, 0, NUM_ROWS / 2}) {
+            List<DataRow> rows = cache.getRows(start, 10, new ExecutionMonitor());
+            assertEquals("Wrong number of rows returned", 10, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals("Wrong row returned", "r" + (start + i), rows.get(i).getKey().getString());
+            }
+        }
+    }
+
     /**
      * Wrapper table for an arbitrary {@link DataTable}, which is accessed via a {@link RestrictedAccessIterator}.
      */
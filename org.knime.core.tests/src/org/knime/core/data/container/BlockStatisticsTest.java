@@ -0,0 +1,271 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.junit.Test;
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.date.DateAndTimeCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Tests {@link BlockStatistics} and their use when reading tables from disc.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class BlockStatisticsTest {
+
+    private static final int ROW_COUNT = 20000;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i),
+            i < 10000 ? DataType.getMissingCell() : new StringCell("Row " + i));
+    }
+
+    private static RowSelection createSelection(final int column, final CellPredicate predicate) {
+        final SortedMap<Integer, CellPredicate> predicates = new TreeMap<>();
+        predicates.put(column, predicate);
+        return RowSelection.create(SPEC.getNumColumns(), Optional.empty(), 0, Long.MAX_VALUE, predicates);
+    }
+
+    private static List<Integer> readIntColumn(final CloseableRowIterator it) {
+        final List<Integer> result = new ArrayList<>();
+        try (CloseableRowIterator closeable = it) {
+            while (closeable.hasNext()) {
+                result.add(((IntCell)closeable.next().getCell(0)).getIntValue());
+            }
+        }
+        return result;
+    }
+
+    private static List<Integer> expected(final int from, final int to) {
+        final List<Integer> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    /**
+     * Collects statistics, checks them against predicates and saves and loads them.
+     *
+     * @throws InvalidSettingsException if loading fails
+     */
+    @Test
+    public void testCollectSaveLoad() throws InvalidSettingsException {
+        final BlockStatistics.Collector collector = new BlockStatistics.Collector(SPEC, null);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            collector.addRow(createRow(i));
+        }
+        final BlockStatistics stats = collector.build();
+        assertThat("Wrong row count", stats.getRowCount(), is((long)ROW_COUNT));
+        assertThat("Unexpected row offsets", stats.hasRowOffsets(), is(false));
+        checkStatistics(stats);
+
+        final NodeSettings settings = new NodeSettings("stats");
+        stats.save(settings);
+        final BlockStatistics loaded = BlockStatistics.load(settings, SPEC);
+        assertThat("Wrong block size after load", loaded.getBlockSize(), is(stats.getBlockSize()));
+        assertThat("Wrong block count after load", loaded.getBlockCount(), is(stats.getBlockCount()));
+        checkStatistics(loaded);
+    }
+
+    private static void checkStatistics(final BlockStatistics stats) {
+        final int blockSize = stats.getBlockSize();
+        assertThat("Wrong block count", stats.getBlockCount(), is((ROW_COUNT + blockSize - 1) / blockSize));
+        final RowSelection greater = createSelection(0, CellPredicate.greaterThan(new IntCell(ROW_COUNT - 10)));
+        assertThat("First block can't match", stats.mayMatch(0, greater), is(false));
+        assertThat("Last block may match", stats.mayMatch(stats.getBlockCount() - 1, greater), is(true));
+        final RowSelection notMissing = createSelection(1, CellPredicate.isNotMissing());
+        assertThat("First block only contains missing values", stats.mayMatch(0, notMissing), is(false));
+        assertThat("Rows at end contain values", stats.mayMatch(ROW_COUNT - 10, ROW_COUNT, notMissing), is(true));
+        final RowSelection missing = createSelection(1, CellPredicate.isMissing());
+        assertThat("First block contains missing values", stats.mayMatch(0, missing), is(true));
+        assertThat("Last block contains no missing values", stats.mayMatch(stats.getBlockCount() - 1, missing),
+            is(false));
+    }
+
+    /**
+     * Columns that are compatible to strings but ordered differently (here dates, time-only values sort before dates
+     * but not as strings) get no statistics, which would otherwise be reloaded as strings and skip matching blocks.
+     *
+     * @throws InvalidSettingsException if loading fails
+     */
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testDateAndTimeColumn() throws InvalidSettingsException {
+        final DataTableSpec spec =
+            new DataTableSpec(new DataColumnSpecCreator("date", DateAndTimeCell.TYPE).createSpec());
+        final BlockStatistics.Collector collector = new BlockStatistics.Collector(spec, null);
+        for (int i = 0; i < 100; i++) {
+            collector.addRow(new DefaultRow(RowKey.createRowKey((long)i),
+                i % 2 == 0 ? new DateAndTimeCell(12, 0, 0, 0) : new DateAndTimeCell(2020, 0, 1)));
+        }
+        final BlockStatistics stats = collector.build();
+        final NodeSettings settings = new NodeSettings("stats");
+        stats.save(settings);
+        final BlockStatistics loaded = BlockStatistics.load(settings, spec);
+
+        // equal to the date-only cells as dates, but greater than their string representation
+        final CellPredicate predicate = CellPredicate.equalTo(new DateAndTimeCell(2020, 0, 1, 0, 0, 0));
+        assertThat("Predicate doesn't match date", predicate.test(new DateAndTimeCell(2020, 0, 1)), is(true));
+        final SortedMap<Integer, CellPredicate> predicates = new TreeMap<>();
+        predicates.put(0, predicate);
+        final RowSelection selection = RowSelection.create(1, Optional.empty(), 0, Long.MAX_VALUE, predicates);
+        assertThat("Matching block skipped", stats.mayMatch(0, selection), is(true));
+        assertThat("Matching block skipped after load", loaded.mayMatch(0, selection), is(true));
+    }
+
+    /**
+     * The bounds of long columns retain their precision beyond 2^53, where doubles can't represent all longs.
+     *
+     * @throws InvalidSettingsException if loading fails
+     */
+    @Test
+    public void testLongBoundsBeyondDoublePrecision() throws InvalidSettingsException {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("long", LongCell.TYPE).createSpec());
+        final long base = 1L << 53;
+        final int rowCount = 10000;
+        final BlockStatistics.Collector collector = new BlockStatistics.Collector(spec, null);
+        for (int i = 0; i < rowCount; i++) {
+            // odd values only, the largest of a block would be rounded to the next even value as a double
+            collector.addRow(new DefaultRow(RowKey.createRowKey((long)i), new LongCell(base + 1 + 2L * i)));
+        }
+        final BlockStatistics stats = collector.build();
+        final NodeSettings settings = new NodeSettings("stats");
+        stats.save(settings);
+        final BlockStatistics loaded = BlockStatistics.load(settings, spec);
+
+        final long blockMax = base + 1 + 2L * (stats.getBlockSize() - 1);
+        final SortedMap<Integer, CellPredicate> absentPredicates = new TreeMap<>();
+        absentPredicates.put(0, CellPredicate.equalTo(new LongCell(blockMax + 1)));
+        final RowSelection absent = RowSelection.create(1, Optional.empty(), 0, Long.MAX_VALUE, absentPredicates);
+        final SortedMap<Integer, CellPredicate> presentPredicates = new TreeMap<>();
+        presentPredicates.put(0, CellPredicate.equalTo(new LongCell(blockMax)));
+        final RowSelection present = RowSelection.create(1, Optional.empty(), 0, Long.MAX_VALUE, presentPredicates);
+        for (BlockStatistics s : new BlockStatistics[]{stats, loaded}) {
+            assertThat("Block may contain absent value", s.mayMatch(0, rowCount, absent), is(false));
+            assertThat("Block with value skipped", s.mayMatch(0, present), is(true));
+        }
+    }
+
+    /** String bounds are truncated so that they still bound the original values. */
+    @Test
+    public void testTruncateStringBounds() {
+        final int maxLength = BlockStatistics.MAX_STRING_BOUND_LENGTH;
+        assertThat("Short bound changed", BlockStatistics.truncateLowerBound("abc"), is("abc"));
+        assertThat("Short bound changed", BlockStatistics.truncateUpperBound("abc"), is("abc"));
+        final String longValue = StringUtils.repeat('a', maxLength) + "bcd";
+        final String lower = BlockStatistics.truncateLowerBound(longValue);
+        final String upper = BlockStatistics.truncateUpperBound(longValue);
+        assertThat("Lower bound too long", lower.length(), is(maxLength));
+        assertThat("Upper bound too long", upper.length() <= maxLength, is(true));
+        assertThat("Lower bound greater than value", lower.compareTo(longValue) <= 0, is(true));
+        assertThat("Upper bound less than value", upper.compareTo(longValue) >= 0, is(true));
+        assertThat("Upper bound less than value with same prefix",
+            upper.compareTo(longValue.substring(0, maxLength) + '\uffff') > 0, is(true));
+        final String noUpperBound = StringUtils.repeat('\uffff', maxLength + 1);
+        assertThat("Unexpected upper bound", BlockStatistics.truncateUpperBound(noUpperBound), is(nullValue()));
+        assertThat("Surrogate pair split", BlockStatistics
+            .truncateLowerBound(StringUtils.repeat('a', maxLength - 1) + "\ud83d\ude00b").length(), is(maxLength - 1));
+    }
+
+    /** Statistics are written along with a table and used to seek and to skip blocks. */
+    @Test
+    public void testReadFromDisc() {
+        final DataContainerSettings settings =
+            DataContainerSettings.getDefault().withMaxCellsInMemory(0).withInitializedDomain(false)
+                .withBufferSettings(DataContainerSettings.getDefault().getBufferSettings().withBlockStatistics(true));
+        final DataContainer cont = new DataContainer(SPEC, settings);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            cont.addRowToTable(createRow(i));
+        }
+        cont.close();
+        final ContainerTable table = cont.getBufferedTable();
+        final BlockStatistics stats = table.getBuffer().getBlockStatistics();
+        assertThat("No statistics written", stats, is(notNullValue()));
+        assertThat("No row offsets written", stats.hasRowOffsets(), is(true));
+
+        assertThat("Wrong rows after seek", readIntColumn(table.iteratorBuilder().filterRowsFromIndex(15000)
+            .filterRowsToIndex(15010).build()), equalTo(expected(15000, 15010)));
+        assertThat("Wrong rows for predicate", readIntColumn(table.iteratorBuilder()
+            .filterCells(0, CellPredicate.greaterThan(new IntCell(ROW_COUNT - 10))).build()),
+            equalTo(expected(ROW_COUNT - 9, ROW_COUNT - 1)));
+        assertThat("Wrong rows for predicate on missing values", readIntColumn(table.iteratorBuilder()
+            .filterRowsToIndex(10005).filterCells("string", CellPredicate.isNotMissing()).build()),
+            equalTo(expected(10000, 10005)));
+    }
+
+}
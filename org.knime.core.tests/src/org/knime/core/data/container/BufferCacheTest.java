@@ -173,6 +173,98 @@ public void testSoftRefCache() throws InterruptedException {
         }
     }
 
+    /**
+     * Tests that least-recently-used tables cleared for garbage collection are evicted from the LRU cache once their
+     * estimated size exceeds the heap budget, whereas tables not yet cleared are kept regardless of the budget.
+     */
+    @Test
+    public void testByteBudget() {
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(4, true);
+        final long tableSize = BufferCache.estimateSizeInBytes(tables.get(0).getSecond());
+        Assert.assertTrue("Estimated table size not positive", tableSize > 0);
+
+        final BufferCache cache = new BufferCache();
+        cache.setLRUCacheBudget(2 * tableSize + tableSize / 2);
+        addTablesToCache(tables, cache, false);
+        BufferCacheStatistics stats = cache.getStatistics();
+        Assert.assertEquals("Hard-referenced tables evicted", 4, stats.getCachedTableCount());
+        Assert.assertEquals("Wrong number of evicted tables", 0, stats.getEvictedTableCount());
+
+        for (Pair<Buffer, List<BlobSupportDataRow>> table : tables) {
+            cache.clearForGarbageCollection(table.getFirst());
+        }
+        stats = cache.getStatistics();
+        Assert.assertEquals("Wrong number of cached tables", 2, stats.getCachedTableCount());
+        Assert.assertEquals("Wrong number of evicted tables", 2, stats.getEvictedTableCount());
+        Assert.assertTrue("Budget exceeded", stats.getCachedBytes() <= stats.getByteBudget());
+
+        // evicted tables are still weakly referenced; accessing them puts them back into the LRU cache
+        Assert.assertTrue("Evicted table not retrievable", cache.get(tables.get(0).getFirst()).isPresent());
+        stats = cache.getStatistics();
+        Assert.assertEquals("Wrong number of weak hits", 1, stats.getWeakHits());
+        Assert.assertEquals("Wrong number of cached tables", 2, stats.getCachedTableCount());
+        Assert.assertEquals("Wrong number of evicted tables", 3, stats.getEvictedTableCount());
+    }
+
+    /**
+     * Tests that the statistics count hits and misses on the different layers of the cache.
+     */
+    @Test
+    public void testStatistics() {
+        final List<Pair<Buffer, List<BlobSupportDataRow>>> tables = generateKTables(2, true);
+        final BufferCache cache = new BufferCache();
+        final Buffer hardBuffer = tables.get(0).getFirst();
+        final Buffer softBuffer = tables.get(1).getFirst();
+        cache.put(hardBuffer, tables.get(0).getSecond());
+        cache.put(softBuffer, tables.get(1).getSecond());
+        cache.clearForGarbageCollection(softBuffer);
+
+        cache.get(hardBuffer);
+        cache.get(softBuffer);
+        cache.get(softBuffer);
+        cache.getSilent(softBuffer);
+        cache.invalidate(hardBuffer);
+        cache.get(hardBuffer);
+
+        final BufferCacheStatistics stats = cache.getStatistics();
+        Assert.assertEquals("Wrong number of tables", 2, stats.getTableCount());
+        Assert.assertEquals("Wrong number of invalidated tables", 1, stats.getInvalidatedTableCount());
+        Assert.assertEquals("Wrong number of cached tables", 1, stats.getCachedTableCount());
+        Assert.assertEquals("Wrong number of cached bytes",
+            BufferCache.estimateSizeInBytes(tables.get(1).getSecond()), stats.getCachedBytes());
+        Assert.assertEquals("Wrong number of hard hits", 1, stats.getHardHits());
+        Assert.assertEquals("Wrong number of soft hits", 2, stats.getSoftHits());
+        Assert.assertEquals("Wrong number of weak hits", 0, stats.getWeakHits());
+        Assert.assertEquals("Invalidated tables aren't counted as misses", 0, stats.getMisses());
+        Assert.assertEquals("Wrong hit ratio", 1.0, stats.getHitRatio(), 0.0);
+    }
+
+    /**
+     * Tests that the size estimate of a table grows with the number and the size of its cells.
+     */
+    @Test
+    public void testSizeEstimate() {
+        final List<BlobSupportDataRow> small = new ArrayList<>();
+        final List<BlobSupportDataRow> large = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            small.add(new BlobSupportDataRow(RowKey.createRowKey((long)i), new DataCell[]{new IntCell(i)}));
+            large.add(new BlobSupportDataRow(RowKey.createRowKey((long)i),
+                new DataCell[]{new IntCell(i), new StringCell(String.format("%0100d", i))}));
+        }
+        final long smallSize = BufferCache.estimateSizeInBytes(small);
+        final long largeSize = BufferCache.estimateSizeInBytes(large);
+        Assert.assertTrue("Estimate too small: " + smallSize, smallSize >= 1000 * 16);
+        Assert.assertTrue("Estimate too small: " + largeSize, largeSize >= smallSize + 1000 * 200);
+
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+        final List<BlobSupportDataRow> compact = CompactRowList.create(spec, large.size());
+        compact.addAll(large);
+        final long compactSize = BufferCache.estimateSizeInBytes(compact);
+        Assert.assertTrue("Compact estimate not smaller: " + compactSize, compactSize < largeSize);
+        Assert.assertTrue("Compact estimate too small: " + compactSize, compactSize >= 1000 * 200);
+    }
+
     private static List<Pair<Buffer, List<BlobSupportDataRow>>> generateKTables(final int k,
         final boolean flushToDisk) {
 
@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the row range and cell filters of {@link Buffer#iteratorBuilder()}, both for tables held in memory and for
+ * tables read from disc.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class BufferIteratorBuilderTest {
+
+    private static final int ROW_COUNT = 2000;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec());
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i),
+            i % 3 == 0 ? DataType.getMissingCell() : new StringCell("Row " + i), new DoubleCell(i / 10.0));
+    }
+
+    private static ContainerTable createTable(final boolean inMemory) {
+        final DataContainerSettings settings = DataContainerSettings.getDefault()
+            .withMaxCellsInMemory(inMemory ? Integer.MAX_VALUE : 0).withInitializedDomain(false);
+        final DataContainer cont = new DataContainer(SPEC, settings);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            cont.addRowToTable(createRow(i));
+        }
+        cont.close();
+        return cont.getBufferedTable();
+    }
+
+    private static List<Integer> readIntColumn(final CloseableRowIterator it) {
+        final List<Integer> result = new ArrayList<>();
+        try (CloseableRowIterator closeable = it) {
+            while (closeable.hasNext()) {
+                result.add(((IntCell)closeable.next().getCell(0)).getIntValue());
+            }
+        }
+        return result;
+    }
+
+    private static List<Integer> expected(final int from, final int to, final boolean onlyNonMissing) {
+        final List<Integer> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            if (!onlyNonMissing || i % 3 != 0) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    private static void testRowRange(final boolean inMemory) {
+        final ContainerTable table = createTable(inMemory);
+        assertThat("Wrong rows in range", readIntColumn(
+            table.iteratorBuilder().filterRowsFromIndex(500).filterRowsToIndex(700).build()),
+            equalTo(expected(500, 700, false)));
+        assertThat("Wrong rows from index", readIntColumn(
+            table.iteratorBuilder().filterRowsFromIndex(1990).build()), equalTo(expected(1990, ROW_COUNT - 1, false)));
+        assertThat("Wrong rows beyond end", readIntColumn(
+            table.iteratorBuilder().filterRowsFromIndex(ROW_COUNT + 10).build()).isEmpty(), is(true));
+    }
+
+    private static void testCellPredicates(final boolean inMemory) {
+        final ContainerTable table = createTable(inMemory);
+        assertThat("Wrong rows for predicates", readIntColumn(table.iteratorBuilder().filterRowsFromIndex(100)
+            .filterCells("string", CellPredicate.isNotMissing())
+            .filterCells("double", CellPredicate.lessThan(new DoubleCell(50.05))).filterColumns(0).build()),
+            equalTo(expected(100, 500, true)));
+        assertThat("Wrong rows for between predicate", readIntColumn(table.iteratorBuilder()
+            .filterCells(0, CellPredicate.between(new IntCell(10), new IntCell(20))).build()),
+            equalTo(expected(10, 20, false)));
+    }
+
+    /** Row range on an in-memory table. */
+    @Test
+    public void testRowRangeInMemory() {
+        testRowRange(true);
+    }
+
+    /** Row range on a table read from disc. */
+    @Test
+    public void testRowRangeOnDisc() {
+        testRowRange(false);
+    }
+
+    /** Cell predicates on an in-memory table. */
+    @Test
+    public void testCellPredicatesInMemory() {
+        testCellPredicates(true);
+    }
+
+    /** Cell predicates on a table read from disc. */
+    @Test
+    public void testCellPredicatesOnDisc() {
+        testCellPredicates(false);
+    }
+
+}
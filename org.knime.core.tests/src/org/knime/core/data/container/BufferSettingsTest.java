@@ -87,16 +87,21 @@ public void testChangedValues() {
         final BufferSettings def = DataContainerSettings.getDefault().getBufferSettings();
 
         final int lruCacheSize = def.getLRUCacheSize() * -1;
+        final long lruCacheBudget = def.getLRUCacheBudget() + 1;
         final boolean useLRU = !def.useLRU();
         final TableStoreFormat outputFormat = new DefaultTableStoreFormat();
 
         final BufferSettings settings = DataContainerSettings.getDefault().getBufferSettings()//
             .withOutputFormat(outputFormat)//
             .withLRU(useLRU)//
-            .withLRUCacheSize(lruCacheSize);
+            .withLRUCacheSize(lruCacheSize)//
+            .withLRUCacheBudget(lruCacheBudget);
 
         assertEquals("Modified settings created wrong LRU cache size", lruCacheSize, settings.getLRUCacheSize());
+        assertEquals("Modified settings created wrong LRU cache budget", lruCacheBudget, settings.getLRUCacheBudget());
         assertEquals("Modified settings created wrong enable LRU flag", useLRU, settings.useLRU());
+        assertEquals("Default settings has been modified (LRU cache budget)", lruCacheBudget - 1,
+            def.getLRUCacheBudget());
         assertTrue("Modified settings created wrong output format",
             outputFormat == settings.getOutputFormat(new DataTableSpecCreator().createSpec()));
         assertFalse("Default settings has been modified (output format)",
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ByteBufferInputStream}, both on heap buffers and on memory-mapped files, and the direct buffer access
+ * of the {@link BlockableInputStream}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class ByteBufferInputStreamTest implements KNIMEStreamConstants {
+
+    private static final int LENGTH = 10000;
+
+    private File m_file;
+
+    /** Creates the temp file. */
+    @Before
+    public void setUp() throws IOException {
+        m_file = File.createTempFile("mapped-test", ".bin");
+        try (OutputStream out = new FileOutputStream(m_file)) {
+            out.write(createContent());
+        }
+    }
+
+    /** Deletes the temp file. */
+    @After
+    public void tearDown() {
+        m_file.delete();
+    }
+
+    private static byte[] createContent() {
+        final byte[] content = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            content[i] = (byte)i;
+        }
+        return content;
+    }
+
+    private static void checkReadAndSkip(final ByteBufferInputStream in) throws IOException {
+        assertThat("Wrong first byte", in.read(), is(0));
+        assertThat("Wrong skip count", in.skip(999), is(999L));
+        assertThat("Wrong byte after skip", in.read(), is(1000 & 0xFF));
+        final byte[] bytes = new byte[10];
+        assertThat("Wrong read count", in.read(bytes, 0, bytes.length), is(bytes.length));
+        assertThat("Wrong bytes read", bytes[9], is((byte)1010));
+        assertThat("Skipped beyond end", in.skip(2 * LENGTH), is((long)LENGTH - 1011));
+        assertThat("Not at end", in.read(), is(-1));
+    }
+
+    /**
+     * Reads and skips in a heap buffer.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testHeapBuffer() throws IOException {
+        try (ByteBufferInputStream in = new ByteBufferInputStream(ByteBuffer.wrap(createContent()))) {
+            checkReadAndSkip(in);
+        }
+    }
+
+    /**
+     * Reads and skips in a mapped file.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testMappedFile() throws IOException {
+        try (ByteBufferInputStream in = ByteBufferInputStream.map(m_file)) {
+            checkReadAndSkip(in);
+        }
+    }
+
+    /**
+     * Primitives can be read directly unless they contain control bytes.
+     *
+     * @throws IOException not expected
+     */
+    @Test
+    public void testDirectBuffer() throws IOException {
+        final ByteBuffer content = ByteBuffer.allocate(2 * Long.BYTES + 1);
+        content.putLong(42L).putLong(0x6161616161616161L).put(TC_TERMINATE).flip();
+        try (BlockableInputStream in = new BlockableInputStream(new ByteBufferInputStream(content))) {
+            final ByteBuffer buffer = in.getDirectBuffer(Long.BYTES);
+            assertThat("Direct access not possible", buffer != null, is(true));
+            assertThat("Wrong value", buffer.getLong(), is(42L));
+            assertThat("Direct access despite control bytes", in.getDirectBuffer(Long.BYTES) == null, is(true));
+        }
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Tests the {@link ColumnarTableStoreFormat}, including reading only a subset of the columns.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class ColumnarTableStoreFormatTest {
+
+    /** Number of generated rows, spanning multiple chunks. */
+    private static final int ROW_COUNT = 10000;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec());
+
+    private File m_file;
+
+    /** Creates the temp file. */
+    @Before
+    public void setUp() throws Exception {
+        m_file = File.createTempFile("columnar-test", ColumnarTableStoreFormat.class.getSimpleName());
+    }
+
+    /** Deletes the temp file. */
+    @After
+    public void tearDown() {
+        m_file.delete();
+    }
+
+    private static DataRow createRow(final int i) {
+        return new BlobSupportDataRow(RowKey.createRowKey((long)i),
+            new DataCell[]{new IntCell(i),
+                i % 7 == 0 ? DataType.getMissingCell() : new StringCell("Row " + i), new DoubleCell(i + .5)});
+    }
+
+    private AbstractTableStoreReader writeAndCreateReader(final CompressionFormat compression) throws Exception {
+        return writeAndCreateReader(DefaultTableStoreSettings.getDefault().withCompression(compression));
+    }
+
+    private AbstractTableStoreReader writeAndCreateReader(final DefaultTableStoreSettings tableStoreSettings)
+        throws Exception {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat(tableStoreSettings);
+        final NodeSettings settings = new NodeSettings("meta");
+        try (AbstractTableStoreWriter writer = format.createWriter(m_file, SPEC, true)) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                writer.writeRow(createRow(i));
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        return format.createReader(m_file, SPEC, NotInWorkflowDataRepository.newInstance(), settings, Buffer.IVERSION,
+            true);
+    }
+
+    /**
+     * Writes and reads a table using all compression formats.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testWriteRead() throws Exception {
+        for (CompressionFormat compression : CompressionFormat.values()) {
+            checkContent(writeAndCreateReader(compression), compression.toString());
+        }
+    }
+
+    /**
+     * Writes and reads a table with the compression chosen per column and chunk.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testWriteReadAdaptive() throws Exception {
+        for (CompressionFormat compression : CompressionFormat.values()) {
+            checkContent(writeAndCreateReader(
+                DefaultTableStoreSettings.getDefault().withCompression(compression).withAdaptiveCompression(true)),
+                "adaptive, " + compression);
+        }
+    }
+
+    private static void checkContent(final AbstractTableStoreReader reader, final String description) {
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().build()) {
+            IntStream.range(0, ROW_COUNT).forEach(i -> {
+                DataRow expected = createRow(i);
+                DataRow actual = it.next();
+                assertThat("Wrong row key (" + description + ")", actual.getKey(), equalTo(expected.getKey()));
+                for (int c = 0; c < SPEC.getNumColumns(); c++) {
+                    assertThat("Wrong cell (" + description + ")", actual.getCell(c), equalTo(expected.getCell(c)));
+                }
+            });
+            assertThat("Iterator not at end", it.hasNext(), is(false));
+        }
+    }
+
+    /**
+     * Reads a single column and makes sure all other cells are not materialized.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testFilterColumns() throws Exception {
+        final AbstractTableStoreReader reader = writeAndCreateReader(CompressionFormat.GZIP);
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().filterColumns(1).build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                DataRow expected = createRow(i);
+                DataRow actual = it.next();
+                assertThat("Wrong row key", actual.getKey(), equalTo(expected.getKey()));
+                assertThat("Wrong cell", actual.getCell(1), equalTo(expected.getCell(1)));
+                assertThat("Column should not be read", actual.getCell(0),
+                    sameInstance(UnmaterializedCell.getInstance()));
+                assertThat("Column should not be read", actual.getCell(2),
+                    sameInstance(UnmaterializedCell.getInstance()));
+            }
+            assertThat("Iterator not at end", it.hasNext(), is(false));
+        }
+    }
+
+    /**
+     * Reads a row range with cell predicates, skipping chunks and non-matching rows.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testFilterRowsAndCells() throws Exception {
+        final AbstractTableStoreReader reader = writeAndCreateReader(CompressionFormat.LZ4);
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().filterRowsFromIndex(5000)
+            .filterRowsToIndex(9000).filterCells(0, CellPredicate.greaterThanOrEqualTo(new IntCell(6000)))
+            .filterCells(1, CellPredicate.isNotMissing()).filterColumns(2).build()) {
+            for (int i = 6000; i <= 9000; i++) {
+                if (i % 7 == 0) {
+                    continue;
+                }
+                DataRow expected = createRow(i);
+                DataRow actual = it.next();
+                assertThat("Wrong row key", actual.getKey(), equalTo(expected.getKey()));
+                assertThat("Wrong cell", actual.getCell(0), equalTo(expected.getCell(0)));
+                assertThat("Wrong cell", actual.getCell(2), equalTo(expected.getCell(2)));
+            }
+            assertThat("Iterator not at end", it.hasNext(), is(false));
+        }
+    }
+
+    /** The persisted compression format ids must not change, files written by earlier versions use them. */
+    @Test
+    public void testCompressionFormatIds() {
+        assertThat("Wrong id", CompressionFormat.NONE.getId(), is((byte)0));
+        assertThat("Wrong id", CompressionFormat.GZIP.getId(), is((byte)1));
+        assertThat("Wrong id", CompressionFormat.LZ4.getId(), is((byte)2));
+        assertThat("Wrong id", CompressionFormat.SNAPPY.getId(), is((byte)3));
+        for (CompressionFormat compression : CompressionFormat.values()) {
+            assertThat("Wrong format for id", CompressionFormat.fromId(compression.getId()).get(),
+                sameInstance(compression));
+        }
+        assertThat("Format for unknown id", CompressionFormat.fromId(42).isPresent(), is(false));
+    }
+
+    /**
+     * Reading a file with an unknown compression format id in its chunk index fails with a clear message.
+     *
+     * @throws Exception not expected
+     */
+    @Test
+    public void testUnknownCompressionFormatId() throws Exception {
+        final AbstractTableStoreReader reader = writeAndCreateReader(CompressionFormat.GZIP);
+        try (RandomAccessFile raf = new RandomAccessFile(m_file, "rw")) {
+            raf.seek(raf.length() - ColumnarTableStoreWriter.TRAILER_LENGTH);
+            final long footerOffset = raf.readLong();
+            raf.seek(footerOffset + Integer.BYTES);
+            final int segmentCount = raf.readInt();
+            // the first chunk's row count and segment lengths precede its segment formats
+            raf.seek(footerOffset + 3 * Integer.BYTES + segmentCount * Integer.BYTES);
+            raf.writeByte(42);
+        }
+        try (TableStoreCloseableRowIterator it = reader.iteratorBuilder().build()) {
+            fail("Unknown compression format id not detected");
+        } catch (RuntimeException e) {
+            assertThat("Wrong cause", e.getCause(), instanceOf(IOException.class));
+            assertThat("Wrong message", e.getCause().getMessage(),
+                containsString("Unknown compression format id 42 of chunk 0, segment 0"));
+        }
+    }
+
+}
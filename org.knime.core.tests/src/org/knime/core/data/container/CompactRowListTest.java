@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests {@link CompactRowList}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public final class CompactRowListTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("other", DataType.getType(DataCell.class)).createSpec());
+
+    private static BlobSupportDataRow createRow(final int i) {
+        final DataCell[] cells = new DataCell[]{new DoubleCell(i / 3.0), new IntCell(i), new LongCell(i * 1000L),
+            BooleanCell.get(i % 2 == 0), new StringCell("Row " + i), i % 2 == 0 ? new IntCell(i) : new StringCell("x")};
+        if (i % 5 == 0) {
+            cells[i % cells.length] = DataType.getMissingCell();
+        }
+        if (i % 7 == 0) {
+            cells[0] = new MissingCell("error in row " + i);
+        }
+        return new BlobSupportDataRow(RowKey.createRowKey((long)i), cells);
+    }
+
+    /** Rows read from the list are equal to the ones added. */
+    @Test
+    public void testAddGet() {
+        final List<BlobSupportDataRow> list = CompactRowList.create(SPEC, 0);
+        assertThat("Wrong list class", list, instanceOf(CompactRowList.class));
+        final List<BlobSupportDataRow> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final BlobSupportDataRow row = createRow(i);
+            list.add(row);
+            expected.add(row);
+        }
+        assertThat("Wrong size", list.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            final BlobSupportDataRow row = list.get(i);
+            assertThat("Wrong key", row.getKey(), equalTo(expected.get(i).getKey()));
+            for (int c = 0; c < SPEC.getNumColumns(); c++) {
+                assertThat("Wrong cell in row " + i + ", column " + c, row.getCell(c),
+                    equalTo(expected.get(i).getCell(c)));
+            }
+        }
+        assertThat("Missing cell not preserved", list.get(30).getCell(0), sameInstance(DataType.getMissingCell()));
+        assertThat("Error message of missing cell lost",
+            ((MissingCell)list.get(7).getCell(0)).getError(), equalTo("error in row 7"));
+    }
+
+    /** Specs without primitive columns use a plain list. */
+    @Test
+    public void testNoPrimitiveColumns() {
+        final DataTableSpec spec =
+            new DataTableSpec(new DataColumnSpecCreator("other", DataType.getType(DataCell.class)).createSpec());
+        assertThat("Wrong list class", CompactRowList.create(spec, 10), instanceOf(ArrayList.class));
+    }
+
+    /** Tables held in memory column by column (if enabled in the buffer settings) return the rows added. */
+    @Test
+    public void testContainerWithCompactRows() {
+        final DataContainerSettings settings = DataContainerSettings.getDefault()
+            .withBufferSettings(DataContainerSettings.getDefault().getBufferSettings().withCompactRows(true));
+        final DataContainer cont = new DataContainer(SPEC, settings);
+        for (int i = 0; i < 100; i++) {
+            cont.addRowToTable(createRow(i));
+        }
+        cont.close();
+        int i = 0;
+        for (DataRow row : cont.getTable()) {
+            final BlobSupportDataRow expected = createRow(i);
+            assertThat("Wrong key", row.getKey(), equalTo(expected.getKey()));
+            for (int c = 0; c < SPEC.getNumColumns(); c++) {
+                assertThat("Wrong cell in row " + i + ", column " + c, row.getCell(c), equalTo(expected.getCell(c)));
+            }
+            i++;
+        }
+        assertThat("Wrong row count", i, is(100));
+    }
+
+}
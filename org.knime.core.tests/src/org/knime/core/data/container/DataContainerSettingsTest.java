@@ -110,6 +110,7 @@ public void testChangedValues() {
         final DataContainerSettings def = DataContainerSettings.getDefault();
 
         final int cacheSize = def.getAsyncCacheSize() * -1;
+        final int batchSize = def.getAsyncBatchSize() + 1;
         final int maxCellsInMemory = def.getMaxCellsInMemory() * -1;
         final int maxPossibleValues = def.getMaxDomainValues() * -1;
         final boolean syncIO = !def.useSyncIO();
@@ -120,6 +121,7 @@ public void testChangedValues() {
 
         final DataContainerSettings settings = DataContainerSettings.getDefault()//
             .withAsyncCacheSize(cacheSize)//
+            .withAsyncBatchSize(batchSize)//
             .withMaxCellsInMemory(maxCellsInMemory)//
             .withMaxDomainValues(maxPossibleValues)//
             .withSyncIO(syncIO)//
@@ -128,6 +130,7 @@ public void testChangedValues() {
             .withBufferSettings(bSettings);
 
         assertEquals("Modified settings created wrong cache size", cacheSize, settings.getAsyncCacheSize());
+        assertEquals("Modified settings created wrong batch size", batchSize, settings.getAsyncBatchSize());
         assertEquals("Modified settings created wrong maximum number of cells in memory", maxCellsInMemory,
             settings.getMaxCellsInMemory());
         assertEquals("Modified settings created wrong maximum number of possible domain values", maxPossibleValues,
@@ -139,6 +142,8 @@ public void testChangedValues() {
             maxAsyncWriteThreads, settings.getMaxAsyncWriteThreads());
         assertNotEquals("Default settings has been modified (chache size)", def.getAsyncCacheSize(),
             settings.getAsyncCacheSize());
+        assertNotEquals("Default settings has been modified (batch size)", def.getAsyncBatchSize(),
+            settings.getAsyncBatchSize());
         assertNotEquals("Default settings has been modified (number of cells in memory)", def.getMaxCellsInMemory(),
             settings.getMaxCellsInMemory());
         assertNotEquals("Default settings has been modified (number of possible domain values)",
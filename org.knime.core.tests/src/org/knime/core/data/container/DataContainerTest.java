@@ -636,6 +636,34 @@ public void run() {
         }
     } // testBigFile()
 
+    /** Compact (generated) and string row keys survive a round trip through the table file. */
+    public void testCompactRowKeysWriteRead() {
+        final long[] indices = new long[]{0L, 1L, 127L, 128L, -1L, -64L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE,
+            Long.MIN_VALUE};
+        final List<RowKey> keys = new ArrayList<>();
+        for (long index : indices) {
+            keys.add(RowKey.createRowKey(index));
+        }
+        keys.add(new RowKey("Row-x"));
+        keys.add(new RowKey(""));
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, 0);
+        for (RowKey key : keys) {
+            container.addRowToTable(new DefaultRow(key, new StringCell(key.getString()), new IntCell(1),
+                new DoubleCell(1.0)));
+        }
+        container.close();
+        final ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().isFlushedToDisk());
+        int i = 0;
+        for (DataRow row : table) {
+            final RowKey expected = keys.get(i++);
+            assertEquals(expected, row.getKey());
+            assertEquals(expected.getString(), row.getKey().getString());
+            assertEquals(expected.isCompact(), row.getKey().isCompact());
+        }
+        assertEquals(keys.size(), i);
+    }
+
     /** Test if the domain is retained. */
     public void testTableDomain() {
         RowKey r1Key = new RowKey("row 1");
@@ -692,6 +720,38 @@ public void testTableDomain() {
         assertEquals(max, r3Cell2);
     }
 
+    /**
+     * Tests that rows handed off to the asynchronous write thread in batches of different sizes (also larger than the
+     * write cache) are written completely and in order, and that the hand-offs to the write thread are counted.
+     */
+    public void testAsyncBatchHandOff() {
+        final int count = 1000;
+        for (int batchSize : new int[]{1, 7, 64, 2 * count}) {
+            final DataContainer container = new DataContainer(SPEC_STR_INT_DBL,
+                DataContainerSettings.getDefault().withSyncIO(false).withAsyncBatchSize(batchSize));
+            for (RowIterator it = generateRows(count); it.hasNext();) {
+                container.addRowToTable(it.next());
+            }
+            container.close();
+            assertEquals("Wrong row count (batch size " + batchSize + ")", count, container.size());
+            RowIterator tableIterator = container.getTable().iterator();
+            for (RowIterator it = generateRows(count); it.hasNext();) {
+                assertEquals(it.next(), tableIterator.next());
+            }
+            assertFalse(tableIterator.hasNext());
+            if (!container.isSynchronousWrite()) {
+                // rows or batches plus the close signal (unless a memory alert forced an additional flush)
+                assertTrue("Wrong hand-off count (batch size " + batchSize + ")",
+                    container.getHandOffCount() >= (count + batchSize - 1) / batchSize + 1);
+                assertTrue("Queue depth exceeds cache size",
+                    container.getMaxQueueDepth() <= DataContainerSettings.getDefault().getAsyncCacheSize());
+                assertTrue("Average queue depth exceeds maximum",
+                    container.getAverageQueueDepth() <= container.getMaxQueueDepth());
+                assertTrue("Negative stall time", container.getProducerStallNanos() >= 0);
+            }
+        }
+    }
+
     public void testAsyncWriteLimits() throws Exception {
         Assume.assumeTrue(!DataContainer.SYNCHRONOUS_IO);
         final int limit = Platform.ARCH_X86.equals(Platform.getOSArch()) ? 10 : 50;
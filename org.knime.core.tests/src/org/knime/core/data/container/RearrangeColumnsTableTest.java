@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests the concurrent (batched) and lazy processing of {@link AbstractCellFactory} in
+ * {@link RearrangeColumnsTable}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class RearrangeColumnsTableTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Rows are handed to the factory in batches of at most the configured size and the output order is retained.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testBatchedParallelProcessing() throws Exception {
+        final AtomicInteger batchCount = new AtomicInteger();
+        final AtomicInteger maxBatchSize = new AtomicInteger();
+        AbstractCellFactory factory = new DoublingCellFactory() {
+            @Override
+            public DataCell[][] getCells(final List<DataRow> rows) {
+                batchCount.incrementAndGet();
+                maxBatchSize.accumulateAndGet(rows.size(), Math::max);
+                return super.getCells(rows);
+            }
+        };
+        factory.setBatchSize(100);
+        final int rowCount = 10000;
+        checkOutput(appendColumn(createTable(rowCount), factory), rowCount);
+        assertTrue("Expected batched invocation, got " + maxBatchSize.get(), maxBatchSize.get() > 1);
+        assertTrue("Batch size exceeded: " + maxBatchSize.get(), maxBatchSize.get() <= 100);
+        assertTrue("Too few batches: " + batchCount.get(), batchCount.get() >= rowCount / 100);
+    }
+
+    /**
+     * Small tables and factories that only implement the per-row method.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testSmallTable() throws Exception {
+        for (int rowCount : new int[]{0, 1, 5, 99}) {
+            checkOutput(appendColumn(createTable(rowCount), new DoublingCellFactory()), rowCount);
+        }
+    }
+
+    /**
+     * Lazy factories are not called while creating the table, the new cells are computed on the first iteration and
+     * cached from the second iteration on.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testLazyEvaluation() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        AbstractCellFactory factory = new DoublingCellFactory() {
+            @Override
+            public DataCell[] getCells(final DataRow row) {
+                callCount.incrementAndGet();
+                return super.getCells(row);
+            }
+        };
+        factory.setLazyEvaluation(true);
+        final int rowCount = 1000;
+        BufferedDataTable table = appendColumn(createTable(rowCount), factory);
+        assertEquals("Factory called during table creation", 0, callCount.get());
+        checkOutput(table, rowCount);
+        assertEquals(rowCount, callCount.get());
+        // second iteration caches the new column
+        checkOutput(table, rowCount);
+        assertEquals(2 * rowCount, callCount.get());
+        checkOutput(table, rowCount);
+        assertEquals(2 * rowCount, callCount.get());
+    }
+
+    private BufferedDataTable createTable(final int rowCount) {
+        BufferedDataContainer container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private BufferedDataTable appendColumn(final BufferedDataTable table, final AbstractCellFactory factory)
+        throws Exception {
+        ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        return m_exec.createColumnRearrangeTable(table, rearranger, m_exec);
+    }
+
+    private static void checkOutput(final BufferedDataTable table, final int rowCount) {
+        assertEquals(rowCount, table.size());
+        int i = 0;
+        for (DataRow row : table) {
+            assertEquals(RowKey.createRowKey((long)i), row.getKey());
+            assertEquals(i, ((IntValue)row.getCell(0)).getIntValue());
+            assertEquals(2 * i, ((IntValue)row.getCell(1)).getIntValue());
+            i++;
+        }
+        assertEquals(rowCount, i);
+    }
+
+    private static class DoublingCellFactory extends AbstractCellFactory {
+
+        DoublingCellFactory() {
+            super(true, new DataColumnSpecCreator("doubled", IntCell.TYPE).createSpec());
+        }
+
+        @Override
+        public DataCell[] getCells(final DataRow row) {
+            return new DataCell[]{new IntCell(2 * ((IntValue)row.getCell(0)).getIntValue())};
+        }
+    }
+}
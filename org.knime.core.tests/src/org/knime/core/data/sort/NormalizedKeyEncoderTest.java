@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.vector.doublevector.DoubleVectorCellFactory;
+
+/**
+ * Tests {@link NormalizedKeyEncoder} against the comparators of the encoded types.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class NormalizedKeyEncoderTest {
+
+    private static final String[] STRINGS = {"", "a", "ab", "b", "\u0000", "\u0000a", "~", "\u007f",
+        "\u00e4", "\u407e", "\u407f", "\uffff", "\ud83d\ude00", "\ufb01"};
+
+    /** Compares all pairs of values of each supported type in all sort settings. */
+    @Test
+    public void testOrderPerType() {
+        List<DataCell> ints = new ArrayList<>();
+        for (int i : new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+            ints.add(new IntCell(i));
+        }
+        checkOrder(IntCell.TYPE, ints);
+
+        List<DataCell> longs = new ArrayList<>();
+        for (long l : new long[]{Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE}) {
+            longs.add(new LongCell(l));
+        }
+        checkOrder(LongCell.TYPE, longs);
+
+        List<DataCell> doubles = new ArrayList<>();
+        for (double d : new double[]{Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+            Double.MIN_VALUE, 1e-300, 1.5, Double.POSITIVE_INFINITY, Double.NaN}) {
+            doubles.add(new DoubleCell(d));
+        }
+        checkOrder(DoubleCell.TYPE, doubles);
+
+        List<DataCell> strings = new ArrayList<>();
+        for (String s : STRINGS) {
+            strings.add(new StringCell(s));
+        }
+        checkOrder(StringCell.TYPE, strings);
+
+        List<DataCell> booleans = new ArrayList<>();
+        booleans.add(BooleanCell.TRUE);
+        booleans.add(BooleanCell.FALSE);
+        checkOrder(BooleanCell.TYPE, booleans);
+    }
+
+    /** Compares the row key order, which is according to {@link String#compareTo(String)}. */
+    @Test
+    public void testRowKeyOrder() {
+        DataTableSpec spec = new DataTableSpec(new String[]{"dummy"}, new DataType[]{IntCell.TYPE});
+        for (boolean ascending : new boolean[]{true, false}) {
+            NormalizedKeyEncoder encoder =
+                NormalizedKeyEncoder.create(new int[]{-1}, new boolean[]{ascending}, false, spec);
+            for (String s1 : STRINGS) {
+                for (String s2 : STRINGS) {
+                    int expected = Integer.signum(s1.compareTo(s2)) * (ascending ? 1 : -1);
+                    int actual = Integer.signum(NormalizedKeyEncoder.compare(
+                        encoder.encode(new DefaultRow(s1, 0)), encoder.encode(new DefaultRow(s2, 0))));
+                    assertEquals("'" + s1 + "' vs. '" + s2 + "'", expected, actual);
+                }
+            }
+        }
+    }
+
+    /** Two sort columns, the second decides only if the first is equal. */
+    @Test
+    public void testMultipleColumns() {
+        DataTableSpec spec =
+            new DataTableSpec(new String[]{"s", "d"}, new DataType[]{StringCell.TYPE, DoubleCell.TYPE});
+        List<DataRow> rows = new ArrayList<>();
+        for (String s : new String[]{"a", "ab", ""}) {
+            for (double d : new double[]{-1, 0, 2}) {
+                rows.add(new DefaultRow("Row" + rows.size(), new StringCell(s), new DoubleCell(d)));
+            }
+            rows.add(new DefaultRow("Row" + rows.size(), new StringCell(s), DataType.getMissingCell()));
+        }
+        rows.add(new DefaultRow("Row" + rows.size(), DataType.getMissingCell(), new DoubleCell(1)));
+        for (boolean missingsToEnd : new boolean[]{true, false}) {
+            for (boolean asc1 : new boolean[]{true, false}) {
+                for (boolean asc2 : new boolean[]{true, false}) {
+                    boolean[] ascending = {asc1, asc2};
+                    NormalizedKeyEncoder encoder =
+                        NormalizedKeyEncoder.create(new int[]{0, 1}, ascending, missingsToEnd, spec);
+                    for (DataRow r1 : rows) {
+                        for (DataRow r2 : rows) {
+                            int expected = 0;
+                            for (int i = 0; i < 2 && expected == 0; i++) {
+                                expected = compare(spec.getColumnSpec(i).getType().getComparator(), r1.getCell(i),
+                                    r2.getCell(i), ascending[i], missingsToEnd);
+                            }
+                            int actual = Integer.signum(
+                                NormalizedKeyEncoder.compare(encoder.encode(r1), encoder.encode(r2)));
+                            assertEquals(r1 + " vs. " + r2, expected, actual);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Columns whose comparator is unknown can't be encoded. */
+    @Test
+    public void testUnsupportedType() {
+        DataType vectorType = DoubleVectorCellFactory.TYPE;
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("v", vectorType).createSpec(),
+            new DataColumnSpecCreator("i", IntCell.TYPE).createSpec());
+        assertNull(NormalizedKeyEncoder.create(new int[]{1, 0}, new boolean[]{true, true}, false, spec));
+        assertNotNull(NormalizedKeyEncoder.create(new int[]{1, -1}, new boolean[]{true, true}, false, spec));
+    }
+
+    private static void checkOrder(final DataType type, final List<DataCell> values) {
+        List<DataCell> cells = new ArrayList<>(values);
+        cells.add(DataType.getMissingCell());
+        DataTableSpec spec = new DataTableSpec(new String[]{"col"}, new DataType[]{type});
+        DataValueComparator comparator = type.getComparator();
+        for (boolean missingsToEnd : new boolean[]{true, false}) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                NormalizedKeyEncoder encoder =
+                    NormalizedKeyEncoder.create(new int[]{0}, new boolean[]{ascending}, missingsToEnd, spec);
+                assertNotNull("No encoder for " + type, encoder);
+                for (DataCell c1 : cells) {
+                    for (DataCell c2 : cells) {
+                        int expected = compare(comparator, c1, c2, ascending, missingsToEnd);
+                        int actual = Integer.signum(NormalizedKeyEncoder.compare(
+                            encoder.encode(new DefaultRow("r1", c1)), encoder.encode(new DefaultRow("r2", c2))));
+                        assertEquals(type + ": " + c1 + " vs. " + c2 + " (ascending: " + ascending
+                            + ", missings to end: " + missingsToEnd + ")", expected, actual);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Same semantics as the comparator used by the table sorters. */
+    private static int compare(final DataValueComparator comparator, final DataCell c1, final DataCell c2,
+        final boolean ascending, final boolean missingsToEnd) {
+        if (missingsToEnd && (c1.isMissing() || c2.isMissing())) {
+            if (c1.isMissing() && c2.isMissing()) {
+                return 0;
+            }
+            return c1.isMissing() ? 1 : -1;
+        }
+        int result = Integer.signum(comparator.compare(c1, c2));
+        return ascending ? result : -result;
+    }
+}
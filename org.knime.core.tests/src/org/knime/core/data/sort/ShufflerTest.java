@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests for {@link Shuffler}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class ShufflerTest {
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    private BufferedDataTable createTable(final int rowCount) {
+        // the name of the last column clashes with the name of the internal target column
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("index", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("random_row_number", StringCell.TYPE).createSpec());
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        for (int i = 0; i < rowCount; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell("s" + i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private static List<Integer> indices(final BufferedDataTable table) {
+        List<Integer> result = new ArrayList<>();
+        for (DataRow row : table) {
+            int index = ((IntCell)row.getCell(0)).getIntValue();
+            assertEquals("Row key of row " + index, RowKey.createRowKey((long)index), row.getKey());
+            assertEquals("s" + index, ((StringCell)row.getCell(1)).getStringValue());
+            result.add(index);
+        }
+        return result;
+    }
+
+    /** The order that the former sort based implementation produced for a seed. */
+    private static List<Integer> expectedIndices(final long seed, final int rowCount) {
+        Random random = new Random(seed);
+        int[] shuffle = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            shuffle[i] = i;
+        }
+        for (int i = 0; i < rowCount; i++) {
+            int r = random.nextInt(i + 1);
+            int swap = shuffle[r];
+            shuffle[r] = shuffle[i];
+            shuffle[i] = swap;
+        }
+        Integer[] result = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            result[shuffle[i]] = i;
+        }
+        List<Integer> list = new ArrayList<>();
+        for (Integer i : result) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Tables that fit into a single bucket are shuffled in memory.
+     * @throws Exception if shuffling fails
+     */
+    @Test
+    public void testShuffleInMemory() throws Exception {
+        BufferedDataTable table = createTable(1000);
+        BufferedDataTable shuffled = Shuffler.shuffle(table, m_exec, 42L);
+        assertEquals(table.getDataTableSpec(), shuffled.getDataTableSpec());
+        assertEquals(expectedIndices(42L, 1000), indices(shuffled));
+    }
+
+    /**
+     * Small buckets and few open buckets force several levels of scattering.
+     * @throws Exception if shuffling fails
+     */
+    @Test
+    public void testShuffleWithBuckets() throws Exception {
+        BufferedDataTable table = createTable(5000);
+        for (int[] config : new int[][]{{10, 4}, {7, 2}, {1000, 32}, {4999, 3}}) {
+            BufferedDataTable shuffled = Shuffler.shuffle(table, m_exec, 7L, config[0], config[1]);
+            assertEquals(table.getDataTableSpec(), shuffled.getDataTableSpec());
+            assertEquals("Bucket size " + config[0] + ", open buckets " + config[1], expectedIndices(7L, 5000),
+                indices(shuffled));
+        }
+    }
+
+    /**
+     * Same seeds give the same order, different seeds give different orders.
+     * @throws Exception if shuffling fails
+     */
+    @Test
+    public void testSeed() throws Exception {
+        BufferedDataTable table = createTable(2000);
+        List<Integer> first = indices(Shuffler.shuffle(table, m_exec, 1L, 100, 8));
+        assertEquals(first, indices(Shuffler.shuffle(table, m_exec, 1L, 100, 8)));
+        assertNotEquals(first, indices(Shuffler.shuffle(table, m_exec, 2L, 100, 8)));
+    }
+
+    /**
+     * Empty tables.
+     * @throws Exception if shuffling fails
+     */
+    @Test
+    public void testEmptyTable() throws Exception {
+        assertEquals(0, Shuffler.shuffle(createTable(0), m_exec, 1L, 10, 4).size());
+    }
+}
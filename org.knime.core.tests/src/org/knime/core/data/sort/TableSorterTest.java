@@ -48,6 +48,7 @@
 package org.knime.core.data.sort;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Random;
@@ -70,6 +71,7 @@
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
@@ -140,6 +142,84 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Test that sorting chunks in parallel slices, writing them concurrently and merging them with read-ahead gives
+     * the same stable result as the sequential sort.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelSortIsStable() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Value"}, new DataType[]{IntCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(3);
+        for (int i = 0; i < 5000; i++) {
+            // few distinct values to verify the order of equal elements
+            cont.addRowToTable(new DefaultRow("Row" + i, new IntCell(rand.nextInt(7))));
+        }
+        cont.close();
+        BufferedDataTable table = cont.getTable();
+
+        BufferedDataTableSorter sequentialSorter =
+            new BufferedDataTableSorter(table, Arrays.asList("Value"), new boolean[]{true});
+        sequentialSorter.setParallelism(1);
+        BufferedDataTable expected = sequentialSorter.sort(m_exec);
+
+        for (int maxRows : new int[]{Integer.MAX_VALUE, 300}) {
+            BufferedDataTableSorter parallelSorter =
+                new BufferedDataTableSorter(table, Arrays.asList("Value"), new boolean[]{true});
+            parallelSorter.setParallelism(4);
+            parallelSorter.setMinRowsPerSlice(10);
+            parallelSorter.setMaxRows(maxRows);
+            parallelSorter.setMaxOpenContainers(3);
+            BufferedDataTable result = parallelSorter.sort(m_exec);
+
+            Assert.assertEquals(expected.size(), result.size());
+            RowIterator expectedIter = expected.iterator();
+            RowIterator iter = result.iterator();
+            while (expectedIter.hasNext()) {
+                Assert.assertEquals(expectedIter.next().getKey(), iter.next().getKey());
+            }
+        }
+    }
+
+    /**
+     * Test that the top-k mode returns the first rows of the complete (stable) sort, for column sort and custom
+     * comparators.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testTopK() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Value"}, new DataType[]{IntCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            cont.addRowToTable(new DefaultRow("Row" + i, new IntCell(rand.nextInt(100))));
+        }
+        cont.close();
+        BufferedDataTable table = cont.getTable();
+
+        BufferedDataTable expected =
+            new BufferedDataTableSorter(table, Arrays.asList("Value"), new boolean[]{false}).sort(m_exec);
+        Comparator<DataRow> descending = (r1, r2) -> Integer.compare(((IntValue)r2.getCell(0)).getIntValue(),
+            ((IntValue)r1.getCell(0)).getIntValue());
+
+        for (int k : new int[]{0, 1, 37, 2000, 5000}) {
+            BufferedDataTableSorter columnSorter =
+                new BufferedDataTableSorter(table, Arrays.asList("Value"), new boolean[]{false});
+            columnSorter.setTopK(k);
+            BufferedDataTableSorter comparatorSorter = new BufferedDataTableSorter(table, descending);
+            comparatorSorter.setTopK(k);
+            for (BufferedDataTable result : new BufferedDataTable[]{columnSorter.sort(m_exec),
+                comparatorSorter.sort(m_exec)}) {
+                Assert.assertEquals(Math.min(k, expected.size()), result.size());
+                RowIterator expectedIter = expected.iterator();
+                for (DataRow row : result) {
+                    Assert.assertEquals(expectedIter.next().getKey(), row.getKey());
+                }
+            }
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
@@ -0,0 +1,228 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.RowAppender;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.core.util.DuplicateKeyException;
+
+/**
+ * Tests {@link ParallelBufferedDataContainer}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class ParallelBufferedDataContainerTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    private ExecutionContext m_exec;
+
+    private ExecutorService m_executor;
+
+    /** Creates the execution context and the producer threads. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+        m_executor = Executors.newFixedThreadPool(4);
+    }
+
+    /** Shuts down the producer threads. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell("Value " + (i % 10)));
+    }
+
+    /**
+     * Tests that rows added to explicit partitions from concurrent threads appear in partition order and that the
+     * domains of all partitions are merged.
+     *
+     * @throws Exception if a producer fails
+     */
+    @Test
+    public void testOrderedPartitions() throws Exception {
+        final ParallelBufferedDataContainer container = m_exec.createParallelDataContainer(SPEC, false);
+        final int partitionCount = 8;
+        final int rowsPerPartition = 1000;
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < partitionCount; p++) {
+            final RowAppender partition = container.createPartition();
+            final int offset = p * rowsPerPartition;
+            futures.add(m_executor.submit(() -> {
+                for (int i = offset; i < offset + rowsPerPartition; i++) {
+                    partition.addRowToTable(createRow(i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        container.close();
+        final BufferedDataTable table = container.getTable();
+        assertThat("Wrong row count", table.size(), is((long)partitionCount * rowsPerPartition));
+        int i = 0;
+        for (DataRow row : table) {
+            assertThat("Wrong row order", ((IntCell)row.getCell(0)).getIntValue(), is(i++));
+        }
+        final DataTableSpec spec = table.getDataTableSpec();
+        assertThat("Wrong lower bound", ((IntCell)spec.getColumnSpec(0).getDomain().getLowerBound()).getIntValue(),
+            is(0));
+        assertThat("Wrong upper bound", ((IntCell)spec.getColumnSpec(0).getDomain().getUpperBound()).getIntValue(),
+            is(partitionCount * rowsPerPartition - 1));
+        assertThat("Wrong possible values", spec.getColumnSpec(1).getDomain().getValues().size(), is(10));
+    }
+
+    /**
+     * Tests that all rows added from concurrent threads to thread-owned partitions end up in the table.
+     *
+     * @throws Exception if a producer fails
+     */
+    @Test
+    public void testThreadPartitions() throws Exception {
+        final ParallelBufferedDataContainer container = m_exec.createParallelDataContainer(SPEC, false);
+        final int rowCount = 10000;
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int start = t;
+            futures.add(m_executor.submit(() -> {
+                for (int i = start; i < rowCount; i += 4) {
+                    container.addRowToTable(createRow(i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        container.close();
+        final Set<Integer> values = new HashSet<>();
+        for (DataRow row : container.getTable()) {
+            values.add(((IntCell)row.getCell(0)).getIntValue());
+        }
+        assertThat("Wrong row count", container.size(), is((long)rowCount));
+        assertThat("Rows lost or duplicated", values.size(), is(rowCount));
+    }
+
+    /**
+     * Tests that the possible values of partitions are merged with the limit of possible values applied to the merged
+     * domain.
+     */
+    @Test
+    public void testMergedPossibleValuesLimit() {
+        final ParallelBufferedDataContainer container = m_exec.createParallelDataContainer(SPEC, false);
+        final RowAppender first = container.createPartition();
+        final RowAppender second = container.createPartition();
+        for (int i = 0; i < 40; i++) {
+            first.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell("A" + i)));
+            second.addRowToTable(
+                new DefaultRow(RowKey.createRowKey(40L + i), new IntCell(i), new StringCell("B" + i)));
+        }
+        container.close();
+        final DataTableSpec spec = container.getTable().getDataTableSpec();
+        assertThat("Too many possible values", spec.getColumnSpec(1).getDomain().hasValues(), is(false));
+    }
+
+    /** Tests that a row key added to two partitions is reported as duplicate. */
+    @Test
+    public void testDuplicateAcrossPartitions() {
+        final ParallelBufferedDataContainer container = m_exec.createParallelDataContainer(SPEC, false);
+        container.createPartition().addRowToTable(createRow(1));
+        final RowAppender second = container.createPartition();
+        try {
+            second.addRowToTable(createRow(1));
+            container.close();
+            fail("Duplicate row key not detected");
+        } catch (DuplicateKeyException e) {
+            assertThat("Wrong duplicate key", e.getKey(), is(RowKey.createRowKey(1L).getString()));
+        }
+    }
+
+    /** Tests that a container without any rows results in an empty table. */
+    @Test
+    public void testEmpty() {
+        final ParallelBufferedDataContainer container = m_exec.createParallelDataContainer(SPEC, false);
+        container.close();
+        assertThat("Wrong row count", container.getTable().size(), is(0L));
+        assertThat("Wrong spec", container.getTable().getDataTableSpec().equalStructure(SPEC), is(true));
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link PartitionedExecution}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class PartitionedExecutionTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /** Nodes without distributable input, small tables and a partition count of one run sequentially. */
+    @Test
+    public void testNotApplicable() {
+        final PortObject[] data = {createTable(100 * (int)PartitionedExecution.MIN_ROWS_PER_PARTITION)};
+        assertNull(PartitionedExecution.create(new TestNodeModel(false), data, 8));
+        assertNull(PartitionedExecution.create(new TestNodeModel(true), data, 1));
+        assertNull(PartitionedExecution.create(new TestNodeModel(true), new PortObject[]{createTable(1500)}, 8));
+        assertEquals(8, PartitionedExecution.create(new TestNodeModel(true), data, 8).getPartitionCount());
+        assertEquals(3, PartitionedExecution
+            .create(new TestNodeModel(true), new PortObject[]{createTable(3500)}, 8).getPartitionCount());
+    }
+
+    /**
+     * A distributed output is the concatenation of the partition outputs in input order, a non-distributed output is
+     * created from the merged internals.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testExecute() throws Exception {
+        final int rowCount = 10007;
+        final TestNodeModel model = new TestNodeModel(true);
+        final PartitionedExecution execution =
+            PartitionedExecution.create(model, new PortObject[]{createTable(rowCount)}, 4);
+        final PortObject[] out = execution.execute(m_exec);
+
+        final BufferedDataTable copy = (BufferedDataTable)out[0];
+        assertEquals(rowCount, copy.size());
+        int i = 0;
+        for (DataRow row : copy) {
+            assertEquals(RowKey.createRowKey((long)i), row.getKey());
+            assertEquals(i, ((IntValue)row.getCell(0)).getIntValue());
+            i++;
+        }
+        final BufferedDataTable count = (BufferedDataTable)out[1];
+        assertEquals(1, count.size());
+        assertEquals(new LongCell(rowCount), count.iterator().next().getCell(0));
+        assertEquals(4, model.m_partitions.size());
+    }
+
+    /**
+     * The failure of a partition fails the execution.
+     * @throws Exception if that fails
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartitionFails() throws Exception {
+        final TestNodeModel model = new TestNodeModel(true);
+        model.m_failingPartition = 2;
+        PartitionedExecution.create(model, new PortObject[]{createTable(10000)}, 4).execute(m_exec);
+    }
+
+    /**
+     * The range input returns exactly the rows of its range.
+     * @throws Exception if that fails
+     */
+    @Test
+    public void testRangeRowInput() throws Exception {
+        final BufferedDataTable table = createTable(100);
+        final RowInput input = new PartitionedExecution.RangeRowInput(table, 10, 20);
+        for (int i = 10; i < 20; i++) {
+            assertEquals(i, ((IntValue)input.poll().getCell(0)).getIntValue());
+        }
+        assertNull(input.poll());
+        input.close();
+        assertNull(new PartitionedExecution.RangeRowInput(table, 5, 5).poll());
+    }
+
+    private BufferedDataTable createTable(final int rowCount) {
+        BufferedDataContainer container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Copies its input to the first (distributed) output and counts the rows into the second (non-distributed)
+     * output.
+     */
+    private static final class TestNodeModel extends NodeModel {
+
+        private static final DataTableSpec COUNT_SPEC =
+            new DataTableSpec(new DataColumnSpecCreator("count", LongCell.TYPE).createSpec());
+
+        private final boolean m_distributable;
+
+        private final Set<Integer> m_partitions = ConcurrentHashMap.newKeySet();
+
+        private int m_failingPartition = -1;
+
+        TestNodeModel(final boolean distributable) {
+            super(1, 2);
+            m_distributable = distributable;
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) {
+            return new DataTableSpec[]{inSpecs[0], COUNT_SPEC};
+        }
+
+        @Override
+        public InputPortRole[] getInputPortRoles() {
+            return new InputPortRole[]{m_distributable ? InputPortRole.DISTRIBUTED_STREAMABLE
+                : InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+
+        @Override
+        public OutputPortRole[] getOutputPortRoles() {
+            return new OutputPortRole[]{OutputPortRole.DISTRIBUTED, OutputPortRole.NONDISTRIBUTED};
+        }
+
+        @Override
+        public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) {
+            final int partition = partitionInfo.getPartitionIndex();
+            return new StreamableOperator() {
+
+                private long m_count;
+
+                @Override
+                public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                    m_partitions.add(partition);
+                    if (partition == m_failingPartition) {
+                        throw new IllegalArgumentException("Partition " + partition + " fails");
+                    }
+                    final RowInput in = (RowInput)inputs[0];
+                    final RowOutput out = (RowOutput)outputs[0];
+                    DataRow row;
+                    while ((row = in.poll()) != null) {
+                        out.push(row);
+                        m_count++;
+                    }
+                    in.close();
+                    out.close();
+                }
+
+                @Override
+                public StreamableOperatorInternals saveInternals() {
+                    final SimpleStreamableOperatorInternals internals = new SimpleStreamableOperatorInternals();
+                    internals.getConfig().addLong("count", m_count);
+                    return internals;
+                }
+            };
+        }
+
+        @Override
+        public MergeOperator createMergeOperator() {
+            return new MergeOperator() {
+                @Override
+                public StreamableOperatorInternals mergeFinal(final StreamableOperatorInternals[] operators) {
+                    long count = 0;
+                    for (StreamableOperatorInternals internals : operators) {
+                        count += ((SimpleStreamableOperatorInternals)internals).getConfig().getLong("count", 0);
+                    }
+                    final SimpleStreamableOperatorInternals merged = new SimpleStreamableOperatorInternals();
+                    merged.getConfig().addLong("count", count);
+                    return merged;
+                }
+            };
+        }
+
+        @Override
+        public void finishStreamableExecution(final StreamableOperatorInternals internals,
+            final ExecutionContext exec, final PortOutput[] output) throws Exception {
+            final long count = ((SimpleStreamableOperatorInternals)internals).getConfig().getLong("count", 0);
+            final RowOutput out = (RowOutput)output[1];
+            out.push(new DefaultRow(RowKey.createRowKey(0L), new LongCell(count)));
+            out.close();
+        }
+
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) {
+        }
+
+        @Override
+        protected void reset() {
+        }
+    }
+}
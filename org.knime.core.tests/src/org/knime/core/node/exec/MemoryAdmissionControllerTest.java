@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.exec.MemoryAdmissionController.Admission;
+
+/**
+ * Tests for {@link MemoryAdmissionController}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class MemoryAdmissionControllerTest {
+
+    private final AtomicLong m_used = new AtomicLong();
+
+    private final AtomicBoolean m_low = new AtomicBoolean();
+
+    private ExecutorService m_executor;
+
+    /** Creates the executor for waiting nodes. */
+    @Before
+    public void setUp() {
+        m_executor = Executors.newCachedThreadPool();
+    }
+
+    /** Stops the executor. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private MemoryAdmissionController createController(final long maxWait) {
+        return new MemoryAdmissionController(m_used::get, m_low::get, 1000, maxWait);
+    }
+
+    private Future<Admission> admitAsync(final MemoryAdmissionController controller, final String key,
+        final DefaultNodeProgressMonitor monitor, final CountDownLatch started) {
+        return m_executor.submit(() -> {
+            started.countDown();
+            return controller.admit(key, monitor);
+        });
+    }
+
+    /**
+     * A single node is always admitted, further nodes wait while memory is low.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testWaitWhileMemoryLow() throws Exception {
+        MemoryAdmissionController controller = createController(TimeUnit.MINUTES.toMillis(1));
+        m_low.set(true);
+        Admission first = controller.admit("A", new DefaultNodeProgressMonitor());
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Admission> second = admitAsync(controller, "B", new DefaultNodeProgressMonitor(), started);
+        started.await();
+        Thread.sleep(3 * MemoryAdmissionController.SAMPLE_INTERVAL_MS);
+        assertFalse("Second node must wait while memory is low", second.isDone());
+        assertEquals(1, controller.getAdmittedCount());
+
+        m_low.set(false);
+        controller.sample();
+        second.get(10, TimeUnit.SECONDS).close();
+        first.close();
+        assertEquals(0, controller.getAdmittedCount());
+    }
+
+    /**
+     * The memory growth observed while a node runs becomes the estimate for its type, which is taken into account
+     * when other nodes are running.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testLearnedEstimate() throws Exception {
+        MemoryAdmissionController controller = createController(TimeUnit.MINUTES.toMillis(1));
+        m_used.set(100);
+        try (Admission a = controller.admit("Heavy", new DefaultNodeProgressMonitor())) {
+            m_used.set(700);
+            controller.sample();
+            m_used.set(150);
+        }
+        assertEquals(600, controller.getEstimate("Heavy"));
+        assertEquals(0, controller.getEstimate("Light"));
+
+        Admission other = controller.admit("Light", new DefaultNodeProgressMonitor());
+        m_used.set(500);
+        // a light node fits, a heavy one doesn't (500 + 600 > 1000)
+        controller.admit("Light", new DefaultNodeProgressMonitor()).close();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Admission> heavy = admitAsync(controller, "Heavy", new DefaultNodeProgressMonitor(), started);
+        started.await();
+        Thread.sleep(3 * MemoryAdmissionController.SAMPLE_INTERVAL_MS);
+        assertFalse("Heavy node must wait for memory", heavy.isDone());
+
+        m_used.set(300);
+        controller.sample();
+        Admission heavyAdmission = heavy.get(10, TimeUnit.SECONDS);
+        heavyAdmission.close();
+        other.close();
+        assertEquals("Estimate is averaged with the new observation", 300, controller.getEstimate("Heavy"));
+    }
+
+    /**
+     * Waiting nodes can be canceled and are admitted after the maximum waiting time.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testCancelAndTimeout() throws Exception {
+        MemoryAdmissionController controller = createController(500);
+        m_low.set(true);
+        Admission first = controller.admit("A", new DefaultNodeProgressMonitor());
+
+        DefaultNodeProgressMonitor monitor = new DefaultNodeProgressMonitor();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Admission> canceled = admitAsync(controller, "B", monitor, started);
+        started.await();
+        monitor.setExecuteCanceled();
+        try {
+            canceled.get(10, TimeUnit.SECONDS);
+            fail("Waiting node was not canceled");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof CanceledExecutionException);
+        }
+
+        long start = System.currentTimeMillis();
+        controller.admit("C", new DefaultNodeProgressMonitor()).close();
+        assertTrue("Node should have waited for the maximum time", System.currentTimeMillis() - start >= 500);
+        first.close();
+    }
+}
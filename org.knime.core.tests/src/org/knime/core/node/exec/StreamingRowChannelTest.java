@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * Tests for {@link StreamingRowChannel}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class StreamingRowChannelTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+    private ExecutorService m_executor;
+
+    /** Creates the executor for the producers. */
+    @Before
+    public void setUp() {
+        m_executor = Executors.newCachedThreadPool();
+    }
+
+    /** Stops the executor. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private static DataRow row(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new DataCell[]{new IntCell(i)});
+    }
+
+    /**
+     * Rows arrive in order even if there are many more rows than the channel holds.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testPassRows() throws Exception {
+        StreamingRowChannel channel = new StreamingRowChannel(SPEC, 4);
+        Future<?> producer = m_executor.submit(() -> {
+            channel.open();
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(channel.offer(row(i)));
+            }
+            channel.close();
+            return null;
+        });
+        assertTrue(channel.awaitOpen());
+        RowInput input = channel.getInput();
+        assertEquals(SPEC, input.getDataTableSpec());
+        int count = 0;
+        DataRow r;
+        while ((r = input.poll()) != null) {
+            assertEquals(count, ((IntCell)r.getCell(0)).getIntValue());
+            count++;
+        }
+        assertEquals(1000, count);
+        assertNull("End of stream must be sticky", input.poll());
+        producer.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * A producer blocked on a full channel stops once the consumer closes its input.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testConsumerClosesInput() throws Exception {
+        StreamingRowChannel channel = new StreamingRowChannel(SPEC, 2);
+        Future<Integer> producer = m_executor.submit(() -> {
+            channel.open();
+            int i = 0;
+            while (channel.offer(row(i))) {
+                i++;
+            }
+            channel.close();
+            return i;
+        });
+        RowInput input = channel.getInput();
+        assertEquals(0, ((IntCell)input.poll().getCell(0)).getIntValue());
+        input.close();
+        int offered = producer.get(10, TimeUnit.SECONDS);
+        assertTrue("Producer must stop shortly after the input is closed: " + offered, offered < 10);
+        assertNull(input.poll());
+    }
+
+    /**
+     * The consumer fails if the producer fails, also while it waits for rows.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testProducerFails() throws Exception {
+        StreamingRowChannel channel = new StreamingRowChannel(SPEC, 2);
+        channel.open();
+        assertTrue(channel.awaitOpen());
+        Future<?> producer = m_executor.submit(() -> {
+            channel.offer(row(0));
+            Thread.sleep(100);
+            channel.fail();
+            return null;
+        });
+        RowInput input = channel.getInput();
+        try {
+            input.poll();
+            input.poll();
+            fail("Expected the upstream failure to be propagated");
+        } catch (StreamingRowChannel.UpstreamFailedException e) {
+            // expected
+        }
+        producer.get(10, TimeUnit.SECONDS);
+        assertTrue(channel.isFailed());
+        try {
+            channel.awaitOpen();
+            fail("Expected the upstream failure to be propagated");
+        } catch (StreamingRowChannel.UpstreamFailedException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A failure after the end of the stream is ignored, the consumer still gets all rows.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailAfterClose() throws Exception {
+        StreamingRowChannel channel = new StreamingRowChannel(SPEC, 4);
+        channel.open();
+        channel.offer(row(0));
+        channel.close();
+        channel.fail();
+        assertFalse(channel.isFailed());
+        RowInput input = channel.getInput();
+        assertEquals(0, ((IntCell)input.poll().getCell(0)).getIntValue());
+        assertNull(input.poll());
+    }
+
+    /**
+     * Inactive producers are reported to the consumer.
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testInactive() throws Exception {
+        StreamingRowChannel channel = new StreamingRowChannel(SPEC, 4);
+        channel.setInactive();
+        assertFalse(channel.awaitOpen());
+    }
+
+}
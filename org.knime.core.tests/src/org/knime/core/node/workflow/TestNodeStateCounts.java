@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertTrue;
+import static org.knime.core.node.workflow.InternalNodeContainerState.EXECUTED;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.action.CollapseIntoMetaNodeResult;
+
+/**
+ * Tests that the node state counts, which each workflow maintains incrementally, match a full recount after nodes
+ * are loaded, executed, reset, added, removed and nested into metanodes.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class TestNodeStateCounts extends WorkflowTestCase {
+
+    private NodeID m_columnFilter_2;
+    private NodeID m_columnFilter_3;
+    private NodeID m_columnSplitter_4;
+
+    @Before
+    public void setUp() throws Exception {
+        NodeID baseID = loadAndSetWorkflow(getWorkflowDirectory("testCollapseAndWrapMetaNodeActions"));
+        m_columnFilter_2 = new NodeID(baseID, 2);
+        m_columnFilter_3 = new NodeID(baseID, 3);
+        m_columnSplitter_4 = new NodeID(baseID, 4);
+    }
+
+    /** Loads, executes and resets the workflow. */
+    @Test
+    public void testLoadExecuteReset() throws Exception {
+        WorkflowManager mgr = getManager();
+        checkNodeCounts(mgr);
+        executeAllAndWait();
+        checkState(mgr, EXECUTED);
+        checkNodeCounts(mgr);
+        mgr.resetAndConfigureAll();
+        checkNodeCounts(mgr);
+    }
+
+    /** Collapses nodes into a metanode (removing and adding nodes), executes, removes and restores them. */
+    @Test
+    public void testAddRemoveAndMetaNodes() throws Exception {
+        WorkflowManager mgr = getManager();
+        final NodeID[] nodes = new NodeID[] {m_columnFilter_2, m_columnFilter_3, m_columnSplitter_4};
+        CollapseIntoMetaNodeResult collapseResult =
+            mgr.collapseIntoMetaNode(nodes, new WorkflowAnnotation[0], "Test-Meta Node");
+        NodeID metaID = collapseResult.getCollapsedMetanodeID();
+        checkNodeCounts(mgr);
+
+        executeAllAndWait();
+        checkState(mgr, EXECUTED);
+        checkNodeCounts(mgr);
+
+        mgr.resetAndConfigureNode(metaID);
+        checkNodeCounts(mgr);
+        collapseResult.undo();
+        checkNodeCounts(mgr);
+
+        mgr.removeNode(m_columnSplitter_4);
+        checkNodeCounts(mgr);
+        executeAllAndWait();
+        checkNodeCounts(mgr);
+    }
+
+    /** Sets and clears an error message of a node while holding the workflow lock. */
+    @Test
+    public void testErrorMessages() throws Exception {
+        WorkflowManager mgr = getManager();
+        NodeContainer nc = mgr.getNodeContainer(m_columnFilter_2);
+        try (WorkflowLock lock = mgr.lock()) {
+            nc.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Some error"));
+            checkNodeCounts(mgr);
+            nc.setNodeMessage(NodeMessage.NONE);
+            checkNodeCounts(mgr);
+        }
+    }
+
+    /** Checks the counts of the argument workflow and all nested workflows. */
+    private static void checkNodeCounts(final WorkflowManager wfm) {
+        assertTrue("Node counts of " + wfm.getNameWithID() + " don't match a recount", wfm.isNodeCountConsistent());
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (nc instanceof WorkflowManager) {
+                checkNodeCounts((WorkflowManager)nc);
+            } else if (nc instanceof SubNodeContainer) {
+                checkNodeCounts(((SubNodeContainer)nc).getWorkflowManager());
+            }
+        }
+    }
+}
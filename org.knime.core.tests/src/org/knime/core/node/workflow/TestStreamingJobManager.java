@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.exec.StreamingNodeExecutionJobManagerFactory;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Executes a metanode with the streaming job manager: a source node followed by streamed nodes, once with all nodes
+ * succeeding and once with a node failing in the middle of the pipeline.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class TestStreamingJobManager extends WorkflowTestCase {
+
+    private WorkflowManager m_metaNode;
+
+    private NodeID m_source;
+
+    private NodeID m_streamed;
+
+    @Before
+    public void setUp() throws Exception {
+        File workflowDirectory = FileUtil.createTempDir(getClass().getSimpleName());
+        WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(workflowDirectory).createContext());
+        WorkflowManager wm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper);
+        setManager(wm);
+        m_metaNode = wm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Streamed");
+        wm.setJobManager(m_metaNode.getID(), StreamingNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        m_source = m_metaNode.addNode(new AdapterNodeFactory(true));
+        m_streamed = m_metaNode.addNode(new StreamedNodeFactory(false));
+        m_metaNode.addConnection(m_source, 1, m_streamed, 1);
+    }
+
+    /**
+     * All streamed nodes are executed. Outputs that are only streamed aren't written into a table, the node gets a
+     * warning; unconnected outputs hold all rows.
+     */
+    @Test
+    public void testExecuteStreamed() throws Exception {
+        NodeID last = m_metaNode.addNode(new StreamedNodeFactory(false));
+        m_metaNode.addConnection(m_streamed, 1, last, 1);
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_metaNode.getID(), m_source, m_streamed, last);
+        NodeContainer streamed = m_metaNode.getNodeContainer(m_streamed);
+        assertEquals(0, ((BufferedDataTable)streamed.getOutPort(1).getPortObject()).size());
+        assertEquals(NodeMessage.Type.WARNING, streamed.getNodeMessage().getMessageType());
+        NodeContainer lastNC = m_metaNode.getNodeContainer(last);
+        assertEquals(3, ((BufferedDataTable)lastNC.getOutPort(1).getPortObject()).size());
+        assertEquals(NodeMessage.Type.RESET, lastNC.getNodeMessage().getMessageType());
+    }
+
+    /** An output that is streamed to one node and read as a table by another one holds all rows. */
+    @Test
+    public void testStreamedAndPipelineBreaker() throws Exception {
+        NodeID streamedDownstream = m_metaNode.addNode(new StreamedNodeFactory(false));
+        m_metaNode.addConnection(m_streamed, 1, streamedDownstream, 1);
+        NodeID tableDownstream = m_metaNode.addNode(new AdapterNodeFactory());
+        m_metaNode.addConnection(m_streamed, 1, tableDownstream, 1);
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_metaNode.getID(), m_streamed, streamedDownstream,
+            tableDownstream);
+        NodeContainer streamed = m_metaNode.getNodeContainer(m_streamed);
+        assertEquals(3, ((BufferedDataTable)streamed.getOutPort(1).getPortObject()).size());
+        assertEquals(NodeMessage.Type.RESET, streamed.getNodeMessage().getMessageType());
+    }
+
+    /** A node failing mid-pipeline leaves it and all downstream nodes not executed, upstream nodes are executed. */
+    @Test
+    public void testFailMidPipeline() throws Exception {
+        NodeID failing = m_metaNode.addNode(new StreamedNodeFactory(true));
+        m_metaNode.addConnection(m_streamed, 1, failing, 1);
+        NodeID streamedDownstream = m_metaNode.addNode(new StreamedNodeFactory(false));
+        m_metaNode.addConnection(failing, 1, streamedDownstream, 1);
+        NodeID tableDownstream = m_metaNode.addNode(new AdapterNodeFactory());
+        m_metaNode.addConnection(failing, 1, tableDownstream, 1);
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_source, m_streamed);
+        for (NodeID id : new NodeID[]{m_metaNode.getID(), failing, streamedDownstream, tableDownstream}) {
+            assertNotEquals("State of " + findNodeContainer(id).getNameWithID(), InternalNodeContainerState.EXECUTED,
+                findNodeContainer(id).getInternalState());
+        }
+
+        // the failed nodes can be executed again once the failure is fixed
+        m_metaNode.removeNode(failing);
+        m_metaNode.addConnection(m_streamed, 1, streamedDownstream, 1);
+        m_metaNode.addConnection(m_streamed, 1, tableDownstream, 1);
+        executeAllAndWait();
+        checkStateOfMany(InternalNodeContainerState.EXECUTED, m_metaNode.getID(), streamedDownstream, tableDownstream);
+    }
+
+    /** Factory for a node that streams its input to its output, optionally failing after the first row. */
+    private static final class StreamedNodeFactory extends AdapterNodeFactory {
+
+        private final boolean m_fail;
+
+        StreamedNodeFactory(final boolean fail) {
+            m_fail = fail;
+        }
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                public InputPortRole[] getInputPortRoles() {
+                    return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+                }
+
+                @Override
+                public OutputPortRole[] getOutputPortRoles() {
+                    return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+                }
+
+                @Override
+                public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+                    final PortObjectSpec[] inSpecs) {
+                    return new StreamableOperator() {
+                        @Override
+                        public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                            final ExecutionContext exec) throws Exception {
+                            RowInput in = (RowInput)inputs[0];
+                            RowOutput out = (RowOutput)outputs[0];
+                            DataRow row;
+                            while ((row = in.poll()) != null) {
+                                if (m_fail) {
+                                    throw new IllegalStateException("Failing on purpose after the first row");
+                                }
+                                out.push(row);
+                            }
+                            in.close();
+                            out.close();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+}
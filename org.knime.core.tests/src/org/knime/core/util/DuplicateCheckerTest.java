@@ -134,6 +134,87 @@ public void testEarlyDuplicate() throws Exception {
         checker.addKey("A");
     }
 
+    /**
+     * Tests that merging checkers detects duplicates in memory and in chunks written to disk.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMerge() throws Exception {
+        DuplicateChecker first = new DuplicateChecker(10, 50);
+        DuplicateChecker second = new DuplicateChecker(10, 50);
+        for (int i = 0; i < 25; i++) {
+            first.addKey("A" + i);
+            second.addKey("B" + i);
+        }
+        first.merge(second);
+        first.checkForDuplicates();
+        first.clear();
+
+        DuplicateChecker third = new DuplicateChecker(10, 50);
+        DuplicateChecker fourth = new DuplicateChecker(10, 50);
+        for (int i = 0; i < 25; i++) {
+            third.addKey("A" + i);
+            fourth.addKey("B" + i);
+        }
+        fourth.addKey("A3");
+        third.merge(fourth);
+        expectedException.expect(DuplicateKeyException.class);
+        try {
+            third.checkForDuplicates();
+        } finally {
+            third.clear();
+        }
+    }
+
+    /**
+     * Tests that keys added by index are compared to each other and to the equivalent string keys, in memory and
+     * after being written to disk.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDefaultRowKeys() throws Exception {
+        DuplicateChecker checker = new DuplicateChecker(10, 50);
+        for (long i = 0; i < 25; i++) {
+            checker.addDefaultRowKey(i);
+            checker.addKey("Row0" + i);
+        }
+        checker.addKey("Row-0");
+        checker.addKey("Row");
+        checker.addDefaultRowKey(-1);
+        checker.addDefaultRowKey(Long.MIN_VALUE);
+        checker.addKey("Row" + Long.MAX_VALUE);
+        checker.addKey("Row" + Long.MAX_VALUE + "0");
+        checker.checkForDuplicates();
+        checker.clear();
+
+        DuplicateChecker inMemory = new DuplicateChecker();
+        inMemory.addDefaultRowKey(7);
+        expectedException.expect(DuplicateKeyException.class);
+        inMemory.addKey("Row7");
+    }
+
+    /**
+     * Tests that a key added by index that duplicates a string key written to disk is detected.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDefaultRowKeyDuplicateOnDisk() throws Exception {
+        DuplicateChecker checker = new DuplicateChecker(10, 50);
+        for (long i = 0; i < 25; i++) {
+            checker.addKey("Row" + i);
+        }
+        checker.addDefaultRowKey(3);
+        expectedException.expect(DuplicateKeyException.class);
+        try {
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+    }
+
     private void internalTestArbitraryStrings(final boolean isAddDuplicates, final long seed) throws IOException {
         LinkedHashSet<String> hash = new LinkedHashSet<String>();
         Random r = new Random(seed);
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests {@link FingerprintDuplicateChecker}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class FingerprintDuplicateCheckerTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    /** Many unique keys, spilled to disk, with and without the fingerprints fitting into memory. */
+    @Test
+    public void testNoDuplicates() throws IOException {
+        for (int maxFingerprints : new int[]{FingerprintDuplicateChecker.MAX_FINGERPRINTS, 5000}) {
+            FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(1000, maxFingerprints);
+            try {
+                for (int i = 0; i < 100000; i++) {
+                    dc.addKey("Row" + i);
+                }
+                dc.checkForDuplicates();
+            } finally {
+                dc.clear();
+            }
+        }
+    }
+
+    @Test
+    public void testNoStringsAtAll() throws IOException {
+        new FingerprintDuplicateChecker().checkForDuplicates();
+    }
+
+    /** Duplicates in the current chunk are detected immediately. */
+    @Test
+    public void testEarlyDuplicate() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker();
+        checker.addKey("A");
+        expectedException.expect(DuplicateKeyException.class);
+        checker.addKey("A");
+    }
+
+    /** Duplicates of keys that have been written to disk are detected at the end. */
+    @Test
+    public void testDuplicateInDifferentChunks() throws IOException {
+        for (int maxFingerprints : new int[]{FingerprintDuplicateChecker.MAX_FINGERPRINTS, 5000}) {
+            Random r = new Random(maxFingerprints);
+            int duplIndex = r.nextInt(50000);
+            FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(1000, maxFingerprints);
+            try {
+                for (int i = 0; i < 100000; i++) {
+                    dc.addKey("Row" + i);
+                }
+                dc.addKey("Row" + duplIndex);
+                dc.checkForDuplicates();
+                fail("No duplicate detected even though at least one is present");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Row" + duplIndex, e.getKey());
+            } finally {
+                dc.clear();
+            }
+        }
+    }
+
+    /** A checker can be reused after clearing it. */
+    @Test
+    public void testClear() throws IOException {
+        FingerprintDuplicateChecker dc = new FingerprintDuplicateChecker(10, 100);
+        for (int i = 0; i < 1000; i++) {
+            dc.addKey("Row" + i);
+        }
+        dc.clear();
+        for (int i = 0; i < 1000; i++) {
+            dc.addKey("Row" + i);
+        }
+        dc.checkForDuplicates();
+        dc.clear();
+    }
+}
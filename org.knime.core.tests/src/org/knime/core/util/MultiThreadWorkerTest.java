@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link MultiThreadWorker}, in particular the adaptive window.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+public class MultiThreadWorkerTest {
+
+    private ExecutorService m_executor;
+
+    /** Creates the executor. */
+    @Before
+    public void setUp() {
+        m_executor = Executors.newFixedThreadPool(4);
+    }
+
+    /** Shuts down the executor. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    /**
+     * A slow first element doesn't keep the other workers idle, the output order is retained.
+     * @throws Exception if that fails
+     */
+    @Test(timeout = 10000)
+    public void testSlowElementWidensWindow() throws Exception {
+        final long count = 200;
+        final SleepWorker worker = new SleepWorker(4, 4, 500);
+        worker.setExecutor(m_executor);
+        worker.run(LongStream.range(0, count).boxed().collect(Collectors.toList()));
+        assertOrdered(worker.m_output, count);
+        assertTrue("Window not widened: " + worker.getWindowSize(), worker.getWindowSize() > 4);
+        assertTrue("Window too large: " + worker.getWindowSize(), worker.getWindowSize() <= 32);
+        assertTrue(worker.getUtilization() > 0.0);
+        assertFalse(worker.getWorkerBusyTimes().isEmpty());
+    }
+
+    /**
+     * With a fixed window the queue size is a hard limit.
+     * @throws Exception if that fails
+     */
+    @Test(timeout = 10000)
+    public void testFixedWindow() throws Exception {
+        final long count = 50;
+        final SleepWorker worker = new SleepWorker(4, 4, 100);
+        worker.setAdaptiveWindow(false);
+        worker.setExecutor(m_executor);
+        worker.run(LongStream.range(0, count).boxed().collect(Collectors.toList()));
+        assertOrdered(worker.m_output, count);
+        assertEquals(4, worker.getWindowSize());
+        assertTrue("Finished task cache exceeded queue size: " + worker.m_maxCachedCount,
+            worker.m_maxCachedCount <= 4);
+    }
+
+    private static void assertOrdered(final List<Long> output, final long count) {
+        assertEquals(count, output.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(Long.valueOf(2L * i), output.get(i));
+        }
+    }
+
+    /** Doubles the input, the first element takes the given time, all others 1ms. */
+    private static final class SleepWorker extends MultiThreadWorker<Long, Long> {
+
+        private final long m_firstSleepMillis;
+
+        private final List<Long> m_output = new ArrayList<>();
+
+        private int m_maxCachedCount;
+
+        SleepWorker(final int maxQueueSize, final int maxActiveInstanceSize, final long firstSleepMillis) {
+            super(maxQueueSize, maxActiveInstanceSize);
+            m_firstSleepMillis = firstSleepMillis;
+        }
+
+        @Override
+        protected Long compute(final Long in, final long index) throws Exception {
+            Thread.sleep(index == 0 ? m_firstSleepMillis : 1L);
+            return 2L * in;
+        }
+
+        @Override
+        protected void processFinished(final ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            m_maxCachedCount = Math.max(m_maxCachedCount, getFinishedTaskCount() + 1);
+            m_output.add(task.get());
+        }
+    }
+}
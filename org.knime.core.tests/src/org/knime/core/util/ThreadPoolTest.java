@@ -49,7 +49,12 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -434,4 +439,47 @@ public ClassLoader call() throws Exception {
             Thread.currentThread().setContextClassLoader(cl);
         }
     }
+
+    /**
+     * Checks that queued tasks are started in the order of descending priority and in submission order among tasks
+     * with the same priority.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testEnqueueWithPriority() throws Exception {
+        ThreadPool root = new ThreadPool(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        root.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blocker.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        final List<String> order = Collections.synchronizedList(new ArrayList<String>());
+        final String[] names = {"1", "5a", "default", "3", "5b", "0"};
+        final long[] priorities = {1, 5, -1, 3, 5, 0};
+        for (int i = 0; i < names.length; i++) {
+            final String name = names[i];
+            Runnable r = new Runnable() {
+                @Override
+                public void run() {
+                    order.add(name);
+                }
+            };
+            if (priorities[i] < 0) {
+                root.enqueue(r);
+            } else {
+                root.enqueue(r, priorities[i]);
+            }
+        }
+        blocker.countDown();
+        root.waitForTermination();
+        assertEquals(Arrays.asList("5a", "5b", "3", "1", "default", "0"), order);
+        root.shutdown();
+    }
 }
@@ -0,0 +1,364 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.function.Predicate;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * A simple predicate on the {@link DataCell DataCells} of a single column, used to restrict the rows returned by an
+ * iterator built via {@link RowIteratorBuilder#filterCells(int, CellPredicate)}. The comparison predicates use the
+ * {@link DataType#getComparator() comparator} of the bound value; they never match missing cells.
+ *
+ * <p>
+ * Predicates are evaluated while a table is read. Storage formats can evaluate them before a row is fully
+ * deserialized and skip the remainder of the row if the predicate is not met.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public abstract class CellPredicate {
+
+    private static final CellPredicate IS_MISSING = new CellPredicate() {
+        @Override
+        public boolean test(final DataCell cell) {
+            return cell.isMissing();
+        }
+
+        @Override
+        public boolean mayMatch(final DataCell min, final DataCell max, final boolean containsMissing) {
+            return containsMissing;
+        }
+
+        @Override
+        public String toString() {
+            return "is missing";
+        }
+    };
+
+    private static final CellPredicate IS_NOT_MISSING = new CellPredicate() {
+        @Override
+        public boolean test(final DataCell cell) {
+            return !cell.isMissing();
+        }
+
+        @Override
+        public boolean mayMatch(final DataCell min, final DataCell max, final boolean containsMissing) {
+            return min != null;
+        }
+
+        @Override
+        public String toString() {
+            return "is not missing";
+        }
+    };
+
+    /** Only instantiated via the static factory methods. */
+    CellPredicate() {
+    }
+
+    /**
+     * Evaluates this predicate on the argument cell.
+     *
+     * @param cell the cell to test, not null
+     * @return true if the cell matches
+     */
+    public abstract boolean test(DataCell cell);
+
+    /**
+     * Determines from summary statistics whether any cell of a block of cells can match this predicate. Storage formats
+     * use this to skip entire blocks of rows. The default implementation returns <code>true</code>.
+     *
+     * @param min the smallest non-missing cell of the block, null if the block contains only missing cells
+     * @param max the largest non-missing cell of the block, null if the block contains only missing cells
+     * @param containsMissing whether the block contains missing cells
+     * @return <code>false</code> only if it is certain that no cell in the block matches
+     */
+    public boolean mayMatch(final DataCell min, final DataCell max, final boolean containsMissing) {
+        return true;
+    }
+
+    /**
+     * @param other another predicate, not null
+     * @return a predicate matching cells that match this and the argument predicate
+     */
+    public CellPredicate and(final CellPredicate other) {
+        CheckUtils.checkArgumentNotNull(other, "Predicate must not be null");
+        final CellPredicate thisPredicate = this;
+        return new CellPredicate() {
+            @Override
+            public boolean test(final DataCell cell) {
+                return thisPredicate.test(cell) && other.test(cell);
+            }
+
+            @Override
+            public boolean mayMatch(final DataCell min, final DataCell max, final boolean containsMissing) {
+                return thisPredicate.mayMatch(min, max, containsMissing)
+                    && other.mayMatch(min, max, containsMissing);
+            }
+
+            @Override
+            public String toString() {
+                return "(" + thisPredicate + ") and (" + other + ")";
+            }
+        };
+    }
+
+    /** @return a predicate matching missing cells only */
+    public static CellPredicate isMissing() {
+        return IS_MISSING;
+    }
+
+    /** @return a predicate matching all non-missing cells */
+    public static CellPredicate isNotMissing() {
+        return IS_NOT_MISSING;
+    }
+
+    /**
+     * @param value the value to compare to, not null and not missing
+     * @return a predicate matching cells that compare equal to the argument
+     */
+    public static CellPredicate equalTo(final DataCell value) {
+        return new ComparisonPredicate(value, "=") {
+            @Override
+            boolean test(final int comparison) {
+                return comparison == 0;
+            }
+
+            @Override
+            boolean mayMatch(final int minComparison, final int maxComparison) {
+                return minComparison <= 0 && maxComparison >= 0;
+            }
+        };
+    }
+
+    /**
+     * @param bound the exclusive upper bound, not null and not missing
+     * @return a predicate matching cells that are smaller than the argument
+     */
+    public static CellPredicate lessThan(final DataCell bound) {
+        return new ComparisonPredicate(bound, "<") {
+            @Override
+            boolean test(final int comparison) {
+                return comparison < 0;
+            }
+
+            @Override
+            boolean mayMatch(final int minComparison, final int maxComparison) {
+                return minComparison <= 0;
+            }
+        };
+    }
+
+    /**
+     * @param bound the inclusive upper bound, not null and not missing
+     * @return a predicate matching cells that are smaller than or equal to the argument
+     */
+    public static CellPredicate lessThanOrEqualTo(final DataCell bound) {
+        return new ComparisonPredicate(bound, "<=") {
+            @Override
+            boolean test(final int comparison) {
+                return comparison <= 0;
+            }
+
+            @Override
+            boolean mayMatch(final int minComparison, final int maxComparison) {
+                return minComparison <= 0;
+            }
+        };
+    }
+
+    /**
+     * @param bound the exclusive lower bound, not null and not missing
+     * @return a predicate matching cells that are larger than the argument
+     */
+    public static CellPredicate greaterThan(final DataCell bound) {
+        return new ComparisonPredicate(bound, ">") {
+            @Override
+            boolean test(final int comparison) {
+                return comparison > 0;
+            }
+
+            @Override
+            boolean mayMatch(final int minComparison, final int maxComparison) {
+                return maxComparison >= 0;
+            }
+        };
+    }
+
+    /**
+     * @param bound the inclusive lower bound, not null and not missing
+     * @return a predicate matching cells that are larger than or equal to the argument
+     */
+    public static CellPredicate greaterThanOrEqualTo(final DataCell bound) {
+        return new ComparisonPredicate(bound, ">=") {
+            @Override
+            boolean test(final int comparison) {
+                return comparison >= 0;
+            }
+
+            @Override
+            boolean mayMatch(final int minComparison, final int maxComparison) {
+                return maxComparison >= 0;
+            }
+        };
+    }
+
+    /**
+     * @param lower the inclusive lower bound, not null and not missing
+     * @param upper the inclusive upper bound, not null and not missing
+     * @return a predicate matching cells in the closed interval [lower, upper]
+     */
+    public static CellPredicate between(final DataCell lower, final DataCell upper) {
+        return greaterThanOrEqualTo(lower).and(lessThanOrEqualTo(upper));
+    }
+
+    /**
+     * Wraps an arbitrary predicate. Note that storage formats cannot reason about such predicates other than by
+     * evaluating them on each individual cell.
+     *
+     * @param predicate the predicate to wrap, not null
+     * @return a new cell predicate delegating to the argument
+     */
+    public static CellPredicate of(final Predicate<DataCell> predicate) {
+        CheckUtils.checkArgumentNotNull(predicate, "Predicate must not be null");
+        return new CellPredicate() {
+            @Override
+            public boolean test(final DataCell cell) {
+                return predicate.test(cell);
+            }
+        };
+    }
+
+    /** Predicate comparing cells to a fixed value using the comparator of the value's type. */
+    abstract static class ComparisonPredicate extends CellPredicate {
+
+        private final DataCell m_value;
+
+        private final String m_operator;
+
+        private final DataValueComparator m_comparator;
+
+        /** Comparator for cells of a type other than the value's type, cached for the last seen type. */
+        private volatile TypedComparator m_otherTypeComparator;
+
+        ComparisonPredicate(final DataCell value, final String operator) {
+            CheckUtils.checkArgumentNotNull(value, "Value must not be null");
+            CheckUtils.checkArgument(!value.isMissing(), "Value must not be missing");
+            m_value = value;
+            m_operator = operator;
+            m_comparator = value.getType().getComparator();
+        }
+
+        /** @return the value compared to, not null */
+        final DataCell getValue() {
+            return m_value;
+        }
+
+        /**
+         * @param comparison result of comparing a cell to the value
+         * @return whether the comparison result satisfies this predicate
+         */
+        abstract boolean test(int comparison);
+
+        /**
+         * @param minComparison result of comparing the minimum of a block to the value
+         * @param maxComparison result of comparing the maximum of a block to the value
+         * @return whether cells in between may satisfy this predicate; strict comparisons are treated as non-strict
+         *         as the statistics may have been stored with reduced precision
+         */
+        abstract boolean mayMatch(int minComparison, int maxComparison);
+
+        @Override
+        public final boolean test(final DataCell cell) {
+            return !cell.isMissing() && test(compareToValue(cell));
+        }
+
+        @Override
+        public final boolean mayMatch(final DataCell min, final DataCell max, final boolean containsMissing) {
+            return min != null && max != null && mayMatch(compareToValue(min), compareToValue(max));
+        }
+
+        /**
+         * @param cell a non-missing cell
+         * @return the result of comparing the argument to the value of this predicate
+         */
+        final int compareToValue(final DataCell cell) {
+            final DataType type = cell.getType();
+            if (type.equals(m_value.getType())) {
+                return m_comparator.compare(cell, m_value);
+            }
+            TypedComparator otherTypeComparator = m_otherTypeComparator;
+            if (otherTypeComparator == null || !type.equals(otherTypeComparator.m_type)) {
+                otherTypeComparator = new TypedComparator(type,
+                    DataType.getCommonSuperType(type, m_value.getType()).getComparator());
+                m_otherTypeComparator = otherTypeComparator;
+            }
+            return otherTypeComparator.m_comparator.compare(cell, m_value);
+        }
+
+        @Override
+        public String toString() {
+            return m_operator + " " + m_value;
+        }
+
+        private static final class TypedComparator {
+
+            private final DataType m_type;
+
+            private final DataValueComparator m_comparator;
+
+            TypedComparator(final DataType type, final DataValueComparator comparator) {
+                m_type = type;
+                m_comparator = comparator;
+            }
+        }
+    }
+
+}
@@ -95,7 +95,17 @@ public interface DataTable extends Iterable<DataRow> {
      * @since 3.7
      */
     default RowIteratorBuilder<? extends RowIterator> iteratorBuilder() {
-        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec());
+        return new DefaultRowIteratorBuilder<RowIterator>(() -> iterator(), getDataTableSpec()) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            protected RowIterator applyRowFilter(final RowIterator iterator) {
+                return new FilterRowIterator(iterator, getFromRowIndex(), getToRowIndex(), getCellPredicates());
+            }
+        };
     }
 
 }
@@ -52,6 +52,9 @@
 
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.DataContainerSettings;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
@@ -62,6 +65,12 @@
  * {@link #updateDomain(DataTable, ExecutionMonitor, int)}. Finally the resulting spec including updated domains is
  * created by calling {@link #createSpec()}.
  *
+ * <p>
+ * Instances are not thread-safe. In order to compute the domain of a table that is processed in partitions
+ * concurrently, create one instance per partition (with identical constructor arguments) and combine them afterwards
+ * via {@link #merge(DataTableDomainCreator)}. Bounds of columns of type {@link DoubleCell}, {@link IntCell} and
+ * {@link LongCell} are tracked as primitives, that is, without a comparator call per cell.
+ *
  * @author Heiko Hofer
  * @since 2.10
  */
@@ -85,6 +94,30 @@ public class DataTableDomainCreator implements IDataTableDomainCreator {
 
     private final DataValueComparator[] m_comparators;
 
+    /** Column kinds for which bounds are tracked as primitives (if the cell has exactly the column's cell class). */
+    private static final byte KIND_GENERIC = 0;
+
+    private static final byte KIND_DOUBLE = 1;
+
+    private static final byte KIND_INT = 2;
+
+    private static final byte KIND_LONG = 3;
+
+    private final byte[] m_primitiveKinds;
+
+    /** Whether a primitive bound has been seen for the column. */
+    private final boolean[] m_hasPrimitiveBounds;
+
+    /** Primitive bounds of int and long columns. */
+    private final long[] m_longMins;
+
+    private final long[] m_longMaxs;
+
+    /** Primitive bounds of double columns. */
+    private final double[] m_doubleMins;
+
+    private final double[] m_doubleMaxs;
+
     /**
      * A new instance that recreates the domain of certains columns. Which columns are processed and if the domains
      * should be initialized with the domain from the incoming table can be controlled by the two
@@ -103,6 +136,12 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
         m_maxs = new DataCell[inputSpec.getNumColumns()];
         m_possVals = new LinkedHashSet[inputSpec.getNumColumns()];
         m_comparators = new DataValueComparator[inputSpec.getNumColumns()];
+        m_primitiveKinds = new byte[inputSpec.getNumColumns()];
+        m_hasPrimitiveBounds = new boolean[inputSpec.getNumColumns()];
+        m_longMins = new long[inputSpec.getNumColumns()];
+        m_longMaxs = new long[inputSpec.getNumColumns()];
+        m_doubleMins = new double[inputSpec.getNumColumns()];
+        m_doubleMaxs = new double[inputSpec.getNumColumns()];
         m_domainValuesColumnSelection = domainValuesColumnSelection;
         m_domainMinMaxColumnSelection = domainMinMaxColumnSelection;
         m_maxPossibleValues = DataContainerSettings.getDefault().getMaxDomainValues();
@@ -137,11 +176,24 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
                     }
                 }
                 m_comparators[i] = colSpec.getType().getComparator();
+                m_primitiveKinds[i] = getPrimitiveKind(colSpec.getType());
             }
             i++;
         }
     }
 
+    private static byte getPrimitiveKind(final DataType type) {
+        final Class<? extends DataCell> cellClass = type.getCellClass();
+        if (cellClass == DoubleCell.class) {
+            return KIND_DOUBLE;
+        } else if (cellClass == IntCell.class) {
+            return KIND_INT;
+        } else if (cellClass == LongCell.class) {
+            return KIND_LONG;
+        }
+        return KIND_GENERIC;
+    }
+
     /**
      * A new instance that recreates the domain of all columns. Domain values are recreated for all {@link NominalValue}
      * columns whereas min/max values are recreated for all {@link BoundedValue} columns.
@@ -215,6 +267,142 @@ private boolean isNaN(final DataCell cell) {
         return cell instanceof DoubleValue && Double.isNaN(((DoubleValue)cell).getDoubleValue());
     }
 
+    /**
+     * Updates the primitive min and max value of a column if the cell has exactly the column's (primitive) cell class.
+     *
+     * @param col the column of interest
+     * @param cell the new value to check
+     * @return whether the cell has been processed, false if it needs to be processed by
+     *         {@link #updateMinMax(int, DataCell, DataCell[], DataCell[], DataValueComparator[])}
+     */
+    private boolean updatePrimitiveMinMax(final int col, final DataCell cell) {
+        switch (m_primitiveKinds[col]) {
+            case KIND_DOUBLE:
+                if (cell.getClass() != DoubleCell.class) {
+                    return false;
+                }
+                updatePrimitiveMinMax(col, ((DoubleCell)cell).getDoubleValue());
+                return true;
+            case KIND_INT:
+                if (cell.getClass() != IntCell.class) {
+                    return false;
+                }
+                updatePrimitiveMinMax(col, ((IntCell)cell).getIntValue());
+                return true;
+            case KIND_LONG:
+                if (cell.getClass() != LongCell.class) {
+                    return false;
+                }
+                updatePrimitiveMinMax(col, ((LongCell)cell).getLongValue());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void updatePrimitiveMinMax(final int col, final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        // same order as the DoubleValueComparator
+        if (!m_hasPrimitiveBounds[col]) {
+            m_doubleMins[col] = value;
+            m_doubleMaxs[col] = value;
+            m_hasPrimitiveBounds[col] = true;
+        } else if (Double.compare(value, m_doubleMins[col]) < 0) {
+            m_doubleMins[col] = value;
+        } else if (Double.compare(value, m_doubleMaxs[col]) > 0) {
+            m_doubleMaxs[col] = value;
+        }
+    }
+
+    private void updatePrimitiveMinMax(final int col, final long value) {
+        if (!m_hasPrimitiveBounds[col]) {
+            m_longMins[col] = value;
+            m_longMaxs[col] = value;
+            m_hasPrimitiveBounds[col] = true;
+        } else if (value < m_longMins[col]) {
+            m_longMins[col] = value;
+        } else if (value > m_longMaxs[col]) {
+            m_longMaxs[col] = value;
+        }
+    }
+
+    /**
+     * Returns the lower or upper bound of a column, combining the primitive bound (if any) and the bound of cells that
+     * have been processed generically.
+     *
+     * @param col the column of interest
+     * @param lower whether to return the lower bound
+     * @return the bound, {@link DataType#getMissingCell() missing} if none, null if bounds aren't computed
+     */
+    private DataCell getBound(final int col, final boolean lower) {
+        final DataCell cellBound = lower ? m_mins[col] : m_maxs[col];
+        if (cellBound == null || !m_hasPrimitiveBounds[col]) {
+            return cellBound;
+        }
+        final DataCell primitiveBound;
+        switch (m_primitiveKinds[col]) {
+            case KIND_DOUBLE:
+                primitiveBound = new DoubleCell(lower ? m_doubleMins[col] : m_doubleMaxs[col]);
+                break;
+            case KIND_INT:
+                primitiveBound = new IntCell((int)(lower ? m_longMins[col] : m_longMaxs[col]));
+                break;
+            default:
+                primitiveBound = new LongCell(lower ? m_longMins[col] : m_longMaxs[col]);
+        }
+        if (cellBound.isMissing()) {
+            return primitiveBound;
+        }
+        final int cmp = m_comparators[col].compare(primitiveBound, cellBound);
+        return (lower ? cmp < 0 : cmp > 0) ? primitiveBound : cellBound;
+    }
+
+    /**
+     * Merges the domain computed by the argument instance into this instance, as if the rows processed by the argument
+     * had been processed by this instance. The argument must have been created with the same arguments as this
+     * instance (typically it processed another partition of the same table) and is not modified.
+     *
+     * @param other the domain creator to merge into this one
+     * @throws IllegalArgumentException if the specs of both instances don't have the same structure
+     * @since 3.8
+     */
+    public void merge(final DataTableDomainCreator other) {
+        if (!m_inputSpec.equalStructure(other.m_inputSpec)) {
+            throw new IllegalArgumentException("Spec of domain creator to merge does not match spec of this instance");
+        }
+        for (int i = 0; i < m_possVals.length; i++) {
+            if (m_possVals[i] != null) {
+                // null in the other instance means the possible values exceeded the maximum
+                if (other.m_possVals[i] == null) {
+                    m_possVals[i] = null;
+                } else {
+                    m_possVals[i].addAll(other.m_possVals[i]);
+                    if (m_possVals[i].size() > m_maxPossibleValues) {
+                        m_possVals[i] = null;
+                    }
+                }
+            }
+            if (m_mins[i] == null) {
+                continue;
+            }
+            if (other.m_mins[i] != null) {
+                updateMinMax(i, other.m_mins[i], m_mins, m_maxs, m_comparators);
+                updateMinMax(i, other.m_maxs[i], m_mins, m_maxs, m_comparators);
+            }
+            if (other.m_hasPrimitiveBounds[i]) {
+                if (m_primitiveKinds[i] == KIND_DOUBLE) {
+                    updatePrimitiveMinMax(i, other.m_doubleMins[i]);
+                    updatePrimitiveMinMax(i, other.m_doubleMaxs[i]);
+                } else {
+                    updatePrimitiveMinMax(i, other.m_longMins[i]);
+                    updatePrimitiveMinMax(i, other.m_longMaxs[i]);
+                }
+            }
+        }
+    }
+
     /**
      * Creates an updated version of the input spec. The domains of all configured columns are set according to the data
      * that has been processed by {@link #updateDomain(DataRow)} or
@@ -242,8 +430,10 @@ public DataTableSpec createSpec() {
                 domainCreator.setValues(m_possVals[i]);
             }
             if (m_domainMinMaxColumnSelection.createDomain(original)) {
-                DataCell min = m_mins[i] != null && !m_mins[i].isMissing() ? m_mins[i] : null;
-                DataCell max = m_mins[i] != null && !m_maxs[i].isMissing() ? m_maxs[i] : null;
+                final DataCell lower = getBound(i, true);
+                final DataCell upper = getBound(i, false);
+                DataCell min = lower != null && !lower.isMissing() ? lower : null;
+                DataCell max = upper != null && !upper.isMissing() ? upper : null;
                 domainCreator.setLowerBound(min);
                 domainCreator.setUpperBound(max);
             }
@@ -269,7 +459,9 @@ public void updateDomain(final DataRow row) {
                     m_possVals[i] = null;
                 }
             }
-            updateMinMax(i, c, m_mins, m_maxs, m_comparators);
+            if (m_mins[i] != null && !updatePrimitiveMinMax(i, c)) {
+                updateMinMax(i, c, m_mins, m_maxs, m_comparators);
+            }
             i++;
         }
     }
@@ -48,6 +48,10 @@
  */
 package org.knime.core.data;
 
+import java.util.Collections;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
 import org.knime.core.node.util.CheckUtils;
@@ -89,6 +93,80 @@
      */
     RowIteratorBuilder<I> filterColumns(String... columns);
 
+    /**
+     * Whether this builder supports row range and cell filters, i.e., whether {@link #filterRowsFromIndex(long)},
+     * {@link #filterRowsToIndex(long)} and {@link #filterCells(int, CellPredicate)} can be used. The default
+     * implementation returns false.
+     *
+     * @return whether row filters are supported
+     * @since 3.8
+     */
+    default boolean supportsRowFilter() {
+        return false;
+    }
+
+    /**
+     * Iterate only over rows whose index in the table is larger than or equal to the argument. Implementations backed
+     * by a storage format may skip the leading rows without deserializing them.
+     *
+     * @param fromIndex the index of the first row to return (inclusive)
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the index is negative
+     * @throws UnsupportedOperationException if the builder doesn't support row filters, see
+     *             {@link #supportsRowFilter()}
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterRowsFromIndex(final long fromIndex) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+    }
+
+    /**
+     * Iterate only over rows whose index in the table is smaller than or equal to the argument.
+     *
+     * @param toIndex the index of the last row to return (inclusive)
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the index is negative
+     * @throws UnsupportedOperationException if the builder doesn't support row filters, see
+     *             {@link #supportsRowFilter()}
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterRowsToIndex(final long toIndex) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+    }
+
+    /**
+     * Iterate only over rows whose cell in the given column matches the argument predicate. The predicate is applied
+     * after the row range filter, i.e. row indices always refer to the unfiltered table. If multiple predicates are
+     * specified (for the same or for different columns) only rows matching all of them are returned.
+     *
+     * @param columnIndex the index of the column to test
+     * @param predicate the predicate to apply, not null
+     * @return this {@link RowIteratorBuilder}
+     * @throws IndexOutOfBoundsException for an index smaller than 0 or larger than the width of the table
+     * @throws UnsupportedOperationException if the builder doesn't support row filters, see
+     *             {@link #supportsRowFilter()}
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterCells(final int columnIndex, final CellPredicate predicate) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+    }
+
+    /**
+     * Iterate only over rows whose cell in the named column matches the argument predicate, see
+     * {@link #filterCells(int, CellPredicate)}.
+     *
+     * @param column the name of the column to test
+     * @param predicate the predicate to apply, not null
+     * @return this {@link RowIteratorBuilder}
+     * @throws IllegalArgumentException if the column name is not found
+     * @throws UnsupportedOperationException if the builder doesn't support row filters, see
+     *             {@link #supportsRowFilter()}
+     * @since 3.8
+     */
+    default RowIteratorBuilder<I> filterCells(final String column, final CellPredicate predicate) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+    }
+
     /**
      * Build a new row iterator with the behavior specified via methods invoked in this builder.
      *
@@ -97,8 +175,10 @@
     I build();
 
     /**
-     * A {@link RowIteratorBuilder} that always builds default {@link RowIterator}s, i.e., iterators iterating over all
-     * rows and columns of a table.
+     * A {@link RowIteratorBuilder} that builds default {@link RowIterator}s, i.e., iterators iterating over all
+     * columns of a table. Row range and cell filters are only supported by subclasses that wrap the default iterator
+     * into a filtering iterator of the built type, see {@link #applyRowFilter(RowIterator)}, or that apply the filters
+     * themselves in {@link #build()}; such subclasses must also override {@link #supportsRowFilter()}.
      *
      * @param <I> the row iterator to be built
      *
@@ -110,6 +190,14 @@
 
         private final DataTableSpec m_spec;
 
+        private int[] m_filteredColumnIndices;
+
+        private long m_fromRowIndex = 0L;
+
+        private long m_toRowIndex = Long.MAX_VALUE;
+
+        private final SortedMap<Integer, CellPredicate> m_cellPredicates = new TreeMap<>();
+
         /**
          * Constructs a new {@link org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder}.
          *
@@ -128,6 +216,7 @@ public DefaultRowIteratorBuilder(final Supplier<I> iteratorSupplier, final DataT
         @Override
         public RowIteratorBuilder<I> filterColumns(final int... indices) {
             m_spec.verifyIndices(indices);
+            m_filteredColumnIndices = indices.clone();
             return this;
         }
 
@@ -139,12 +228,131 @@ public RowIteratorBuilder<I> filterColumns(final String... columns) {
             return filterColumns(m_spec.columnsToIndices(columns));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterRowsFromIndex(final long fromIndex) {
+            checkRowFilterSupported();
+            CheckUtils.checkArgument(fromIndex >= 0, "Row index must not be negative: %d", fromIndex);
+            m_fromRowIndex = fromIndex;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterRowsToIndex(final long toIndex) {
+            checkRowFilterSupported();
+            CheckUtils.checkArgument(toIndex >= 0, "Row index must not be negative: %d", toIndex);
+            m_toRowIndex = toIndex;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterCells(final int columnIndex, final CellPredicate predicate) {
+            checkRowFilterSupported();
+            CheckUtils.checkArgumentNotNull(predicate, "Predicate must not be null");
+            m_spec.verifyIndices(columnIndex);
+            m_cellPredicates.merge(columnIndex, predicate, CellPredicate::and);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RowIteratorBuilder<I> filterCells(final String column, final CellPredicate predicate) {
+            checkRowFilterSupported();
+            return filterCells(m_spec.columnsToIndices(column)[0], predicate);
+        }
+
+        /**
+         * {@inheritDoc} Returns false as the built type of iterator is unknown to this class; subclasses supporting
+         * row filters must override it.
+         *
+         * @since 3.8
+         */
+        @Override
+        public boolean supportsRowFilter() {
+            return false;
+        }
+
+        private void checkRowFilterSupported() {
+            if (!supportsRowFilter()) {
+                throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public I build() {
-            return m_iteratorSupplier.get();
+            final I iterator = m_iteratorSupplier.get();
+            return isRowFilterSet() ? applyRowFilter(iterator) : iterator;
+        }
+
+        /**
+         * Wraps the argument iterator so that it only returns the rows selected via
+         * {@link #filterRowsFromIndex(long)}, {@link #filterRowsToIndex(long)} and
+         * {@link #filterCells(int, CellPredicate)}. Only called if any such filter is set, which requires
+         * {@link #supportsRowFilter()} to return true. Subclasses supporting row filters must either override this
+         * method to return a filtering iterator of the built type or apply the filters themselves in {@link #build()};
+         * the default implementation throws an {@link UnsupportedOperationException}.
+         *
+         * @param iterator the unfiltered iterator as returned by the supplier
+         * @return an iterator applying the filters
+         * @since 3.8
+         */
+        protected I applyRowFilter(final I iterator) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support row filters");
+        }
+
+        /**
+         * The indices of the columns that were selected via {@link #filterColumns(int...)}, if any. Subclasses that
+         * are able to skip the materialization of columns (e.g. column-oriented storage formats) can use this
+         * information when building their iterator; the default implementation ignores it.
+         *
+         * @return the selected column indices or an empty optional if all columns are to be materialized
+         * @since 3.8
+         */
+        protected Optional<int[]> getFilteredColumnIndices() {
+            return Optional.ofNullable(m_filteredColumnIndices).map(int[]::clone);
+        }
+
+        /** @return the spec set at construction time, not null.
+         * @since 3.8 */
+        protected DataTableSpec getSpec() {
+            return m_spec;
+        }
+
+        /** @return the index of the first row to return, 0 if not set.
+         * @since 3.8 */
+        protected long getFromRowIndex() {
+            return m_fromRowIndex;
+        }
+
+        /** @return the index of the last row to return (inclusive), {@link Long#MAX_VALUE} if not set.
+         * @since 3.8 */
+        protected long getToRowIndex() {
+            return m_toRowIndex;
+        }
+
+        /** @return the cell predicates by column index (read-only), possibly empty.
+         * @since 3.8 */
+        protected SortedMap<Integer, CellPredicate> getCellPredicates() {
+            return Collections.unmodifiableSortedMap(m_cellPredicates);
+        }
+
+        /** @return whether any row range or cell filter is set.
+         * @since 3.8 */
+        protected boolean isRowFilterSet() {
+            return m_fromRowIndex > 0 || m_toRowIndex < Long.MAX_VALUE || !m_cellPredicates.isEmpty();
         }
 
     }
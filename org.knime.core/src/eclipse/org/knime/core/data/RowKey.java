@@ -55,13 +55,23 @@
 /**
  * Key for a specific row which holds an identifier of type {@link String}.
  *
+ * <p>Keys created by {@link #createRowKey(long)} hold the plain row index instead of the string; their string
+ * representation (<code>"Row" + rowIndex</code>) is created whenever requested by {@link #getString()}. Such keys are
+ * equal to (and have the same hash code as) keys created from the corresponding string.
+ *
  * @see DataRow
  * @author Michael Berthold, University of Konstanz
  */
 public final class RowKey {
 
-    /** Private member holding non-null row id. */
-    private final String m_id;
+    /** Prefix of the keys created by {@link #createRowKey(long)}. */
+    private static final String DEFAULT_PREFIX = "Row";
+
+    /** Hash code of {@link #DEFAULT_PREFIX}, the start value for the hash code of compact keys. */
+    private static final int DEFAULT_PREFIX_HASH = DEFAULT_PREFIX.hashCode();
+
+    /** Private member holding the row id, either a {@link String} or the {@link RowIndex} of a compact key. */
+    private final Object m_id;
 
     /**
      * Creates a row key based on a {@link String}.
@@ -76,9 +86,44 @@ public RowKey(final String id) {
         m_id = id;
     }
 
+    /** Creates a compact key of the form <code>"Row" + index</code>.
+     * @param index the row index */
+    private RowKey(final long index) {
+        m_id = new RowIndex(index);
+    }
+
     /** @return Underlying string of this row key. */
     public String getString() {
-        return m_id;
+        if (m_id instanceof RowIndex) {
+            return DEFAULT_PREFIX + ((RowIndex)m_id).m_index;
+        }
+        return (String)m_id;
+    }
+
+    /**
+     * Whether this key was created by {@link #createRowKey(long)} and is held as row index rather than as string.
+     *
+     * @return that property
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public boolean isCompact() {
+        return m_id instanceof RowIndex;
+    }
+
+    /**
+     * The row index of a {@link #isCompact() compact} key, i.e. the argument to {@link #createRowKey(long)}.
+     *
+     * @return the row index
+     * @throws IllegalStateException if this key is not compact
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long getCompactIndex() {
+        if (!(m_id instanceof RowIndex)) {
+            throw new IllegalStateException("Row key \"" + m_id + "\" is not compact");
+        }
+        return ((RowIndex)m_id).m_index;
     }
 
     /** {@inheritDoc} */
@@ -94,7 +139,14 @@ public boolean equals(final Object obj) {
             return true;
         }
         if (obj instanceof RowKey) {
-            return ((RowKey)obj).m_id.equals(m_id);
+            final Object otherId = ((RowKey)obj).m_id;
+            if (m_id instanceof RowIndex && otherId instanceof RowIndex) {
+                return ((RowIndex)m_id).m_index == ((RowIndex)otherId).m_index;
+            }
+            if (m_id instanceof String && otherId instanceof String) {
+                return m_id.equals(otherId);
+            }
+            return hashCode() == obj.hashCode() && getString().equals(((RowKey)obj).getString());
         }
         return false;
     }
@@ -107,6 +159,52 @@ public int hashCode() {
         return m_id.hashCode();
     }
 
+    /** The id of a compact key, hashes like the string <code>"Row" + index</code>. */
+    private static final class RowIndex {
+
+        private final long m_index;
+
+        /** Cached hash code, 0 if not computed yet (racy single-check, as in {@link String#hashCode()}). */
+        private int m_hash;
+
+        RowIndex(final long index) {
+            m_index = index;
+        }
+
+        /** Same as <code>("Row" + m_index).hashCode()</code> but without creating the string. */
+        @Override
+        public int hashCode() {
+            int hash = m_hash;
+            if (hash == 0) {
+                if (m_index == Long.MIN_VALUE) {
+                    hash = (DEFAULT_PREFIX + m_index).hashCode();
+                } else {
+                    hash = DEFAULT_PREFIX_HASH;
+                    long value = m_index;
+                    if (value < 0) {
+                        hash = 31 * hash + '-';
+                        value = -value;
+                    }
+                    long pow = 1;
+                    while (pow <= value / 10) {
+                        pow *= 10;
+                    }
+                    for (; pow > 0; pow /= 10) {
+                        hash = 31 * hash + (char)('0' + value / pow % 10);
+                    }
+                }
+                m_hash = hash;
+            }
+            return hash;
+        }
+
+        /** Only called for identical objects, see {@link RowKey#equals(Object)}. */
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof RowIndex && ((RowIndex)obj).m_index == m_index;
+        }
+    }
+
     /**
      * Converts the given array of <code>RowKey</code>s to an array of
      * <code>String</code> elements by calling {@link RowKey#getString()}.
@@ -156,7 +254,7 @@ public static RowKey[] toRowKeys(final String... strs) {
      */
     @Deprecated
     public static RowKey createRowKey(final int rowIndex) {
-        return new RowKey("Row" + rowIndex);
+        return new RowKey((long)rowIndex);
     }
 
     /**
@@ -173,6 +271,6 @@ public static RowKey createRowKey(final int rowIndex) {
      * @since 3.0
      */
     public static RowKey createRowKey(final long rowIndex) {
-        return new RowKey("Row" + rowIndex);
+        return new RowKey(rowIndex);
     }
 }
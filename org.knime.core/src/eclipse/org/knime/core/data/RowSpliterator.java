@@ -0,0 +1,227 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * A {@link Spliterator} over the rows of a table with known size that splits by row ranges. Each part reads its
+ * range using an iterator built with {@link RowIteratorBuilder#filterRowsFromIndex(long)} and
+ * {@link RowIteratorBuilder#filterRowsToIndex(long)}, so tables backed by a storage format (and tables composed of
+ * such tables) seek to the first row of the range instead of reading all preceding rows. This allows processing a
+ * table in parallel, e.g. using {@link java.util.stream.StreamSupport#stream(Spliterator, boolean)}.
+ *
+ * <p>
+ * The iterator of a part is created on its first traversal and closed when the part is exhausted. Parts that are not
+ * traversed to the end (e.g. by short-circuiting stream operations) are closed when {@link #close()} is called on
+ * the spliterator they were split from.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowSpliterator implements Spliterator<DataRow>, AutoCloseable {
+
+    /** Parts are not split any further if they contain fewer rows than this. */
+    public static final long DEFAULT_MIN_SPLIT_SIZE = 10000L;
+
+    private final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>> m_builderSupplier;
+
+    private final long m_minSplitSize;
+
+    /** The iterators currently open in this or any part split from it (shared). */
+    private final Set<CloseableRowIterator> m_openIterators;
+
+    /** Index of the next row to return. */
+    private long m_nextIndex;
+
+    /** Index of the first row not covered by this part. */
+    private long m_endIndex;
+
+    private CloseableRowIterator m_iterator;
+
+    /**
+     * Creates a spliterator over all rows of a table.
+     *
+     * @param builderSupplier supplies a new iterator builder for each part; it may have column filters set but no
+     *            row range or cell filters
+     * @param rowCount the number of rows in the table
+     */
+    public RowSpliterator(final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>> builderSupplier,
+        final long rowCount) {
+        this(builderSupplier, rowCount, DEFAULT_MIN_SPLIT_SIZE);
+    }
+
+    /**
+     * Creates a spliterator over all rows of a table.
+     *
+     * @param builderSupplier see {@link #RowSpliterator(Supplier, long)}
+     * @param rowCount the number of rows in the table
+     * @param minSplitSize parts are not split any further if they contain fewer rows than this (at least 1)
+     */
+    public RowSpliterator(final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>> builderSupplier,
+        final long rowCount, final long minSplitSize) {
+        this(CheckUtils.checkArgumentNotNull(builderSupplier, "Builder supplier must not be null"), 0L,
+            rowCount, minSplitSize, ConcurrentHashMap.newKeySet());
+        CheckUtils.checkArgument(rowCount >= 0L, "Row count must not be negative: %d", rowCount);
+        CheckUtils.checkArgument(minSplitSize >= 1L, "Minimum split size must be positive: %d", minSplitSize);
+    }
+
+    private RowSpliterator(final Supplier<? extends RowIteratorBuilder<? extends CloseableRowIterator>> builderSupplier,
+        final long fromIndex, final long endIndex, final long minSplitSize,
+        final Set<CloseableRowIterator> openIterators) {
+        m_builderSupplier = builderSupplier;
+        m_nextIndex = fromIndex;
+        m_endIndex = endIndex;
+        m_minSplitSize = minSplitSize;
+        m_openIterators = openIterators;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(final Consumer<? super DataRow> action) {
+        if (m_nextIndex >= m_endIndex) {
+            closeIterator();
+            return false;
+        }
+        if (m_iterator == null) {
+            m_iterator = createIterator();
+            m_openIterators.add(m_iterator);
+        }
+        if (!m_iterator.hasNext()) {
+            // fewer rows than announced
+            m_nextIndex = m_endIndex;
+            closeIterator();
+            return false;
+        }
+        final DataRow row = m_iterator.next();
+        m_nextIndex++;
+        action.accept(row);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(final Consumer<? super DataRow> action) {
+        while (tryAdvance(action)) {
+            // all done in tryAdvance
+        }
+    }
+
+    /**
+     * {@inheritDoc} Splits off the first half of the remaining rows (also if this part has already been started).
+     */
+    @Override
+    public Spliterator<DataRow> trySplit() {
+        final long remaining = m_endIndex - m_nextIndex;
+        if (remaining < 2 * m_minSplitSize) {
+            return null;
+        }
+        final long splitIndex = m_nextIndex + remaining / 2;
+        // the prefix is split off (encounter order); it takes over an already opened iterator, which is positioned
+        // at its first row and is not read beyond its end (see tryAdvance)
+        final RowSpliterator prefix =
+            new RowSpliterator(m_builderSupplier, m_nextIndex, splitIndex, m_minSplitSize, m_openIterators);
+        prefix.m_iterator = m_iterator;
+        m_iterator = null;
+        m_nextIndex = splitIndex;
+        return prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+        return m_endIndex - m_nextIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+    }
+
+    /** Closes the iterators of this part and all parts split from it that are still open. */
+    @Override
+    public void close() {
+        for (CloseableRowIterator it : m_openIterators) {
+            it.close();
+        }
+        m_openIterators.clear();
+        m_iterator = null;
+    }
+
+    /**
+     * Creates the iterator over the rows of this part. The row range is pushed down to the builder if supported,
+     * otherwise the leading rows are skipped (the end of the range is checked in {@link #tryAdvance(Consumer)}).
+     */
+    private CloseableRowIterator createIterator() {
+        final RowIteratorBuilder<? extends CloseableRowIterator> builder = m_builderSupplier.get();
+        if (builder.supportsRowFilter()) {
+            return builder.filterRowsFromIndex(m_nextIndex).filterRowsToIndex(m_endIndex - 1).build();
+        }
+        final CloseableRowIterator iterator = builder.build();
+        for (long i = 0; i < m_nextIndex && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return iterator;
+    }
+
+    private void closeIterator() {
+        if (m_iterator != null) {
+            m_iterator.close();
+            m_openIterators.remove(m_iterator);
+            m_iterator = null;
+        }
+    }
+}
@@ -209,7 +209,7 @@ private void initCache() {
             }
             int cacheSize = getCacheSize();
             m_cachedRows = new DataRow[cacheSize];
-            clearCacheAndInitIterator();  // will instantiate a new iterator.
+            clearCacheAndInitIterator(0);  // will instantiate a new iterator.
             // will also set m_isRowCountOfInterestFinal etc. accordingly
             cacheNextRow();
         }
@@ -296,7 +296,7 @@ public final int setCacheSize(final int size) {
         }
         m_cacheSize = Math.max(2 * getLookAheadSize(), size);
         m_cachedRows = new DataRow[m_cacheSize];
-        clearCacheAndInitIterator();
+        clearCacheAndInitIterator(0);
         return m_cacheSize;
     }
 
@@ -365,10 +365,11 @@ public List<DataRow> getRows(final long start, final int length, final Execution
         }
 
         /* not all rows in cache */
-        // some rows already released from cache
-        if (start < (m_rowCountOfInterestInIterator - cacheSize)) {
-            // clear cache, init new iterator
-            clearCacheAndInitIterator();
+        // some rows already released from cache or requested rows far ahead (only if the row count is known)
+        if (start < (m_rowCountOfInterestInIterator - cacheSize)
+                || (hasRowCount() && start > m_rowCountOfInterestInIterator + cacheSize)) {
+            // clear cache, init new iterator positioned such that the cache is filled up to the look ahead
+            clearCacheAndInitIterator(Math.max(0, lastRow + m_lookAheadSize - cacheSize + 1));
         }
         assert (start + length >= m_rowCountOfInterestInIterator - 1);
 
@@ -432,31 +433,47 @@ private boolean cacheNextRow() {
 
     /**
      * Get new iterator, only to be called when data is set. If predicates are set those are tried to push down to
-     * the iterator.
+     * the iterator. The row range is pushed down too if the table's iterator builder supports it, which allows tables
+     * written to disc to seek to the first row instead of iterating from the start; otherwise the leading rows are
+     * skipped.
+     *
+     * @param firstRow index of the first row to be returned by the iterator
      */
-    private RowIterator getNewDataIterator() {
+    private RowIterator getNewDataIterator(final long firstRow) {
         assert hasData();
         RowIteratorBuilder<? extends RowIterator> iteratorBuilder = m_table.iteratorBuilder();
         if (m_includedColumnIndices != null) {
             iteratorBuilder.filterColumns(m_includedColumnIndices.stream().toArray(String[]::new));
         }
-        return iteratorBuilder.build();
+        final boolean pushDownFirstRow = firstRow > 0 && iteratorBuilder.supportsRowFilter();
+        if (pushDownFirstRow) {
+            iteratorBuilder.filterRowsFromIndex(firstRow);
+        }
+        final RowIterator iterator = iteratorBuilder.build();
+        if (!pushDownFirstRow) {
+            for (long i = 0; i < firstRow && iterator.hasNext(); i++) {
+                iterator.next();
+            }
+        }
+        return iterator;
     }
 
     /**
      * Clears cache, instantiates a new iterator.
+     *
+     * @param firstRow index of the first row to be returned by the new iterator
      */
-    private void clearCacheAndInitIterator() {
+    private void clearCacheAndInitIterator(final long firstRow) {
         if (!hasData()) {
             return;
         }
         if (m_tableIterator instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_tableIterator).close();
         }
-        m_tableIterator = getNewDataIterator();
-        m_rowCountInIterator = 0;
+        m_tableIterator = getNewDataIterator(firstRow);
+        m_rowCountInIterator = firstRow;
         // all updated in nextBlock()
-        m_rowCountOfInterestInIterator = 0;
+        m_rowCountOfInterestInIterator = firstRow;
         // clear cache
         Arrays.fill(m_cachedRows, null);
     }
@@ -71,8 +71,13 @@ public abstract class AbstractCellFactory implements CellFactory {
 
     private final DataColumnSpec[] m_colSpecs;
 
+    /** Default for {@link #getBatchSize()}. */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     private int m_maxParallelWorkers = -1;
     private int m_maxQueueSize = -1;
+    private int m_batchSize = DEFAULT_BATCH_SIZE;
+    private boolean m_isLazyEvaluation;
 
     /** True if the deprecatd {@link #setProgress(int, int, RowKey, ExecutionMonitor)} method is overridden. If so,
      * it will be called by the default implementation of the (new) setProgress method. */
@@ -226,6 +231,60 @@ public final int getMaxQueueSize() {
         return m_maxQueueSize;
     }
 
+    /** Sets the maximum number of consecutive rows that are handed to a worker at once if the input is
+     * processed concurrently (see {@link #setParallelProcessing(boolean, int, int)} and
+     * {@link #getCells(java.util.List)}). Larger batches reduce the per-row overhead of task creation and result
+     * reassembly, which is significant for cheap computations; smaller batches distribute expensive computations
+     * more evenly. The framework uses smaller batches for small tables so that all workers get their share. A value
+     * of 1 processes each row as an individual task. Ignored if the input is processed sequentially.
+     * @param batchSize The batch size, at least 1.
+     * @throws IllegalArgumentException If the argument is smaller than 1.
+     * @since 3.8
+     */
+    public final void setBatchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be larger than 0: " + batchSize);
+        }
+        m_batchSize = batchSize;
+    }
+
+    /** The maximum number of consecutive rows handed to a worker at once, see {@link #setBatchSize(int)}.
+     * @return the batch size (at least 1).
+     * @since 3.8 */
+    public final int getBatchSize() {
+        return m_batchSize;
+    }
+
+    /** Enables or disables the lazy evaluation of the new cells. If enabled (and all other factories and converters
+     * of the {@link ColumnRearranger} support it), the table created by
+     * {@link org.knime.core.node.ExecutionContext#createColumnRearrangeTable(org.knime.core.node.BufferedDataTable,
+     * ColumnRearranger, ExecutionMonitor) ExecutionContext#createColumnRearrangeTable} does not compute and store the
+     * new columns but calls {@link #getCells(org.knime.core.data.DataRow)} on demand while the table is iterated.
+     * The new cells are cached in a temporary table once the table is iterated a second time or saved.
+     *
+     * <p>This must only be enabled for factories that are cheap, deterministic and thread-safe and that do not
+     * depend on the node's execution. In particular:
+     * <ul>
+     * <li>{@link #getCells(org.knime.core.data.DataRow)} may be called concurrently and after the node has been
+     * executed (by downstream nodes);</li>
+     * <li>no {@link #getFileStoreFactory() file store factory} is available and no progress is reported;</li>
+     * <li>{@link #afterProcessing()} is not called;</li>
+     * <li>the column specs (including the domain) are used as returned by {@link #getColumnSpecs()}.</li>
+     * </ul>
+     * @param value If to compute the new cells on demand.
+     * @since 3.8
+     */
+    public final void setLazyEvaluation(final boolean value) {
+        m_isLazyEvaluation = value;
+    }
+
+    /** Whether the new cells are computed on demand, see {@link #setLazyEvaluation(boolean)}.
+     * @return that property (default <code>false</code>).
+     * @since 3.8 */
+    public final boolean isLazyEvaluation() {
+        return m_isLazyEvaluation;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
@@ -0,0 +1,642 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Statistics on consecutive blocks of rows of a table written by a {@link Buffer}: the position of the first row of
+ * each block in the (uncompressed) row stream, and the minimum, maximum and number of missing cells per block for
+ * columns whose type is ordered like {@link StringCell}, {@link IntCell}, {@link LongCell} or {@link DoubleCell} (see
+ * {@link Kind}); the bounds are reloaded as cells of that type. They are persisted in the table's meta information
+ * and used by the table store readers to seek to a row index and to skip blocks that can't match the
+ * {@link CellPredicate cell predicates} of an iterator.
+ *
+ * <p>
+ * Blocks initially contain {@value #INITIAL_BLOCK_SIZE} rows. Their size is doubled whenever the number of blocks
+ * exceeds {@value #MAX_BLOCK_COUNT}, which bounds the size of the meta information for very large tables. For the
+ * same reason, the bounds of string columns are truncated to {@value #MAX_STRING_BOUND_LENGTH} characters: the lower
+ * bound to a prefix of the minimum and the upper bound to the shortest string that is greater than any string with the
+ * same prefix as the maximum.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class BlockStatistics {
+
+    private static final int INITIAL_BLOCK_SIZE = 4096;
+
+    private static final int MAX_BLOCK_COUNT = 1024;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Maximum length of the string bounds, longer bounds are truncated to keep the meta information small. */
+    static final int MAX_STRING_BOUND_LENGTH = 64;
+
+    private static final String CFG_BLOCK_SIZE = "block_size";
+
+    private static final String CFG_ROW_COUNT = "row_count";
+
+    private static final String CFG_ROW_OFFSETS = "row_offsets";
+
+    private static final String CFG_COLUMNS = "columns";
+
+    private static final String CFG_COLUMN_INDEX = "index";
+
+    private static final String CFG_KIND = "kind";
+
+    private static final String CFG_HAS_BOUNDS = "has_bounds";
+
+    private static final String CFG_MIN = "min";
+
+    private static final String CFG_MAX = "max";
+
+    private static final String CFG_MISSING_COUNT = "missing_count";
+
+    private final long m_rowCount;
+
+    private final int m_blockSize;
+
+    /** Position of the first row of each block, null if the format doesn't provide positions. */
+    private final long[] m_rowOffsets;
+
+    /** Statistics by column index, null entries for columns without statistics. */
+    private final ColumnStatistics[] m_columnStatistics;
+
+    private BlockStatistics(final long rowCount, final int blockSize, final long[] rowOffsets,
+        final ColumnStatistics[] columnStatistics) {
+        m_rowCount = rowCount;
+        m_blockSize = blockSize;
+        m_rowOffsets = rowOffsets;
+        m_columnStatistics = columnStatistics;
+    }
+
+    /** @return the number of rows per block (the last block may contain fewer rows) */
+    int getBlockSize() {
+        return m_blockSize;
+    }
+
+    /** @return the number of blocks */
+    int getBlockCount() {
+        return (int)((m_rowCount + m_blockSize - 1) / m_blockSize);
+    }
+
+    /** @return the number of rows covered by the statistics */
+    long getRowCount() {
+        return m_rowCount;
+    }
+
+    /** @return whether the positions of the blocks in the row stream are known */
+    boolean hasRowOffsets() {
+        return m_rowOffsets != null;
+    }
+
+    /**
+     * @param block a block index
+     * @return the position of the first row of the block in the row stream
+     * @throws IllegalStateException if {@link #hasRowOffsets()} is false
+     */
+    long getRowOffset(final int block) {
+        if (m_rowOffsets == null) {
+            throw new IllegalStateException("No row offsets available");
+        }
+        return m_rowOffsets[block];
+    }
+
+    /**
+     * Determines whether any row in the argument range of rows may match the cell predicates of a selection.
+     *
+     * @param fromRow index of the first row
+     * @param toRowExclusive index after the last row
+     * @param selection the selection whose predicates to test
+     * @return false if it's certain that no row in the range matches
+     */
+    boolean mayMatch(final long fromRow, final long toRowExclusive, final RowSelection selection) {
+        if (fromRow >= toRowExclusive) {
+            return false;
+        }
+        if (toRowExclusive > m_rowCount) {
+            return true; // not covered by the statistics
+        }
+        final int firstBlock = (int)(fromRow / m_blockSize);
+        final int lastBlock = (int)((toRowExclusive - 1) / m_blockSize);
+        for (int block = firstBlock; block <= lastBlock; block++) {
+            if (mayMatch(block, selection)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param block a block index
+     * @param selection the selection whose predicates to test
+     * @return false if it's certain that no row in the block matches
+     */
+    boolean mayMatch(final int block, final RowSelection selection) {
+        final int blockRowCount = (int)Math.min(m_blockSize, m_rowCount - (long)block * m_blockSize);
+        for (int col = 0; col < m_columnStatistics.length; col++) {
+            final CellPredicate predicate = selection.getPredicate(col);
+            final ColumnStatistics stats = m_columnStatistics[col];
+            if (predicate != null && stats != null && !stats.mayMatch(block, blockRowCount, predicate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Saves the statistics.
+     *
+     * @param settings to save to
+     */
+    void save(final NodeSettingsWO settings) {
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+        settings.addInt(CFG_BLOCK_SIZE, m_blockSize);
+        if (m_rowOffsets != null) {
+            settings.addLongArray(CFG_ROW_OFFSETS, m_rowOffsets);
+        }
+        NodeSettingsWO columnsSettings = settings.addNodeSettings(CFG_COLUMNS);
+        for (int col = 0; col < m_columnStatistics.length; col++) {
+            final ColumnStatistics stats = m_columnStatistics[col];
+            if (stats != null) {
+                NodeSettingsWO columnSettings = columnsSettings.addNodeSettings("column_" + col);
+                columnSettings.addInt(CFG_COLUMN_INDEX, col);
+                stats.save(columnSettings);
+            }
+        }
+    }
+
+    /**
+     * Loads statistics previously {@link #save(NodeSettingsWO) saved}.
+     *
+     * @param settings to load from
+     * @param spec the spec of the table
+     * @return the statistics
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    static BlockStatistics load(final NodeSettingsRO settings, final DataTableSpec spec)
+        throws InvalidSettingsException {
+        final long rowCount = settings.getLong(CFG_ROW_COUNT);
+        final int blockSize = settings.getInt(CFG_BLOCK_SIZE);
+        if (rowCount < 0 || blockSize <= 0) {
+            throw new InvalidSettingsException(
+                "Invalid block statistics (row count " + rowCount + ", block size " + blockSize + ")");
+        }
+        final int blockCount = (int)((rowCount + blockSize - 1) / blockSize);
+        final long[] rowOffsets = settings.getLongArray(CFG_ROW_OFFSETS, (long[])null);
+        if (rowOffsets != null && rowOffsets.length != blockCount) {
+            throw new InvalidSettingsException(
+                "Number of row offsets doesn't match block count: " + rowOffsets.length + " vs. " + blockCount);
+        }
+        final ColumnStatistics[] columnStatistics = new ColumnStatistics[spec.getNumColumns()];
+        NodeSettingsRO columnsSettings = settings.getNodeSettings(CFG_COLUMNS);
+        for (String key : columnsSettings.keySet()) {
+            NodeSettingsRO columnSettings = columnsSettings.getNodeSettings(key);
+            final int col = columnSettings.getInt(CFG_COLUMN_INDEX);
+            if (col < 0 || col >= columnStatistics.length) {
+                throw new InvalidSettingsException("Invalid column index in block statistics: " + col);
+            }
+            columnStatistics[col] = ColumnStatistics.load(columnSettings, blockCount);
+        }
+        return new BlockStatistics(rowCount, blockSize, rowOffsets, columnStatistics);
+    }
+
+    /**
+     * The kinds of columns statistics are collected for. A column's type must use exactly the comparator of the kind's
+     * cell type, otherwise bounds computed with the column's comparator could be inconsistent with the comparison of
+     * the reloaded bounds (e.g. a date column that is also compatible to {@link StringValue}).
+     */
+    private enum Kind {
+
+            /** Columns ordered like {@link IntCell}, bounds persisted as longs. */
+            INT(IntCell.TYPE),
+
+            /** Columns ordered like {@link LongCell}, bounds persisted as longs (doubles would lose precision). */
+            LONG(LongCell.TYPE),
+
+            /** Columns ordered like {@link DoubleCell}, bounds persisted as doubles. */
+            DOUBLE(DoubleCell.TYPE),
+
+            /** Columns ordered like {@link StringCell}, bounds persisted as (truncated) strings. */
+            STRING(StringCell.TYPE);
+
+        private final DataValueComparator m_comparator;
+
+        Kind(final DataType type) {
+            m_comparator = type.getComparator();
+        }
+
+        /**
+         * @param type a column type
+         * @return the kind of the column, null if no statistics are collected for the type
+         */
+        static Kind of(final DataType type) {
+            final DataValueComparator comparator = type.getComparator();
+            for (Kind kind : values()) {
+                if (kind.m_comparator == comparator) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Minimum, maximum and missing count per block of a single column. */
+    private static final class ColumnStatistics {
+
+        private final Kind m_kind;
+
+        /** Per block; null if the block contains only missing values or if the bounds are unknown. */
+        private final DataCell[] m_min;
+
+        private final DataCell[] m_max;
+
+        private final int[] m_missingCount;
+
+        ColumnStatistics(final Kind kind, final DataCell[] min, final DataCell[] max, final int[] missingCount) {
+            m_kind = kind;
+            m_min = min;
+            m_max = max;
+            m_missingCount = missingCount;
+        }
+
+        boolean mayMatch(final int block, final int blockRowCount, final CellPredicate predicate) {
+            final DataCell min = m_min[block];
+            final DataCell max = m_max[block];
+            final int missingCount = m_missingCount[block];
+            if ((min == null || max == null) && missingCount < blockRowCount) {
+                return true; // bounds unknown
+            }
+            return predicate.mayMatch(min, max, missingCount > 0);
+        }
+
+        void save(final NodeSettingsWO settings) {
+            settings.addString(CFG_KIND, m_kind.name());
+            settings.addIntArray(CFG_MISSING_COUNT, m_missingCount);
+            switch (m_kind) {
+                case INT:
+                case LONG:
+                    // min and max are both known or both unknown for numeric columns
+                    final boolean[] hasBounds = new boolean[m_min.length];
+                    for (int i = 0; i < hasBounds.length; i++) {
+                        hasBounds[i] = m_min[i] != null;
+                    }
+                    settings.addBooleanArray(CFG_HAS_BOUNDS, hasBounds);
+                    settings.addLongArray(CFG_MIN, toLongs(m_min, m_kind));
+                    settings.addLongArray(CFG_MAX, toLongs(m_max, m_kind));
+                    break;
+                case DOUBLE:
+                    settings.addDoubleArray(CFG_MIN, toDoubles(m_min));
+                    settings.addDoubleArray(CFG_MAX, toDoubles(m_max));
+                    break;
+                default:
+                    settings.addStringArray(CFG_MIN, toStrings(m_min));
+                    settings.addStringArray(CFG_MAX, toStrings(m_max));
+            }
+        }
+
+        static ColumnStatistics load(final NodeSettingsRO settings, final int blockCount)
+            throws InvalidSettingsException {
+            final String kindName = settings.getString(CFG_KIND);
+            final Kind kind;
+            try {
+                kind = Kind.valueOf(kindName);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidSettingsException("Invalid kind of column statistics: " + kindName, e);
+            }
+            final int[] missingCount = settings.getIntArray(CFG_MISSING_COUNT);
+            final DataCell[] min;
+            final DataCell[] max;
+            switch (kind) {
+                case INT:
+                case LONG:
+                    final boolean[] hasBounds = settings.getBooleanArray(CFG_HAS_BOUNDS);
+                    min = fromLongs(settings.getLongArray(CFG_MIN), hasBounds, kind);
+                    max = fromLongs(settings.getLongArray(CFG_MAX), hasBounds, kind);
+                    break;
+                case DOUBLE:
+                    min = fromDoubles(settings.getDoubleArray(CFG_MIN));
+                    max = fromDoubles(settings.getDoubleArray(CFG_MAX));
+                    break;
+                default:
+                    min = fromStrings(settings.getStringArray(CFG_MIN));
+                    max = fromStrings(settings.getStringArray(CFG_MAX));
+            }
+            if (missingCount.length != blockCount || min.length != blockCount || max.length != blockCount) {
+                throw new InvalidSettingsException("Number of column statistics doesn't match block count");
+            }
+            return new ColumnStatistics(kind, min, max, missingCount);
+        }
+
+        private static long[] toLongs(final DataCell[] cells, final Kind kind) {
+            return Arrays.stream(cells).mapToLong(c -> c == null ? 0L
+                : (kind == Kind.INT ? ((IntValue)c).getIntValue() : ((LongValue)c).getLongValue())).toArray();
+        }
+
+        private static DataCell[] fromLongs(final long[] values, final boolean[] hasBounds, final Kind kind)
+            throws InvalidSettingsException {
+            if (values.length != hasBounds.length) {
+                throw new InvalidSettingsException("Number of column statistics doesn't match block count");
+            }
+            final DataCell[] cells = new DataCell[values.length];
+            for (int i = 0; i < cells.length; i++) {
+                if (hasBounds[i]) {
+                    cells[i] = kind == Kind.INT ? new IntCell((int)values[i]) : new LongCell(values[i]);
+                }
+            }
+            return cells;
+        }
+
+        private static double[] toDoubles(final DataCell[] cells) {
+            return Arrays.stream(cells).mapToDouble(c -> c == null ? Double.NaN : ((DoubleValue)c).getDoubleValue())
+                .toArray();
+        }
+
+        private static String[] toStrings(final DataCell[] cells) {
+            return Arrays.stream(cells).map(c -> c == null ? null : ((StringValue)c).getStringValue())
+                .toArray(String[]::new);
+        }
+
+        private static DataCell[] fromDoubles(final double[] values) {
+            return Arrays.stream(values).mapToObj(d -> Double.isNaN(d) ? null : new DoubleCell(d))
+                .toArray(DataCell[]::new);
+        }
+
+        private static DataCell[] fromStrings(final String[] values) {
+            return Arrays.stream(values).map(s -> s == null ? null : new StringCell(s)).toArray(DataCell[]::new);
+        }
+    }
+
+    /**
+     * Collects the statistics while rows are written. Rows must be {@link #addRow(DataRow) added} before they are
+     * written so that the position of the first row of a block can be recorded.
+     */
+    static final class Collector {
+
+        private final LongSupplier m_positionSupplier;
+
+        private final ColumnCollector[] m_columnCollectors;
+
+        private long[] m_rowOffsets = new long[INITIAL_CAPACITY];
+
+        private int m_blockCount;
+
+        private int m_blockSize = INITIAL_BLOCK_SIZE;
+
+        private long m_rowCount;
+
+        /**
+         * @param spec the spec of the table being written
+         * @param positionSupplier supplies the current position in the row stream, may be null if the format has no
+         *            such notion
+         */
+        Collector(final DataTableSpec spec, final LongSupplier positionSupplier) {
+            m_positionSupplier = positionSupplier;
+            m_columnCollectors = new ColumnCollector[spec.getNumColumns()];
+            for (int col = 0; col < m_columnCollectors.length; col++) {
+                final Kind kind = Kind.of(spec.getColumnSpec(col).getType());
+                if (kind != null) {
+                    m_columnCollectors[col] = new ColumnCollector(kind);
+                }
+            }
+        }
+
+        /**
+         * Updates the statistics with a row that is about to be written.
+         *
+         * @param row the row
+         */
+        void addRow(final DataRow row) {
+            if (m_rowCount % m_blockSize == 0 && m_blockCount == MAX_BLOCK_COUNT) {
+                mergeBlocks();
+            }
+            if (m_rowCount % m_blockSize == 0) {
+                if (m_blockCount == m_rowOffsets.length) {
+                    m_rowOffsets = Arrays.copyOf(m_rowOffsets, Math.min(2 * m_blockCount, MAX_BLOCK_COUNT));
+                }
+                m_rowOffsets[m_blockCount++] = m_positionSupplier != null ? m_positionSupplier.getAsLong() : -1L;
+            }
+            final int block = m_blockCount - 1;
+            for (int col = 0; col < m_columnCollectors.length; col++) {
+                if (m_columnCollectors[col] != null) {
+                    final DataCell cell = row instanceof BlobSupportDataRow
+                        ? ((BlobSupportDataRow)row).getRawCell(col) : row.getCell(col);
+                    m_columnCollectors[col].add(block, cell);
+                }
+            }
+            m_rowCount++;
+        }
+
+        /** Doubles the block size by merging pairs of adjacent blocks. */
+        private void mergeBlocks() {
+            for (int i = 0; i < m_blockCount; i += 2) {
+                m_rowOffsets[i / 2] = m_rowOffsets[i];
+            }
+            for (ColumnCollector c : m_columnCollectors) {
+                if (c != null) {
+                    c.mergeBlocks(m_blockCount);
+                }
+            }
+            m_blockCount = (m_blockCount + 1) / 2;
+            m_blockSize *= 2;
+        }
+
+        /** @return the collected statistics */
+        BlockStatistics build() {
+            final long[] rowOffsets = m_positionSupplier != null ? Arrays.copyOf(m_rowOffsets, m_blockCount) : null;
+            final ColumnStatistics[] columnStatistics = Arrays.stream(m_columnCollectors)
+                .map(c -> c == null ? null : c.build(m_blockCount)).toArray(ColumnStatistics[]::new);
+            return new BlockStatistics(m_rowCount, m_blockSize, rowOffsets, columnStatistics);
+        }
+    }
+
+    /** Collects the statistics of a single column. */
+    private static final class ColumnCollector {
+
+        private final Kind m_kind;
+
+        private DataCell[] m_min = new DataCell[INITIAL_CAPACITY];
+
+        private DataCell[] m_max = new DataCell[INITIAL_CAPACITY];
+
+        private int[] m_missingCount = new int[INITIAL_CAPACITY];
+
+        /** Whether the bounds of a block are unknown, e.g. because of NaN values. */
+        private boolean[] m_isUnknown = new boolean[INITIAL_CAPACITY];
+
+        ColumnCollector(final Kind kind) {
+            m_kind = kind;
+        }
+
+        void add(final int block, final DataCell cell) {
+            if (block == m_min.length) {
+                final int capacity = Math.min(2 * block, MAX_BLOCK_COUNT);
+                m_min = Arrays.copyOf(m_min, capacity);
+                m_max = Arrays.copyOf(m_max, capacity);
+                m_missingCount = Arrays.copyOf(m_missingCount, capacity);
+                m_isUnknown = Arrays.copyOf(m_isUnknown, capacity);
+            }
+            if (cell.isMissing()) {
+                m_missingCount[block]++;
+            } else if (m_isUnknown[block]) {
+                return;
+            } else if (cell instanceof BlobWrapperDataCell
+                || (m_kind == Kind.DOUBLE && Double.isNaN(((DoubleValue)cell).getDoubleValue()))) {
+                m_isUnknown[block] = true;
+            } else {
+                m_min[block] = min(m_min[block], cell);
+                m_max[block] = max(m_max[block], cell);
+            }
+        }
+
+        void mergeBlocks(final int blockCount) {
+            for (int i = 0; i < blockCount; i += 2) {
+                final int target = i / 2;
+                DataCell min = m_min[i];
+                DataCell max = m_max[i];
+                int missing = m_missingCount[i];
+                boolean isUnknown = m_isUnknown[i];
+                if (i + 1 < blockCount) {
+                    min = min(min, m_min[i + 1]);
+                    max = max(max, m_max[i + 1]);
+                    missing += m_missingCount[i + 1];
+                    isUnknown |= m_isUnknown[i + 1];
+                }
+                m_min[target] = min;
+                m_max[target] = max;
+                m_missingCount[target] = missing;
+                m_isUnknown[target] = isUnknown;
+            }
+            final int newCount = (blockCount + 1) / 2;
+            Arrays.fill(m_min, newCount, blockCount, null);
+            Arrays.fill(m_max, newCount, blockCount, null);
+            Arrays.fill(m_missingCount, newCount, blockCount, 0);
+            Arrays.fill(m_isUnknown, newCount, blockCount, false);
+        }
+
+        private DataCell min(final DataCell c1, final DataCell c2) {
+            return c1 == null ? c2 : (c2 == null || m_kind.m_comparator.compare(c1, c2) <= 0 ? c1 : c2);
+        }
+
+        private DataCell max(final DataCell c1, final DataCell c2) {
+            return c1 == null ? c2 : (c2 == null || m_kind.m_comparator.compare(c1, c2) >= 0 ? c1 : c2);
+        }
+
+        ColumnStatistics build(final int blockCount) {
+            final DataCell[] min = new DataCell[blockCount];
+            final DataCell[] max = new DataCell[blockCount];
+            for (int block = 0; block < blockCount; block++) {
+                if (!m_isUnknown[block]) {
+                    min[block] = m_kind != Kind.STRING || m_min[block] == null ? m_min[block]
+                        : new StringCell(truncateLowerBound(((StringValue)m_min[block]).getStringValue()));
+                    if (m_kind != Kind.STRING || m_max[block] == null) {
+                        max[block] = m_max[block];
+                    } else {
+                        final String upper = truncateUpperBound(((StringValue)m_max[block]).getStringValue());
+                        max[block] = upper == null ? null : new StringCell(upper);
+                    }
+                }
+            }
+            return new ColumnStatistics(m_kind, min, max, Arrays.copyOf(m_missingCount, blockCount));
+        }
+    }
+
+    /**
+     * @param min a minimum
+     * @return a prefix of the argument that is at most {@value #MAX_STRING_BOUND_LENGTH} characters long
+     */
+    static String truncateLowerBound(final String min) {
+        if (min.length() <= MAX_STRING_BOUND_LENGTH) {
+            return min;
+        }
+        final int end = Character.isHighSurrogate(min.charAt(MAX_STRING_BOUND_LENGTH - 1))
+            ? MAX_STRING_BOUND_LENGTH - 1 : MAX_STRING_BOUND_LENGTH;
+        return min.substring(0, end);
+    }
+
+    /**
+     * @param max a maximum
+     * @return a string of at most {@value #MAX_STRING_BOUND_LENGTH} characters that is greater than or equal to the
+     *         argument, or null if there is no such string (the bound is then unknown)
+     */
+    static String truncateUpperBound(final String max) {
+        if (max.length() <= MAX_STRING_BOUND_LENGTH) {
+            return max;
+        }
+        // increment the last character of the prefix that can be incremented without creating a surrogate or a
+        // non-character (which can't be persisted); the result is greater than any string with the prefix
+        for (int end = MAX_STRING_BOUND_LENGTH; end > 0; end--) {
+            final char c = max.charAt(end - 1);
+            final char next = (char)(c + 1);
+            if (c < '\ufffd' && !Character.isSurrogate(c) && !Character.isSurrogate(next)) {
+                return max.substring(0, end - 1) + next;
+            }
+        }
+        return null;
+    }
+
+}
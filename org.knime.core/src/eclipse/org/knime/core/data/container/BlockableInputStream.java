@@ -46,6 +46,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Input Stream that wraps a given input stream and searches for terminated end
@@ -64,6 +65,9 @@ final class BlockableInputStream
     /** Input stream to wrap. */
     private final InputStream m_inStream;
 
+    /** {@link #m_inStream} if it allows direct access to its buffer, otherwise null. */
+    private final ByteBufferInputStream m_bufferInStream;
+
     /**
      * If an block end has been encountered, it will return -1 on subsequent
      * {@link #read()} unless {@link #endBlock()} is called.
@@ -77,9 +81,38 @@ final class BlockableInputStream
      */
     BlockableInputStream(final InputStream inStream) {
         m_inStream = inStream;
+        m_bufferInStream = inStream instanceof ByteBufferInputStream ? (ByteBufferInputStream)inStream : null;
         m_simulateTerminate = false;
     }
 
+    /**
+     * Fast path for primitive values: returns the buffer of the wrapped stream if the next bytes can be read from it
+     * directly, that is, the wrapped stream is a {@link ByteBufferInputStream} and the bytes contain neither an escape
+     * nor a terminate byte.
+     *
+     * @param byteCount the number of bytes to read
+     * @return the buffer positioned at the next byte (the caller reads the bytes from it) or null if the bytes need to
+     *         be read via {@link #read()}
+     * @throws IOException if accessing the buffer fails
+     */
+    ByteBuffer getDirectBuffer(final int byteCount) throws IOException {
+        if (m_bufferInStream == null || m_simulateTerminate) {
+            return null;
+        }
+        final ByteBuffer buffer = m_bufferInStream.getBuffer(byteCount);
+        if (buffer == null) {
+            return null;
+        }
+        final int position = buffer.position();
+        for (int i = position; i < position + byteCount; i++) {
+            final byte b = buffer.get(i);
+            if (b == TC_TERMINATE || b == TC_ESCAPE) {
+                return null;
+            }
+        }
+        return buffer;
+    }
+
     /**
      * Reads next byte from stream and if it is an escape byte, it returns the
      * next following byte. If it is a terminate byte, it returns -1, i.e. eof.
@@ -83,6 +83,7 @@
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
@@ -248,6 +249,9 @@ public class Buffer implements KNIMEStreamConstants {
     /** Config entry: internal buffer ID. */
     private static final String CFG_BUFFER_ID = "container.id";
 
+    /** Config entry: per-block statistics ({@link BlockStatistics}), added in 3.8 (optional). */
+    private static final String CFG_BLOCK_STATISTICS = "container.block.statistics";
+
     /**
      * Config entries when writing the spec to the file (uses NodeSettings object, which uses key-value pairs. Here:
      * size of the table (#rows).
@@ -263,10 +267,10 @@ public class Buffer implements KNIMEStreamConstants {
     private static final String CFG_SIZE_L = "table.size.long";
 
     /** Current version string. */
-    public static final String VERSION = "container_11";
+    public static final String VERSION = "container_12";
 
     /** The version number corresponding to {@link #VERSION}. */
-    public static final int IVERSION = 11;
+    public static final int IVERSION = 12;
 
     private static final HashMap<String, Integer> COMPATIBILITY_MAP;
 
@@ -282,7 +286,8 @@ public class Buffer implements KNIMEStreamConstants {
         COMPATIBILITY_MAP.put("container_8", 8); // version 2.0.1
         COMPATIBILITY_MAP.put("container_9", 9); // never released - some workflow tests contain it (BW used a nightly)
         COMPATIBILITY_MAP.put("container_10", 10); // version 3.6 (multiple table formats)
-        COMPATIBILITY_MAP.put(VERSION, IVERSION); // version 3.7 - add FileStoreCell support for multiple FileStores
+        COMPATIBILITY_MAP.put("container_11", 11); // version 3.7 - add FileStoreCell support for multiple FileStores
+        COMPATIBILITY_MAP.put(VERSION, IVERSION); // version 3.8 - compact row keys
         // NOTE consider to also
         // - increment the workflow.knime version number when updating this list
         // - update list in NoKeyBuffer
@@ -367,6 +372,15 @@ public class Buffer implements KNIMEStreamConstants {
     /** A cache for holding tables in memory. */
     private static final BufferCache CACHE = new BufferCache();
 
+    /**
+     * Returns a snapshot of the statistics of the cache holding tables in memory.
+     *
+     * @return the cache statistics
+     */
+    static BufferCacheStatistics getCacheStatistics() {
+        return CACHE.getStatistics();
+    }
+
     /** A thread pool for asynchronous disk I/O threads. */
     static final ExecutorService ASYNC_EXECUTORS = Executors.newSingleThreadExecutor(new ThreadFactory() {
         private final AtomicInteger m_threadCount = new AtomicInteger();
@@ -449,6 +463,14 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
 
     private TableStoreFormat m_outputFormat;
     private AbstractTableStoreWriter m_outputWriter;
+
+    /** Collects the block statistics while rows are written by {@link #m_outputWriter}. */
+    private BlockStatistics.Collector m_blockStatisticsCollector;
+
+    /** Statistics on the rows in {@link #m_binFile}, available once the writer is closed or when read from file;
+     * may be null (e.g. for tables written with previous versions). */
+    private BlockStatistics m_blockStatistics;
+
     private AbstractTableStoreReader m_outputReader;
 
     /** The settings for the table store format that describes how the table is persisted. That is:
@@ -568,11 +590,12 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
             m_lifecycle = new MemorizeIfSmallLifecycle(maxRowsInMemory);
         }
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheBudget(m_bufferSettings.getLRUCacheBudget());
         /**
          * independent of the lifecycle, if maxRowsInMemory is zero, the buffer is expected to flush to disk (e.g, see
          * {@link org.knime.core.data.sort.DataTableSorter#createDataContainer(DataTableSpec, boolean)}).
          */
-        m_listWhileAddRow = maxRowsInMemory > 0 ? new ArrayList<BlobSupportDataRow>() : null;
+        m_listWhileAddRow = maxRowsInMemory > 0 ? createList(spec, 0) : null;
         m_size = 0;
         m_bufferID = bufferID;
         m_localRepository = localRep;
@@ -643,6 +666,7 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         m_bufferSettings = settings;
         m_lifecycle = m_bufferSettings.useLRU() ? new SoftRefLRUSyncWriteLifecycle() : new MemorizeIfSmallLifecycle(0);
         CACHE.setLRUCacheSize(m_bufferSettings.getLRUCacheSize());
+        CACHE.setLRUCacheBudget(m_bufferSettings.getLRUCacheBudget());
         try {
             readMetaFromFile(metaIn, fileStoreDir);
         } catch (InvalidSettingsException ise) {
@@ -718,7 +742,7 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         try {
             BlobSupportDataRow row = saveBlobsAndFileStores(r, isCopyOfExisting, forceCopyOfBlobs);
             if (getAndIncrementSize() == Integer.MAX_VALUE) {
-                /** Since m_list is an ArrayList, it cannot hold more than Integer.MAX_VALUE rows, so we have to flush
+                /** Since m_list is a java.util.List, it cannot hold more than Integer.MAX_VALUE rows, so we have to flush
                  * independent of the lifecycle. */
                 flushBuffer();
             }
@@ -727,7 +751,7 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
                 m_lifecycle.onAddRowToList(row);
             } else {
                 flushBuffer();
-                m_outputWriter.writeRow(row);
+                writeRowToFile(row);
             }
         } catch (Exception e) {
             if (!(e instanceof IOException)) {
@@ -755,6 +779,7 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
     private void initOutputWriter(final OutputStream output) throws IOException, UnsupportedOperationException {
         m_outputWriter = m_outputFormat.createWriter(output, m_spec, !shouldSkipRowKey());
         m_outputWriter.setFileStoreHandler((IWriteFileStoreHandler)m_fileStoreHandler);
+        initBlockStatisticsCollector();
     }
 
     /**
@@ -763,6 +788,39 @@ private void initOutputWriter(final OutputStream output) throws IOException, Uns
     private void initOutputWriter(final File binFile) throws IOException {
         m_outputWriter = m_outputFormat.createWriter(binFile, m_spec, !shouldSkipRowKey());
         m_outputWriter.setFileStoreHandler((IWriteFileStoreHandler)m_fileStoreHandler);
+        initBlockStatisticsCollector();
+    }
+
+    /**
+     * Statistics are only collected if enabled in the {@link BufferSettings}. Row offsets are only available for the
+     * default format, which writes rows one after another.
+     */
+    private void initBlockStatisticsCollector() {
+        if (!m_bufferSettings.useBlockStatistics()) {
+            return;
+        }
+        final AbstractTableStoreWriter writer = m_outputWriter;
+        m_blockStatisticsCollector = new BlockStatistics.Collector(m_spec, writer instanceof DefaultTableStoreWriter
+            ? ((DefaultTableStoreWriter)writer)::getRowStreamPosition : null);
+    }
+
+    /**
+     * Writes a row to the output writer and updates the block statistics. Not synchronized as it's also called by the
+     * asynchronous writer thread.
+     *
+     * @param row the row to write
+     * @throws IOException if writing fails
+     */
+    private void writeRowToFile(final BlobSupportDataRow row) throws IOException {
+        if (m_blockStatisticsCollector != null) {
+            m_blockStatisticsCollector.addRow(row);
+        }
+        m_outputWriter.writeRow(row);
+    }
+
+    /** @return statistics on the blocks of rows written to file or null if not available. */
+    BlockStatistics getBlockStatistics() {
+        return m_blockStatistics;
     }
 
     private BlobSupportDataRow saveBlobsAndFileStores(final DataRow row, final boolean isCopyOfExisting,
@@ -1132,6 +1190,10 @@ private void ensureWriterIsOpen() throws IOException {
     private void closeWriterAndWriteMeta() {
         try {
             m_outputWriter.close();
+            if (m_blockStatisticsCollector != null) {
+                m_blockStatistics = m_blockStatisticsCollector.build();
+                m_blockStatisticsCollector = null;
+            }
             NodeSettings formatSettings = new NodeSettings(CFG_TABLE_FORMAT_CONFIG);
             m_outputWriter.writeMetaInfoAfterWrite(formatSettings);
             m_formatSettings = formatSettings;
@@ -1179,6 +1241,9 @@ private void writeMetaToFile(final OutputStream out) throws IOException {
         subSettings.addString(CFG_TABLE_FORMAT, m_outputFormat.getClass().getName());
         NodeSettingsWO formatSettings = subSettings.addNodeSettings(CFG_TABLE_FORMAT_CONFIG);
         m_formatSettings.copyTo(formatSettings);
+        if (m_blockStatistics != null) {
+            m_blockStatistics.save(subSettings.addNodeSettings(CFG_BLOCK_STATISTICS));
+        }
         if (m_outputWriter instanceof DefaultTableStoreWriter) {
             // AP-8954 -- for standard KNIME tables write the meta information into the root so that 3.5 and before
             // can load it;
@@ -1259,10 +1324,32 @@ private void readMetaFromFile(final InputStream metaIn, final File fileStoreDir)
             NodeSettingsRO outputFormatSettings =
                     m_version >= 10 ? subSettings.getNodeSettings(CFG_TABLE_FORMAT_CONFIG) : subSettings;
             m_formatSettings = outputFormatSettings;
+            m_blockStatistics = readBlockStatistics(subSettings);
             initOutputReader(outputFormatSettings, m_version);
         }
     }
 
+    /** Reads the (optional) block statistics, ignoring invalid ones as they are only used for optimizations.
+     * @return the statistics or null */
+    private BlockStatistics readBlockStatistics(final NodeSettingsRO subSettings) {
+        if (!subSettings.containsKey(CFG_BLOCK_STATISTICS)) {
+            return null;
+        }
+        try {
+            BlockStatistics blockStatistics =
+                BlockStatistics.load(subSettings.getNodeSettings(CFG_BLOCK_STATISTICS), m_spec);
+            if (blockStatistics.getRowCount() != m_size) {
+                throw new InvalidSettingsException("Block statistics cover " + blockStatistics.getRowCount()
+                    + " rows but table contains " + m_size + " rows");
+            }
+            return blockStatistics;
+        } catch (InvalidSettingsException ise) {
+            LOGGER.debug("Ignoring block statistics of table in file \"" + m_binFile.getName() + "\": "
+                + ise.getMessage(), ise);
+            return null;
+        }
+    }
+
     /**
      * @param outputFormatSettings
      * @param version
@@ -1506,19 +1593,50 @@ public final synchronized RowIteratorBuilder<? extends CloseableRowIterator> ite
                     new BackIntoMemoryIterator(m_outputReader.iteratorBuilder().build(), size());
                 m_backIntoMemoryIteratorRef = new WeakReference<BackIntoMemoryIterator>(backIntoMemoryIterator);
                 // we never store more than 2^31 rows in memory, therefore it's safe to cast to int
-                return new DefaultRowIteratorBuilder<>(
-                    () -> new FromListIterator(backIntoMemoryIterator.getList(), backIntoMemoryIterator),
-                    getTableSpec());
+                return createFromListIteratorBuilder(
+                    () -> new FromListIterator(backIntoMemoryIterator.getList(), backIntoMemoryIterator));
             }
             RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder =
                 m_outputReader.iteratorBuilder();
             return iteratorBuilder;
         } else {
-            return new DefaultRowIteratorBuilder<>(() -> new FromListIterator(list,
-                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null), getTableSpec());
+            return createFromListIteratorBuilder(() -> new FromListIterator(list,
+                m_backIntoMemoryIteratorRef != null ? m_backIntoMemoryIteratorRef.get() : null));
         }
     }
 
+    /** Builder for iterators on the in-memory list, which jump to the first row of a row range (unless the list is
+     * still being restored from disc). */
+    private RowIteratorBuilder<CloseableRowIterator>
+        createFromListIteratorBuilder(final Supplier<FromListIterator> iteratorSupplier) {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(iteratorSupplier::get, getTableSpec()) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            protected CloseableRowIterator applyRowFilter(final CloseableRowIterator iterator) {
+                ((FromListIterator)iterator).restrictToRange(getFromRowIndex(), getToRowIndex());
+                return getCellPredicates().isEmpty() ? iterator
+                    : new FilterDelegateRowIterator(iterator, 0L, Long.MAX_VALUE, getCellPredicates());
+            }
+        };
+    }
+
+    /**
+     * Creates the list to hold the rows of this buffer in memory, a {@link CompactRowList} if enabled in the
+     * {@link BufferSettings} and a plain list of rows otherwise.
+     *
+     * @param spec the spec of the rows, may be null
+     * @param initialCapacity the number of rows expected
+     * @return a new empty list
+     */
+    private List<BlobSupportDataRow> createList(final DataTableSpec spec, final int initialCapacity) {
+        return m_bufferSettings.useCompactRows() ? CompactRowList.create(spec, initialCapacity)
+            : new ArrayList<BlobSupportDataRow>(initialCapacity);
+    }
+
     private List<BlobSupportDataRow> obtainListFromCacheOrBackIntoMemoryIterator() {
         final Optional<List<BlobSupportDataRow>> optionalList = CACHE.get(this);
         if (optionalList.isPresent()) {
@@ -1814,7 +1932,7 @@ synchronized void flushBuffer() {
 
             if (m_listWhileAddRow != null) {
                 for (BlobSupportDataRow rowInList : m_listWhileAddRow) {
-                    m_outputWriter.writeRow(rowInList);
+                    writeRowToFile(rowInList);
                 }
             }
 
@@ -1883,7 +2001,7 @@ private final class BackIntoMemoryIterator {
          */
         private BackIntoMemoryIterator(final TableStoreCloseableRowIterator iterator, final long size) {
             m_iterator = iterator;
-            m_listWhileBackIntoMemory = new ArrayList<BlobSupportDataRow>((int)size);
+            m_listWhileBackIntoMemory = createList(m_spec, (int)size);
         }
 
         private boolean hasNext() {
@@ -1920,17 +2038,39 @@ private class FromListIterator extends CloseableRowIterator {
         // do not use iterator here, see inner class comment
         private int m_nextIndex = 0;
 
+        /** Index of the row after the last row to return. */
+        private long m_endIndex = size();
+
         FromListIterator(final List<BlobSupportDataRow> list, final BackIntoMemoryIterator backIntoMemoryIterator) {
             m_list = list;
             m_backIntoMemoryIterator = backIntoMemoryIterator;
         }
 
+        /**
+         * Restricts this iterator to a range of rows. Must be called before the first call to {@link #next()}.
+         *
+         * @param fromIndex index of the first row to return
+         * @param toIndex index of the last row to return (inclusive)
+         */
+        void restrictToRange(final long fromIndex, final long toIndex) {
+            m_endIndex = Math.min(size(), toIndex < Long.MAX_VALUE ? toIndex + 1 : Long.MAX_VALUE);
+            final long firstIndex = Math.min(fromIndex, m_endIndex);
+            if (m_backIntoMemoryIterator == null) {
+                m_nextIndex = (int)firstIndex;
+            } else {
+                // list is still being restored from disc, rows need to be read in order
+                while (m_nextIndex < firstIndex) {
+                    next();
+                }
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < m_endIndex;
         }
 
         /**
@@ -1972,7 +2112,7 @@ public DataRow next() {
         /** {@inheritDoc} */
         @Override
         public void close() {
-            m_nextIndex = (int) size();
+            m_nextIndex = (int)m_endIndex;
         }
     }
 
@@ -2401,7 +2541,7 @@ public void onAddRowToList(final BlobSupportDataRow row) throws IOException {
             assert Thread.holdsLock(Buffer.this);
 
             ensureWriterIsOpen();
-            m_outputWriter.writeRow(row);
+            writeRowToFile(row);
         }
 
         /** {@inheritDoc} */
@@ -2556,7 +2696,7 @@ protected Void callWithContext() throws Exception {
                                 return null;
                             }
 
-                            m_outputWriter.writeRow(rowInList);
+                            writeRowToFile(rowInList);
                         }
                     }
 
@@ -52,15 +52,24 @@
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.WeakHashMap;
 
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
-import org.knime.core.util.LRUCache;
 
 /**
  * A data structure that manages which tables (i.e., {@link List} of {@link BlobSupportDataRow}) to keep in memory. The
@@ -71,6 +80,13 @@
  * tables are cleared for garbage collection before they have been flushed to disk. How this cache is used by the
  * {@link Buffer} class is specified by means of a Lifecycle.
  *
+ * <p>
+ * The lower level keeps recently used tables softly referenced as long as their number and their estimated total size
+ * in bytes (see {@link #estimateSizeInBytes(List)}) stay within the configured limits; least recently used tables
+ * exceeding these limits are only weakly referenced, i.e., they are dropped by the next garbage collection. Tables
+ * dropped from memory are read from disk again, which for uncompressed tables can be served from the operating
+ * system's page cache (see {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_MEMORY_MAPPING}).
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
 final class BufferCache {
@@ -85,6 +101,18 @@ final class BufferCache {
      */
     private static final int STATISTICS_OUTPUT_INTERVAL = 300;
 
+    /** The number of rows sampled to estimate the size of a table. */
+    private static final int SIZE_ESTIMATE_SAMPLE_COUNT = 64;
+
+    /** Estimated heap size of an object header. */
+    static final int OBJECT_HEADER_BYTES = 16;
+
+    /** Estimated heap size of an object reference. */
+    static final int REFERENCE_BYTES = 8;
+
+    /** Estimated heap size of a cell whose class is unknown. */
+    private static final int DEFAULT_CELL_BYTES = 32;
+
     /**
      * A map of hard references to tables held in this cache. Caution: the garbage collector will not clear these
      * automatically. We use the buffer itself as key, since multiple buffers can have the same id. The Map has to have
@@ -97,13 +125,24 @@ final class BufferCache {
      */
     private int m_LRUCacheSize = DataContainerSettings.getDefault().getBufferSettings().getLRUCacheSize();
 
+    /**
+     * The estimated number of bytes of tables kept in the soft-references LRU cache before being weak-referenced.
+     */
+    private long m_LRUCacheBudget = DataContainerSettings.getDefault().getBufferSettings().getLRUCacheBudget();
+
     /**
      * An LRU-cache of soft references to tables held in this cache. Note that soft references also keep track of when
      * they were last accessed. When memory becomes scarce, the garbage collector should clear weak-referenced tables
      * first and then proceed with soft-referenced tables in the order in which they were least recently used.
      */
-    private LRUCache<Buffer, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
-        new LRUCache<>(m_LRUCacheSize, m_LRUCacheSize);
+    private final LinkedHashMap<Buffer, SoftReference<List<BlobSupportDataRow>>> m_LRUCache =
+        new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The sum of the estimated sizes of the tables in the LRU cache. */
+    private long m_LRUCacheBytes = 0;
+
+    /** The estimated size in bytes of each table held in this cache. */
+    private final Map<Buffer, Long> m_sizeMap = new WeakHashMap<>();
 
     /**
      * A map of weak references to tables evicted from the LRU cache.
@@ -120,6 +159,8 @@ final class BufferCache {
 
     private long m_nInvalidatedTables = 0;
 
+    private long m_nEvictedTables = 0;
+
     private long m_nGCedTables = 0;
 
     private long m_nAccesses = 0;
@@ -134,10 +175,14 @@ final class BufferCache {
 
     private long timeOfLastLog = System.currentTimeMillis();
 
-    private void logStatistics() {
+    private void pollGarbageCollectedTables() {
         while (m_weakCacheRefQueue.poll() != null) {
             m_nGCedTables++;
         }
+    }
+
+    private void logStatistics() {
+        pollGarbageCollectedTables();
         final long time = System.currentTimeMillis();
         if ((time - timeOfLastLog) / 1000 >= STATISTICS_OUTPUT_INTERVAL) {
 
@@ -151,8 +196,11 @@ private void logStatistics() {
 
             LOGGER.debug("KNIME Buffer cache statistics:");
             LOGGER.debugWithFormat("\t%d tables currently held in cache", nActiveTables);
+            LOGGER.debugWithFormat("\t%d bytes (estimated) of %d bytes budget held in LRU cache", m_LRUCacheBytes,
+                m_LRUCacheBudget);
             LOGGER.debugWithFormat("\t%d distinct tables cached", m_nTables);
             LOGGER.debugWithFormat("\t%d tables invalidated successfully", m_nInvalidatedTables);
+            LOGGER.debugWithFormat("\t%d tables evicted from LRU cache", m_nEvictedTables);
             LOGGER.debugWithFormat("\t%d tables dropped by garbage collector", m_nGCedTables);
             LOGGER.debugWithFormat("\t%d cache hits (hard-referenced)", m_nHardHits);
             LOGGER.debugWithFormat("\t%d cache hits (softly referenced)", m_nSoftHits);
@@ -164,6 +212,17 @@ private void logStatistics() {
         }
     }
 
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the current statistics
+     */
+    synchronized BufferCacheStatistics getStatistics() {
+        pollGarbageCollectedTables();
+        return new BufferCacheStatistics(m_LRUCache.size(), m_LRUCacheBytes, m_LRUCacheBudget, m_nTables,
+            m_nInvalidatedTables, m_nEvictedTables, m_nGCedTables, m_nHardHits, m_nSoftHits, m_nWeakHits, m_nMisses);
+    }
+
     /**
      * Puts a fully-read table into the cache, from where it can be retrieved but no longer modified.
      *
@@ -181,7 +240,9 @@ synchronized void put(final Buffer buffer, final List<BlobSupportDataRow> list)
          * We already fill the soft cache here to keep track of how recently the table has been used. Note that soft and
          * weak references won't be cleared while there is still a hard reference on the object.
          */
-        m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(undmodifiableList));
+        removeFromLRUCache(buffer);
+        m_sizeMap.put(buffer, estimateSizeInBytes(list));
+        putIntoLRUCache(buffer, undmodifiableList);
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.put(buffer,
             new WeakReference<List<BlobSupportDataRow>>(undmodifiableList, m_weakCacheRefQueue));
 
@@ -203,6 +264,8 @@ synchronized void clearForGarbageCollection(final Buffer buffer) {
         assert buffer.isFlushedToDisk();
 
         m_hardMap.remove(buffer);
+        /** The table can now be evicted, which might have been deferred while it was hard-referenced. */
+        evictFromLRUCache();
     }
 
     /**
@@ -280,7 +343,7 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
         if (list != null) {
             /** Make sure to put the accessed table back into the LRU cache. */
             if (!m_LRUCache.containsKey(buffer)) {
-                m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(list));
+                putIntoLRUCache(buffer, list);
             }
             if (!hit) {
                 m_nWeakHits++;
@@ -290,7 +353,7 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
         } else {
             /** Table has been garbage collected; it should be removed from the LRU cache to make room for other
              * tables. */
-            m_LRUCache.remove(buffer);
+            removeFromLRUCache(buffer);
         }
 
         if (!hit) {
@@ -308,7 +371,8 @@ private Optional<List<BlobSupportDataRow>> getInternal(final Buffer buffer, fina
      */
     synchronized void invalidate(final Buffer buffer) {
         m_hardMap.remove(buffer);
-        m_LRUCache.remove(buffer);
+        removeFromLRUCache(buffer);
+        m_sizeMap.remove(buffer);
         final WeakReference<List<BlobSupportDataRow>> previousValue = m_weakCache.remove(buffer);
 
         if (previousValue != null && previousValue.get() != null) {
@@ -325,18 +389,131 @@ synchronized void setLRUCacheSize(final int newSize) {
         if (newSize == m_LRUCacheSize) {
             return;
         }
+        m_LRUCacheSize = newSize;
+        evictFromLRUCache();
+    }
+
+    /**
+     * Can be used to adjust the heap budget of the LRU cache at runtime.
+     *
+     * @param newBudget the new estimated number of bytes of tables kept in the LRU cache
+     */
+    synchronized void setLRUCacheBudget(final long newBudget) {
+        if (newBudget == m_LRUCacheBudget) {
+            return;
+        }
+        m_LRUCacheBudget = newBudget;
+        evictFromLRUCache();
+    }
 
-        /** Since there is no way of adjusting the cache size of an LRUCache, we have to create a new cache. */
-        final LRUCache<Buffer, SoftReference<List<BlobSupportDataRow>>> cache = new LRUCache<>(newSize, newSize);
+    private void putIntoLRUCache(final Buffer buffer, final List<BlobSupportDataRow> list) {
+        m_LRUCache.put(buffer, new SoftReference<List<BlobSupportDataRow>>(list));
+        final Long size = m_sizeMap.get(buffer);
+        m_LRUCacheBytes += size == null ? 0 : size;
+        evictFromLRUCache();
+    }
 
-        /** If the new cache is smaller than the old one, the least-recently-accessed entries will be entered first
-         * and then also evicted first when the new cache size is reached. */
-        for (Entry<Buffer, SoftReference<List<BlobSupportDataRow>>> entry : m_LRUCache.entrySet()) {
-            cache.put(entry.getKey(), entry.getValue());
+    private void removeFromLRUCache(final Buffer buffer) {
+        if (m_LRUCache.remove(buffer) != null) {
+            final Long size = m_sizeMap.get(buffer);
+            m_LRUCacheBytes -= size == null ? 0 : size;
         }
+    }
 
-        m_LRUCacheSize = newSize;
-        m_LRUCache = cache;
+    /**
+     * Evicts the least recently used tables from the LRU cache until its size limit and heap budget are met. Tables
+     * that are hard-referenced (i.e., not yet flushed to disk) are skipped, as their memory can't be freed anyway. The
+     * most recently used table is always kept, even if it exceeds the budget on its own.
+     */
+    private void evictFromLRUCache() {
+        final Iterator<Entry<Buffer, SoftReference<List<BlobSupportDataRow>>>> it = m_LRUCache.entrySet().iterator();
+        while (it.hasNext() && m_LRUCache.size() > 1
+            && (m_LRUCache.size() > m_LRUCacheSize || m_LRUCacheBytes > m_LRUCacheBudget)) {
+            final Buffer buffer = it.next().getKey();
+            if (m_hardMap.containsKey(buffer) || !it.hasNext()) {
+                continue;
+            }
+            it.remove();
+            final Long size = m_sizeMap.get(buffer);
+            m_LRUCacheBytes -= size == null ? 0 : size;
+            m_nEvictedTables++;
+        }
+    }
+
+    /**
+     * Estimates the number of bytes a table occupies on the heap. The estimate is based on a sample of rows unless the
+     * list computes its size itself (see {@link CompactRowList#estimateSizeInBytes()}).
+     *
+     * @param list the table
+     * @return the estimated size in bytes, not negative
+     */
+    static long estimateSizeInBytes(final List<BlobSupportDataRow> list) {
+        if (list instanceof CompactRowList) {
+            return ((CompactRowList)list).estimateSizeInBytes();
+        }
+        final int size = list.size();
+        if (size == 0) {
+            return OBJECT_HEADER_BYTES;
+        }
+        final int sampleCount = Math.min(size, SIZE_ESTIMATE_SAMPLE_COUNT);
+        long sampleBytes = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            final BlobSupportDataRow row = list.get((int)((long)i * size / sampleCount));
+            /** row object, cell array, the list's reference to the row and the key */
+            long rowBytes = 2 * OBJECT_HEADER_BYTES + REFERENCE_BYTES + estimateSizeInBytes(row.getKey())
+                + (long)row.getNumCells() * REFERENCE_BYTES;
+            for (int c = 0; c < row.getNumCells(); c++) {
+                rowBytes += estimateSizeInBytes(row.getRawCell(c));
+            }
+            sampleBytes += rowBytes;
+        }
+        return OBJECT_HEADER_BYTES + sampleBytes * size / sampleCount;
+    }
+
+    /**
+     * Estimates the number of bytes a cell occupies on the heap, not counting the reference to it.
+     *
+     * @param cell the cell
+     * @return the estimated size in bytes, 0 for singletons
+     */
+    static long estimateSizeInBytes(final DataCell cell) {
+        if (cell == DataType.getMissingCell() || cell instanceof BooleanCell) {
+            return 0;
+        }
+        final Class<? extends DataCell> cellClass = cell.getClass();
+        if (cellClass == DoubleCell.class || cellClass == LongCell.class) {
+            return OBJECT_HEADER_BYTES + 8;
+        } else if (cellClass == IntCell.class) {
+            return OBJECT_HEADER_BYTES;
+        } else if (cellClass == StringCell.class) {
+            return OBJECT_HEADER_BYTES + REFERENCE_BYTES + estimateSizeInBytes(((StringCell)cell).getStringValue());
+        }
+        return DEFAULT_CELL_BYTES;
+    }
+
+    /**
+     * Estimates the number of bytes a row key occupies on the heap, not counting the reference to it. The string of
+     * a {@link RowKey#isCompact() compact} key is not created.
+     *
+     * @param key the key
+     * @return the estimated size in bytes
+     */
+    static long estimateSizeInBytes(final RowKey key) {
+        if (key.isCompact()) {
+            // key object and its index (long and cached hash)
+            return 2 * OBJECT_HEADER_BYTES + 16;
+        }
+        return OBJECT_HEADER_BYTES + estimateSizeInBytes(key.getString());
+    }
+
+    /**
+     * Estimates the number of bytes a string occupies on the heap, including its character array.
+     *
+     * @param string the string, may be null
+     * @return the estimated size in bytes, 0 for null
+     */
+    static long estimateSizeInBytes(final String string) {
+        return string == null ? 0 : 2 * OBJECT_HEADER_BYTES + 8 + 2L * string.length();
     }
 
 }
@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+/**
+ * An immutable snapshot of the statistics of the cache that keeps tables in memory, as returned by
+ * {@link DataContainer#getCacheStatistics()}. Counters are accumulated since the start of KNIME; hits are counted on
+ * the uppermost layer holding the table, i.e., tables not yet written to disk (hard), recently used tables within the
+ * heap budget (soft) and tables evicted from the budget but not yet garbage collected (weak).
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class BufferCacheStatistics {
+
+    private final int m_nCachedTables;
+
+    private final long m_cachedBytes;
+
+    private final long m_byteBudget;
+
+    private final long m_nTables;
+
+    private final long m_nInvalidatedTables;
+
+    private final long m_nEvictedTables;
+
+    private final long m_nGCedTables;
+
+    private final long m_nHardHits;
+
+    private final long m_nSoftHits;
+
+    private final long m_nWeakHits;
+
+    private final long m_nMisses;
+
+    BufferCacheStatistics(final int nCachedTables, final long cachedBytes, final long byteBudget, final long nTables,
+        final long nInvalidatedTables, final long nEvictedTables, final long nGCedTables, final long nHardHits,
+        final long nSoftHits, final long nWeakHits, final long nMisses) {
+        m_nCachedTables = nCachedTables;
+        m_cachedBytes = cachedBytes;
+        m_byteBudget = byteBudget;
+        m_nTables = nTables;
+        m_nInvalidatedTables = nInvalidatedTables;
+        m_nEvictedTables = nEvictedTables;
+        m_nGCedTables = nGCedTables;
+        m_nHardHits = nHardHits;
+        m_nSoftHits = nSoftHits;
+        m_nWeakHits = nWeakHits;
+        m_nMisses = nMisses;
+    }
+
+    /** @return the number of tables currently held within the heap budget (hard or softly referenced) */
+    public int getCachedTableCount() {
+        return m_nCachedTables;
+    }
+
+    /** @return the estimated size in bytes of the tables currently held within the heap budget */
+    public long getCachedBytes() {
+        return m_cachedBytes;
+    }
+
+    /** @return the heap budget in bytes */
+    public long getByteBudget() {
+        return m_byteBudget;
+    }
+
+    /** @return the number of distinct tables put into the cache */
+    public long getTableCount() {
+        return m_nTables;
+    }
+
+    /** @return the number of tables removed from the cache because they were cleared */
+    public long getInvalidatedTableCount() {
+        return m_nInvalidatedTables;
+    }
+
+    /** @return the number of tables evicted from the heap budget, i.e., turned weakly referenced */
+    public long getEvictedTableCount() {
+        return m_nEvictedTables;
+    }
+
+    /** @return the number of tables dropped by the garbage collector */
+    public long getGarbageCollectedTableCount() {
+        return m_nGCedTables;
+    }
+
+    /** @return the number of accesses to tables not yet written to disk */
+    public long getHardHits() {
+        return m_nHardHits;
+    }
+
+    /** @return the number of accesses to tables held within the heap budget */
+    public long getSoftHits() {
+        return m_nSoftHits;
+    }
+
+    /** @return the number of accesses to tables evicted from the heap budget but not yet garbage collected */
+    public long getWeakHits() {
+        return m_nWeakHits;
+    }
+
+    /** @return the number of accesses to tables that had to be read from disk */
+    public long getMisses() {
+        return m_nMisses;
+    }
+
+    /** @return the total number of accesses */
+    public long getAccesses() {
+        return m_nHardHits + m_nSoftHits + m_nWeakHits + m_nMisses;
+    }
+
+    /** @return the fraction of accesses served from memory, in [0, 1], or 0 if there were no accesses */
+    public double getHitRatio() {
+        final long accesses = getAccesses();
+        return accesses == 0 ? 0.0 : (double)(accesses - m_nMisses) / accesses;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format(
+            "%d tables (%d of %d bytes) cached, %d distinct tables, %d invalidated, %d evicted, %d garbage collected; "
+                + "%d hard hits, %d soft hits, %d weak hits, %d misses",
+            m_nCachedTables, m_cachedBytes, m_byteBudget, m_nTables, m_nInvalidatedTables, m_nEvictedTables,
+            m_nGCedTables, m_nHardHits, m_nSoftHits, m_nWeakHits, m_nMisses);
+    }
+
+}
@@ -52,18 +52,25 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.io.IOUtils;
+import org.knime.core.data.CellPredicate;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.filestore.FileStoreUtil;
@@ -83,7 +90,13 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** The columns and rows to return. */
+    private final RowSelection m_selection;
+
+    /** The next row matching the cell predicates, if read ahead in {@link #hasNext()}. */
+    private BlobSupportDataRow m_nextRow;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -98,6 +111,12 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** Stream to read from. */
     private BlockableDCObjectInputVersion2 m_inStream;
 
+    /** The decompressed stream underlying {@link #m_inStream}, used to skip entire blocks of rows. */
+    private final InputStream m_rowStream;
+
+    /** Statistics on the blocks of rows, used to skip blocks not matching the selection; null if not available. */
+    private final BlockStatistics m_blockStatistics;
+
     /** Utility object with designated functionality to deserialize datacell. */
     private DataCellStreamReader m_dataCellStreamReader;
 
@@ -106,8 +125,20 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, RowSelection.all(tableFormatReader.getTableSpec().getNumColumns()));
+    }
+
+    /** Inits iterator, opens input stream. Rows and cells not covered by the selection are skipped in the stream
+     * without being deserialized.
+     * @param tableFormatReader The associated buffer.
+     * @param selection The columns and rows to return.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final RowSelection selection)
+        throws IOException {
         // init the pointer
         m_pointer = 0;
+        m_selection = selection;
 
         // check for file existence
         if (tableFormatReader.getBinFile() == null) {
@@ -121,14 +152,48 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
 
         // open the input stream
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(getInputStream(tableFormatReader), m_dataCellStreamReader);
+        m_rowStream = getInputStream(tableFormatReader);
+        m_blockStatistics = tableFormatReader.getBlockStatistics();
+        m_inStream = new BlockableDCObjectInputVersion2(m_rowStream, m_dataCellStreamReader);
+        seekToFirstSelectedBlock();
+    }
+
+    /** Jumps to the block containing the first selected row (if the positions of the blocks are known). */
+    private void seekToFirstSelectedBlock() throws IOException {
+        final long fromIndex = m_selection.getFromIndex();
+        if (fromIndex == 0 || m_blockStatistics == null || !m_blockStatistics.hasRowOffsets()) {
+            return;
+        }
+        final int block = (int)Math.min(fromIndex / m_blockStatistics.getBlockSize(),
+            m_blockStatistics.getBlockCount() - 1L);
+        if (block > 0) {
+            try {
+                IOUtils.skipFully(m_rowStream, m_blockStatistics.getRowOffset(block));
+            } catch (IOException ioe) {
+                m_inStream.close();
+                throw ioe;
+            }
+            m_pointer = (long)block * m_blockStatistics.getBlockSize();
+        }
     }
 
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        if (m_nextRow != null) {
+            return true;
+        }
+        boolean hasNext;
+        if (m_inStream != null && m_selection.hasPredicates()) {
+            m_nextRow = readNextMatchingRow();
+            hasNext = m_nextRow != null;
+        } else {
+            if (m_inStream != null) {
+                skipLeadingRows();
+            }
+            hasNext = m_pointer < getEndIndex();
+        }
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -141,9 +206,13 @@ public synchronized BlobSupportDataRow next() {
         if (!hasNext()) {
             throw new NoSuchElementException("Iterator at end");
         }
-        final BlockableDCObjectInputVersion2 inStream = m_inStream;
-        int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
-        if (inStream == null) { // iterator was closed
+        if (m_nextRow != null) {
+            final BlobSupportDataRow next = m_nextRow;
+            m_nextRow = null;
+            return next;
+        }
+        if (m_inStream == null) { // iterator was closed
+            int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
             if (m_missingCellsForClosedTable == null) {
                 m_missingCellsForClosedTable = new DataCell[colCount];
                 Arrays.fill(m_missingCellsForClosedTable,
@@ -154,6 +223,95 @@ public synchronized BlobSupportDataRow next() {
             m_pointer++;
             return new BlobSupportDataRow(key, m_missingCellsForClosedTable);
         }
+        return readRow();
+    }
+
+    /** @return the index of the row after the last row to return */
+    private long getEndIndex() {
+        final long toIndex = m_selection.getToIndex();
+        return toIndex < Long.MAX_VALUE ? Math.min(m_tableFormatReader.size(), toIndex + 1)
+            : m_tableFormatReader.size();
+    }
+
+    /** Reads rows until one matches the cell predicates.
+     * @return that row or null if there is no further matching row */
+    private BlobSupportDataRow readNextMatchingRow() {
+        skipLeadingRows();
+        final long endIndex = getEndIndex();
+        while (m_pointer < endIndex) {
+            if (skipNonMatchingBlocks()) {
+                continue;
+            }
+            final BlobSupportDataRow row = readRow();
+            if (row != null) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    /** Skips the rows before the first selected row without deserializing them. */
+    private void skipLeadingRows() {
+        skipRows(Math.min(m_selection.getFromIndex(), m_tableFormatReader.size()));
+    }
+
+    /** Skips rows without deserializing them.
+     * @param toIndex the index of the row to skip to */
+    private void skipRows(final long toIndex) {
+        final int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        final boolean isReadRowKey = m_tableFormatReader.isReadRowKey();
+        while (m_pointer < toIndex) {
+            try {
+                // row key and cells are each written as a block
+                for (int i = isReadRowKey ? -1 : 0; i < colCount; i++) {
+                    m_inStream.endBlock();
+                }
+                readEndOfRow(m_inStream);
+            } catch (IOException ioe) {
+                handleReadThrowable(ioe);
+            } finally {
+                m_pointer++;
+            }
+        }
+    }
+
+    /** Skips the block starting at the current position if its statistics rule out any row matching the predicates.
+     * @return whether a block was skipped */
+    private boolean skipNonMatchingBlocks() {
+        if (m_blockStatistics == null) {
+            return false;
+        }
+        final int blockSize = m_blockStatistics.getBlockSize();
+        if (m_pointer % blockSize != 0) {
+            return false;
+        }
+        final int block = (int)(m_pointer / blockSize);
+        if (block >= m_blockStatistics.getBlockCount() || m_blockStatistics.mayMatch(block, m_selection)) {
+            return false;
+        }
+        final long nextBlockStart = Math.min(m_pointer + blockSize, m_tableFormatReader.size());
+        if (block + 1 == m_blockStatistics.getBlockCount()) {
+            // last block, nothing to read after it
+            m_pointer = nextBlockStart;
+        } else if (m_blockStatistics.hasRowOffsets()) {
+            try {
+                IOUtils.skipFully(m_rowStream,
+                    m_blockStatistics.getRowOffset(block + 1) - m_blockStatistics.getRowOffset(block));
+            } catch (IOException ioe) {
+                handleReadThrowable(ioe);
+            }
+            m_pointer = nextBlockStart;
+        } else {
+            skipRows(nextBlockStart);
+        }
+        return true;
+    }
+
+    /** Reads the row at the current position, deserializing only the selected cells.
+     * @return the row or null if it doesn't match the cell predicates (the row is skipped then) */
+    private BlobSupportDataRow readRow() {
+        final BlockableDCObjectInputVersion2 inStream = m_inStream;
+        int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
         RowKey key;
         try {
             key = readRowKeyAndEndBlock(inStream);
@@ -165,31 +323,50 @@ public synchronized BlobSupportDataRow next() {
             key = new RowKey(keyS);
         }
         DataCell[] cells = new DataCell[colCount];
+        boolean isMatch = true;
         for (int i = 0; i < colCount; i++) {
+            if (!isMatch || !m_selection.isRead(i)) {
+                try {
+                    inStream.endBlock();
+                } catch (IOException ioe) {
+                    handleReadThrowable(ioe);
+                }
+                cells[i] = UnmaterializedCell.getInstance();
+                continue;
+            }
             DataCell nextCell;
             try {
                 try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    nextCell = m_dataCellStreamReader.readDataCell(inStream);
                 } finally {
-                    m_inStream.endBlock();
+                    inStream.endBlock();
                 }
             } catch (final Exception e) {
                 handleReadThrowable(e);
                 nextCell = DataType.getMissingCell();
             }
             cells[i] = nextCell;
+            final CellPredicate predicate = m_selection.getPredicate(i);
+            isMatch = predicate == null || predicate.test(nextCell);
         }
         try {
-            byte eoRow = inStream.readControlByte();
-            if (eoRow != BYTE_ROW_SEPARATOR) {
-                throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
-            }
+            readEndOfRow(inStream);
         } catch (IOException ioe) {
             handleReadThrowable(ioe);
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
+        return isMatch ? new BlobSupportDataRow(key, cells) : null;
+    }
+
+    /** Reads the row separator byte.
+     * @param inStream To read from
+     * @throws IOException If reading fails or the separator is not found. */
+    private static void readEndOfRow(final BlockableDCObjectInputVersion2 inStream) throws IOException {
+        byte eoRow = inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+        }
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
@@ -205,7 +382,7 @@ private RowKey readRowKeyAndEndBlock(
             return DUMMY_ROW_KEY;
         }
         try {
-            return inStream.readRowKey();
+            return inStream.readRowKey(m_tableFormatReader.getReadVersion() >= 12);
         } finally {
             inStream.endBlock();
         }
@@ -333,6 +510,13 @@ public DataCell readDataCell(final DCObjectInputVersion2 inStream) throws IOExce
 
             CellClassInfo type = m_tableFormatReader.getTypeForChar(identifier);
             Class<? extends DataCell> cellClass = type.getCellClass();
+            if (!isJavaSerialization && inStream instanceof BlockableDCObjectInputVersion2) {
+                final DataCell primitiveCell =
+                    readPrimitiveCellDirectly((BlockableDCObjectInputVersion2)inStream, cellClass);
+                if (primitiveCell != null) {
+                    return primitiveCell;
+                }
+            }
             boolean isBlob = BlobDataCell.class.isAssignableFrom(cellClass);
             boolean isFileStore = FileStoreCell.class.isAssignableFrom(cellClass);
             // starting with table version 11 FileStoreCells support multiple FileStores
@@ -374,6 +558,29 @@ public DataCell readDataCell(final DCObjectInputVersion2 inStream) throws IOExce
 
             return result;
         }
+
+        /**
+         * Fast path for the most common primitive cells if the stream is backed by a buffer (see
+         * {@link ByteBufferInputStream}): the value is decoded directly from the buffer instead of via the cell's
+         * serializer. Needs to be in sync with the serializers of {@link DoubleCell}, {@link IntCell} and
+         * {@link LongCell}, which write the plain value.
+         *
+         * @return the cell or null if the cell needs to be read via its serializer
+         */
+        private static DataCell readPrimitiveCellDirectly(final BlockableDCObjectInputVersion2 inStream,
+            final Class<? extends DataCell> cellClass) throws IOException {
+            if (cellClass == DoubleCell.class) {
+                final ByteBuffer buffer = inStream.getDirectBuffer(Double.BYTES);
+                return buffer == null ? null : new DoubleCell(buffer.getDouble());
+            } else if (cellClass == IntCell.class) {
+                final ByteBuffer buffer = inStream.getDirectBuffer(Integer.BYTES);
+                return buffer == null ? null : new IntCell(buffer.getInt());
+            } else if (cellClass == LongCell.class) {
+                final ByteBuffer buffer = inStream.getDirectBuffer(Long.BYTES);
+                return buffer == null ? null : new LongCell(buffer.getLong());
+            }
+            return null;
+        }
     } // class DataCellStreamReader
 
 }
@@ -77,22 +77,37 @@ public final class BufferSettings {
     /** The default number of tables that can be kept in the soft-references LRU cache before being weak-referenced. */
     static final int DEF_LRU_CACHE_SIZE = 32;
 
+    /** The default heap budget of the soft-references LRU cache in percent of the maximum heap size. */
+    static final int DEF_LRU_CACHE_BUDGET_PERCENT = 50;
+
     /** The enable LRU caching flag. */
     private final boolean m_enableLRU;
 
     /** The LRU cache size. */
     private final int m_lruCacheSize;
 
+    /** The LRU cache heap budget in bytes. */
+    private final long m_lruCacheBudget;
+
     /** The output table store format. */
     private final TableStoreFormat m_outputFormat;
 
+    /** Whether to collect block statistics while writing. */
+    private final boolean m_blockStatistics;
+
+    /** Whether to hold in-memory tables column by column. */
+    private final boolean m_compactRows;
+
     /**
      * Default constructor.
      */
     BufferSettings() {
         m_enableLRU = initLRU();
         m_lruCacheSize = DEF_LRU_CACHE_SIZE;
+        m_lruCacheBudget = initLRUCacheBudget();
         m_outputFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
+        m_blockStatistics = Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_BLOCK_STATISTICS);
+        m_compactRows = Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_COMPACT_ROWS);
     }
 
     /**
@@ -100,13 +115,20 @@ public final class BufferSettings {
      *
      * @param enableLRU the enable LRU flag
      * @param lruCacheSize the LRU cache size
+     * @param lruCacheBudget the LRU cache heap budget in bytes
      * @param outputFormat the output format
+     * @param blockStatistics the collect block statistics flag
+     * @param compactRows the hold in-memory tables column by column flag
      * @noreference This constructor is not intended to be referenced by clients.
      */
-    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final TableStoreFormat outputFormat) {
+    private BufferSettings(final boolean enableLRU, final int lruCacheSize, final long lruCacheBudget,
+        final TableStoreFormat outputFormat, final boolean blockStatistics, final boolean compactRows) {
         m_enableLRU = enableLRU;
         m_lruCacheSize = lruCacheSize;
+        m_lruCacheBudget = lruCacheBudget;
         m_outputFormat = outputFormat;
+        m_blockStatistics = blockStatistics;
+        m_compactRows = compactRows;
     }
 
     /**
@@ -130,6 +152,29 @@ private static boolean initLRU() {
         return DEF_TABLE_CACHE.equals("LRU");
     }
 
+    /**
+     * Initializes the LRU cache heap budget w.r.t. the defined properties.
+     *
+     * @return the LRU cache heap budget in bytes
+     */
+    private static long initLRUCacheBudget() {
+        int percent = DEF_LRU_CACHE_BUDGET_PERCENT;
+        final String valBudget = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_BUDGET);
+        if (valBudget != null) {
+            try {
+                final int p = Integer.parseInt(valBudget.trim());
+                if (p < 0 || p > 100) {
+                    throw new NumberFormatException("Not a percentage: " + p);
+                }
+                percent = p;
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_TABLE_CACHE_BUDGET + ", using default ("
+                    + DEF_LRU_CACHE_BUDGET_PERCENT + "%)", e);
+            }
+        }
+        return Runtime.getRuntime().maxMemory() / 100 * percent;
+    }
+
     /**
      * Returns whether to use LRU caching or not.
      *
@@ -148,6 +193,35 @@ int getLRUCacheSize() {
         return m_lruCacheSize;
     }
 
+    /**
+     * Returns the heap budget of the LRU cache, i.e., the estimated number of bytes of tables that can be kept in the
+     * soft-references LRU cache before being weak-referenced.
+     *
+     * @return the LRU cache heap budget in bytes
+     */
+    long getLRUCacheBudget() {
+        return m_lruCacheBudget;
+    }
+
+    /**
+     * Returns whether to collect {@link BlockStatistics} while writing tables to disc.
+     *
+     * @return the collect block statistics flag
+     */
+    boolean useBlockStatistics() {
+        return m_blockStatistics;
+    }
+
+    /**
+     * Returns whether to hold tables in memory column by column in a {@link CompactRowList}, as opposed to a list of
+     * row objects.
+     *
+     * @return the hold in-memory tables column by column flag
+     */
+    boolean useCompactRows() {
+        return m_compactRows;
+    }
+
     /**
      * Returns the {@link TableStoreFormat} used to read and write the {@link Buffer Buffer's} content.
      *
@@ -174,7 +248,8 @@ TableStoreFormat getOutputFormat(final DataTableSpec spec) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRU(final boolean enableLRU) {
-        return new BufferSettings(enableLRU, m_lruCacheSize, m_outputFormat);
+        return new BufferSettings(enableLRU, m_lruCacheSize, m_lruCacheBudget, m_outputFormat, m_blockStatistics,
+            m_compactRows);
     }
 
     /**
@@ -185,7 +260,20 @@ public BufferSettings withLRU(final boolean enableLRU) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withLRUCacheSize(final int lruCacheSize) {
-        return new BufferSettings(m_enableLRU, lruCacheSize, m_outputFormat);
+        return new BufferSettings(m_enableLRU, lruCacheSize, m_lruCacheBudget, m_outputFormat, m_blockStatistics,
+            m_compactRows);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the LRU cache heap budget.
+     *
+     * @param lruCacheBudget the new LRU cache heap budget in bytes
+     * @return a new instance of {@code BufferSettings}
+     */
+    public BufferSettings withLRUCacheBudget(final long lruCacheBudget) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, lruCacheBudget, m_outputFormat, m_blockStatistics,
+            m_compactRows);
     }
 
     /**
@@ -196,7 +284,34 @@ public BufferSettings withLRUCacheSize(final int lruCacheSize) {
      * @return a new instance of {@code BufferSettings}
      */
     public BufferSettings withOutputFormat(final TableStoreFormat outputFormat) {
-        return new BufferSettings(m_enableLRU, m_lruCacheSize, outputFormat);
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheBudget, outputFormat, m_blockStatistics,
+            m_compactRows);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the collect block statistics flag.
+     *
+     * @param blockStatistics the new collect block statistics flag
+     * @return a new instance of {@code BufferSettings}
+     * @since 3.8
+     */
+    public BufferSettings withBlockStatistics(final boolean blockStatistics) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheBudget, m_outputFormat, blockStatistics,
+            m_compactRows);
+    }
+
+    /**
+     * Creates a new <code>BufferSettings</code> object by replicating the current <code>BufferSettings</code> instance
+     * and solely changes the hold in-memory tables column by column flag.
+     *
+     * @param compactRows the new hold in-memory tables column by column flag
+     * @return a new instance of {@code BufferSettings}
+     * @since 3.8
+     */
+    public BufferSettings withCompactRows(final boolean compactRows) {
+        return new BufferSettings(m_enableLRU, m_lruCacheSize, m_lruCacheBudget, m_outputFormat, m_blockStatistics,
+            compactRows);
     }
 
 }
@@ -0,0 +1,256 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Input stream reading from a {@link ByteBuffer}, either a heap buffer or a file that is memory-mapped region by region
+ * (see {@link #map(File)}). Compared to a {@link java.io.BufferedInputStream} on a file this avoids copying the data
+ * into a separate buffer (reads are served from the page cache) and it allows to {@link #skip(long) skip} in constant
+ * time. {@link BlockableInputStream} also uses the buffer to decode primitive values without per-byte calls.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+class ByteBufferInputStream extends InputStream {
+
+    /** The buffer to read from, positioned at the next byte. Null when closed. */
+    private ByteBuffer m_buffer;
+
+    /**
+     * Creates a stream reading the remaining bytes of the argument buffer.
+     *
+     * @param buffer the buffer to read from
+     */
+    ByteBufferInputStream(final ByteBuffer buffer) {
+        m_buffer = buffer;
+    }
+
+    /**
+     * Opens a stream reading a file via memory mapping.
+     *
+     * @param file the file to read
+     * @return a new stream
+     * @throws IOException if the file can't be opened or mapped
+     */
+    @SuppressWarnings("resource") // channel closed with the stream
+    static ByteBufferInputStream map(final File file) throws IOException {
+        final FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+        try {
+            return new MappedFileInputStream(channel);
+        } catch (IOException ioe) {
+            channel.close();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns the underlying buffer if at least the argument number of bytes can be read from it directly.
+     *
+     * @param byteCount the number of bytes to be read
+     * @return the buffer, positioned at the next byte, or null if fewer bytes remain in the current buffer
+     * @throws IOException if mapping the next region fails
+     */
+    final ByteBuffer getBuffer(final int byteCount) throws IOException {
+        final ByteBuffer buffer = ensureRemaining();
+        return buffer != null && buffer.remaining() >= byteCount ? buffer : null;
+    }
+
+    /** @return the buffer with remaining bytes or null if at the end of the stream */
+    private ByteBuffer ensureRemaining() throws IOException {
+        ByteBuffer buffer = m_buffer;
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+        if (!buffer.hasRemaining()) {
+            buffer = nextBuffer();
+            if (buffer == null) {
+                return null;
+            }
+            m_buffer = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Called when the current buffer is exhausted.
+     *
+     * @return the buffer holding the following bytes or null if at the end of the stream
+     * @throws IOException if creating the next buffer fails
+     */
+    ByteBuffer nextBuffer() throws IOException {
+        return null;
+    }
+
+    /**
+     * Called when bytes beyond the (exhausted) current buffer are to be skipped.
+     *
+     * @param byteCount number of bytes to skip after the current buffer
+     * @return the number of bytes skipped
+     * @throws IOException if repositioning fails
+     */
+    long skipBeyondBuffer(final long byteCount) throws IOException {
+        return 0L;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        final ByteBuffer buffer = ensureRemaining();
+        return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        final ByteBuffer buffer = ensureRemaining();
+        if (buffer == null) {
+            return -1;
+        }
+        final int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0L;
+        }
+        final ByteBuffer buffer = ensureRemaining();
+        if (buffer == null) {
+            return 0L;
+        }
+        if (n <= buffer.remaining()) {
+            buffer.position(buffer.position() + (int)n);
+            return n;
+        }
+        final int remaining = buffer.remaining();
+        buffer.position(buffer.limit());
+        return remaining + skipBeyondBuffer(n - remaining);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        final ByteBuffer buffer = m_buffer;
+        return buffer == null ? 0 : buffer.remaining();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        m_buffer = null;
+    }
+
+    /**
+     * Maps a file region by region, each region being at most {@link #MAX_REGION_SIZE} bytes (a single buffer can't
+     * address more than 2GB).
+     */
+    private static final class MappedFileInputStream extends ByteBufferInputStream {
+
+        /** Maximum size of a mapped region. */
+        private static final long MAX_REGION_SIZE = 1L << 30;
+
+        private final FileChannel m_channel;
+
+        private final long m_size;
+
+        /** Position in the file of the first byte after the current region. */
+        private long m_regionEnd;
+
+        private MappedFileInputStream(final FileChannel channel) throws IOException {
+            super(mapRegion(channel, 0L));
+            m_channel = channel;
+            m_size = channel.size();
+            m_regionEnd = Math.min(m_size, MAX_REGION_SIZE);
+        }
+
+        private static ByteBuffer mapRegion(final FileChannel channel, final long position) throws IOException {
+            return channel.map(MapMode.READ_ONLY, position, Math.min(channel.size() - position, MAX_REGION_SIZE));
+        }
+
+        @Override
+        ByteBuffer nextBuffer() throws IOException {
+            if (m_regionEnd >= m_size) {
+                return null;
+            }
+            final ByteBuffer buffer = mapRegion(m_channel, m_regionEnd);
+            m_regionEnd += buffer.capacity();
+            return buffer;
+        }
+
+        @Override
+        long skipBeyondBuffer(final long byteCount) throws IOException {
+            final long skip = Math.min(byteCount, m_size - m_regionEnd);
+            if (skip <= 0) {
+                return 0L;
+            }
+            // the current region is exhausted, the next one is mapped starting at the new position
+            m_regionEnd += skip;
+            return skip;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            m_channel.close();
+        }
+    }
+
+}
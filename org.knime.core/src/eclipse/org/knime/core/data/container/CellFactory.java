@@ -45,6 +45,8 @@
  */
 package org.knime.core.data.container;
 
+import java.util.List;
+
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -77,6 +79,29 @@ public interface CellFactory {
      */
     DataCell[] getCells(final DataRow row);
 
+    /**
+     * Get the new cells for a batch of consecutive rows. This method is called by the framework when the input is
+     * processed concurrently (see {@link AbstractCellFactory#getBatchSize()}); implementations may override it to
+     * amortize per-row overhead for cheap computations. The same constraints as for {@link #getCells(DataRow)} apply,
+     * in particular concurrent invocations must be independent of each other.
+     *
+     * <p>
+     * The default implementation calls {@link #getCells(DataRow)} for each row.
+     *
+     * @param rows The rows of interest, not to be modified.
+     * @return The new cells for each of the rows, in the order of the argument list (<code>result[i]</code> are the
+     *         cells for <code>rows.get(i)</code>).
+     * @throws IllegalArgumentException If there is no mapping available.
+     * @since 3.8
+     */
+    default DataCell[][] getCells(final List<DataRow> rows) {
+        final DataCell[][] result = new DataCell[rows.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getCells(rows.get(i));
+        }
+        return result;
+    }
+
     /**
      * The column specs for the cells that are generated in the getCells() method. This method is only called once,
      * there is no need to cache the return value. The length of the returned array must match the length of the array
@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A column-oriented table store format. Rows are collected in chunks and each column of a chunk is serialized and
+ * compressed independently of the other columns (see {@link ColumnarTableStoreWriter} for the file layout). Iterators
+ * that are created with a {@link org.knime.core.data.RowIteratorBuilder#filterColumns(int...) column filter} only
+ * read and decompress the column chunks of the selected columns; all other cells are returned as
+ * {@link org.knime.core.data.UnmaterializedCell}.
+ *
+ * <p>
+ * Cells are serialized using the same {@link org.knime.core.data.DataCellSerializer} infrastructure as the
+ * {@link DefaultTableStoreFormat}, hence any table can be written in this format. The compression of the column chunks
+ * is controlled by the {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_COMPRESSION} property; chunks that
+ * don't compress well are stored uncompressed and with
+ * {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_COMPRESSION_ADAPTIVE} the compression format is chosen per
+ * column and chunk.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** The version written by this format, see {@link #validateVersion(String)}. */
+    static final String VERSION = "columnar_1";
+
+    /** The table store settings (controlling the compression of the column chunks). */
+    private final DefaultTableStoreSettings m_tableStoreSettings;
+
+    /**
+     * Constructor using the default table store settings.
+     */
+    public ColumnarTableStoreFormat() {
+        this(DefaultTableStoreSettings.getDefault());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tableStoreSettings the table store settings
+     */
+    public ColumnarTableStoreFormat(final DefaultTableStoreSettings tableStoreSettings) {
+        m_tableStoreSettings = tableStoreSettings;
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (KNIME)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".kcol";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, m_tableStoreSettings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
@@ -0,0 +1,558 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}, see {@link ColumnarTableStoreWriter} for details on the file
+ * layout. Iterators only read and decompress the column segments of the columns selected via
+ * {@link RowIteratorBuilder#filterColumns(int...)}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    private final boolean m_isReadRowKey;
+
+    /** The chunk index read from the file footer, lazily initialized. */
+    private ChunkIndex m_chunkIndex;
+
+    /**
+     * Constructs a reader for column-wise serialized KNIME tables.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read (or generated anew)
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the settings are invalid
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        readCellClassInfoArrayFromMetaVersion2(settings);
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return createIterator(RowSelection.all(getSpec().getNumColumns()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), getSpec()) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            public TableStoreCloseableRowIterator build() {
+                TableStoreCloseableRowIterator iterator = createIterator(RowSelection.create(getSpec().getNumColumns(),
+                    getFilteredColumnIndices(), getFromRowIndex(), getToRowIndex(), getCellPredicates()));
+                registerNewIteratorInstance(iterator);
+                return iterator;
+            }
+        };
+    }
+
+    /**
+     * @param selection the columns and rows to read
+     * @return a new iterator, not yet registered
+     */
+    private TableStoreCloseableRowIterator createIterator(final RowSelection selection) {
+        try {
+            return new ColumnarRowIterator(getChunkIndex(), selection);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /** @return the chunk index, reading the file footer on first access. */
+    private synchronized ChunkIndex getChunkIndex() throws IOException {
+        if (m_chunkIndex == null) {
+            m_chunkIndex = ChunkIndex.read(getFile());
+        }
+        return m_chunkIndex;
+    }
+
+    /** Segment offsets, row counts, segment lengths and formats as read from the footer of the file. */
+    private static final class ChunkIndex {
+
+        private final long[][] m_segmentOffsets;
+
+        private final int[] m_chunkRowCounts;
+
+        private final int[][] m_segmentLengths;
+
+        private final CompressionFormat[][] m_segmentFormats;
+
+        private final long m_rowCount;
+
+        private ChunkIndex(final long[][] segmentOffsets, final int[] chunkRowCounts, final int[][] segmentLengths,
+            final CompressionFormat[][] segmentFormats) {
+            m_segmentOffsets = segmentOffsets;
+            m_chunkRowCounts = chunkRowCounts;
+            m_segmentLengths = segmentLengths;
+            m_segmentFormats = segmentFormats;
+            m_rowCount = Arrays.stream(chunkRowCounts).asLongStream().sum();
+        }
+
+        int getChunkCount() {
+            return m_chunkRowCounts.length;
+        }
+
+        /** @return offset of the segment in the file */
+        long getSegmentOffset(final int chunk, final int segment) {
+            return m_segmentOffsets[chunk][segment];
+        }
+
+        static ChunkIndex read(final File file) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                final long length = raf.length();
+                if (length < ColumnarTableStoreWriter.TRAILER_LENGTH) {
+                    throw new IOException("File is too short to contain a table (" + length + " bytes)");
+                }
+                raf.seek(length - ColumnarTableStoreWriter.TRAILER_LENGTH);
+                final long footerOffset = raf.readLong();
+                final int magic = raf.readInt();
+                if (magic != ColumnarTableStoreWriter.FOOTER_MAGIC || footerOffset < 0 || footerOffset >= length) {
+                    throw new IOException("Invalid or corrupt footer (magic number " + Integer.toHexString(magic)
+                        + ", footer offset " + footerOffset + ")");
+                }
+                byte[] footer = new byte[(int)(length - ColumnarTableStoreWriter.TRAILER_LENGTH - footerOffset)];
+                raf.seek(footerOffset);
+                raf.readFully(footer);
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+                final int chunkCount = in.readInt();
+                final int segmentCount = in.readInt();
+                long[][] segmentOffsets = new long[chunkCount][segmentCount];
+                int[] chunkRowCounts = new int[chunkCount];
+                int[][] segmentLengths = new int[chunkCount][segmentCount];
+                CompressionFormat[][] segmentFormats = new CompressionFormat[chunkCount][segmentCount];
+                long offset = 0L;
+                for (int c = 0; c < chunkCount; c++) {
+                    chunkRowCounts[c] = in.readInt();
+                    for (int s = 0; s < segmentCount; s++) {
+                        segmentOffsets[c][s] = offset;
+                        segmentLengths[c][s] = in.readInt();
+                        offset += segmentLengths[c][s];
+                    }
+                    for (int s = 0; s < segmentCount; s++) {
+                        final byte id = in.readByte();
+                        final Optional<CompressionFormat> format = CompressionFormat.fromId(id);
+                        if (!format.isPresent()) {
+                            throw new IOException("Unknown compression format id " + id + " of chunk " + c
+                                + ", segment " + s + " (file written by a newer version?)");
+                        }
+                        segmentFormats[c][s] = format.get();
+                    }
+                }
+                if (offset != footerOffset) {
+                    throw new IOException("Chunk index inconsistent with file content (" + offset + " vs. "
+                        + footerOffset + " bytes)");
+                }
+                return new ChunkIndex(segmentOffsets, chunkRowCounts, segmentLengths, segmentFormats);
+            }
+        }
+    }
+
+    /**
+     * Iterator reading the chunks one after another, only decompressing the selected columns. Chunks before the
+     * selected row range are not read at all; rows not matching the cell predicates are skipped after the predicate
+     * columns have been read.
+     */
+    private final class ColumnarRowIterator extends TableStoreCloseableRowIterator {
+
+        private final ChunkIndex m_index;
+
+        private final RowSelection m_selection;
+
+        /** Index of the row after the last row to return. */
+        private final long m_endIndex;
+
+        private final DataCellStreamReader m_cellReader;
+
+        /** Channel to read from, null when closed. */
+        private FileChannel m_channel;
+
+        /** Streams of the current chunk, entries are null for columns not read. */
+        private final BlockableDCObjectInputVersion2[] m_columnStreams;
+
+        private BlockableDCObjectInputVersion2 m_rowKeyStream;
+
+        private int m_chunk = -1;
+
+        private int m_rowInChunk;
+
+        /** Row pointer (overall). */
+        private long m_pointer;
+
+        /** The next row matching the cell predicates, if read ahead in {@link #hasNext()}. */
+        private BlobSupportDataRow m_nextRow;
+
+        private boolean m_hasThrownReadException;
+
+        /** Statistics on the blocks of rows, used to skip chunks not matching the selection; null if not available. */
+        private final BlockStatistics m_blockStatistics;
+
+        ColumnarRowIterator(final ChunkIndex index, final RowSelection selection) throws IOException {
+            m_index = index;
+            m_selection = selection;
+            final long toIndex = selection.getToIndex();
+            m_endIndex = toIndex < Long.MAX_VALUE ? Math.min(index.m_rowCount, toIndex + 1) : index.m_rowCount;
+            m_cellReader = new DataCellStreamReader(ColumnarTableStoreReader.this);
+            m_columnStreams = new BlockableDCObjectInputVersion2[getSpec().getNumColumns()];
+            final Buffer buffer = getBuffer();
+            m_blockStatistics = buffer == null ? null : buffer.getBlockStatistics();
+            @SuppressWarnings("resource") // closed in performClose
+            FileChannel channel = new RandomAccessFile(getFile(), "r").getChannel();
+            m_channel = channel;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_nextRow != null) {
+                return true;
+            }
+            boolean hasNext;
+            if (m_channel != null && m_selection.hasPredicates()) {
+                m_nextRow = readNextMatchingRow();
+                hasNext = m_nextRow != null;
+            } else {
+                if (m_channel != null) {
+                    skipLeadingRows();
+                }
+                hasNext = m_pointer < m_endIndex;
+            }
+            if (!hasNext && m_channel != null) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_nextRow != null) {
+                final BlobSupportDataRow next = m_nextRow;
+                m_nextRow = null;
+                return next;
+            }
+            if (m_channel == null) { // iterator was closed
+                DataCell[] cells = new DataCell[m_columnStreams.length];
+                Arrays.fill(cells, DataType.getMissingCell());
+                return new BlobSupportDataRow(new RowKey("INVALID_ROW (table is closed) - (Row " + m_pointer++ + ")"),
+                    cells);
+            }
+            return readRow();
+        }
+
+        /** @return the next row matching the cell predicates or null if there is none */
+        private BlobSupportDataRow readNextMatchingRow() {
+            skipLeadingRows();
+            while (m_pointer < m_endIndex) {
+                if (skipNonMatchingChunk()) {
+                    continue;
+                }
+                final BlobSupportDataRow row = readRow();
+                if (row != null) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        /** Skips all chunks and rows before the selected row range. */
+        private void skipLeadingRows() {
+            final long fromIndex = Math.min(m_selection.getFromIndex(), m_index.m_rowCount);
+            if (m_pointer >= fromIndex) {
+                return;
+            }
+            // skip entire chunks without reading them
+            int chunk = m_chunk < 0 ? 0 : m_chunk + 1;
+            long chunkStart = m_pointer - m_rowInChunk + (m_chunk < 0 ? 0 : m_index.m_chunkRowCounts[m_chunk]);
+            while (chunk < m_index.getChunkCount() && chunkStart + m_index.m_chunkRowCounts[chunk] <= fromIndex) {
+                chunkStart += m_index.m_chunkRowCounts[chunk];
+                chunk++;
+            }
+            if (chunkStart > m_pointer && chunkStart <= fromIndex) {
+                m_chunk = chunk - 1;
+                m_rowInChunk = m_chunk < 0 ? 0 : m_index.m_chunkRowCounts[m_chunk];
+                m_pointer = chunkStart;
+            }
+            // skip the remaining rows block by block
+            while (m_pointer < fromIndex) {
+                try {
+                    ensureChunk();
+                    if (m_rowKeyStream != null) {
+                        m_rowKeyStream.endBlock();
+                    }
+                    for (BlockableDCObjectInputVersion2 stream : m_columnStreams) {
+                        if (stream != null) {
+                            stream.endBlock();
+                        }
+                    }
+                } catch (IOException ioe) {
+                    handleReadThrowable(ioe);
+                }
+                m_rowInChunk++;
+                m_pointer++;
+            }
+        }
+
+        /**
+         * Skips the next chunk without reading it if the current one is exhausted and the block statistics rule out
+         * any row of the next chunk matching the predicates.
+         *
+         * @return whether a chunk was skipped
+         */
+        private boolean skipNonMatchingChunk() {
+            if (m_blockStatistics == null || (m_chunk >= 0 && m_rowInChunk < m_index.m_chunkRowCounts[m_chunk])) {
+                return false;
+            }
+            final int nextChunk = m_chunk + 1;
+            if (nextChunk >= m_index.getChunkCount()) {
+                return false;
+            }
+            final int rowCount = m_index.m_chunkRowCounts[nextChunk];
+            if (m_blockStatistics.mayMatch(m_pointer, m_pointer + rowCount, m_selection)) {
+                return false;
+            }
+            m_chunk = nextChunk;
+            m_rowInChunk = rowCount;
+            m_pointer += rowCount;
+            return true;
+        }
+
+        /** Opens the next chunk if the current one is exhausted. */
+        private void ensureChunk() throws IOException {
+            while (m_chunk < 0 || m_rowInChunk >= m_index.m_chunkRowCounts[m_chunk]) {
+                openChunk(m_chunk + 1);
+            }
+        }
+
+        /** @return the row at the current position or null if it doesn't match the cell predicates */
+        private BlobSupportDataRow readRow() {
+            try {
+                ensureChunk();
+            } catch (IOException ioe) {
+                throw new RuntimeException("Unable to read chunk " + (m_chunk + 1) + " from file \""
+                    + getFile().getName() + "\": " + ioe.getMessage(), ioe);
+            }
+            final int colCount = m_columnStreams.length;
+            final DataCell[] cells = new DataCell[colCount];
+            boolean isMatch = true;
+            // predicate columns first so that the other columns of non-matching rows don't need to be deserialized
+            if (m_selection.hasPredicates()) {
+                for (int i = 0; i < colCount && isMatch; i++) {
+                    final CellPredicate predicate = m_selection.getPredicate(i);
+                    if (predicate != null) {
+                        cells[i] = readCell(m_columnStreams[i]);
+                        isMatch = predicate.test(cells[i]);
+                    }
+                }
+            }
+            RowKey key = null;
+            if (isMatch && m_rowKeyStream != null) {
+                try {
+                    try {
+                        key = m_rowKeyStream.readRowKey(getReadVersion() >= 12);
+                    } finally {
+                        m_rowKeyStream.endBlock();
+                    }
+                } catch (Exception e) {
+                    handleReadThrowable(e);
+                    key = new RowKey("Read_failed__auto_generated_key_" + m_pointer);
+                }
+            } else if (isMatch) {
+                key = DUMMY_ROW_KEY;
+            } else if (m_rowKeyStream != null) {
+                skipCell(m_rowKeyStream);
+            }
+            for (int i = 0; i < colCount; i++) {
+                final BlockableDCObjectInputVersion2 stream = m_columnStreams[i];
+                if (cells[i] != null) {
+                    continue; // predicate column, already read
+                } else if (stream == null) {
+                    cells[i] = UnmaterializedCell.getInstance();
+                } else if (isMatch) {
+                    cells[i] = readCell(stream);
+                } else {
+                    skipCell(stream);
+                }
+            }
+            m_rowInChunk++;
+            m_pointer++;
+            return isMatch ? new BlobSupportDataRow(key, cells) : null;
+        }
+
+        private DataCell readCell(final BlockableDCObjectInputVersion2 stream) {
+            try {
+                try {
+                    return m_cellReader.readDataCell(stream);
+                } finally {
+                    stream.endBlock();
+                }
+            } catch (Exception e) {
+                handleReadThrowable(e);
+                return DataType.getMissingCell();
+            }
+        }
+
+        private void skipCell(final BlockableDCObjectInputVersion2 stream) {
+            try {
+                stream.endBlock();
+            } catch (IOException ioe) {
+                handleReadThrowable(ioe);
+            }
+        }
+
+        /** Reads and decompresses the required segments of the argument chunk. */
+        private void openChunk(final int chunk) throws IOException {
+            m_chunk = chunk;
+            m_rowInChunk = 0;
+            final int keyOffset = m_isReadRowKey ? 1 : 0;
+            m_rowKeyStream = m_isReadRowKey ? openSegment(chunk, 0) : null;
+            for (int i = 0; i < m_columnStreams.length; i++) {
+                m_columnStreams[i] = m_selection.isRead(i) ? openSegment(chunk, i + keyOffset) : null;
+            }
+        }
+
+        @SuppressWarnings("resource") // in-memory streams
+        private BlockableDCObjectInputVersion2 openSegment(final int chunk, final int segment) throws IOException {
+            final long offset = m_index.getSegmentOffset(chunk, segment);
+            final ByteBuffer bytes = ByteBuffer.allocate(m_index.m_segmentLengths[chunk][segment]);
+            while (bytes.hasRemaining()) {
+                if (m_channel.read(bytes, offset + bytes.position()) < 0) {
+                    throw new EOFException("Unexpected end of file reading chunk " + chunk + ", segment " + segment);
+                }
+            }
+            bytes.flip();
+            final CompressionFormat format = m_index.m_segmentFormats[chunk][segment];
+            // uncompressed segments are read from the buffer directly (allows for decoding primitives from it)
+            return new BlockableDCObjectInputVersion2(format == CompressionFormat.NONE
+                ? new ByteBufferInputStream(bytes) : format.getInputStream(new ByteArrayInputStream(bytes.array())),
+                m_cellReader);
+        }
+
+        /** Handle exceptions, make sure to issue errors only once. */
+        private void handleReadThrowable(final Throwable throwable) {
+            String warnMessage = "Errors while reading row " + (m_pointer + 1) + " from file \""
+                + getFile().getName() + "\": " + throwable.getMessage();
+            if (!m_hasThrownReadException) {
+                LOGGER.error(warnMessage.concat("; Suppressing further warnings."), throwable);
+            } else {
+                LOGGER.debug(warnMessage, throwable);
+            }
+            m_hasThrownReadException = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_channel == null) {
+                return false;
+            }
+            FileChannel channel = m_channel;
+            m_channel = null;
+            m_rowKeyStream = null;
+            Arrays.fill(m_columnStreams, null);
+            channel.close();
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void finalize() throws Throwable {
+            super.finalize();
+            close();
+        }
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.DCObjectOutputVersion2.BlockableDCObjectOutputVersion2;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.util.NonClosableOutputStream;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected in chunks of at most {@link #MAX_ROWS_PER_CHUNK}
+ * rows (or fewer if the serialized content exceeds {@link #MAX_BYTES_PER_CHUNK}). When a chunk is complete each of its
+ * segments -- the row keys (if written) and one segment per column -- is compressed separately and appended to the
+ * file. The file layout is as follows:
+ *
+ * <pre>
+ * chunk_0: segment_0 ... segment_n
+ * ...
+ * chunk_k: segment_0 ... segment_n
+ * footer:  int #chunks, int #segments,
+ *          for each chunk: int #rows, int length(segment_0) ... int length(segment_n),
+ *                          byte format(segment_0) ... byte format(segment_n)
+ * trailer: long offset(footer), int FOOTER_MAGIC
+ * </pre>
+ *
+ * The (uncompressed) content of a segment is written just like a single column in the {@link DefaultTableStoreWriter},
+ * that is, each cell is followed by a block end. The compression format of a segment is stored as the ordinal of the
+ * {@link CompressionFormat}; it is chosen per column from sampled compression ratios, which are re-evaluated every
+ * {@link #SAMPLE_INTERVAL} chunks: segments that hardly compress are stored uncompressed, and in
+ * {@link DefaultTableStoreSettings#isAdaptiveCompression() adaptive mode} the fastest of several compression formats
+ * with a competitive ratio is used.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    /** Magic number that terminates the file, used for a sanity check when reading the footer. */
+    static final int FOOTER_MAGIC = 0x4b434f4c; // "KCOL"
+
+    /** Number of bytes of the trailer (footer offset + magic number). */
+    static final int TRAILER_LENGTH = Long.BYTES + Integer.BYTES;
+
+    /** Maximum number of rows in a chunk. */
+    static final int MAX_ROWS_PER_CHUNK = 4096;
+
+    /** A chunk is completed early if its serialized (uncompressed) content exceeds this number of bytes. */
+    static final int MAX_BYTES_PER_CHUNK = 16 << 20;
+
+    /** The compression format of a segment is chosen anew after this many chunks. */
+    static final int SAMPLE_INTERVAL = 16;
+
+    /** A faster compression format is preferred over a slower one if its output is at most that much larger. */
+    static final double MAX_SIZE_RATIO_OF_FASTER_FORMAT = 1.1;
+
+    /** Compression formats tried in adaptive mode, fastest first. */
+    private static final CompressionFormat[] ADAPTIVE_FORMATS = {CompressionFormat.LZ4, CompressionFormat.GZIP};
+
+    /** The stream to write to, counts the bytes in order to compute the footer offset. */
+    private final CountingOutputStream m_out;
+
+    /** The configured compression format, saved with the meta information. */
+    private final CompressionFormat m_compFormat;
+
+    /** The formats to choose from (fastest first) in addition to storing segments uncompressed. */
+    private final CompressionFormat[] m_candidateFormats;
+
+    /** Segment for the row keys, null if row keys are not written. */
+    private final Segment m_rowKeySegment;
+
+    /** One segment per column. */
+    private final Segment[] m_columnSegments;
+
+    /** Temp buffer holding the compressed content of a segment before written to {@link #m_out}. */
+    private final ByteArrayOutputStream m_compressBuffer = new ByteArrayOutputStream();
+
+    /** Row count of all completed chunks. */
+    private final List<Integer> m_chunkRowCounts = new ArrayList<>();
+
+    /** (Compressed) segment lengths of all completed chunks. */
+    private final List<int[]> m_chunkSegmentLengths = new ArrayList<>();
+
+    /** Compression formats (ordinals) of the segments of all completed chunks. */
+    private final List<byte[]> m_chunkSegmentFormats = new ArrayList<>();
+
+    /** Number of rows in the current chunk. */
+    private int m_rowsInChunk;
+
+    /**
+     * Constructs a writer for writing KNIME tables column-wise to disk.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream the stream to write to
+     * @param writeRowKey a flag that determines whether to store the row keys
+     * @param settings the settings determining the compression of the column chunks
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final DefaultTableStoreSettings settings) {
+        super(spec, writeRowKey);
+        m_compFormat = settings.getCompressionFormat();
+        if (settings.isAdaptiveCompression()) {
+            m_candidateFormats = ADAPTIVE_FORMATS;
+        } else if (m_compFormat == CompressionFormat.NONE) {
+            m_candidateFormats = new CompressionFormat[0];
+        } else {
+            m_candidateFormats = new CompressionFormat[]{m_compFormat};
+        }
+        m_out = new CountingOutputStream(new BufferedOutputStream(outputStream));
+        m_rowKeySegment = writeRowKey ? new Segment() : null;
+        m_columnSegments = new Segment[spec.getNumColumns()];
+        for (int i = 0; i < m_columnSegments.length; i++) {
+            m_columnSegments[i] = new Segment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_rowKeySegment != null) {
+            m_rowKeySegment.m_stream.writeRowKey(row.getKey());
+            m_rowKeySegment.m_stream.endBlock();
+        }
+        for (int i = 0; i < m_columnSegments.length; i++) {
+            DataCell cell =
+                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            final BlockableDCObjectOutputVersion2 stream = m_columnSegments[i].m_stream;
+            writeDataCell(cell, stream);
+            stream.endBlock();
+        }
+        m_rowsInChunk++;
+        if (m_rowsInChunk >= MAX_ROWS_PER_CHUNK || getChunkSize() >= MAX_BYTES_PER_CHUNK) {
+            writeChunk();
+        }
+    }
+
+    /** @return the number of uncompressed bytes in the current chunk. */
+    private long getChunkSize() {
+        long size = m_rowKeySegment != null ? m_rowKeySegment.m_bytes.size() : 0L;
+        for (Segment s : m_columnSegments) {
+            size += s.m_bytes.size();
+        }
+        return size;
+    }
+
+    /** Compresses and writes all segments of the current chunk and resets them. */
+    private void writeChunk() throws IOException {
+        if (m_rowsInChunk == 0) {
+            return;
+        }
+        int segmentCount = m_columnSegments.length + (m_rowKeySegment != null ? 1 : 0);
+        int[] segmentLengths = new int[segmentCount];
+        byte[] segmentFormats = new byte[segmentCount];
+        int index = 0;
+        if (m_rowKeySegment != null) {
+            segmentLengths[index] = writeSegment(m_rowKeySegment);
+            segmentFormats[index++] = m_rowKeySegment.m_compFormat.getId();
+        }
+        for (Segment s : m_columnSegments) {
+            segmentLengths[index] = writeSegment(s);
+            segmentFormats[index++] = s.m_compFormat.getId();
+        }
+        m_chunkRowCounts.add(m_rowsInChunk);
+        m_chunkSegmentLengths.add(segmentLengths);
+        m_chunkSegmentFormats.add(segmentFormats);
+        m_rowsInChunk = 0;
+    }
+
+    /** Compresses the segment content, writes it to the file and resets the segment.
+     * @return the number of (compressed) bytes written to the file */
+    private int writeSegment(final Segment segment) throws IOException {
+        segment.m_stream.flush();
+        // whether m_compressBuffer already contains the content compressed in the chosen format
+        boolean isCompressed = false;
+        if (segment.m_chunksUntilSample == 0) {
+            segment.m_compFormat = sampleCompressionFormat(segment);
+            segment.m_chunksUntilSample = SAMPLE_INTERVAL;
+            isCompressed = m_candidateFormats.length > 0
+                && segment.m_compFormat == m_candidateFormats[m_candidateFormats.length - 1];
+        }
+        segment.m_chunksUntilSample--;
+        final int length;
+        if (segment.m_compFormat == CompressionFormat.NONE) {
+            segment.m_bytes.writeTo(m_out);
+            length = segment.m_bytes.size();
+        } else {
+            if (!isCompressed) {
+                compress(segment, segment.m_compFormat);
+            }
+            m_compressBuffer.writeTo(m_out);
+            length = m_compressBuffer.size();
+        }
+        segment.m_bytes.reset();
+        return length;
+    }
+
+    /** Compresses the content of the segment into {@link #m_compressBuffer}. */
+    private void compress(final Segment segment, final CompressionFormat compFormat) throws IOException {
+        m_compressBuffer.reset();
+        try (OutputStream compressOut = compFormat.getOutputStream(new NonClosableOutputStream(m_compressBuffer))) {
+            segment.m_bytes.writeTo(compressOut);
+        }
+    }
+
+    /**
+     * Compresses the current content of the segment with all candidate formats and chooses the fastest format whose
+     * output is at most {@link #MAX_SIZE_RATIO_OF_FASTER_FORMAT} times larger than the smallest output. Storing the
+     * segment uncompressed is considered the fastest format.
+     *
+     * @return the format to use for this and the next chunks of the segment
+     */
+    private CompressionFormat sampleCompressionFormat(final Segment segment) throws IOException {
+        final int[] sizes = new int[m_candidateFormats.length];
+        int minSize = segment.m_bytes.size();
+        for (int i = 0; i < m_candidateFormats.length; i++) {
+            compress(segment, m_candidateFormats[i]);
+            sizes[i] = m_compressBuffer.size();
+            minSize = Math.min(minSize, sizes[i]);
+        }
+        final double maxSize = minSize * MAX_SIZE_RATIO_OF_FASTER_FORMAT;
+        if (segment.m_bytes.size() <= maxSize) {
+            return CompressionFormat.NONE;
+        }
+        for (int i = 0; i < m_candidateFormats.length; i++) {
+            if (sizes[i] <= maxSize) {
+                return m_candidateFormats[i];
+            }
+        }
+        throw new IllegalStateException("No compression format with minimum size"); // can't happen
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        m_compFormat.saveSettings(settings);
+        super.writeMetaInfoAfterWrite(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        writeChunk();
+        final long footerOffset = m_out.getByteCount();
+        @SuppressWarnings("resource") // closed via m_out
+        DataOutputStream footerOut = new DataOutputStream(m_out);
+        footerOut.writeInt(m_chunkRowCounts.size());
+        footerOut.writeInt(m_columnSegments.length + (m_rowKeySegment != null ? 1 : 0));
+        for (int c = 0; c < m_chunkRowCounts.size(); c++) {
+            footerOut.writeInt(m_chunkRowCounts.get(c));
+            for (int length : m_chunkSegmentLengths.get(c)) {
+                footerOut.writeInt(length);
+            }
+            footerOut.write(m_chunkSegmentFormats.get(c));
+        }
+        footerOut.writeLong(footerOffset);
+        footerOut.writeInt(FOOTER_MAGIC);
+        footerOut.flush();
+        m_out.close();
+    }
+
+    /** The serialized content of one column (or the row keys) in the current chunk. */
+    private final class Segment {
+
+        private final ByteArrayOutputStream m_bytes = new ByteArrayOutputStream();
+
+        private final BlockableDCObjectOutputVersion2 m_stream =
+            new BlockableDCObjectOutputVersion2(m_bytes, ColumnarTableStoreWriter.this);
+
+        /** The compression format used for the current chunk, determined in the first chunk. */
+        private CompressionFormat m_compFormat = CompressionFormat.NONE;
+
+        /** Number of chunks written before the compression format is chosen anew. */
+        private int m_chunksUntilSample;
+    }
+
+}
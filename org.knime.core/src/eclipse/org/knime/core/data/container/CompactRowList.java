@@ -0,0 +1,476 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * List of rows that stores the cells column by column, used by the {@link Buffer} to hold tables in memory. Cells of
+ * columns whose type is {@link DoubleCell}, {@link IntCell}, {@link LongCell}, {@link BooleanCell} or
+ * {@link StringCell} are kept in primitive arrays (respectively a plain string array), all other cells are kept as
+ * objects. Rows are created lazily on {@link #get(int)}, that is, the list holds neither row objects nor cell objects
+ * for those columns, which reduces the memory footprint considerably (a {@link DoubleCell} in a row takes about 28
+ * bytes of heap, its value 8 bytes) but creates new row and cell objects on each access. It's therefore only used if
+ * enabled in the {@link BufferSettings}.
+ *
+ * <p>
+ * Cells that don't match the column's primitive representation (e.g. missing cells with an error message or cells of
+ * a subclass) are stored as objects, so the list returns cells equal to the ones added. The list can only be appended
+ * to; it's not thread-safe for concurrent modification but can be read concurrently once filled.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class CompactRowList extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private RowKey[] m_keys;
+
+    private final ColumnStore[] m_columns;
+
+    private int m_size;
+
+    private CompactRowList(final ColumnStore[] columns, final int initialCapacity) {
+        m_columns = columns;
+        final int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        m_keys = new RowKey[capacity];
+        for (ColumnStore column : m_columns) {
+            column.ensureCapacity(capacity);
+        }
+    }
+
+    /**
+     * Creates a list to hold rows of the argument spec in memory; that is a {@link CompactRowList} if the spec
+     * contains columns with a primitive representation or an {@link ArrayList} otherwise.
+     *
+     * @param spec the spec of the rows, may be null (unknown)
+     * @param initialCapacity the number of rows expected
+     * @return a new empty list
+     */
+    static List<BlobSupportDataRow> create(final DataTableSpec spec, final int initialCapacity) {
+        if (spec == null) {
+            return new ArrayList<BlobSupportDataRow>(initialCapacity);
+        }
+        final ColumnStore[] columns = new ColumnStore[spec.getNumColumns()];
+        boolean hasPrimitiveColumn = false;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnStore.create(spec.getColumnSpec(i).getType());
+            hasPrimitiveColumn |= !(columns[i] instanceof ObjectStore);
+        }
+        return hasPrimitiveColumn ? new CompactRowList(columns, initialCapacity)
+            : new ArrayList<BlobSupportDataRow>(initialCapacity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean add(final BlobSupportDataRow row) {
+        if (row.getNumCells() != m_columns.length) {
+            throw new IllegalArgumentException("Row \"" + row.getKey() + "\" has " + row.getNumCells()
+                + " cells, expected " + m_columns.length);
+        }
+        if (m_size == m_keys.length) {
+            final int capacity = m_size + Math.max(m_size >> 1, MIN_CAPACITY);
+            m_keys = Arrays.copyOf(m_keys, capacity);
+            for (ColumnStore column : m_columns) {
+                column.ensureCapacity(capacity);
+            }
+        }
+        m_keys[m_size] = row.getKey();
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i].set(m_size, row.getRawCell(i));
+        }
+        m_size++;
+        modCount++;
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        if (index < 0 || index >= m_size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + m_size);
+        }
+        final DataCell[] cells = new DataCell[m_columns.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = m_columns[i].get(index);
+        }
+        return new BlobSupportDataRow(m_keys[index], cells);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * Estimates the number of bytes this list occupies on the heap, see {@link BufferCache#estimateSizeInBytes(List)}.
+     *
+     * @return the estimated size in bytes
+     */
+    long estimateSizeInBytes() {
+        long bytes = BufferCache.OBJECT_HEADER_BYTES + (long)m_keys.length * BufferCache.REFERENCE_BYTES;
+        for (int i = 0; i < m_size; i++) {
+            bytes += BufferCache.estimateSizeInBytes(m_keys[i]);
+        }
+        for (ColumnStore column : m_columns) {
+            bytes += column.estimateSizeInBytes(m_size);
+        }
+        return bytes;
+    }
+
+    /** Storage of the cells of a single column. */
+    private abstract static class ColumnStore {
+
+        /** Indices of the rows containing the (singleton) missing cell. */
+        private final BitSet m_missing = new BitSet();
+
+        /** Cells that don't fit the primitive representation, lazily created. */
+        private DataCell[] m_otherCells;
+
+        static ColumnStore create(final DataType type) {
+            final Class<? extends DataCell> cellClass = type.getCellClass();
+            if (cellClass == DoubleCell.class) {
+                return new DoubleStore();
+            } else if (cellClass == IntCell.class) {
+                return new IntStore();
+            } else if (cellClass == LongCell.class) {
+                return new LongStore();
+            } else if (cellClass == BooleanCell.class) {
+                return new BooleanStore();
+            } else if (cellClass == StringCell.class) {
+                return new StringStore();
+            }
+            return new ObjectStore();
+        }
+
+        void ensureCapacity(final int capacity) {
+            if (m_otherCells != null && m_otherCells.length < capacity) {
+                m_otherCells = Arrays.copyOf(m_otherCells, capacity);
+            }
+            ensurePrimitiveCapacity(capacity);
+        }
+
+        void set(final int index, final DataCell cell) {
+            if (cell == DataType.getMissingCell()) {
+                m_missing.set(index);
+            } else if (!setPrimitive(index, cell)) {
+                if (m_otherCells == null) {
+                    m_otherCells = new DataCell[getCapacity()];
+                }
+                m_otherCells[index] = cell;
+            }
+        }
+
+        DataCell get(final int index) {
+            if (m_otherCells != null && m_otherCells[index] != null) {
+                return m_otherCells[index];
+            }
+            return m_missing.get(index) ? DataType.getMissingCell() : getPrimitive(index);
+        }
+
+        long estimateSizeInBytes(final int size) {
+            long bytes = BufferCache.OBJECT_HEADER_BYTES + m_missing.size() / 8 + estimatePrimitiveSizeInBytes(size);
+            if (m_otherCells != null) {
+                bytes += (long)m_otherCells.length * BufferCache.REFERENCE_BYTES;
+                for (int i = 0; i < size; i++) {
+                    if (m_otherCells[i] != null) {
+                        bytes += BufferCache.estimateSizeInBytes(m_otherCells[i]);
+                    }
+                }
+            }
+            return bytes;
+        }
+
+        /** @return the length of the arrays */
+        abstract int getCapacity();
+
+        /**
+         * @param size the number of rows stored
+         * @return the estimated size in bytes of the primitive representation
+         */
+        abstract long estimatePrimitiveSizeInBytes(int size);
+
+        abstract void ensurePrimitiveCapacity(int capacity);
+
+        /** @return whether the cell was stored, false if it doesn't fit the primitive representation */
+        abstract boolean setPrimitive(int index, DataCell cell);
+
+        abstract DataCell getPrimitive(int index);
+    }
+
+    private static final class DoubleStore extends ColumnStore {
+
+        private double[] m_values = new double[0];
+
+        @Override
+        int getCapacity() {
+            return m_values.length;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            return 8L * m_values.length;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length));
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            if (cell.getClass() != DoubleCell.class) {
+                return false;
+            }
+            m_values[index] = ((DoubleCell)cell).getDoubleValue();
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return new DoubleCell(m_values[index]);
+        }
+    }
+
+    private static final class IntStore extends ColumnStore {
+
+        private int[] m_values = new int[0];
+
+        @Override
+        int getCapacity() {
+            return m_values.length;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            return 4L * m_values.length;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length));
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            if (cell.getClass() != IntCell.class) {
+                return false;
+            }
+            m_values[index] = ((IntCell)cell).getIntValue();
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return new IntCell(m_values[index]);
+        }
+    }
+
+    private static final class LongStore extends ColumnStore {
+
+        private long[] m_values = new long[0];
+
+        @Override
+        int getCapacity() {
+            return m_values.length;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            return 8L * m_values.length;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length));
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            if (cell.getClass() != LongCell.class) {
+                return false;
+            }
+            m_values[index] = ((LongCell)cell).getLongValue();
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return new LongCell(m_values[index]);
+        }
+    }
+
+    private static final class BooleanStore extends ColumnStore {
+
+        private final BitSet m_values = new BitSet();
+
+        private int m_capacity;
+
+        @Override
+        int getCapacity() {
+            return m_capacity;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            return m_values.size() / 8;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_capacity = Math.max(capacity, m_capacity);
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            if (cell.getClass() != BooleanCell.class) {
+                return false;
+            }
+            m_values.set(index, ((BooleanCell)cell).getBooleanValue());
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return BooleanCell.get(m_values.get(index));
+        }
+    }
+
+    private static final class StringStore extends ColumnStore {
+
+        private String[] m_values = new String[0];
+
+        @Override
+        int getCapacity() {
+            return m_values.length;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            long bytes = (long)m_values.length * BufferCache.REFERENCE_BYTES;
+            for (int i = 0; i < size; i++) {
+                bytes += BufferCache.estimateSizeInBytes(m_values[i]);
+            }
+            return bytes;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length));
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            if (cell.getClass() != StringCell.class) {
+                return false;
+            }
+            m_values[index] = ((StringCell)cell).getStringValue();
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return new StringCell(m_values[index]);
+        }
+    }
+
+    /** Stores all cells as objects. */
+    private static final class ObjectStore extends ColumnStore {
+
+        private DataCell[] m_values = new DataCell[0];
+
+        @Override
+        int getCapacity() {
+            return m_values.length;
+        }
+
+        @Override
+        long estimatePrimitiveSizeInBytes(final int size) {
+            long bytes = (long)m_values.length * BufferCache.REFERENCE_BYTES;
+            for (int i = 0; i < size; i++) {
+                if (m_values[i] != null) {
+                    bytes += BufferCache.estimateSizeInBytes(m_values[i]);
+                }
+            }
+            return bytes;
+        }
+
+        @Override
+        void ensurePrimitiveCapacity(final int capacity) {
+            m_values = Arrays.copyOf(m_values, Math.max(capacity, m_values.length));
+        }
+
+        @Override
+        boolean setPrimitive(final int index, final DataCell cell) {
+            m_values[index] = cell;
+            return true;
+        }
+
+        @Override
+        DataCell getPrimitive(final int index) {
+            return m_values[index];
+        }
+    }
+
+}
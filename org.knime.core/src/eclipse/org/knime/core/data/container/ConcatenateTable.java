@@ -48,9 +48,12 @@
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.append.AppendedRowsTable;
 import org.knime.core.data.append.AppendedRowsTable.DuplicatePolicy;
@@ -180,6 +183,49 @@ public CloseableRowIterator iterator() {
         }
     }
 
+    /**
+     * {@inheritDoc} If all tables share the same spec the filters are passed on to the concatenated tables (row
+     * ranges are mapped to the rows of the individual tables; tables outside the range are not read at all).
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        if (m_tablesWrapper != null) {
+            return KnowsRowCountTable.super.iteratorBuilder();
+        }
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(this::iterator, m_spec) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                final Optional<int[]> columns = getFilteredColumnIndices();
+                if (!isRowFilterSet() && !columns.isPresent()) {
+                    return iterator();
+                }
+                final long from = getFromRowIndex();
+                final long to = getToRowIndex();
+                final long[] offsets = new long[m_tables.length];
+                for (int i = 1; i < m_tables.length; i++) {
+                    offsets[i] = offsets[i - 1] + m_tables[i - 1].size();
+                }
+                return new MyIterator(i -> {
+                    final long size = m_tables[i].size();
+                    if (size == 0L || to < offsets[i] || from >= offsets[i] + size) {
+                        return null;
+                    }
+                    RowIteratorBuilder<? extends CloseableRowIterator> builder = m_tables[i].iteratorBuilder()
+                        .filterRowsFromIndex(Math.max(0L, from - offsets[i]))
+                        .filterRowsToIndex(Math.min(size - 1, to - offsets[i]));
+                    columns.ifPresent(builder::filterColumns);
+                    getCellPredicates().forEach(builder::filterCells);
+                    return builder.build();
+                });
+            }
+        };
+    }
+
     /** {@inheritDoc} */
     @Override
     public void putIntoTableRepository(final WorkflowDataRepository dataRepository) {
@@ -320,14 +366,21 @@ public static DataTableSpec createSpec(final DataTableSpec... specs) {
     }
 
     private class MyIterator extends CloseableRowIterator {
+        private final IntFunction<CloseableRowIterator> m_iteratorFactory;
         private int m_tableIndex;
         private CloseableRowIterator m_curIterator;
         private DataRow m_next;
 
         /** Creates new iterator. */
         public MyIterator() {
-            m_tableIndex = 0;
-            m_curIterator = m_tables[m_tableIndex].iterator();
+            this(i -> m_tables[i].iterator());
+        }
+
+        /** Creates new iterator.
+         * @param iteratorFactory creates the iterator for the table with the given index, null to skip the table */
+        MyIterator(final IntFunction<CloseableRowIterator> iteratorFactory) {
+            m_iteratorFactory = iteratorFactory;
+            m_tableIndex = -1;
             m_next = internalNext();
         }
 
@@ -350,21 +403,22 @@ public DataRow next() {
         }
 
         private DataRow internalNext() {
-            if (m_curIterator.hasNext()) {
-                return m_curIterator.next();
-            }
-            if (m_tableIndex < m_tables.length - 1) {
+            while (m_curIterator == null || !m_curIterator.hasNext()) {
+                if (m_tableIndex >= m_tables.length - 1) {
+                    return null;
+                }
                 m_tableIndex++;
-                m_curIterator = m_tables[m_tableIndex].iterator();
-                return internalNext();
+                m_curIterator = m_iteratorFactory.apply(m_tableIndex);
             }
-            return null;
+            return m_curIterator.next();
         }
 
         /** {@inheritDoc} */
         @Override
         public void close() {
-            m_curIterator.close();
+            if (m_curIterator != null) {
+                m_curIterator.close();
+            }
             m_tableIndex = m_tables.length;
         }
 
@@ -51,6 +51,7 @@
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellDataInput;
@@ -151,11 +152,35 @@ BlobAddress readBlobAddress() throws IOException {
     }
 
     /** Reads a row key from the stream.
+     * @param isCompactFormat whether the stream was written with container version 12 or later, i.e. each key is
+     *        preceded by a marker byte and compact keys are written as variable length index
      * @return A new row key instance.
      * @throws IOException If IO problems occur.
      */
-    RowKey readRowKey() throws IOException {
-        return new RowKey(m_dataIn.readUTF());
+    RowKey readRowKey(final boolean isCompactFormat) throws IOException {
+        if (!isCompactFormat) {
+            return new RowKey(m_dataIn.readUTF());
+        }
+        final byte marker = m_dataIn.readByte();
+        switch (marker) {
+            case BYTE_ROWKEY_STRING:
+                return new RowKey(m_dataIn.readUTF());
+            case BYTE_ROWKEY_COMPACT:
+                long value = 0L;
+                for (int shift = 0;; shift += 7) {
+                    if (shift > 63) {
+                        throw new IOException("Malformed compact row key");
+                    }
+                    final byte b = m_dataIn.readByte();
+                    value |= (b & 0x7FL) << shift;
+                    if ((b & 0x80) == 0) {
+                        break;
+                    }
+                }
+                return RowKey.createRowKey((value >>> 1) ^ -(value & 1L));
+            default:
+                throw new IOException("Invalid row key marker: " + marker);
+        }
     }
 
     /** Reads a single byte from the stream.
@@ -216,6 +241,14 @@ private BlockableDCObjectInputVersion2(final BlockableInputStream in, final Data
         void endBlock() throws IOException {
             m_in.endBlock();
         }
+
+        /** Fast path for primitive values, see {@link BlockableInputStream#getDirectBuffer(int)}.
+         * @param byteCount The number of bytes to read.
+         * @return The buffer to read the bytes from or null if not possible.
+         * @throws IOException If IO problems occur. */
+        ByteBuffer getDirectBuffer(final int byteCount) throws IOException {
+            return m_in.getDirectBuffer(byteCount);
+        }
     }
 
     /** Data input stream with functionality to read encapsulated DataCell
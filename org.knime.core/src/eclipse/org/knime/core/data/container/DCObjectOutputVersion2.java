@@ -129,12 +129,25 @@ public void writeBlobAddress(final BlobAddress address) throws IOException {
         address.serialize(m_dataOut);
     }
 
-    /** Writes a row key by writing the underlying string to the stream.
+    /** Writes a row key. {@link RowKey#isCompact() Compact} keys are written as zig-zag encoded variable length
+     * index, all others by writing the underlying string to the stream. Each is preceded by a marker byte.
      * @param key Key to write
      * @throws IOException In case of stream corruption.
      */
     void writeRowKey(final RowKey key) throws IOException {
-        m_dataOut.writeUTF(key.getString());
+        if (key.isCompact()) {
+            m_dataOut.writeByte(BYTE_ROWKEY_COMPACT);
+            final long index = key.getCompactIndex();
+            long value = (index << 1) ^ (index >> 63);
+            while ((value & ~0x7FL) != 0L) {
+                m_dataOut.writeByte((int)((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            m_dataOut.writeByte((int)value);
+        } else {
+            m_dataOut.writeByte(BYTE_ROWKEY_STRING);
+            m_dataOut.writeUTF(key.getString());
+        }
     }
 
     /** Writes the argument byte.
@@ -198,7 +211,7 @@ static final class BlockableDCObjectOutputVersion2 extends DCObjectOutputVersion
         private final BlockableOutputStream m_out;
 
         private BlockableDCObjectOutputVersion2(final BlockableOutputStream out,
-            final DefaultTableStoreWriter tableStoreWriter) {
+            final AbstractTableStoreWriter tableStoreWriter) {
             super(out, tableStoreWriter);
             m_out = out;
         }
@@ -208,7 +221,7 @@ private BlockableDCObjectOutputVersion2(final BlockableOutputStream out,
          * @param tableStoreWriter the corresponding writer (callback for embedded cell writing)
          */
         @SuppressWarnings("resource")
-        BlockableDCObjectOutputVersion2(final OutputStream out, final DefaultTableStoreWriter tableStoreWriter) {
+        BlockableDCObjectOutputVersion2(final OutputStream out, final AbstractTableStoreWriter tableStoreWriter) {
             this(new BlockableOutputStream(out), tableStoreWriter);
         }
 
@@ -237,9 +237,33 @@ public Thread newThread(final Runnable r) {
      */
     private final boolean m_isSynchronousWrite;
 
-    /** The asynchronous queue holding the most recently added rows. */
+    /** The asynchronous queue holding the most recently added batches of rows. */
     private final BlockingQueue<Object> m_rowBuffer;
 
+    /**
+     * Batches of rows that have been written by the asynchronous write thread and can be reused, null if rows are
+     * handed off individually (batch size 1).
+     */
+    private final BlockingQueue<RowBatch> m_freeBatches;
+
+    /** The number of rows handed off to the asynchronous write thread at once. */
+    private final int m_asyncBatchSize;
+
+    /** The batch currently being filled with added rows (asynchronous write only), null if none. */
+    private RowBatch m_currentBatch;
+
+    /** The total time (in nanoseconds) the producer has been waiting for the asynchronous queue to accept objects. */
+    private long m_producerStallNanos;
+
+    /** The number of objects handed off to the asynchronous queue. */
+    private long m_handOffCount;
+
+    /** The sum of the queue depths seen right after each hand-off, for computing the average queue depth. */
+    private long m_queueDepthSum;
+
+    /** The maximum queue depth seen right after a hand-off. */
+    private int m_maxQueueDepth;
+
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
@@ -348,12 +372,19 @@ public DataContainer(final DataTableSpec spec, final DataContainerSettings setti
             isSynchronousWrite = true;
         }
         m_isSynchronousWrite = isSynchronousWrite;
+        m_asyncBatchSize = Math.max(1, settings.getAsyncBatchSize());
         if (m_isSynchronousWrite) {
             m_rowBuffer = null;
+            m_freeBatches = null;
             m_writeThrowable = null;
             m_asyncAddFuture = null;
         } else {
-            m_rowBuffer = new ArrayBlockingQueue<>(settings.getAsyncCacheSize());
+            // the cache size is given in rows, the queue holds batches
+            final int queueCapacity =
+                Math.max(1, (settings.getAsyncCacheSize() + m_asyncBatchSize - 1) / m_asyncBatchSize);
+            m_rowBuffer = new ArrayBlockingQueue<>(queueCapacity);
+            // batches in the queue, the one being written, and the one being filled; single rows aren't batched
+            m_freeBatches = m_asyncBatchSize > 1 ? new ArrayBlockingQueue<>(queueCapacity + 2) : null;
             m_writeThrowable = new AtomicReference<Throwable>();
             m_asyncAddFuture = ASYNC_EXECUTORS.submit(new ASyncWriteCallable(this, NodeContext.getContext()));
         }
@@ -520,6 +551,7 @@ public void close() {
         }
         if (!m_isSynchronousWrite) {
             try {
+                handOffCurrentBatch();
                 offerToAsynchronousQueue(CONTAINER_CLOSE);
                 m_asyncAddFuture.get();
                 checkAsyncWriteThrowable();
@@ -528,10 +560,15 @@ public void close() {
             } catch (ExecutionException e) {
                 throw new DataContainerException("Adding rows to table threw exception", e);
             }
+            LOGGER.debugWithFormat(
+                "Asynchronous write of %d rows: %d hand-offs (batch size %d), producer stalled for %d ms, "
+                    + "queue depth %.1f on average and %d at most",
+                m_size, m_handOffCount, m_asyncBatchSize, TimeUnit.NANOSECONDS.toMillis(m_producerStallNanos),
+                getAverageQueueDepth(), m_maxQueueDepth);
         }
         // create table spec _after_ all_ rows have been added (i.e. wait for
         // asynchronous write thread to finish)
-        DataTableSpec finalSpec = m_domainCreator.createSpec();
+        DataTableSpec finalSpec = createFinalSpec(m_domainCreator);
         m_buffer.close(finalSpec);
         try {
             m_duplicateChecker.checkForDuplicates();
@@ -552,18 +589,53 @@ public void close() {
     }
 
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the data row queue.
+     * Creates the spec of the table upon {@link #close()}, once all rows have been processed by the domain creator.
+     * This implementation returns {@link IDataTableDomainCreator#createSpec()}. Overridden by containers that merge
+     * the domains of several containers.
+     *
+     * @param domainCreator the domain creator that has processed all rows added to this container
+     * @return the final spec of the table
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    protected DataTableSpec createFinalSpec(final IDataTableDomainCreator domainCreator) {
+        return domainCreator.createSpec();
+    }
+
+    /**
+     * Hands off the batch of rows currently being filled (if any) to the data row queue.
+     */
+    private void handOffCurrentBatch() {
+        if (m_currentBatch != null && !m_currentBatch.isEmpty()) {
+            final RowBatch batch = m_currentBatch;
+            m_currentBatch = null;
+            offerToAsynchronousQueue(batch);
+        }
+    }
+
+    /**
+     * Adds the argument object (which will be a {@link RowBatch} or, if rows aren't batched, a {@link DataRow} unless
+     * when called from close() or to trigger a flush) to the data row queue.
      *
      * @param object the object to add.
      */
     private void offerToAsynchronousQueue(final Object object) {
+        long stallStart = -1L;
         while (true) {
             try {
                 // check if the write thread has reported an exception
                 checkAsyncWriteThrowable();
-                // put the data row / container close object into the queue and wait 30 seconds for it to be fetched
+                // put the batch / container close object into the queue if there is space left
+                if (m_rowBuffer.offer(object)) {
+                    break;
+                }
+                if (stallStart < 0L) {
+                    // only measured if the queue is full, so that the common case doesn't need the timer
+                    stallStart = System.nanoTime();
+                }
+                // otherwise wait 30 seconds for it to be fetched
                 if (m_rowBuffer.offer(object, 30, TimeUnit.SECONDS)) {
-                    return;
+                    break;
                     // if it wasn't fetched, continue / try again unless the container has been closed already
                 } else {
                     if (m_asyncAddFuture.isDone()) {
@@ -578,6 +650,36 @@ private void offerToAsynchronousQueue(final Object object) {
                 throw new DataContainerException("Adding rows to buffer was interrupted", e);
             }
         }
+        if (stallStart >= 0L) {
+            m_producerStallNanos += System.nanoTime() - stallStart;
+        }
+        final int queueDepth = m_rowBuffer.size();
+        m_maxQueueDepth = Math.max(m_maxQueueDepth, queueDepth);
+        m_queueDepthSum += queueDepth;
+        m_handOffCount++;
+    }
+
+    /**
+     * @return the total time in nanoseconds the producer has been blocked because the asynchronous queue was full, 0
+     *         for synchronous containers
+     */
+    long getProducerStallNanos() {
+        return m_producerStallNanos;
+    }
+
+    /** @return the number of objects (rows, batches of rows or signals) handed off to the asynchronous queue */
+    long getHandOffCount() {
+        return m_handOffCount;
+    }
+
+    /** @return the maximum number of objects in the asynchronous queue right after a hand-off */
+    int getMaxQueueDepth() {
+        return m_maxQueueDepth;
+    }
+
+    /** @return the average number of objects in the asynchronous queue right after a hand-off */
+    double getAverageQueueDepth() {
+        return m_handOffCount == 0 ? 0.0 : m_queueDepthSum / (double)m_handOffCount;
     }
 
     /**
@@ -678,9 +780,21 @@ public void addRowToTable(final DataRow row) {
             addRowToTableWrite(row);
         } else {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                handOffCurrentBatch();
                 offerToAsynchronousQueue(FLUSH_CACHE);
             }
-            offerToAsynchronousQueue(row);
+            if (m_freeBatches == null) {
+                offerToAsynchronousQueue(row);
+            } else {
+                if (m_currentBatch == null) {
+                    final RowBatch recycled = m_freeBatches.poll();
+                    m_currentBatch = recycled != null ? recycled : new RowBatch(m_asyncBatchSize);
+                }
+                m_currentBatch.add(row);
+                if (m_currentBatch.isFull()) {
+                    handOffCurrentBatch();
+                }
+            }
         }
         m_size += 1;
     } // addRowToTable(DataRow)
@@ -728,15 +842,19 @@ protected int createInternalBufferID() {
      * This method may be overridden to disable duplicate checks. The overriding class must ensure that there are no
      * duplicates being added whatsoever.
      *
-     * @param key Key being added. This implementation extracts the string representation from it and adds it to an
-     *            internal {@link DuplicateChecker} instance.
+     * @param key Key being added. This implementation adds the string representation (or the row index of a
+     *            {@link RowKey#isCompact() compact} key) to an internal {@link DuplicateChecker} instance.
      * @throws DataContainerException This implementation may throw a <code>DataContainerException</code> when
      *             {@link DuplicateChecker#addKey(String)} throws an {@link IOException}.
      * @throws DuplicateKeyException If a duplicate is encountered.
      */
     protected void addRowKeyForDuplicateCheck(final RowKey key) {
         try {
-            m_duplicateChecker.addKey(key.toString());
+            if (key.isCompact()) {
+                m_duplicateChecker.addDefaultRowKey(key.getCompactIndex());
+            } else {
+                m_duplicateChecker.addKey(key.getString());
+            }
         } catch (IOException ioe) {
             throw new DataContainerException(
                 ioe.getClass().getSimpleName() + " while checking for duplicate row IDs: " + ioe.getMessage(), ioe);
@@ -1073,6 +1191,17 @@ public static final File createTempFile(final String suffix) throws IOException
         return f;
     }
 
+    /**
+     * Returns a snapshot of the statistics of the cache that keeps tables in memory, e.g., the number of tables served
+     * from memory and read from disk, respectively.
+     *
+     * @return the cache statistics
+     * @since 3.8
+     */
+    public static BufferCacheStatistics getCacheStatistics() {
+        return Buffer.getCacheStatistics();
+    }
+
     /**
      * Returns <code>true</code> if the given argument table has been created by the DataContainer, <code>false</code>
      * otherwise.
@@ -1122,6 +1251,7 @@ private Void callWithContext() throws Exception {
                 return null;
             }
             final BlockingQueue<Object> queue = d.m_rowBuffer;
+            final BlockingQueue<RowBatch> freeBatches = d.m_freeBatches;
             final AtomicReference<Throwable> throwable = d.m_writeThrowable;
             try {
                 while (true) {
@@ -1141,10 +1271,14 @@ private Void callWithContext() throws Exception {
                     } else if (obj == FLUSH_CACHE) {
                         // memory consumption critical; buffer should be flushed
                         d.m_buffer.flushBuffer();
+                    } else if (obj instanceof RowBatch) {
+                        // fetch and handle / write batch of data rows, then hand it back for reuse
+                        final RowBatch batch = (RowBatch)obj;
+                        batch.writeTo(d);
+                        freeBatches.offer(batch);
                     } else {
-                        // fetch and handle / write data row
-                        final DataRow row = (DataRow)obj;
-                        d.addRowToTableWrite(row);
+                        // single data row (batch size 1)
+                        d.addRowToTableWrite((DataRow)obj);
                     }
                 }
                 // m_containerRef.get() returned null -> close() was never called on the container
@@ -1158,6 +1292,42 @@ private Void callWithContext() throws Exception {
         }
     }
 
+    /**
+     * A batch of rows that is handed off to the asynchronous write thread at once. Batches are reused once they have
+     * been written in order to save allocations.
+     */
+    private static final class RowBatch {
+
+        private final DataRow[] m_rows;
+
+        private int m_size;
+
+        RowBatch(final int capacity) {
+            m_rows = new DataRow[capacity];
+        }
+
+        void add(final DataRow row) {
+            m_rows[m_size++] = row;
+        }
+
+        boolean isFull() {
+            return m_size == m_rows.length;
+        }
+
+        boolean isEmpty() {
+            return m_size == 0;
+        }
+
+        /** Writes all rows of this batch to the buffer of the argument container and empties the batch. */
+        void writeTo(final DataContainer container) {
+            for (int i = 0; i < m_size; i++) {
+                container.addRowToTableWrite(m_rows[i]);
+                m_rows[i] = null;
+            }
+            m_size = 0;
+        }
+    }
+
     /**
      * Helper class to create a Buffer instance given a binary file and the data table spec.
      */
@@ -63,6 +63,7 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.FingerprintDuplicateChecker;
 import org.knime.core.util.IDuplicateChecker;
 
 /**
@@ -82,12 +83,21 @@ public final class DataContainerSettings {
 
     /**
      * For asynchronous table writing (default) the cache size. It's the number of rows that are kept in memory until
-     * handed off to the write routines.
+     * handed off to the write routines. Rows are queued in batches (see {@link #DEF_ASYNC_BATCH_SIZE}), so the queue
+     * holds the cache size divided by the batch size (rounded up) batches.
      *
      * @see KNIMEConstants#PROPERTY_ASYNC_WRITE_CACHE_SIZE
      */
     private static final int DEF_ASYNC_CACHE_SIZE = 10;
 
+    /**
+     * For asynchronous table writing (default) the number of rows that are handed off to the write routines at once.
+     * Defaults to 1, i.e., each row is handed off individually as in previous versions.
+     *
+     * @see KNIMEConstants#PROPERTY_ASYNC_WRITE_BATCH_SIZE
+     */
+    private static final int DEF_ASYNC_BATCH_SIZE = 1;
+
     /**
      * The default number of possible values being kept at most. If the number of possible values in a column exceeds
      * this values, no values will be memorized. Can be changed via system property
@@ -119,6 +129,9 @@ private static class Builder {
         /** The asynchronous cache size. */
         private int m_asyncCacheSize;
 
+        /** The asynchronous batch size. */
+        private int m_asyncBatchSize;
+
         /** The initialize domain flag used by the {@link IDataTableDomainCreator}. */
         private boolean m_initDomain;
 
@@ -144,6 +157,7 @@ private static class Builder {
             m_syncIO = settings.m_syncIO;
             m_maxAsyncWriteThreads = settings.m_maxAsyncWriteThreads;
             m_asyncCacheSize = settings.m_asyncCacheSize;
+            m_asyncBatchSize = settings.m_asyncBatchSize;
             m_initDomain = settings.m_initDomain;
             m_maxDomainValues = settings.m_maxDomainValues;
             m_duplicateCheckerCreator = settings.m_duplicateCheckerCreator;
@@ -171,6 +185,11 @@ Builder setAsyncCacheSize(final int asyncCacheSize) {
             return this;
         }
 
+        Builder setAsyncBatchSize(final int asyncBatchSize) {
+            m_asyncBatchSize = asyncBatchSize;
+            return this;
+        }
+
         Builder setInitDomain(final boolean initDomain) {
             m_initDomain = initDomain;
             return this;
@@ -219,6 +238,9 @@ DataContainerSettings build() {
     /** The asynchronous cache size. */
     private final int m_asyncCacheSize;
 
+    /** The asynchronous batch size. */
+    private final int m_asyncBatchSize;
+
     /** The initialize domain flag used by the {@link IDataTableDomainCreator}. */
     private final boolean m_initDomain;
 
@@ -248,9 +270,10 @@ private DataContainerSettings() {
         m_syncIO = initSynchronousIO();
         m_maxAsyncWriteThreads = initMaxAsyncWriteThreads();
         m_asyncCacheSize = initAsyncCacheSize();
+        m_asyncBatchSize = initAsyncBatchSize();
         m_initDomain = initDomain();
         m_maxDomainValues = initMaxDomainValues();
-        m_duplicateCheckerCreator = () -> new DuplicateChecker();
+        m_duplicateCheckerCreator = initDuplicateCheckerCreator();
         m_tableDomainCreatorFunction = (spec, initDomain) -> new DataTableDomainCreator(spec, initDomain);
         m_bufferSettings = DEFAULT_BUFFER_INSTANCE;
     }
@@ -265,6 +288,7 @@ private DataContainerSettings(final Builder builder) {
         m_syncIO = builder.m_syncIO;
         m_maxAsyncWriteThreads = builder.m_maxAsyncWriteThreads;
         m_asyncCacheSize = builder.m_asyncCacheSize;
+        m_asyncBatchSize = builder.m_asyncBatchSize;
         m_initDomain = builder.m_initDomain;
         m_maxDomainValues = builder.m_maxDomainValues;
         m_duplicateCheckerCreator = builder.m_duplicateCheckerCreator;
@@ -323,6 +347,15 @@ int getAsyncCacheSize() {
         return m_asyncCacheSize;
     }
 
+    /**
+     * Returns the asynchronous batch size, i.e., the number of rows handed off to the write routines at once.
+     *
+     * @return the asynchronous batch size
+     */
+    int getAsyncBatchSize() {
+        return m_asyncBatchSize;
+    }
+
     /**
      * Returns the initialize domain flag.
      *
@@ -423,6 +456,19 @@ public DataContainerSettings withAsyncCacheSize(final int asyncCacheSize) {
         return b.build();
     }
 
+    /**
+     * Creates a new <code>DataContainerSetting</code> object by replicating the current
+     * <code>DataContainerSetting</code> instance and solely changes the asynchronous batch size.
+     *
+     * @param asyncBatchSize the new asynchronous batch size
+     * @return a new instance of {@code DataContainerSettings}
+     */
+    public DataContainerSettings withAsyncBatchSize(final int asyncBatchSize) {
+        final Builder b = new Builder(this);
+        b.setAsyncBatchSize(asyncBatchSize);
+        return b.build();
+    }
+
     /**
      * Creates a new <code>DataContainerSetting</code> object by replicating the current
      * <code>DataContainerSetting</code> instance and solely changes the initialize domain flag used by the
@@ -569,6 +615,45 @@ private static int initAsyncCacheSize() {
         return asyncCacheSize;
     }
 
+    /**
+     * Initializes the asynchronous batch size w.r.t. the defined properties.
+     *
+     * @return the asynchronous batch size
+     */
+    private static int initAsyncBatchSize() {
+        int asyncBatchSize = DEF_ASYNC_BATCH_SIZE;
+        String envAsyncBatch = KNIMEConstants.PROPERTY_ASYNC_WRITE_BATCH_SIZE;
+        String valAsyncBatch = System.getProperty(envAsyncBatch);
+        if (valAsyncBatch != null) {
+            String s = valAsyncBatch.trim();
+            try {
+                int newSize = Integer.parseInt(s);
+                if (newSize < 1) {
+                    throw new NumberFormatException("async write batch size < 1: " + newSize);
+                }
+                asyncBatchSize = newSize;
+                LOGGER.debug("Setting asynchronous write batch size to " + asyncBatchSize + " row(s)");
+            } catch (NumberFormatException e) {
+                LOGGER.warn(
+                    "Unable to parse property " + envAsyncBatch + ", using default (" + DEF_ASYNC_BATCH_SIZE + ")", e);
+            }
+        }
+        return asyncBatchSize;
+    }
+
+    /**
+     * Initializes the function creating duplicate checkers w.r.t. the defined properties.
+     *
+     * @return the function creating duplicate checkers
+     */
+    private static Supplier<IDuplicateChecker> initDuplicateCheckerCreator() {
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_ROWID_DUPLICATE_CHECK_FINGERPRINTS)) {
+            LOGGER.debug("Checking row IDs for duplicates using fingerprints");
+            return () -> new FingerprintDuplicateChecker();
+        }
+        return () -> new DuplicateChecker();
+    }
+
     /**
      * Initializes the initialize domain flag.
      *
@@ -55,6 +55,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -121,25 +123,28 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     public static enum CompressionFormat {
 
             /** No compression. */
-            NONE(".bin", //
+            NONE((byte)0, ".bin", //
                 i -> new BufferedInputStream(i), //
                 o -> o),
 
             /** GZip compression. */
-            GZIP(".bin.gz", //
+            GZIP((byte)1, ".bin.gz", //
                 i -> new BufferedInputStream(new GZIPInputStream(i)), //
                 o -> new BufferedOutputStream(new GZIPOutputStream(o))),
 
             /** LZ4 compression. */
-            LZ4(".bin.lz4", //
+            LZ4((byte)2, ".bin.lz4", //
                 i -> new BufferedInputStream(new LZ4BlockInputStream(i)), //
                 o -> new BufferedOutputStream(new LZ4BlockOutputStream(o))),
 
             /** Snappy compression. */
-            SNAPPY(".bin.snappy", //
+            SNAPPY((byte)3, ".bin.snappy", //
                 i -> new BufferedInputStream(new SnappyInputStream(i)), //
                 o -> new BufferedOutputStream(new SnappyOutputStream(o)));
 
+        /** The id persisted in binary formats, must not change once released. */
+        private final byte m_id;
+
         /** The file name extension. */
         private final String m_fileNameExtension;
 
@@ -152,16 +157,38 @@ public static enum CompressionFormat {
         /**
          * Constructor.
          *
+         * @param id the id persisted in binary formats
          * @param fileNameExtension the file name extension
          */
-        private CompressionFormat(final String fileNameExtension,
+        private CompressionFormat(final byte id, final String fileNameExtension,
             final CheckedIOFunction<InputStream, InputStream> inFunc,
             final CheckedIOFunction<OutputStream, OutputStream> outFunc) {
+            m_id = id;
             m_fileNameExtension = fileNameExtension;
             m_inFunc = inFunc;
             m_outFunc = outFunc;
         }
 
+        /**
+         * Returns the id that identifies this format in binary files (such as the chunk index of the
+         * {@link ColumnarTableStoreFormat}). Unlike the ordinal it doesn't change if constants are added or reordered.
+         *
+         * @return the persisted id
+         */
+        byte getId() {
+            return m_id;
+        }
+
+        /**
+         * Returns the format with the argument persisted id.
+         *
+         * @param id the id as returned by {@link #getId()}
+         * @return the format with that id or an empty optional if the id is unknown
+         */
+        static Optional<CompressionFormat> fromId(final int id) {
+            return Arrays.stream(values()).filter(f -> f.m_id == id).findFirst();
+        }
+
         /**
          * Returns the file name extension.
          *
@@ -204,11 +231,21 @@ OutputStream getOutputStream(final OutputStream out) throws IOException {
          */
         @SuppressWarnings("resource")
         InputStream getInputStream(final File file) throws IOException {
-            final FileInputStream fis = new FileInputStream(file);
+            return getInputStream(new FileInputStream(file));
+        }
+
+        /**
+         * Returns the uncompressed input stream reading from the argument stream.
+         *
+         * @param in the (compressed) stream to read from, closed if the decompressing stream can't be created
+         * @return the uncompressed input stream
+         * @throws IOException - If the decompressing stream can't be created (e.g. invalid header)
+         */
+        InputStream getInputStream(final InputStream in) throws IOException {
             try {
-                return m_inFunc.apply(fis);
+                return m_inFunc.apply(in);
             } catch (final IOException e) {
-                fis.close();
+                in.close();
                 throw e;
             }
         }
@@ -328,6 +365,9 @@ public static final class DefaultTableStoreSettings {
         /** The compression format. */
         private final CompressionFormat m_compType;
 
+        /** Whether formats compressing chunks separately may choose the compression per chunk. */
+        private final boolean m_isAdaptiveCompression;
+
         /** The default instance. */
         private static final DefaultTableStoreSettings DEFAULT_INSTANCE = new DefaultTableStoreSettings();
 
@@ -347,7 +387,7 @@ private DefaultTableStoreSettings() {
                 }
                 m_compType = compFormat;
             }
-
+            m_isAdaptiveCompression = Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_ADAPTIVE);
         }
 
         /**
@@ -363,9 +403,11 @@ public static DefaultTableStoreSettings getDefault() {
          * Constructor.
          *
          * @param compFormat the compression format
+         * @param isAdaptiveCompression whether the compression may be chosen per chunk
          */
-        private DefaultTableStoreSettings(final CompressionFormat compFormat) {
+        private DefaultTableStoreSettings(final CompressionFormat compFormat, final boolean isAdaptiveCompression) {
             m_compType = compFormat;
+            m_isAdaptiveCompression = isAdaptiveCompression;
         }
 
         /**
@@ -383,9 +425,29 @@ CompressionFormat getCompressionFormat() {
          * @param compFormat the compression format to be used
          * @return a copy using the new compression format
          */
-        @SuppressWarnings("static-method")
         public DefaultTableStoreSettings withCompression(final CompressionFormat compFormat) {
-            return new DefaultTableStoreSettings(compFormat);
+            return new DefaultTableStoreSettings(compFormat, m_isAdaptiveCompression);
+        }
+
+        /**
+         * Returns whether formats that compress chunks separately (see {@link ColumnarTableStoreFormat}) choose the
+         * compression format per chunk, see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_ADAPTIVE}.
+         *
+         * @return that property
+         */
+        boolean isAdaptiveCompression() {
+            return m_isAdaptiveCompression;
+        }
+
+        /**
+         * Returns a copy using the argument adaptive compression flag.
+         *
+         * @param isAdaptiveCompression whether the compression may be chosen per chunk
+         * @return a copy using the new flag
+         * @since 3.8
+         */
+        public DefaultTableStoreSettings withAdaptiveCompression(final boolean isAdaptiveCompression) {
+            return new DefaultTableStoreSettings(m_compType, isAdaptiveCompression);
         }
     }
 
@@ -52,10 +52,13 @@
 import java.io.InputStream;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeSettingsRO;
 
 /**
@@ -64,6 +67,11 @@
  */
 final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
+    /** Whether uncompressed files are read via memory mapping, see
+     * {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_MAPPING}. */
+    private static final boolean IS_MEMORY_MAPPING =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_MEMORY_MAPPING);
+
     private CompressionFormat m_compressionFormat;
 
     private final File m_binFile;
@@ -112,11 +120,40 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
 
     @Override
     public TableStoreCloseableRowIterator iterator() {
+        return createIterator(RowSelection.all(m_spec.getNumColumns()));
+    }
+
+    /**
+     * {@inheritDoc} Column, row range and cell filters are evaluated while reading the stream (unless the table was
+     * written by KNIME 2.0 tech preview or before), i.e. unselected cells and rows are not deserialized.
+     */
+    @Override
+    public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
+        if (getReadVersion() <= 5) {
+            return super.iteratorBuilder();
+        }
+        return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            public TableStoreCloseableRowIterator build() {
+                TableStoreCloseableRowIterator iterator = createIterator(RowSelection.create(m_spec.getNumColumns(),
+                    getFilteredColumnIndices(), getFromRowIndex(), getToRowIndex(), getCellPredicates()));
+                registerNewIteratorInstance(iterator);
+                return iterator;
+            }
+        };
+    }
+
+    private TableStoreCloseableRowIterator createIterator(final RowSelection selection) {
         try {
             if (getReadVersion() <= 5) { // 2.0 tech preview and before
                 return new BufferFromFileIteratorVersion1x(this);
             } else {
-                return new BufferFromFileIteratorVersion20(this);
+                return new BufferFromFileIteratorVersion20(this, selection);
             }
         } catch (IOException ioe) {
             StringBuilder b = new StringBuilder("Cannot read file \"");
@@ -154,6 +191,15 @@ long size() {
         return getBuffer().size();
     }
 
+    /**
+     * @return statistics on the blocks of rows in the file or null if not available
+     * @see org.knime.core.data.container.Buffer#getBlockStatistics()
+     */
+    BlockStatistics getBlockStatistics() {
+        final Buffer buffer = getBuffer();
+        return buffer == null ? null : buffer.getBlockStatistics();
+    }
+
     /** Super class of all file iterators. */
     abstract static class FromFileIterator extends TableStoreCloseableRowIterator implements KNIMEStreamConstants {
 
@@ -182,6 +228,10 @@ static final InputStream getInputStream(final DefaultTableStoreReader tableForma
             throws IOException {
             // get the decompression format
             final CompressionFormat cType = tableFormatReader.getBinFileCompressionFormat();
+            if (cType == CompressionFormat.NONE && IS_MEMORY_MAPPING) {
+                // read directly from the page cache, also allows to seek and to decode primitives from the buffer
+                return ByteBufferInputStream.map(tableFormatReader.getBinFile());
+            }
             // return the (decompressed) stream
             return cType.getInputStream(tableFormatReader.getBinFile());
         }
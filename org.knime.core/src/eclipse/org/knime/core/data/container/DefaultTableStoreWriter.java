@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.apache.commons.io.output.CountingOutputStream;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
@@ -75,6 +76,9 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
     /** The compression format. */
     private final CompressionFormat m_compFormat;
 
+    /** Counts the (uncompressed) bytes written to the row stream, see {@link #getRowStreamPosition()}. */
+    private CountingOutputStream m_countingStream;
+
     /**
      * Constructs a writer for writing KNIME tables to disk using the given compression format.
      *
@@ -129,8 +133,18 @@ void writeRowKey(final RowKey key, final BlockableDCObjectOutputVersion2 outStre
      */
     @SuppressWarnings("resource")
     private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws IOException {
-        final OutputStream out = m_compFormat.getOutputStream(outStream);
-        return new BlockableDCObjectOutputVersion2(out, this);
+        m_countingStream = new CountingOutputStream(m_compFormat.getOutputStream(outStream));
+        return new BlockableDCObjectOutputVersion2(m_countingStream, this);
+    }
+
+    /**
+     * The number of bytes written to the uncompressed row stream so far, i.e. the position at which the next row will
+     * be written. A reader can skip this many bytes of the decompressed stream to get to that row.
+     *
+     * @return the current position in the uncompressed row stream
+     */
+    long getRowStreamPosition() {
+        return m_countingStream.getByteCount();
     }
 
     /** {@inheritDoc} */
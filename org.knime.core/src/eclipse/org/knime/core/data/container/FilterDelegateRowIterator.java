@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+
+import org.knime.core.data.CellPredicate;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowIterator;
+
+/**
+ * Row iterator that only returns the rows of a delegate iterator that lie in a row index range and match a set of
+ * {@link CellPredicate cell predicates}. Used by {@link org.knime.core.data.RowIteratorBuilder}s whose underlying
+ * table cannot apply these filters itself; the skipped rows are still read from the delegate.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class FilterDelegateRowIterator extends CloseableRowIterator {
+
+    private final RowIterator m_delegate;
+
+    private final long m_fromIndex;
+
+    private final long m_toIndex;
+
+    private final int[] m_predicateColumns;
+
+    private final CellPredicate[] m_predicates;
+
+    /** Index of the next row returned by the delegate. */
+    private long m_delegateIndex;
+
+    private DataRow m_next;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param delegate the iterator to filter
+     * @param fromIndex index of the first row to return
+     * @param toIndex index of the last row to return (inclusive)
+     * @param cellPredicates the predicates the rows need to match, by column index
+     */
+    public FilterDelegateRowIterator(final RowIterator delegate, final long fromIndex, final long toIndex,
+        final SortedMap<Integer, CellPredicate> cellPredicates) {
+        m_delegate = delegate;
+        m_fromIndex = fromIndex;
+        m_toIndex = toIndex;
+        m_predicateColumns = cellPredicates.keySet().stream().mapToInt(Integer::intValue).toArray();
+        m_predicates = cellPredicates.values().toArray(new CellPredicate[cellPredicates.size()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (m_next != null) {
+            return true;
+        }
+        while (!m_isClosed && m_delegateIndex <= m_toIndex && m_delegate.hasNext()) {
+            final DataRow row = m_delegate.next();
+            if (m_delegateIndex++ >= m_fromIndex && matches(row)) {
+                m_next = row;
+                return true;
+            }
+        }
+        close();
+        return false;
+    }
+
+    private boolean matches(final DataRow row) {
+        for (int i = 0; i < m_predicateColumns.length; i++) {
+            if (!m_predicates[i].test(row.getCell(m_predicateColumns[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        final DataRow next = m_next;
+        m_next = null;
+        return next;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (!m_isClosed) {
+            m_isClosed = true;
+            if (m_delegate instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_delegate).close();
+            }
+        }
+    }
+
+}
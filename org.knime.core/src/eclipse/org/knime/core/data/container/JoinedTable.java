@@ -53,6 +53,8 @@
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
@@ -126,6 +128,35 @@ public CloseableRowIterator iterator() {
                 m_rightTable.iterator(), m_map, m_flags);
     }
 
+    /**
+     * {@inheritDoc} Row ranges are passed on to both underlying tables, which
+     * may then skip the leading rows without reading them.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(this::iterator, m_spec) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                if (!isRowFilterSet()) {
+                    return iterator();
+                }
+                final long from = getFromRowIndex();
+                final long to = getToRowIndex();
+                CloseableRowIterator it = new JoinTableIterator(
+                    m_leftTable.iteratorBuilder().filterRowsFromIndex(from).filterRowsToIndex(to).build(),
+                    m_rightTable.iteratorBuilder().filterRowsFromIndex(from).filterRowsToIndex(to).build(),
+                    m_map, m_flags);
+                return getCellPredicates().isEmpty() ? it
+                    : new FilterDelegateRowIterator(it, 0L, Long.MAX_VALUE, getCellPredicates());
+            }
+        };
+    }
+
     /**
      * Does nothing.
      * {@inheritDoc}
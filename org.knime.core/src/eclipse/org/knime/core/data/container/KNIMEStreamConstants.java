@@ -81,5 +81,11 @@ public interface KNIMEStreamConstants {
     /** Separator for different rows. */
     static final byte BYTE_ROW_SEPARATOR = BYTE_TYPE_MISSING + 3;
 
+    /** Marks a row key that is written as string (since container version 12). */
+    static final byte BYTE_ROWKEY_STRING = 0;
+
+    /** Marks a compact row key that is written as variable length row index (since container version 12). */
+    static final byte BYTE_ROWKEY_COMPACT = 1;
+
 
 }
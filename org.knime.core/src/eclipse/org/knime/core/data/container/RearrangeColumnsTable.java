@@ -52,14 +52,18 @@
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.knime.core.data.DataCell;
@@ -70,6 +74,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ColumnRearranger.SpecAndFactoryObject;
 import org.knime.core.data.def.DefaultRow;
@@ -145,15 +151,20 @@ public void close() {
 
     private final ContainerTable m_appendTable;
 
+    /** The new columns if they are computed on demand, see {@link AbstractCellFactory#setLazyEvaluation(boolean)}.
+     * Null if the new columns are stored in {@link #m_appendTable}. */
+    private final LazyAppendedColumns m_lazyColumns;
+
     /*
      * Used from the factory method, see below.
      * @see #create(ColumnRearranger, BufferedDataTable, ExecutionMonitor)
      */
     private RearrangeColumnsTable(final BufferedDataTable reference, final int[] map, final boolean[] isFromRefTable,
-        final DataTableSpec spec, final ContainerTable appendTbl) {
+        final DataTableSpec spec, final ContainerTable appendTbl, final LazyAppendedColumns lazyColumns) {
         m_spec = spec;
         m_reference = reference;
         m_appendTable = appendTbl;
+        m_lazyColumns = lazyColumns;
         m_map = map;
         m_isFromRefTable = isFromRefTable;
     }
@@ -235,6 +246,7 @@ public RearrangeColumnsTable(final ReferencedFile f, final NodeSettingsRO settin
             }
         }
         m_spec = new DataTableSpec(colSpecs);
+        m_lazyColumns = null;
     }
 
     /**
@@ -250,7 +262,8 @@ public BufferedDataTable[] getReferenceTables() {
     /**
      * Get reference to the appended table. This table must not be used publicly as the append table is corrupted: It
      * does not contain proper row keys (it contains only the appended columns). This method returns null if this table
-     * only filters out some of the columns.
+     * only filters out some of the columns or if the appended columns are computed on demand (see
+     * {@link AbstractCellFactory#setLazyEvaluation(boolean)}).
      *
      * @return Reference to append table.
      */
@@ -258,6 +271,25 @@ public ContainerTable getAppendTable() {
         return m_appendTable;
     }
 
+    /**
+     * Get the table holding the new columns as written by {@link #saveToFile(File, NodeSettingsWO, ExecutionMonitor)}:
+     * the {@link #getAppendTable() append table} or, if the appended columns are computed on demand, their cache,
+     * which is computed if not done before. This method returns null if this table only filters out some of the
+     * columns. The same restrictions as for {@link #getAppendTable()} apply to the returned table.
+     *
+     * @param exec For progress and cancellation while computing the cache
+     * @return Reference to the saved append table or null.
+     * @throws CanceledExecutionException If canceled.
+     * @since 3.8
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public ContainerTable getAppendTableToSave(final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (m_appendTable != null || m_lazyColumns == null) {
+            return m_appendTable;
+        }
+        return m_lazyColumns.materialize(m_reference, exec);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -271,17 +303,86 @@ public DataTableSpec getDataTableSpec() {
      */
     @Override
     public CloseableRowIterator iterator() {
+        ContainerTable appendTable = m_appendTable;
+        if (m_lazyColumns != null) {
+            appendTable = m_lazyColumns.getCache();
+            if (appendTable == null && m_lazyColumns.m_iteratorCount.getAndIncrement() > 0) {
+                // read more than once - cache the new columns
+                try {
+                    appendTable = m_lazyColumns.materialize(m_reference, new ExecutionMonitor());
+                } catch (CanceledExecutionException e) {
+                    throw new IllegalStateException("Caching of new columns canceled", e);
+                }
+            }
+            if (appendTable == null) {
+                return m_lazyColumns.iterator(m_reference.iterator(), m_map, m_isFromRefTable);
+            }
+        }
+        return iterator(appendTable, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc} Row ranges are passed on to the reference table and the table containing the new columns, which
+     * may then skip the leading rows without reading them. (Iterating a row range of a table whose new columns are
+     * computed on demand doesn't cache the new columns.)
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(this::iterator, m_spec) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                final long from = getFromRowIndex();
+                final long to = getToRowIndex();
+                if (!isRowFilterSet()) {
+                    return super.build();
+                }
+                ContainerTable appendTable = m_appendTable;
+                CloseableRowIterator it = null;
+                if (m_lazyColumns != null) {
+                    appendTable = m_lazyColumns.getCache();
+                    if (appendTable == null) {
+                        it = m_lazyColumns.iterator(
+                            m_reference.iteratorBuilder().filterRowsFromIndex(from).filterRowsToIndex(to).build(),
+                            m_map, m_isFromRefTable);
+                    }
+                }
+                if (it == null) {
+                    it = iterator(appendTable, from, to);
+                }
+                return getCellPredicates().isEmpty() ? it
+                    : new FilterDelegateRowIterator(it, 0L, Long.MAX_VALUE, getCellPredicates());
+            }
+        };
+    }
+
+    /**
+     * Creates an iterator joining the reference table and the table containing the new columns.
+     *
+     * @param appendTable the table containing the new columns, null if there are none
+     * @param fromIndex index of the first row to return
+     * @param toIndex index of the last row to return (inclusive)
+     * @return a new iterator
+     */
+    private CloseableRowIterator iterator(final ContainerTable appendTable, final long fromIndex,
+        final long toIndex) {
         CloseableRowIterator appendIt;
-        if (m_appendTable != null) {
+        if (appendTable != null) {
             int[] appendIndices =
                 IntStream.range(0, m_map.length).filter(i -> !m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
-            appendIt = m_appendTable.iteratorBuilder().filterColumns(appendIndices).build();
+            appendIt = appendTable.iteratorBuilder().filterColumns(appendIndices).filterRowsFromIndex(fromIndex)
+                .filterRowsToIndex(toIndex).build();
         } else {
             appendIt = EMPTY_ITERATOR;
         }
         int[] refIndices =
             IntStream.range(0, m_map.length).filter(i -> m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
-        CloseableRowIterator refIt = m_reference.iteratorBuilder().filterColumns(refIndices).build();
+        CloseableRowIterator refIt = m_reference.iteratorBuilder().filterColumns(refIndices)
+            .filterRowsFromIndex(fromIndex).filterRowsToIndex(toIndex).build();
         return new JoinTableIterator(refIt, appendIt, m_map, m_isFromRefTable);
     }
 
@@ -316,26 +417,35 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
         // this field has the minimum worker count for all used factories
         // (or negative for sequential processing)
         int workerCount = Integer.MAX_VALUE;
+        // with v3.8 new columns can be computed on demand if all factories allow it (converters don't)
+        boolean isLazy = newColsProducerMapping.getConverterToIndexMap().isEmpty();
         for (SpecAndFactoryObject s : newColumnFactoryList) {
             CellFactory factory = s.getFactory();
             if (factory instanceof AbstractCellFactory) {
                 AbstractCellFactory acf = (AbstractCellFactory)factory;
                 workerCount = Math.min(workerCount, acf.getMaxParallelWorkers());
+                isLazy &= acf.isLazyEvaluation();
             } else {
                 // unknown factory - process sequentially
                 workerCount = -1;
+                isLazy = false;
             }
             newColSpecsList.add(s.getColSpec());
         }
-        initProcessing(newColsProducerMapping, context);
         final int newColCount = newColSpecsList.size();
         DataColumnSpec[] newColSpecs = newColSpecsList.toArray(new DataColumnSpec[newColSpecsList.size()]);
         ContainerTable appendTable;
         DataTableSpec appendTableSpec;
+        LazyAppendedColumns lazyColumns = null;
         // for a pure filter (a table that just hides some columns from
         // the reference table but does not add any new column we avoid to scan
         // the entire table (nothing is written anyway))
-        if (newColCount > 0) {
+        if (newColCount > 0 && isLazy) {
+            appendTable = null;
+            appendTableSpec = new DataTableSpec(newColSpecs);
+            lazyColumns = new LazyAppendedColumns(newColsProducerMapping, appendTableSpec);
+        } else if (newColCount > 0) {
+            initProcessing(newColsProducerMapping, context);
             DataContainer container = context.createDataContainer(new DataTableSpec(newColSpecs));
             container.setBufferCreator(new NoKeyBufferCreator());
             assert newColumnFactoryList.size() == newColCount;
@@ -381,7 +491,7 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
             }
         }
         DataTableSpec spec = new DataTableSpec(colSpecs);
-        return new RearrangeColumnsTable(table, includesIndex, isFromRefTable, spec, appendTable);
+        return new RearrangeColumnsTable(table, includesIndex, isFromRefTable, spec, appendTable, lazyColumns);
     }
 
     /** Set a file store factory on the {@link AbstractCellFactory}.
@@ -436,7 +546,8 @@ private static void calcNewColsSynchronously(final BufferedDataTable table, fina
     }
 
     /**
-     * Processes input concurrently using a {@link ConcurrentNewColCalculator}.
+     * Processes input concurrently using a {@link ConcurrentNewColCalculator}. The rows are handed to the workers in
+     * batches of consecutive rows (see {@link AbstractCellFactory#getBatchSize()}).
      */
     private static void calcNewColsASynchronously(final BufferedDataTable table, final ExecutionMonitor subProgress,
         final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container)
@@ -445,12 +556,14 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         CellFactory facForProgress = null;
         int workers = Integer.MAX_VALUE;
         int queueSize = Integer.MAX_VALUE;
+        int batchSize = Integer.MAX_VALUE;
         Collection<SpecAndFactoryObject> newColsFactories = newColsProducerMapping.getAllNewColumnsList();
         for (SpecAndFactoryObject specAndFac : newColsFactories) {
             if (specAndFac.getFactory() instanceof AbstractCellFactory) {
                 AbstractCellFactory acf = (AbstractCellFactory)specAndFac.getFactory();
                 workers = Math.min(workers, acf.getMaxParallelWorkers());
                 queueSize = Math.min(queueSize, acf.getMaxQueueSize());
+                batchSize = Math.min(batchSize, acf.getBatchSize());
             } else {
                 throw new IllegalStateException("Coding problem: This method"
                     + " should not have been called as the cell factories do not allow parallel processing");
@@ -462,11 +575,15 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         assert facForProgress != null;
         assert workers > 0 : "Nr workers <= 0: " + workers;
         assert queueSize > 0 : "queue size <= 0: " + queueSize;
+        // small tables use smaller batches so that each worker gets a couple of them
+        batchSize = (int)Math.max(1L, Math.min(batchSize, finalRowCount / (4L * workers)));
+        // the queue size is given in rows
+        final int batchQueueSize = Math.max(workers, (queueSize + batchSize - 1) / batchSize);
         ConcurrentNewColCalculator calculator =
-            new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
+            new ConcurrentNewColCalculator(batchQueueSize, workers, container, subProgress, finalRowCount,
                 newColsProducerMapping, facForProgress);
         try {
-            calculator.run(table);
+            calculator.run(batches(table, batchSize));
         } catch (InterruptedException e) {
             CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
             cee.initCause(e);
@@ -485,6 +602,36 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
 
     private static Set<Class<? extends CellFactory>> codingProblemsCellFactoryClasses;
 
+    /**
+     * Groups the rows of the argument table into lists of consecutive rows.
+     *
+     * @param table The table to iterate
+     * @param batchSize The maximum number of rows per list
+     * @return An iterable over the batches (each non-empty)
+     */
+    private static Iterable<List<DataRow>> batches(final DataTable table, final int batchSize) {
+        return () -> new Iterator<List<DataRow>>() {
+            private final RowIterator m_it = table.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return m_it.hasNext();
+            }
+
+            @Override
+            public List<DataRow> next() {
+                if (!m_it.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<DataRow> batch = new ArrayList<DataRow>(batchSize);
+                while (batch.size() < batchSize && m_it.hasNext()) {
+                    batch.add(m_it.next());
+                }
+                return batch;
+            }
+        };
+    }
+
     /**
      * Calls for an input row the list of cell factories to produce the output row (contains only the new cells, merged
      * later).
@@ -501,15 +648,71 @@ static DataRow calcNewCellsForRow(final DataRow unconvertedRow, final NewColumns
             producerMap.getUniqueCellFactoryMap();
         for (Map.Entry<CellFactory, List<Pair<Integer, Integer>>> e : uniqueCellFactoryMap.entrySet()) {
             CellFactory factory = e.getKey();
-            List<Pair<Integer, Integer>> list = e.getValue();
             DataCell[] fromFac = factory.getCells(row);
-            if (fromFac.length != list.size()) {
-                String error = String.format("New cells array length conflict: expected %d, actual %d (class %s)",
-                    list.size(), fromFac.length, factory.getClass().getName());
-                if (fromFac.length < list.size()) {
-                    throw new IndexOutOfBoundsException(error);
-                } else {
-                    // such problems were ignored until 2.6 -- print warning only
+            copyNewCells(factory, e.getValue(), fromFac, newCells);
+        }
+        DataRow appendix = new DefaultRow(row.getKey(), newCells);
+        return appendix;
+    }
+
+    /**
+     * Calls for a batch of input rows the list of cell factories to produce the output rows (contain only the new
+     * cells, merged later). Each factory is called once via {@link CellFactory#getCells(List)}.
+     *
+     * @param unconvertedRows The input rows to be processed
+     * @param producerMap For each new (or replaced) column the factory.
+     * @return The output rows, one for each input row.
+     */
+    static List<DataRow> calcNewCellsForRows(final List<DataRow> unconvertedRows,
+        final NewColumnsProducerMapping producerMap) {
+        final int newColCount = producerMap.getAllNewColumnsList().size();
+        final int rowCount = unconvertedRows.size();
+        DataCell[][] newCells = new DataCell[rowCount][];
+        List<DataRow> rows = new ArrayList<DataRow>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            newCells[r] = new DataCell[newColCount];
+            rows.add(applyDataTypeConverters(unconvertedRows.get(r), producerMap, newCells[r]));
+        }
+        rows = Collections.unmodifiableList(rows);
+        IdentityHashMap<CellFactory, List<Pair<Integer, Integer>>> uniqueCellFactoryMap =
+            producerMap.getUniqueCellFactoryMap();
+        for (Map.Entry<CellFactory, List<Pair<Integer, Integer>>> e : uniqueCellFactoryMap.entrySet()) {
+            CellFactory factory = e.getKey();
+            DataCell[][] fromFac = factory.getCells(rows);
+            if (fromFac.length != rowCount) {
+                throw new IndexOutOfBoundsException(
+                    String.format("New cells batch length conflict: expected %d, actual %d (class %s)", rowCount,
+                        fromFac.length, factory.getClass().getName()));
+            }
+            for (int r = 0; r < rowCount; r++) {
+                copyNewCells(factory, e.getValue(), fromFac[r], newCells[r]);
+            }
+        }
+        List<DataRow> appendices = new ArrayList<DataRow>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            appendices.add(new DefaultRow(rows.get(r).getKey(), newCells[r]));
+        }
+        return appendices;
+    }
+
+    /**
+     * Copies the cells as returned by a cell factory into the array of new cells.
+     *
+     * @param factory The factory that created the cells (for error reporting)
+     * @param list Pairs of index in the new cells array and index in the factory's array
+     * @param fromFac The cells returned by the factory
+     * @param newCells The new cells array to fill
+     */
+    private static void copyNewCells(final CellFactory factory, final List<Pair<Integer, Integer>> list,
+        final DataCell[] fromFac, final DataCell[] newCells) {
+        if (fromFac.length != list.size()) {
+            String error = String.format("New cells array length conflict: expected %d, actual %d (class %s)",
+                list.size(), fromFac.length, factory.getClass().getName());
+            if (fromFac.length < list.size()) {
+                throw new IndexOutOfBoundsException(error);
+            } else {
+                // such problems were ignored until 2.6 -- print warning only
+                synchronized (RearrangeColumnsTable.class) {
                     if (codingProblemsCellFactoryClasses == null) {
                         codingProblemsCellFactoryClasses = new HashSet<Class<? extends CellFactory>>();
                     }
@@ -518,17 +721,15 @@ static DataRow calcNewCellsForRow(final DataRow unconvertedRow, final NewColumns
                     }
                 }
             }
-            final int length = list.size();
-            for (int i = 0; i < length; i++) {
-                Pair<Integer, Integer> indexPair = list.get(i);
-                int indexInNewCellsArray = indexPair.getFirst();
-                int indexInFactory = indexPair.getSecond();
-                assert newCells[indexInNewCellsArray] == null : "New cells array at index expected to be null";
-                newCells[indexInNewCellsArray] = fromFac[indexInFactory];
-            }
         }
-        DataRow appendix = new DefaultRow(row.getKey(), newCells);
-        return appendix;
+        final int length = list.size();
+        for (int i = 0; i < length; i++) {
+            Pair<Integer, Integer> indexPair = list.get(i);
+            int indexInNewCellsArray = indexPair.getFirst();
+            int indexInFactory = indexPair.getSecond();
+            assert newCells[indexInNewCellsArray] == null : "New cells array at index expected to be null";
+            newCells[indexInNewCellsArray] = fromFac[indexInFactory];
+        }
     }
 
     /**
@@ -620,6 +821,10 @@ public void saveToFile(final File f, final NodeSettingsWO s, final ExecutionMoni
         if (m_appendTable != null) {
             // subSettings argument is ignored in ContainerTable
             m_appendTable.saveToFile(f, subSettings, exec);
+        } else if (m_lazyColumns != null) {
+            // the saved table is indistinguishable from a table whose new columns were computed during execution
+            m_lazyColumns.materialize(m_reference, exec.createSubProgress(0.5)).saveToFile(f, subSettings,
+                exec.createSubProgress(0.5));
         }
     }
 
@@ -633,6 +838,9 @@ public void clear() {
         if (m_appendTable != null) {
             m_appendTable.clear();
         }
+        if (m_lazyColumns != null) {
+            m_lazyColumns.clear();
+        }
     }
 
     /**
@@ -643,6 +851,10 @@ public void ensureOpen() {
         if (m_appendTable != null) {
             m_appendTable.ensureOpen();
         }
+        ContainerTable lazyCache = m_lazyColumns != null ? m_lazyColumns.getCache() : null;
+        if (lazyCache != null) {
+            lazyCache.ensureOpen();
+        }
     }
 
     /**
@@ -671,6 +883,104 @@ public boolean removeFromTableRepository(final WorkflowDataRepository dataReposi
         return false;
     }
 
+    /**
+     * The new columns of a table whose factories compute the cells on demand (see
+     * {@link AbstractCellFactory#setLazyEvaluation(boolean)}). The cells are computed while iterating the reference
+     * table and cached in a temporary table once they are read a second time (or the table is saved).
+     */
+    private static final class LazyAppendedColumns {
+
+        private final NewColumnsProducerMapping m_producerMapping;
+
+        private final DataTableSpec m_spec;
+
+        /** Number of iterators requested so far, see {@link RearrangeColumnsTable#iterator()}. */
+        private final AtomicInteger m_iteratorCount = new AtomicInteger();
+
+        /** The cached new columns, null if not (yet) computed. */
+        private ContainerTable m_cache;
+
+        private LazyAppendedColumns(final NewColumnsProducerMapping producerMapping, final DataTableSpec spec) {
+            m_producerMapping = producerMapping;
+            m_spec = spec;
+        }
+
+        /** @return the cached new columns or null */
+        synchronized ContainerTable getCache() {
+            return m_cache;
+        }
+
+        /**
+         * Computes the new columns for all rows of the reference table and caches them (unless done before).
+         *
+         * @param reference The reference table
+         * @param exec For progress and cancellation
+         * @return The table containing the new columns (without proper row keys)
+         * @throws CanceledExecutionException If canceled.
+         */
+        synchronized ContainerTable materialize(final BufferedDataTable reference, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+            if (m_cache == null) {
+                DataContainer container = new DataContainer(m_spec, false);
+                container.setBufferCreator(new NoKeyBufferCreator());
+                final long rowCount = reference.size();
+                long r = 0;
+                try (CloseableRowIterator it = reference.iterator()) {
+                    while (it.hasNext()) {
+                        container.addRowToTable(calcNewCellsForRow(it.next(), m_producerMapping));
+                        exec.setProgress(++r / (double)rowCount, () -> "Caching new columns");
+                        exec.checkCanceled();
+                    }
+                } catch (CanceledExecutionException | RuntimeException e) {
+                    container.close();
+                    container.getBufferedTable().clear();
+                    throw e;
+                }
+                container.close();
+                m_cache = container.getBufferedTable();
+            }
+            return m_cache;
+        }
+
+        /**
+         * Creates an iterator that computes the new cells while iterating the reference table.
+         *
+         * @param refIt An iterator over (a range of) the reference table, providing all columns
+         * @param map The map of the {@link RearrangeColumnsTable}
+         * @param isFromRefTable The flags of the {@link RearrangeColumnsTable}
+         * @return A new iterator over the output rows
+         */
+        CloseableRowIterator iterator(final CloseableRowIterator refIt, final int[] map,
+            final boolean[] isFromRefTable) {
+            return new CloseableRowIterator() {
+                @Override
+                public boolean hasNext() {
+                    return refIt.hasNext();
+                }
+
+                @Override
+                public DataRow next() {
+                    DataRow ref = refIt.next();
+                    DataRow app = calcNewCellsForRow(ref, m_producerMapping);
+                    return JoinTableIterator.createOutputRow(ref, app, map, isFromRefTable);
+                }
+
+                @Override
+                public void close() {
+                    refIt.close();
+                }
+            };
+        }
+
+        /** Deletes the cached new columns (if any). */
+        synchronized void clear() {
+            if (m_cache != null) {
+                m_cache.clear();
+                m_cache = null;
+            }
+        }
+    }
+
     /** Creates NoKeyBuffer objects rather then Buffer objects. */
     private static class NoKeyBufferCreator extends DataContainer.BufferCreator {
 
@@ -692,11 +1002,11 @@ Buffer createBuffer(final File binFile, final File blobDir, final File fileStore
     }
 
     /**
-     * The MultiThreadWorker that processes the input rows concurrently. Only used if the cell factory is an
+     * The MultiThreadWorker that processes batches of input rows concurrently. Only used if the cell factory is an
      * {@link AbstractCellFactory} with parallel processing ( {@link AbstractCellFactory#setParallelProcessing(boolean)}
      * )
      */
-    private static final class ConcurrentNewColCalculator extends MultiThreadWorker<DataRow, DataRow> {
+    private static final class ConcurrentNewColCalculator extends MultiThreadWorker<List<DataRow>, List<DataRow>> {
 
         private final ExecutionMonitor m_subProgress;
 
@@ -708,6 +1018,9 @@ private static final class ConcurrentNewColCalculator extends MultiThreadWorker<
 
         private final CellFactory m_facForProgress;
 
+        /** Number of rows added to the container so far. */
+        private long m_processedRowCount;
+
         /**
          * @param maxQueueSize
          * @param maxActiveInstanceSize
@@ -730,19 +1043,21 @@ private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveIn
 
         /** {@inheritDoc} */
         @Override
-        protected DataRow compute(final DataRow in, final long index) throws Exception {
-            return calcNewCellsForRow(in, m_reducedList);
+        protected List<DataRow> compute(final List<DataRow> in, final long index) throws Exception {
+            return calcNewCellsForRows(in, m_reducedList);
         }
 
         /** {@inheritDoc} */
         @Override
         protected void processFinished(final ComputationTask task) throws ExecutionException, CancellationException,
             InterruptedException {
-            int r = (int)task.getIndex(); // row count in table is integer
-            RowKey key = task.getInput().getKey();
-            DataRow append = task.get(); // exception falls through
-            m_container.addRowToTable(append);
-            m_facForProgress.setProgress(r + 1, m_totalRowCount, key, m_subProgress);
+            List<DataRow> appendices = task.get(); // exception falls through
+            for (DataRow append : appendices) {
+                m_container.addRowToTable(append);
+            }
+            m_processedRowCount += appendices.size();
+            RowKey key = appendices.get(appendices.size() - 1).getKey();
+            m_facForProgress.setProgress(m_processedRowCount, m_totalRowCount, key, m_subProgress);
             try {
                 m_subProgress.checkCanceled();
             } catch (CanceledExecutionException cee) {
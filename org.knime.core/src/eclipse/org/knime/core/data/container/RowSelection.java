@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import org.knime.core.data.CellPredicate;
+
+/**
+ * The columns, row range and cell predicates requested via a {@link org.knime.core.data.RowIteratorBuilder}, in a
+ * form suitable for the iterators of the table store readers, which use it to skip rows and cells without
+ * deserializing them.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class RowSelection {
+
+    private final boolean[] m_isRead;
+
+    private final CellPredicate[] m_predicates;
+
+    private final long m_fromIndex;
+
+    private final long m_toIndex;
+
+    private final boolean m_hasPredicates;
+
+    private RowSelection(final boolean[] isRead, final CellPredicate[] predicates, final long fromIndex,
+        final long toIndex) {
+        m_isRead = isRead;
+        m_predicates = predicates;
+        m_fromIndex = fromIndex;
+        m_toIndex = toIndex;
+        m_hasPredicates = Arrays.stream(predicates).anyMatch(p -> p != null);
+    }
+
+    /**
+     * @param numColumns the number of columns in the table
+     * @return a selection of all rows and columns
+     */
+    static RowSelection all(final int numColumns) {
+        final boolean[] isRead = new boolean[numColumns];
+        Arrays.fill(isRead, true);
+        return new RowSelection(isRead, new CellPredicate[numColumns], 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param numColumns the number of columns in the table
+     * @param columnIndices the selected columns, all if empty
+     * @param fromIndex index of the first row
+     * @param toIndex index of the last row (inclusive)
+     * @param cellPredicates predicates by column index, possibly empty
+     * @return a new selection
+     */
+    static RowSelection create(final int numColumns, final Optional<int[]> columnIndices, final long fromIndex,
+        final long toIndex, final SortedMap<Integer, CellPredicate> cellPredicates) {
+        final boolean[] isRead = new boolean[numColumns];
+        if (columnIndices.isPresent()) {
+            for (int i : columnIndices.get()) {
+                isRead[i] = true;
+            }
+        } else {
+            Arrays.fill(isRead, true);
+        }
+        final CellPredicate[] predicates = new CellPredicate[numColumns];
+        for (Map.Entry<Integer, CellPredicate> e : cellPredicates.entrySet()) {
+            predicates[e.getKey()] = e.getValue();
+            // predicate columns need to be read in any case
+            isRead[e.getKey()] = true;
+        }
+        return new RowSelection(isRead, predicates, fromIndex, toIndex);
+    }
+
+    /**
+     * @param column a column index
+     * @return whether the cells of the column need to be deserialized
+     */
+    boolean isRead(final int column) {
+        return m_isRead[column];
+    }
+
+    /**
+     * @param column a column index
+     * @return the predicate for the column or null
+     */
+    CellPredicate getPredicate(final int column) {
+        return m_predicates[column];
+    }
+
+    /** @return whether any cell predicate is set */
+    boolean hasPredicates() {
+        return m_hasPredicates;
+    }
+
+    /** @return index of the first row to return */
+    long getFromIndex() {
+        return m_fromIndex;
+    }
+
+    /** @return index of the last row to return (inclusive) */
+    long getToIndex() {
+        return m_toIndex;
+    }
+
+}
@@ -63,6 +63,7 @@
 import org.apache.commons.io.IOUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
@@ -75,6 +76,7 @@
 import org.knime.core.data.container.CellClassInfo;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.FilterDelegateRowIterator;
 import org.knime.core.data.container.KNIMEStreamConstants;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.KNIMEConstants;
@@ -200,11 +202,25 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
         return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
+            @Override
+            public boolean supportsRowFilter() {
+                return true;
+            }
+
             @Override
             public TableStoreCloseableRowIterator build() {
-                TableStoreCloseableRowIterator iterator = super.build();
+                TableStoreCloseableRowIterator iterator = iterator();
                 registerNewIteratorInstance(iterator);
-                return iterator;
+                return isRowFilterSet() ? applyRowFilter(iterator) : iterator;
+            }
+
+            @Override
+            protected TableStoreCloseableRowIterator applyRowFilter(final TableStoreCloseableRowIterator iterator) {
+                FilteredTableStoreRowIterator filterIterator = new FilteredTableStoreRowIterator(
+                    new FilterDelegateRowIterator(iterator, getFromRowIndex(), getToRowIndex(), getCellPredicates()));
+                // not registered as it doesn't hold resources itself; closing it closes the (registered) delegate
+                filterIterator.setReader(AbstractTableStoreReader.this);
+                return filterIterator;
             }
         };
     }
@@ -415,4 +431,30 @@ public final void close() {
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Adapts a {@link FilterDelegateRowIterator} wrapping a registered iterator of this reader. */
+    private static final class FilteredTableStoreRowIterator extends TableStoreCloseableRowIterator {
+
+        private final FilterDelegateRowIterator m_filterIterator;
+
+        FilteredTableStoreRowIterator(final FilterDelegateRowIterator filterIterator) {
+            m_filterIterator = filterIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_filterIterator.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            return m_filterIterator.next();
+        }
+
+        @Override
+        public boolean performClose() throws IOException {
+            m_filterIterator.close();
+            return false;
+        }
+    }
+
 }
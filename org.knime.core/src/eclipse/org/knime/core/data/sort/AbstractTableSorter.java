@@ -51,9 +51,11 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -62,6 +64,10 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -78,7 +84,9 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -98,6 +106,14 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * Minimum number of rows per slice when a chunk is sorted in parallel. See {@link #setParallelism(int)}.
+     */
+    static final int DEF_MIN_ROWS_PER_SLICE = 10000;
+
+    /** Number of rows that are read ahead from each temporary table while merging. */
+    private static final int READ_AHEAD_ROWS = 256;
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -118,6 +134,21 @@ abstract class AbstractTableSorter {
 
     private boolean m_sortInMemory = false;
 
+    /** Number of rows to retain from the start of the sorted output, {@link Long#MAX_VALUE} for all rows. */
+    private long m_topK = Long.MAX_VALUE;
+
+    /** Number of threads used to sort and write chunks and to read ahead temporary tables. */
+    private int m_parallelism = getDefaultParallelism();
+
+    /** Minimum number of rows per slice of a chunk that is sorted in parallel. Only changed in unit test. */
+    private int m_minRowsPerSlice = DEF_MIN_ROWS_PER_SLICE;
+
+    /** Sub pool of the global thread pool, created lazily, <code>null</code> if sorting sequentially. */
+    private ThreadPool m_executor;
+
+    /** Guards creating and closing of chunk containers that are written concurrently. */
+    private final Object m_chunkLock = new Object();
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
@@ -362,6 +393,40 @@ public void setMaxOpenContainers(final int value) {
         m_maxOpenContainers = value;
     }
 
+    /**
+     * Get the number of threads used for sorting. See {@link #setParallelism(int)} for details.
+     *
+     * @return the parallelism
+     * @since 3.8
+     */
+    public int getParallelism() {
+        return m_parallelism;
+    }
+
+    /**
+     * Changes the number of threads used during the sorting. Chunks of the input table are sorted in slices on
+     * multiple threads and written to temporary tables in the background while the next chunk is read; during the
+     * merge the temporary tables are read ahead concurrently. All threads are taken from the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}. A value of 1 sorts sequentially on the calling
+     * thread.
+     *
+     * <p>
+     * The default is the number of available processors, bound by the size of the global thread pool.
+     *
+     * @param value the number of threads to use
+     * @throws IllegalArgumentException If argument is smaller than 1.
+     * @since 3.8
+     */
+    public void setParallelism(final int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + value);
+        }
+        synchronized (m_chunkLock) {
+            m_parallelism = value;
+            m_executor = null;
+        }
+    }
+
     /**
      * Set the maximum number of rows per chunk, defaults to {@link Integer#MAX_VALUE}. This field is modified from the
      * testing framework.
@@ -372,6 +437,16 @@ void setMaxRows(final int maxRows) {
         m_maxRowsPerChunk = maxRows;
     }
 
+    /**
+     * Set the minimum number of rows per slice when sorting a chunk in parallel, defaults to
+     * {@value #DEF_MIN_ROWS_PER_SLICE}. This field is modified from the testing framework.
+     *
+     * @param minRowsPerSlice the minRowsPerSlice to set
+     */
+    void setMinRowsPerSlice(final int minRowsPerSlice) {
+        m_minRowsPerSlice = minRowsPerSlice;
+    }
+
     /**
      * Set memory service. Used in unit test.
      *
@@ -405,6 +480,34 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the number of rows retained from the start of the sorted output, see {@link #setTopK(long)}.
+     * @since 3.8
+     */
+    public long getTopK() {
+        return m_topK;
+    }
+
+    /**
+     * Restricts the output to the first <code>k</code> rows of the sorted table. The sorter then keeps the
+     * <code>k</code> smallest rows seen so far in a bounded heap while reading the input table once and never writes
+     * temporary tables, unless the heap outgrows the available memory, in which case it falls back to the complete
+     * disk-based sort.
+     *
+     * <p>
+     * The default is {@link Long#MAX_VALUE}, i.e. all rows are sorted and returned.
+     *
+     * @param k the number of rows to retain
+     * @throws IllegalArgumentException If argument is negative.
+     * @since 3.8
+     */
+    public void setTopK(final long k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Invalid number of rows: " + k);
+        }
+        m_topK = k;
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -414,7 +517,9 @@ public void setSortInMemory(final boolean sortInMemory) {
      */
     DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionException {
         DataTable result;
-        if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
+        if (m_topK < Long.MAX_VALUE && !(m_rowsInInputTable > 0 && m_topK >= m_rowsInInputTable)) {
+            result = sortTopK(exec);
+        } else if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
             result = sortInMemory(exec);
         } else {
             if (m_rowsInInputTable > Integer.MAX_VALUE) {
@@ -451,7 +556,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        rowList = sortChunk(rowList);
 
         exec.setMessage("Creating sorted table");
 
@@ -472,6 +577,65 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         return dc.getTable();
     }
 
+    /**
+     * Retains the {@link #setTopK(long) first k} rows of the sorted input in a bounded heap.
+     *
+     * @param exec To report progress
+     * @return The first k rows of the sorted output.
+     * @throws CanceledExecutionException If canceled.
+     */
+    private DataTable sortTopK(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final NormalizedKeyEncoder encoder = getKeyEncoder();
+        final Comparator<KeyedRow> order = (r1, r2) -> {
+            int value = encoder != null ? NormalizedKeyEncoder.compare(r1.m_key, r2.m_key)
+                : m_rowComparator.compare(r1.m_row, r2.m_row);
+            // earlier rows win ties to keep the sort stable
+            return value != 0 ? value : Long.compare(r1.m_index, r2.m_index);
+        };
+        // the head of the heap is the largest retained row, i.e. the first one to be dropped
+        final PriorityQueue<KeyedRow> heap = new PriorityQueue<>((int)Math.min(m_topK, 1024) + 1, order.reversed());
+        final MemoryActionIndicator memObservable = m_memService.newIndicator();
+        final long rowCount = m_rowsInInputTable;
+        long counter = 0;
+        exec.setMessage("Reading data");
+        ExecutionMonitor readExec = exec.createSubProgress(0.9);
+        for (Iterator<DataRow> it = m_inputTable.iterator(); m_topK > 0 && it.hasNext();) {
+            DataRow row = it.next();
+            readExec.checkCanceled();
+            if (rowCount > 0) {
+                readExec.setProgress(counter / (double)rowCount, row.getKey().getString());
+            } else {
+                readExec.setMessage(row.getKey() + " (row " + counter + ")");
+            }
+            KeyedRow keyedRow = new KeyedRow(encoder == null ? null : encoder.encode(row), row, counter++);
+            if (heap.size() < m_topK) {
+                heap.add(keyedRow);
+                if (memObservable.lowMemoryActionRequired() && heap.size() >= m_maxOpenContainers) {
+                    LOGGER.debug("First " + m_topK + " rows don't fit into memory (" + heap.size()
+                        + " rows buffered) - sorting on disk, mem usage: " + getMemUsage());
+                    heap.clear();
+                    return sortOnDisk(exec);
+                }
+            } else if (order.compare(keyedRow, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(keyedRow);
+            }
+        }
+        KeyedRow[] sortedRows = heap.toArray(new KeyedRow[heap.size()]);
+        heap.clear();
+        Arrays.sort(sortedRows, order);
+
+        exec.setMessage("Creating sorted table");
+        final DataContainer dc = createDataContainer(m_dataTableSpec, false);
+        for (int i = 0; i < sortedRows.length; i++) {
+            exec.checkCanceled();
+            dc.addRowToTable(sortedRows[i].m_row);
+            sortedRows[i] = null;
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
     /**
      * Creates data container, either a buffered data container or a plain one.
      *
@@ -517,8 +681,15 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         // The final output container, leave it to the
         // system to do the caching (bug 1809)
         DataContainer resultContainer = createDataContainer(dataTable.getDataTableSpec(), false);
-        while (result.hasNext()) {
-            resultContainer.addRowToTable(result.next());
+        try {
+            for (long i = 0; i < m_topK && result.hasNext(); i++) {
+                resultContainer.addRowToTable(result.next());
+            }
+        } finally {
+            // runs not read completely (top-k truncation, cancellation) still hold temporary tables
+            if (result instanceof MergingIterator) {
+                ((MergingIterator)result).dispose();
+            }
         }
         resultContainer.close();
         return resultContainer.getTable();
@@ -572,6 +743,7 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                     }
                 } finally {
                     closeChunk();
+                    mergingIterator.dispose();
                 }
             }
         }
@@ -580,69 +752,284 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
 
     private long createInitialChunks(final ExecutionMonitor exec, final DataTable dataTable)
         throws CanceledExecutionException {
-        long outerCounter;
         long counter = 0;
-        ArrayList<DataRow> buffer = new ArrayList<DataRow>();
+        List<DataRow> buffer = new ArrayList<DataRow>();
         long chunkStartRow = 0;
         int rowsInCurrentChunk = 0;
+        // chunks being sorted and written in the background, in the order they were read
+        Deque<Future<DataTable>> pendingChunks = new ArrayDeque<>();
 
         MemoryActionIndicator memObservable = m_memService.newIndicator();
 
         exec.setMessage("Reading table");
-        for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
-            counter++;
-            rowsInCurrentChunk++;
-            exec.checkCanceled();
-            String message = "Reading table, " + counter + " rows read";
-            if (m_rowsInInputTable > 0) {
-                m_progress += m_incProgress;
-                exec.setProgress(m_progress, message);
-            } else {
-                exec.setMessage(message);
-            }
-            DataRow row = iter.next();
-            buffer.add(row);
-            if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
-                || (counter % m_maxRowsPerChunk == 0)) {
-                LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+        try {
+            for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
+                counter++;
+                rowsInCurrentChunk++;
+                exec.checkCanceled();
+                String message = "Reading table, " + counter + " rows read";
                 if (m_rowsInInputTable > 0) {
-                    long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
-                    m_incProgress = (0.5 - m_progress) / estimatedIncrements;
+                    m_progress += m_incProgress;
+                    exec.setProgress(m_progress, message);
+                } else {
+                    exec.setMessage(message);
                 }
-                exec.setMessage("Sorting temporary buffer");
-                // sort buffer
-                Collections.sort(buffer, m_rowComparator);
-                // write buffer to disk
-                openChunk();
-                final int totalBufferSize = buffer.size();
-                for (int i = 0; i < totalBufferSize; i++) {
-                    exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
-                    // must not use Iterator#remove as it causes
-                    // array copies
-                    DataRow next = buffer.set(i, null);
-                    addRowToChunk(next);
-                    exec.checkCanceled();
-                    if (m_rowsInInputTable > 0) {
-                        m_progress += m_incProgress;
-                        exec.setProgress(m_progress);
+                DataRow row = iter.next();
+                buffer.add(row);
+                boolean lowMemory =
+                    memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers);
+                if (lowMemory && !pendingChunks.isEmpty()) {
+                    // the memory is still held by chunks being written, wait for those rather than
+                    // cutting the current chunk short
+                    LOGGER.debug("Low memory while writing " + pendingChunks.size() + " chunk(s) - mem usage: "
+                        + getMemUsage());
+                    while (!pendingChunks.isEmpty()) {
+                        collectChunk(pendingChunks.poll());
+                    }
+                } else if (lowMemory || (counter % m_maxRowsPerChunk == 0)) {
+                    LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+                    pendingChunks.add(submitChunk(buffer, exec));
+                    buffer = new ArrayList<DataRow>();
+                    while (pendingChunks.size() > m_parallelism) {
+                        collectChunk(pendingChunks.poll());
                     }
+                    chunkStartRow = counter + 1;
+                    rowsInCurrentChunk = 0;
                 }
-                buffer.clear();
-                closeChunk();
-
-                LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
-                chunkStartRow = counter + 1;
-                rowsInCurrentChunk = 0;
+            }
+            exec.setMessage("Writing temporary tables");
+            while (!pendingChunks.isEmpty()) {
+                collectChunk(pendingChunks.poll());
+            }
+        } finally {
+            // only non-empty if canceled or failed
+            for (Future<DataTable> f : pendingChunks) {
+                f.cancel(true);
             }
         }
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
-            // sort buffer
-            Collections.sort(buffer, m_rowComparator);
-            m_chunksContainer.add(buffer);
+            exec.setMessage("Sorting temporary buffer");
+            m_chunksContainer.add(sortChunk(buffer));
+        }
+        return counter;
+    }
+
+    /**
+     * Sorts the given chunk and writes it to a temporary table. This is done asynchronously unless the sorting is
+     * sequential.
+     *
+     * @param buffer the unsorted chunk, must not be used by the caller afterwards
+     * @param exec to check for cancelation
+     * @return the future temporary table
+     */
+    private Future<DataTable> submitChunk(final List<DataRow> buffer, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final ThreadPool executor = getExecutor();
+        if (executor == null) {
+            return CompletableFuture.completedFuture(writeChunk(sortChunk(buffer), exec));
+        }
+        final Callable<DataTable> writer = () -> writeChunk(sortChunk(buffer), exec);
+        return executor.enqueue(writer);
+    }
+
+    /**
+     * Waits for a chunk submitted via {@link #submitChunk(List, ExecutionMonitor)} and adds it to the chunk list.
+     *
+     * @param future the pending chunk
+     */
+    private void collectChunk(final Future<DataTable> future) throws CanceledExecutionException {
+        m_chunksContainer.offer(waitFor(future));
+        LOGGER.debug("Wrote chunk " + m_chunksContainer.size() + " - mem usage: " + getMemUsage());
+    }
+
+    /**
+     * Writes the sorted rows to a new temporary table. Can be called concurrently.
+     *
+     * @param sortedRows the sorted chunk, the list elements are released while writing
+     * @param exec to check for cancelation
+     * @return the temporary table
+     */
+    private DataTable writeChunk(final List<DataRow> sortedRows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataContainer container;
+        synchronized (m_chunkLock) {
+            container = createDataContainer(m_dataTableSpec, true);
+        }
+        container.setMaxPossibleValues(0);
+        final int totalBufferSize = sortedRows.size();
+        for (int i = 0; i < totalBufferSize; i++) {
+            // must not use Iterator#remove as it causes
+            // array copies
+            container.addRowToTable(sortedRows.set(i, null));
+            exec.checkCanceled();
+        }
+        synchronized (m_chunkLock) {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Sorts the argument chunk. Larger chunks are split into slices, which are sorted on separate threads and merged
+     * afterwards.
+     *
+     * @param buffer the chunk to sort
+     * @return the sorted rows, possibly the argument list
+     */
+    private List<DataRow> sortChunk(final List<DataRow> buffer) throws CanceledExecutionException {
+        final ThreadPool executor = getExecutor();
+        final int size = buffer.size();
+        final int nrSlices = executor == null ? 1 : Math.min(m_parallelism, size / Math.max(1, m_minRowsPerSlice));
+        if (nrSlices <= 1) {
+            sortRows(buffer);
+            return buffer;
+        }
+        final List<List<DataRow>> slices = new ArrayList<>(nrSlices);
+        for (int i = 0; i < nrSlices; i++) {
+            int from = (int)((long)i * size / nrSlices);
+            int to = (int)((long)(i + 1) * size / nrSlices);
+            slices.add(new ArrayList<>(buffer.subList(from, to)));
+        }
+        buffer.clear();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (final List<DataRow> slice : slices.subList(1, nrSlices)) {
+                final Future<?> future = executor.trySubmit(() -> sortRows(slice));
+                if (future != null) {
+                    futures.add(future);
+                } else {
+                    // no free thread, queuing the slice might wait for threads that wait for this one
+                    sortRows(slice);
+                }
+            }
+            sortRows(slices.get(0));
+            for (Future<?> f : futures) {
+                waitFor(f);
+            }
+        } finally {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+        // slices are in input order so that the merge keeps the sort stable
+        Queue<MergeEntry> entries = new ArrayDeque<>();
+        for (int i = 0; i < nrSlices; i++) {
+            entries.add(new MergeEntry(slices.get(i), i, m_rowComparator));
+        }
+        List<DataRow> result = new ArrayList<>(size);
+        for (MergingIterator it = new MergingIterator(entries); it.hasNext();) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the argument list in place (stable), comparing normalized keys if available.
+     *
+     * @param rows the rows to sort
+     */
+    private void sortRows(final List<DataRow> rows) {
+        final NormalizedKeyEncoder encoder = getKeyEncoder();
+        if (encoder == null) {
+            Collections.sort(rows, m_rowComparator);
+            return;
+        }
+        final KeyedRow[] keyedRows = new KeyedRow[rows.size()];
+        for (int i = 0; i < keyedRows.length; i++) {
+            DataRow row = rows.get(i);
+            keyedRows[i] = new KeyedRow(encoder.encode(row), row, i);
+        }
+        Arrays.sort(keyedRows, (r1, r2) -> NormalizedKeyEncoder.compare(r1.m_key, r2.m_key));
+        for (int i = 0; i < keyedRows.length; i++) {
+            rows.set(i, keyedRows[i].m_row);
+        }
+    }
+
+    /**
+     * @return the encoder for normalized sort keys or <code>null</code> if the rows are compared by a custom
+     *         comparator or the sort columns can't be encoded
+     */
+    private NormalizedKeyEncoder getKeyEncoder() {
+        return m_rowComparator instanceof RowComparator ? ((RowComparator)m_rowComparator).m_keyEncoder : null;
+    }
+
+    /**
+     * @return the sub pool used for concurrent sorting, writing and reading or <code>null</code> if the sorting is
+     *         sequential
+     */
+    private ThreadPool getExecutor() {
+        synchronized (m_chunkLock) {
+            if (m_executor == null && m_parallelism > 1) {
+                m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_parallelism);
+            }
+            return m_executor;
+        }
+    }
+
+    private static int getDefaultParallelism() {
+        return Math.max(1,
+            Math.min(Runtime.getRuntime().availableProcessors(), KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+    }
+
+    /**
+     * Waits for the argument task and unwraps any exception thrown by it.
+     *
+     * @param future the task
+     * @return its result
+     * @throws CanceledExecutionException if the task or the waiting thread was canceled
+     */
+    private static <T> T waitFor(final Future<T> future) throws CanceledExecutionException {
+        try {
+            return getInvisibly(future);
+        } catch (InterruptedException e) {
+            CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
+            cee.initCause(e);
+            throw cee;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause == null) {
+                cause = e;
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Waits for the argument task. If the current thread is taken out of a thread pool it waits
+     * {@link ThreadPool#runInvisible(Callable) invisibly}, i.e. it doesn't hold a slot of the pool while waiting. The
+     * tasks run in a sub pool of the global pool, which only starts them if the global pool has a free slot.
+     *
+     * @param future the task
+     * @return its result
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the task failed
+     */
+    private static <T> T getInvisibly(final Future<T> future) throws InterruptedException, ExecutionException {
+        final ThreadPool pool = ThreadPool.currentPool();
+        if (pool == null || future.isDone()) {
+            return future.get();
+        }
+        try {
+            return pool.runInvisible(future::get);
+        } catch (ExecutionException e) {
+            // runInvisible wraps whatever Future#get throws
+            final Throwable cause = e.getCause();
+            if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw e;
         }
-        outerCounter = counter;
-        return outerCounter;
     }
 
     /**
@@ -696,6 +1083,11 @@ private String getMemUsage() {
     private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
         private DataRow m_row;
 
+        /** Normalized key of the current row, <code>null</code> if the rows are compared by the comparator. */
+        private byte[] m_key;
+
+        private NormalizedKeyEncoder m_keyEncoder;
+
         private Iterable<DataRow> m_iterable;
 
         private Iterator<DataRow> m_iterator;
@@ -704,6 +1096,21 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        /** Executor reading ahead the next batch of rows, <code>null</code> if rows are read on demand. */
+        private ThreadPool m_readAheadExecutor;
+
+        private List<DataRow> m_batch = Collections.emptyList();
+
+        private int m_batchIndex;
+
+        private Future<List<DataRow>> m_readAhead;
+
+        /** Set when the run is disposed, stops a running read-ahead. */
+        private volatile boolean m_isDisposed;
+
+        /** Whether the temporary table of the run has been cleared. */
+        private boolean m_isCleared;
+
         /**
          * @param iterator
          * @param index
@@ -718,9 +1125,78 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
-                if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                // in-memory runs are not worth reading ahead
+                m_readAheadExecutor = m_iterable instanceof DataTable ? getExecutor() : null;
+                m_keyEncoder = getKeyEncoder();
+                advance();
+            }
+        }
+
+        /** Moves to the next row of the run and clears the temporary table once the run is exhausted. */
+        private void advance() {
+            if (m_readAheadExecutor == null) {
+                m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            } else {
+                if (m_batchIndex >= m_batch.size()) {
+                    m_batch = m_readAhead == null ? readBatch() : waitForReadAhead();
+                    m_batchIndex = 0;
+                    final Callable<List<DataRow>> reader = this::readBatch;
+                    // a short batch indicates the end of the run; without a free thread the next batch is read
+                    // synchronously
+                    m_readAhead = m_batch.size() < READ_AHEAD_ROWS ? null : m_readAheadExecutor.trySubmit(reader);
+                }
+                m_row = m_batchIndex < m_batch.size() ? m_batch.set(m_batchIndex++, null) : null;
+            }
+            m_key = m_row != null && m_keyEncoder != null ? m_keyEncoder.encode(m_row) : null;
+            if (m_row == null) {
+                clearRun();
+            }
+        }
+
+        /** Reads the next batch, synchronized with {@link #dispose()} so the table isn't cleared while reading. */
+        private synchronized List<DataRow> readBatch() {
+            List<DataRow> batch = new ArrayList<>(READ_AHEAD_ROWS);
+            while (!m_isDisposed && batch.size() < READ_AHEAD_ROWS && m_iterator.hasNext()) {
+                batch.add(m_iterator.next());
+            }
+            return batch;
+        }
+
+        private synchronized void clearRun() {
+            if (!m_isCleared && m_iterable instanceof DataTable) {
+                clearTable((DataTable)m_iterable);
+            }
+            m_isCleared = true;
+        }
+
+        /**
+         * Releases a run that has not been read completely: cancels the pending read-ahead (a running read stops after
+         * the current row) and clears the temporary table.
+         */
+        private void dispose() {
+            m_isDisposed = true;
+            if (m_readAhead != null) {
+                m_readAhead.cancel(false);
+                m_readAhead = null;
+            }
+            m_row = null;
+            m_key = null;
+            m_batch = Collections.emptyList();
+            // waits for a running read-ahead to return
+            clearRun();
+        }
+
+        private List<DataRow> waitForReadAhead() {
+            try {
+                return getInvisibly(m_readAhead);
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Execution has been interrupted!", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
                 }
+                throw new RuntimeException(cause);
             }
         }
 
@@ -729,14 +1205,7 @@ private void open() {
          */
         @Override
         public boolean hasNext() {
-            // open the file lazily
-            if (m_row == null) {
-                if (m_iterable instanceof DataTable) {
-                    clearTable((DataTable)m_iterable);
-                }
-                return false;
-            }
-            return true;
+            return m_row != null;
         }
 
         /**
@@ -744,12 +1213,11 @@ public boolean hasNext() {
          */
         @Override
         public DataRow next() {
-            // open the file lazily
             if (m_row == null) {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            advance();
             return toReturn;
         }
 
@@ -766,7 +1234,15 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            // exhausted runs are larger than any other
+            int value;
+            if (this.m_row == null || that.m_row == null) {
+                value = this.m_row == that.m_row ? 0 : (this.m_row == null ? 1 : -1);
+            } else if (this.m_key != null && that.m_key != null) {
+                value = NormalizedKeyEncoder.compare(this.m_key, that.m_key);
+            } else {
+                value = m_comparator.compare(this.m_row, that.m_row);
+            }
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -806,12 +1282,19 @@ public boolean equals(final Object obj) {
     }
 
     /**
-     * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows.
+     * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows. The runs are merged
+     * using a tournament tree of losers, which needs a single comparison per tree level to replace the returned row.
      *
      * @author Marcel Hanser
      */
     private static final class MergingIterator implements Iterator<DataRow> {
-        private Queue<MergeEntry> m_containerToMerge;
+        private final MergeEntry[] m_entries;
+
+        /**
+         * The tree of losers: element 0 holds the index of the overall winner, element i &gt; 0 the index of the
+         * entry that lost the match at inner node i. The entry at index j is the leaf at (virtual) node k + j.
+         */
+        private final int[] m_tree;
 
         private boolean m_opened = false;
 
@@ -820,7 +1303,8 @@ private static final class MergingIterator implements Iterator<DataRow> {
          */
         private MergingIterator(final Queue<MergeEntry> containerToMerge) {
             super();
-            m_containerToMerge = containerToMerge;
+            m_entries = containerToMerge.toArray(new MergeEntry[containerToMerge.size()]);
+            m_tree = new int[Math.max(1, m_entries.length)];
         }
 
         /**
@@ -829,15 +1313,32 @@ private MergingIterator(final Queue<MergeEntry> containerToMerge) {
         @Override
         public boolean hasNext() {
             if (!m_opened) {
-                Queue<MergeEntry> sortedEntries = new PriorityQueue<>();
-                for (MergeEntry entry : m_containerToMerge) {
+                for (MergeEntry entry : m_entries) {
                     entry.open();
-                    sortedEntries.add(entry);
                 }
-                m_containerToMerge = sortedEntries;
+                if (m_entries.length > 0) {
+                    m_tree[0] = initTree(1);
+                }
                 m_opened = true;
             }
-            return !m_containerToMerge.isEmpty();
+            return m_entries.length > 0 && m_entries[m_tree[0]].hasNext();
+        }
+
+        /** Plays the matches of the subtree rooted at the argument node, returns the winner's index. */
+        private int initTree(final int node) {
+            final int k = m_entries.length;
+            if (node >= k) {
+                return node - k;
+            }
+            int left = initTree(2 * node);
+            int right = initTree(2 * node + 1);
+            if (m_entries[left].compareTo(m_entries[right]) < 0) {
+                m_tree[node] = right;
+                return left;
+            } else {
+                m_tree[node] = left;
+                return right;
+            }
         }
 
         /**
@@ -846,11 +1347,17 @@ public boolean hasNext() {
         @Override
         public DataRow next() {
             if (hasNext()) {
-                MergeEntry first = m_containerToMerge.poll();
-                DataRow currentCell = first.next();
-                if (first.hasNext()) {
-                    m_containerToMerge.offer(first);
+                int winner = m_tree[0];
+                DataRow currentCell = m_entries[winner].next();
+                // replay the matches on the path from the winner's leaf to the root
+                for (int node = (winner + m_entries.length) >>> 1; node > 0; node >>>= 1) {
+                    if (m_entries[m_tree[node]].compareTo(m_entries[winner]) < 0) {
+                        int loser = winner;
+                        winner = m_tree[node];
+                        m_tree[node] = loser;
+                    }
                 }
+                m_tree[0] = winner;
                 return currentCell;
             } else {
                 throw new NoSuchElementException();
@@ -864,6 +1371,28 @@ public DataRow next() {
         public void remove() {
             throw new UnsupportedOperationException();
         }
+
+        /** Releases all runs that have not been read completely, the iterator must not be used afterwards. */
+        private void dispose() {
+            for (MergeEntry entry : m_entries) {
+                entry.dispose();
+            }
+        }
+    }
+
+    /** A row along with its normalized sort key and its position in the input. */
+    private static final class KeyedRow {
+        private final byte[] m_key;
+
+        private final DataRow m_row;
+
+        private final long m_index;
+
+        KeyedRow(final byte[] key, final DataRow row, final long index) {
+            m_key = key;
+            m_row = row;
+            m_index = index;
+        }
     }
 
     /**
@@ -893,6 +1422,9 @@ private static final class RowComparator implements Comparator<DataRow> {
          */
         private final boolean m_sortMissingsToEnd;
 
+        /** Encoder for normalized keys that order like this comparator, <code>null</code> if not supported. */
+        private final NormalizedKeyEncoder m_keyEncoder;
+
         /**
          * @param indices Array of sort column indices.
          * @param sortAscending Sort order.
@@ -914,6 +1446,7 @@ private static final class RowComparator implements Comparator<DataRow> {
             }
             m_sortAscending = sortAscending;
             m_sortMissingsToEnd = sortMissingsToEnd;
+            m_keyEncoder = NormalizedKeyEncoder.create(indices, sortAscending, sortMissingsToEnd, spec);
         }
 
         /** {@inheritDoc} */
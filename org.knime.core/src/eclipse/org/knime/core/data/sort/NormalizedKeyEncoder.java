@@ -0,0 +1,310 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.date.DateAndTimeCell;
+import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Encodes the sort columns of a row into a normalized byte key. Two keys compare (unsigned, lexicographically, see
+ * {@link #compare(byte[], byte[])}) the same way as the rows compare according to the column comparators, including
+ * the sort order and the handling of missing values. Encoding the key once per row replaces the comparator dispatch
+ * in every comparison.
+ *
+ * <p>
+ * Keys can only be created for the row key and for columns whose comparator is the one of the integer, long, double,
+ * boolean, string or date and time types, see {@link #create(int[], boolean[], boolean, DataTableSpec)}. The
+ * encoding of each column is prefix-free, so the concatenation of the column encodings preserves the order.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class NormalizedKeyEncoder {
+
+    private static final byte KIND_INT = 1;
+
+    private static final byte KIND_LONG = 2;
+
+    private static final byte KIND_DOUBLE = 3;
+
+    private static final byte KIND_BOOLEAN = 4;
+
+    private static final byte KIND_STRING = 5;
+
+    private static final byte KIND_DATE_AND_TIME = 6;
+
+    /** Encoding of the row key, used for column index -1. */
+    private static final byte KIND_ROW_KEY = 7;
+
+    /** Maps the class of a type's comparator to the encoding that orders the values alike. */
+    private static final Map<Class<?>, Byte> KINDS = new HashMap<>();
+
+    static {
+        KINDS.put(IntCell.TYPE.getComparator().getClass(), KIND_INT);
+        KINDS.putIfAbsent(LongCell.TYPE.getComparator().getClass(), KIND_LONG);
+        KINDS.putIfAbsent(DoubleCell.TYPE.getComparator().getClass(), KIND_DOUBLE);
+        KINDS.putIfAbsent(StringCell.TYPE.getComparator().getClass(), KIND_STRING);
+        KINDS.putIfAbsent(BooleanCell.TYPE.getComparator().getClass(), KIND_BOOLEAN);
+        @SuppressWarnings("deprecation")
+        DataValueComparator dateComparator = DateAndTimeCell.TYPE.getComparator();
+        KINDS.putIfAbsent(dateComparator.getClass(), KIND_DATE_AND_TIME);
+    }
+
+    private static final byte MISSING_FIRST = 0x00;
+
+    private static final byte PRESENT = 0x01;
+
+    private static final byte MISSING_LAST = 0x02;
+
+    private final int[] m_indices;
+
+    private final byte[] m_kinds;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean m_sortMissingsToEnd;
+
+    private NormalizedKeyEncoder(final int[] indices, final byte[] kinds, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd) {
+        m_indices = indices;
+        m_kinds = kinds;
+        m_sortAscending = sortAscending;
+        m_sortMissingsToEnd = sortMissingsToEnd;
+    }
+
+    /**
+     * Creates an encoder for the given sort columns if all of them can be encoded.
+     *
+     * @param indices the sort column indices, -1 for the row key
+     * @param sortAscending the sort order per column
+     * @param sortMissingsToEnd whether missing values are sorted to the end independent of the sort order
+     * @param spec the spec of the table to sort
+     * @return a new encoder or <code>null</code> if any of the columns has an unsupported comparator
+     */
+    static NormalizedKeyEncoder create(final int[] indices, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final DataTableSpec spec) {
+        final byte[] kinds = new byte[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] == -1) {
+                kinds[i] = KIND_ROW_KEY;
+            } else {
+                Byte kind = KINDS.get(spec.getColumnSpec(indices[i]).getType().getComparator().getClass());
+                if (kind == null) {
+                    return null;
+                }
+                kinds[i] = kind;
+            }
+        }
+        return new NormalizedKeyEncoder(indices.clone(), kinds, sortAscending.clone(), sortMissingsToEnd);
+    }
+
+    /**
+     * Encodes the sort columns of the argument row. Can be called concurrently.
+     *
+     * @param row the row to encode
+     * @return the normalized key
+     */
+    byte[] encode(final DataRow row) {
+        final KeyBuilder key = new KeyBuilder(9 * m_indices.length + 8);
+        for (int i = 0; i < m_indices.length; i++) {
+            final int start = key.m_length;
+            final boolean ascending = m_sortAscending[i];
+            if (m_kinds[i] == KIND_ROW_KEY) {
+                encodeString(key, row.getKey().getString());
+                if (!ascending) {
+                    key.invert(start);
+                }
+                continue;
+            }
+            final DataCell cell = row.getCell(m_indices[i]);
+            if (cell.isMissing()) {
+                if (m_sortMissingsToEnd) {
+                    key.add(MISSING_LAST);
+                } else {
+                    // smaller than any value, the order is reversed if descending
+                    key.add(ascending ? MISSING_FIRST : (byte)~MISSING_FIRST);
+                }
+                continue;
+            }
+            key.add(m_sortMissingsToEnd || ascending ? PRESENT : (byte)~PRESENT);
+            final int valueStart = key.m_length;
+            switch (m_kinds[i]) {
+                case KIND_INT:
+                    key.addInt(((IntValue)cell).getIntValue() ^ Integer.MIN_VALUE);
+                    break;
+                case KIND_LONG:
+                    key.addLong(((LongValue)cell).getLongValue() ^ Long.MIN_VALUE);
+                    break;
+                case KIND_DOUBLE:
+                    // orders like Double#compare: -0.0 before 0.0, NaN last
+                    long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                    key.addLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+                    break;
+                case KIND_BOOLEAN:
+                    key.add(((BooleanValue)cell).getBooleanValue() ? (byte)1 : (byte)0);
+                    break;
+                case KIND_STRING:
+                    encodeString(key, ((StringValue)cell).getStringValue());
+                    break;
+                case KIND_DATE_AND_TIME:
+                    key.addLong(getUTCTimeInMillis(cell) ^ Long.MIN_VALUE);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown key encoding: " + m_kinds[i]);
+            }
+            if (!ascending) {
+                key.invert(valueStart);
+            }
+        }
+        return key.toByteArray();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long getUTCTimeInMillis(final DataCell cell) {
+        return ((DateAndTimeValue)cell).getUTCTimeInMillis();
+    }
+
+    /**
+     * Appends the string such that the order of {@link String#compareTo(String)} is preserved: each UTF-16 char is
+     * written as one to three bytes whose first byte identifies the length, the string is terminated by a zero byte.
+     */
+    private static void encodeString(final KeyBuilder key, final String s) {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            final int c = s.charAt(i);
+            if (c < 0x7F) {
+                key.add((byte)(c + 1));
+            } else if (c < 0x407F) {
+                final int v = c - 0x7F;
+                key.add((byte)(0x80 | (v >>> 8)));
+                key.add((byte)v);
+            } else {
+                final int v = c - 0x407F;
+                key.add((byte)0xC0);
+                key.add((byte)(v >>> 8));
+                key.add((byte)v);
+            }
+        }
+        key.add((byte)0);
+    }
+
+    /**
+     * Compares two normalized keys byte-wise, treating the bytes as unsigned.
+     *
+     * @param k1 the first key
+     * @param k2 the second key
+     * @return a negative number, zero, or a positive number as the first key is smaller, equal or larger
+     */
+    static int compare(final byte[] k1, final byte[] k2) {
+        final int length = Math.min(k1.length, k2.length);
+        for (int i = 0; i < length; i++) {
+            if (k1[i] != k2[i]) {
+                return (k1[i] & 0xFF) - (k2[i] & 0xFF);
+            }
+        }
+        return k1.length - k2.length;
+    }
+
+    /** Minimal growable byte array. */
+    private static final class KeyBuilder {
+        private byte[] m_bytes;
+
+        private int m_length;
+
+        KeyBuilder(final int capacity) {
+            m_bytes = new byte[capacity];
+        }
+
+        void add(final byte b) {
+            if (m_length == m_bytes.length) {
+                m_bytes = Arrays.copyOf(m_bytes, 2 * m_bytes.length);
+            }
+            m_bytes[m_length++] = b;
+        }
+
+        void addInt(final int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                add((byte)(value >>> shift));
+            }
+        }
+
+        void addLong(final long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                add((byte)(value >>> shift));
+            }
+        }
+
+        /** Reverses the order of the bytes appended since the argument position. */
+        void invert(final int from) {
+            for (int i = from; i < m_length; i++) {
+                m_bytes[i] = (byte)~m_bytes[i];
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(m_bytes, m_length);
+        }
+    }
+}
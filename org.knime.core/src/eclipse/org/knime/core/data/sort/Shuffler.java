@@ -48,21 +48,25 @@
  */
 package org.knime.core.data.sort;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.function.UnaryOperator;
 
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.container.BlobSupportDataRow;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 
 /**
@@ -71,11 +75,28 @@
  * requires only linear runtime. For further details see "Fisher-Yates shuffle",
  * from Dictionary of Algorithms and Data Structures, Paul E. Black, ed., NIST.
  *
+ * <p>
+ * The table is not sorted. Once the permutation is drawn each row's target position is known, so the rows are
+ * scattered into on-disk buckets, each covering a contiguous range of target positions, in a single pass over the
+ * input. Each bucket is then read into memory, its rows are put in place and appended to the output. Buckets that
+ * are too large to be held in memory are scattered again (at most {@link #MAX_OPEN_BUCKETS} buckets are written at
+ * the same time). If the {@link MemoryAlertSystem} signals low memory while a bucket is read, the rows read so far
+ * are dropped and the bucket is scattered into buckets of half that many rows. For a given seed the result is the
+ * same as the one of previous (sort based) versions.
+ *
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  * @since 3.6
  */
 public final class Shuffler {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(Shuffler.class);
+
+    /** Maximum number of rows that are held in memory to put a bucket in place. */
+    static final int DEFAULT_BUCKET_SIZE = 100000;
+
+    /** Maximum number of bucket containers that are written concurrently. */
+    static final int MAX_OPEN_BUCKETS = 32;
+
     private Shuffler() {
         // static utility class
     }
@@ -93,94 +114,261 @@ private Shuffler() {
      * @since 3.6
      */
     public static BufferedDataTable shuffle(final BufferedDataTable table, final ExecutionContext exec, final long seed) throws CanceledExecutionException {
-        CheckUtils.checkArgument(table.size() <= Integer.MAX_VALUE,
+        return shuffle(table, exec, seed, DEFAULT_BUCKET_SIZE, MAX_OPEN_BUCKETS);
+    }
+
+    /**
+     * Shuffles the table, holding at most <b>bucketSize</b> rows in memory and writing at most
+     * <b>maxOpenBuckets</b> buckets at the same time. Package scope for testing.
+     */
+    static BufferedDataTable shuffle(final BufferedDataTable table, final ExecutionContext exec, final long seed,
+        final int bucketSize, final int maxOpenBuckets) throws CanceledExecutionException {
+        CheckUtils.checkArgument(table.size() < Integer.MAX_VALUE,
                 "It's currently not possible to shuffle tables with more than Integer.MAX_VALUE rows.");
+        CheckUtils.checkArgument(bucketSize > 0, "Bucket size must be positive: %d", bucketSize);
+        CheckUtils.checkArgument(maxOpenBuckets > 1, "At least two buckets must be open: %d", maxOpenBuckets);
+        final int rowCount = (int)table.size();
+        final DataTableSpec spec = table.getDataTableSpec();
+        final BufferedDataContainer out = exec.createDataContainer(spec);
+        int[] permutation = createPermutation(seed, rowCount);
+        final Shuffle shuffle = new Shuffle(spec, exec, maxOpenBuckets, MemoryAlertSystem.getInstance());
+        int scatterBucketSize = bucketSize;
+        if (rowCount <= bucketSize) {
+            final DataRow[] rows = new DataRow[rowCount];
+            final int read =
+                shuffle.readInPlace(table, 0, targetsOf(permutation), UnaryOperator.identity(), rows);
+            if (read == rowCount) {
+                permutation = null;
+                addRows(rows, out, new Progress(exec, rowCount, 0.0));
+                out.close();
+                return out.getTable();
+            }
+            scatterBucketSize = Math.max(1, read / 2);
+        }
 
-        RandomNumberAppendFactory randomnumfac =
-                RandomNumberAppendFactory.create(seed, table);
-        ColumnRearranger colre =
-                new ColumnRearranger(table.getDataTableSpec());
-        colre.append(randomnumfac);
-        BufferedDataTable intermediate =
-                exec.createColumnRearrangeTable(table, colre, exec
-                        .createSubProgress(.2));
-        List<String> include = new ArrayList<>();
-        String randomcol = randomnumfac.getColumnSpecs()[0].getName();
-        include.add(randomcol);
-        BufferedDataTableSorter sorter = new BufferedDataTableSorter(intermediate, include, new boolean[]{true});
-        BufferedDataTable sorted = sorter.sort(exec.createSubExecutionContext(0.75));
-        colre = new ColumnRearranger(sorted.getDataTableSpec());
-        colre.remove(randomcol);
-        return exec.createColumnRearrangeTable(sorted, colre, exec
-                        .createSubProgress(.05));
+        final Progress scatterProgress = new Progress(exec, rowCount, 0.0);
+        final BufferedDataTable[] buckets =
+            shuffle.scatter(table, 0, rowCount, scatterProgress, targetsOf(permutation), scatterBucketSize);
+        permutation = null;
+        shuffle.placeAll(buckets, 0, rowCount, out, new Progress(exec, rowCount, 0.5), scatterBucketSize);
+        out.close();
+        return out.getTable();
     }
 
+    /** The target function of the input rows, which are read in order. */
+    private static TargetFunction targetsOf(final int[] permutation) {
+        return new TargetFunction() {
+            private int m_index;
 
-    /*
-     * The CellFactory adds a shuffled number to each input DataRow.
-     */
-    private static final class RandomNumberAppendFactory
-        extends SingleCellFactory {
-
-        /** Shuffled row number array. */
-        private int[] m_shuffle;
-
-        /** Position in array. */
-        private int m_pos = 0;
-
-        /** Constructor. */
-        private RandomNumberAppendFactory(final Long seed,
-                final int rowCount, final DataColumnSpec appendSpec) {
-            super(appendSpec);
-            Random random;
-            if (seed != null) {
-                random = new Random(seed.longValue());
-            } else {
-                random = new Random();
+            @Override
+            public int target(final DataRow row) {
+                return permutation[m_index++];
             }
-            int nrRows = rowCount;
+        };
+    }
 
-            // initialize
-            m_shuffle = new int[nrRows];
-            for (int i = 0; i < nrRows; i++) {
-                m_shuffle[i] = i;
-            }
+    /** Draws the permutation, row <code>i</code> is moved to position <code>result[i]</code>. */
+    private static int[] createPermutation(final long seed, final int rowCount) {
+        final Random random = new Random(seed);
+        final int[] shuffle = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            shuffle[i] = i;
+        }
+        for (int i = 0; i < shuffle.length; i++) {
+            int r = random.nextInt(i + 1);
+            int swap = shuffle[r];
+            shuffle[r] = shuffle[i];
+            shuffle[i] = swap;
+        }
+        return shuffle;
+    }
+
+    private static void addRows(final DataRow[] rows, final BufferedDataContainer out, final Progress progress)
+        throws CanceledExecutionException {
+        for (int i = 0; i < rows.length; i++) {
+            out.addRowToTable(rows[i]);
+            rows[i] = null;
+            progress.rowDone();
+        }
+    }
+
+    /** Determines the target position of a row while it is scattered. */
+    private interface TargetFunction {
+        int target(DataRow row);
+    }
+
+    /** Reports progress for one phase, either scattering the input or writing the output (half each). */
+    private static final class Progress {
+
+        private final ExecutionContext m_exec;
 
-            // let's shuffle
-            for (int i = 0; i < m_shuffle.length; i++) {
-                int r = random.nextInt(i + 1);
-                int swap = m_shuffle[r];
-                m_shuffle[r] = m_shuffle[i];
-                m_shuffle[i] = swap;
+        private final double m_rowCount;
+
+        private final double m_offset;
+
+        private long m_rows;
+
+        Progress(final ExecutionContext exec, final int rowCount, final double offset) {
+            m_exec = exec;
+            m_rowCount = rowCount;
+            m_offset = offset;
+        }
+
+        void rowDone() throws CanceledExecutionException {
+            m_rows++;
+            if ((m_rows & 0x3FF) == 0) {
+                m_exec.checkCanceled();
+                m_exec.setProgress(m_offset + 0.5 * m_rows / m_rowCount);
             }
-       }
-
-        /** {@inheritDoc} */
-        @Override
-        public DataCell getCell(final DataRow row) {
-           assert (m_pos <= m_shuffle.length);
-           DataCell nextRandomNumberCell = new IntCell(m_shuffle[m_pos]);
-           m_pos++;
-           return nextRandomNumberCell;
         }
+    }
 
-        /** Factory method to create a new random number append factory. */
-        private static RandomNumberAppendFactory create(final Long seed,
-                final BufferedDataTable inData) {
-            final DataTableSpec spec = inData.getDataTableSpec();
-            final long tableSize = inData.size();
-            CheckUtils.checkArgument(tableSize < Integer.MAX_VALUE,
-                "It's currently not possible to shuffle tables with more than Integer.MAX_VALUE rows.");
-            final int rowCount = (int) tableSize;
-            String appendName = "random_row_number";
+    /** Copies the first cells of the row into a new array of the given length, blobs are not unwrapped. */
+    private static DataCell[] copyCells(final DataRow row, final int length) {
+        final DataCell[] cells = new DataCell[length];
+        final int count = Math.min(length, row.getNumCells());
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int c = 0; c < count; c++) {
+            cells[c] = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(c) : row.getCell(c);
+        }
+        return cells;
+    }
+
+    /** Scatters rows into buckets with the target position as additional (last) column, puts buckets in place. */
+    private static final class Shuffle {
+
+        private final DataTableSpec m_bucketSpec;
+
+        private final int m_targetColumn;
+
+        private final ExecutionContext m_exec;
+
+        private final int m_maxOpenBuckets;
+
+        /** Signals low memory while rows are read into memory. */
+        private final MemoryActionIndicator m_memIndicator;
+
+        private final TargetFunction m_targetFromColumn = new TargetFunction() {
+            @Override
+            public int target(final DataRow row) {
+                return ((IntValue)row.getCell(m_targetColumn)).getIntValue();
+            }
+        };
+
+        Shuffle(final DataTableSpec spec, final ExecutionContext exec, final int maxOpenBuckets,
+            final MemoryAlertSystem memService) {
+            String targetName = "random_row_number";
             int uniquifier = 1;
-            while (spec.containsName(appendName)) {
-                appendName = "random_row_number_#" + uniquifier++;
+            while (spec.containsName(targetName)) {
+                targetName = "random_row_number_#" + uniquifier++;
             }
-            DataColumnSpec s = new DataColumnSpecCreator(
-                    appendName, IntCell.TYPE).createSpec();
-            return new RandomNumberAppendFactory(seed, rowCount, s);
+            m_bucketSpec = new DataTableSpec(spec,
+                new DataTableSpec(new DataColumnSpecCreator(targetName, IntCell.TYPE).createSpec()));
+            m_targetColumn = spec.getNumColumns();
+            m_exec = exec;
+            m_maxOpenBuckets = maxOpenBuckets;
+            m_memIndicator = memService.newIndicator();
+        }
+
+        /** Number of buckets of (at most) the given size the range [from, to) is split into. */
+        private int bucketCount(final int from, final int to, final int bucketSize) {
+            final int count = (int)(((long)to - from + bucketSize - 1) / bucketSize);
+            return Math.min(m_maxOpenBuckets, count);
+        }
+
+        /** Number of target positions covered by each bucket of range [from, to). */
+        private int bucketWidth(final int from, final int to, final int bucketSize) {
+            final int count = bucketCount(from, to, bucketSize);
+            return (int)(((long)to - from + count - 1) / count);
         }
 
+        /**
+         * Reads the rows, whose targets are all in [from, from + dest.length), into the array at their target
+         * positions. Stops if low memory is signaled once at least {@link #m_maxOpenBuckets} rows are held; the array
+         * is cleared in that case.
+         *
+         * @return the number of rows read, less than the array length if stopped because of low memory
+         */
+        int readInPlace(final BufferedDataTable rows, final int from, final TargetFunction targetFunction,
+            final UnaryOperator<DataRow> rowFunction, final DataRow[] dest) {
+            int read = 0;
+            try (CloseableRowIterator it = rows.iterator()) {
+                while (it.hasNext()) {
+                    final DataRow row = it.next();
+                    dest[targetFunction.target(row) - from] = rowFunction.apply(row);
+                    read++;
+                    if (read >= m_maxOpenBuckets && read < dest.length && m_memIndicator.lowMemoryActionRequired()) {
+                        LOGGER.debug("Low memory while holding " + read + " of " + dest.length
+                            + " rows of a bucket in memory - scattering it into smaller buckets");
+                        Arrays.fill(dest, null);
+                        return read;
+                    }
+                }
+            }
+            return read;
+        }
+
+        /** Writes the rows, whose targets are all in [from, to), into buckets of contiguous target ranges. */
+        BufferedDataTable[] scatter(final Iterable<DataRow> rows, final int from, final int to,
+            final Progress progress, final TargetFunction targetFunction, final int bucketSize)
+            throws CanceledExecutionException {
+            final int width = bucketWidth(from, to, bucketSize);
+            final BufferedDataContainer[] containers = new BufferedDataContainer[bucketCount(from, to, bucketSize)];
+            for (int i = 0; i < containers.length; i++) {
+                // buckets go to disk right away, the number of open containers would otherwise add up
+                containers[i] = m_exec.createDataContainer(m_bucketSpec, false, 0);
+            }
+            for (DataRow row : rows) {
+                final int target = targetFunction.target(row);
+                final DataCell[] cells = copyCells(row, m_targetColumn + 1);
+                cells[m_targetColumn] = new IntCell(target);
+                containers[(target - from) / width].addRowToTable(new BlobSupportDataRow(row.getKey(), cells));
+                if (progress != null) {
+                    progress.rowDone();
+                }
+            }
+            final BufferedDataTable[] buckets = new BufferedDataTable[containers.length];
+            for (int i = 0; i < containers.length; i++) {
+                containers[i].close();
+                buckets[i] = containers[i].getTable();
+            }
+            return buckets;
+        }
+
+        /**
+         * Puts the buckets of range [from, to), which were scattered with the given bucket size, in place, in order,
+         * and clears them afterwards.
+         */
+        void placeAll(final BufferedDataTable[] buckets, final int from, final int to,
+            final BufferedDataContainer out, final Progress progress, final int bucketSize)
+            throws CanceledExecutionException {
+            final int width = bucketWidth(from, to, bucketSize);
+            for (int i = 0; i < buckets.length; i++) {
+                final int bucketFrom = (int)Math.min(to, from + (long)i * width);
+                final int bucketTo = (int)Math.min(to, (long)bucketFrom + width);
+                place(buckets[i], bucketFrom, bucketTo, out, progress, bucketSize);
+                m_exec.clearTable(buckets[i]);
+                buckets[i] = null;
+            }
+        }
+
+        private void place(final BufferedDataTable bucket, final int from, final int to,
+            final BufferedDataContainer out, final Progress progress, final int bucketSize)
+            throws CanceledExecutionException {
+            if (to - from > bucketSize) {
+                final BufferedDataTable[] subBuckets = scatter(bucket, from, to, null, m_targetFromColumn, bucketSize);
+                placeAll(subBuckets, from, to, out, progress, bucketSize);
+                return;
+            }
+            final DataRow[] rows = new DataRow[to - from];
+            final int read = readInPlace(bucket, from, m_targetFromColumn,
+                row -> new BlobSupportDataRow(row.getKey(), copyCells(row, m_targetColumn)), rows);
+            if (read < rows.length) {
+                // the bucket is larger than half the rows read, hence scattered into at least two buckets
+                place(bucket, from, to, out, progress, Math.max(1, read / 2));
+                return;
+            }
+            addRows(rows, out, progress);
+        }
     }
 }
@@ -60,6 +60,8 @@
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.swing.JComponent;
 import javax.swing.SwingUtilities;
@@ -74,12 +76,14 @@
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.RowSpliterator;
 import org.knime.core.data.container.BlobSupportDataRow;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ConcatenateTable;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.container.DefaultTableStoreFormat;
+import org.knime.core.data.container.FilterDelegateRowIterator;
 import org.knime.core.data.container.JoinedTable;
 import org.knime.core.data.container.RearrangeColumnsTable;
 import org.knime.core.data.container.TableSpecReplacerTable;
@@ -354,6 +358,31 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
         return m_delegate.iteratorBuilder();
     }
 
+    /**
+     * {@inheritDoc} The returned spliterator splits the table into row ranges that are read independently (with
+     * tables written to disc, each part seeks to its first row), which allows the table to be processed by multiple
+     * threads. See {@link RowSpliterator} for details.
+     *
+     * @since 3.8
+     */
+    @Override
+    public RowSpliterator spliterator() {
+        return new RowSpliterator(this::iteratorBuilder, size());
+    }
+
+    /**
+     * A stream over the rows of this table, see {@link #spliterator()}. The stream should be closed if it's not
+     * consumed entirely (e.g. by short-circuiting operations) in order to release the underlying iterators.
+     *
+     * @param parallel whether the returned stream is parallel
+     * @return a new stream over all rows of this table
+     * @since 3.8
+     */
+    public Stream<DataRow> stream(final boolean parallel) {
+        RowSpliterator spliterator = spliterator();
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::close);
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -535,7 +564,8 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
             m_delegate.saveToFile(outFile, s, exec);
         } else {
             if (m_delegate instanceof RearrangeColumnsTable) {
-                ContainerTable appendTable = ((RearrangeColumnsTable)m_delegate).getAppendTable();
+                // computes the columns of a lazy table, as they are saved anyway and may use a non-default format
+                ContainerTable appendTable = ((RearrangeColumnsTable)m_delegate).getAppendTableToSave(exec);
                 if (appendTable != null
                     && !DefaultTableStoreFormat.class.equals(appendTable.getTableStoreFormat().getClass())) {
                     // use different identifier to cause old versions of KNIME to fail loading newer workflows
@@ -940,7 +970,18 @@ void saveToFile(final File f, final NodeSettingsWO settings,
          */
         @Override
         default RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
-            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec());
+            return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), getDataTableSpec()) {
+                @Override
+                public boolean supportsRowFilter() {
+                    return true;
+                }
+
+                @Override
+                protected CloseableRowIterator applyRowFilter(final CloseableRowIterator iterator) {
+                    return new FilterDelegateRowIterator(iterator, getFromRowIndex(), getToRowIndex(),
+                        getCellPredicates());
+                }
+            };
         }
 
         /** Reference to the underlying tables, if any. A reference
@@ -357,13 +357,50 @@ public BufferedDataContainer createDataContainer(final DataTableSpec spec,
      */
     public BufferedDataContainer createDataContainer(final DataTableSpec spec,
             final boolean initDomain, final int maxCellsInMemory) {
-        boolean forceCopyOfBlobs = m_node.isModelCompatibleTo(LoopEndNode.class)
-                || m_node.isModelCompatibleTo(VirtualSubNodeOutputNodeModel.class);
         return new BufferedDataContainer(spec, initDomain, m_node,
-                m_memoryPolicy, forceCopyOfBlobs, maxCellsInMemory, m_dataRepository,
+                m_memoryPolicy, isForceCopyOfBlobs(), maxCellsInMemory, m_dataRepository,
                 m_localTableRepository, m_fileStoreHandler);
     }
 
+    /**
+     * Creates a container to which rows can be added from multiple threads
+     * concurrently. Each producing thread writes into a partition of its own,
+     * the partitions are stitched together into one table when the container
+     * is closed. See {@link ParallelBufferedDataContainer} for details on the
+     * order of the rows in the result table.
+     * <p>Use this method instead of {@link #createDataContainer(DataTableSpec,
+     * boolean)} if rows are generated by multiple threads and writing them
+     * sequentially would limit the throughput.
+     * @param spec The spec to open the container.
+     * @param initDomain If the domain information from the argument shall
+     * be used to initialize the domain (min, max, possible values). If false,
+     * the domain will be determined on the fly.
+     * @return A container to which rows can be added concurrently and which
+     * provides the <code>BufferedDataTable</code>.
+     * @throws NullPointerException If the spec argument is <code>null</code>.
+     * @since 3.8
+     */
+    public ParallelBufferedDataContainer createParallelDataContainer(
+            final DataTableSpec spec, final boolean initDomain) {
+        CheckUtils.checkArgumentNotNull(spec, "Spec must not be null!");
+        return new ParallelBufferedDataContainer(this, spec, initDomain);
+    }
+
+    /** Creates a partition of a {@link ParallelBufferedDataContainer}. */
+    ParallelBufferedDataContainer.PartitionContainer createPartitionContainer(
+            final DataTableSpec spec, final boolean initDomain) {
+        return new ParallelBufferedDataContainer.PartitionContainer(spec,
+            initDomain, m_node, m_memoryPolicy, isForceCopyOfBlobs(),
+            m_dataRepository, m_localTableRepository, m_fileStoreHandler);
+    }
+
+    /** Whether containers need to copy blobs they don't own, see
+     * {@link org.knime.core.data.container.DataContainer#setForceCopyOfBlobs(boolean)}. */
+    private boolean isForceCopyOfBlobs() {
+        return m_node.isModelCompatibleTo(LoopEndNode.class)
+                || m_node.isModelCompatibleTo(VirtualSubNodeOutputNodeModel.class);
+    }
+
     /**
      * Creates a new <code>BufferedDataTable</code> based on a given input table
      * (<code>in</code>) whereby only some of the columns of <code>in</code>
@@ -133,6 +133,21 @@ public final class KNIMEConstants {
     public static final String PROPERTY_ASYNC_WRITE_CACHE_SIZE =
         "knime.async.io.cachesize";
 
+    /** Java property to customize the number of data rows that are handed
+     * over to the asynchronous table writer at once. Rows are collected in
+     * batches of this size; the write cache (see
+     * {@link #PROPERTY_ASYNC_WRITE_CACHE_SIZE}) is still given in rows and
+     * holds as many batches as needed to keep that many rows (rounded up).
+     * Larger batches reduce the synchronization overhead and thread wake-ups
+     * per row.
+     * <p>
+     * The default value is 1, i.e. each row is handed over individually. This
+     * property has no effect if tables are written synchronously
+     * (see {@link #PROPERTY_SYNCHRONOUS_IO}).
+     * @since 3.8 */
+    public static final String PROPERTY_ASYNC_WRITE_BATCH_SIZE =
+        "knime.async.io.batchsize";
+
     /** The number of nominal values kept in the domain when adding rows to a table. This is only the default and
      * may be overruled by individual node implementations. If not specified the default is {@value
      * org.knime.core.data.container.DataContainer#DEF_MAX_POSSIBLE_VALUES}.
@@ -169,6 +184,34 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_TABLE_CACHE = "knime.table.cache";
 
+    /**
+     * Java property name to specify the heap budget of the table cache (see {@link #PROPERTY_TABLE_CACHE}) as
+     * percentage of the maximum heap size. Recently used tables are softly referenced as long as their estimated total
+     * size does not exceed this budget; least recently used tables exceeding the budget are only weakly referenced and
+     * read from disk once dropped by the garbage collector. The default is 50.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_CACHE_BUDGET = "knime.table.cache.budget";
+
+    /**
+     * Java property to collect per-block statistics (minimum, maximum and missing count of numeric and string columns,
+     * and the position of each block) while tables are written, which allows iterators with row range or cell filters
+     * to seek to and skip blocks when reading the table from disc. Disabled by default.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_BLOCK_STATISTICS = "knime.table.blockstatistics";
+
+    /**
+     * Java property to hold in-memory tables column by column, keeping the values of numeric, boolean and string
+     * columns in primitive arrays rather than as cell objects. This reduces the heap used by cached tables at the cost
+     * of creating the row and cell objects anew on each access. Disabled by default.
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPACT_ROWS = "knime.table.compactrows";
+
     /**
      * Java property to enable/disable table stream compression. Compression results in smaller temp-file sizes but also
      * (sometimes significant) longer runtime. By default {@code Gzip} is used.
@@ -186,6 +229,49 @@ public final class KNIMEConstants {
     @Deprecated
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION = PROPERTY_TABLE_COMPRESSION;
 
+    /**
+     * Java property to let table formats that compress column chunks separately (such as the columnar table format)
+     * choose the compression per column and chunk from sampled compression ratios. If set to {@code true} fast and
+     * strong compression formats (LZ4, Gzip) are tried and the fastest one with a competitive ratio is used. Chunks
+     * that don't compress well are stored uncompressed regardless of this property.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_ADAPTIVE = "knime.compress.io.adaptive";
+
+    /**
+     * Java property to enable/disable reading uncompressed tables (see {@link #PROPERTY_TABLE_COMPRESSION}) via memory
+     * mapping, which serves repeated reads of the same table directly from the operating system's page cache. Mapped
+     * regions are only released by the garbage collector, so the disk space of deleted temporary tables may be
+     * reclaimed late (and on Windows, mapped files can't be deleted at all until then). Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_MEMORY_MAPPING = "knime.table.mmap";
+
+    /**
+     * Java property to let the default (threaded) job manager start waiting nodes by their estimated remaining
+     * critical path length instead of in submission order. The estimate is based on the workflow graph and the
+     * durations of previous executions of the nodes. Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_CRITICAL_PATH_SCHEDULING = "knime.jobmanager.criticalpath";
+
+    /**
+     * Java property to delay the start of locally executed nodes while memory is low or while the memory the node is
+     * expected to need (learned from previous executions of nodes of the same type) is not available. Nodes are
+     * started regardless after waiting one minute. Disabled by default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_MEMORY_ADMISSION_CONTROL = "knime.execution.memoryadmission";
+
+    /**
+     * Java property to set the number of partitions into which the input table of nodes with a distributable input
+     * (see {@link NodeModel#getInputPortRoles()}) is split. The partitions are processed by the node's streamable
+     * operators in parallel and the results are merged afterwards. Values smaller than 2 disable the partitioned
+     * execution, which is the default.
+     * @since 3.8
+     */
+    public static final String PROPERTY_PARTITIONED_EXECUTION = "knime.execution.partitions";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -195,6 +281,16 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /** Java property to check row IDs for duplicates using fingerprints
+     * (see {@link org.knime.core.util.FingerprintDuplicateChecker}). Instead
+     * of sorting and merging all row IDs on disk when a large table is
+     * closed, only row IDs with colliding fingerprints are compared.
+     * <p>
+     * The default value is <code>false</code>.
+     * @since 3.8 */
+    public static final String PROPERTY_ROWID_DUPLICATE_CHECK_FINGERPRINTS =
+        "knime.rowid.duplicatecheck.fingerprints";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -564,7 +564,14 @@ PortObject[] executeModel(final PortObject[] rawData, final ExecutionEnvironment
         // EXECUTE DERIVED MODEL
         PortObject[] outData;
         if (!exEnv.reExecute()) {
-            outData = execute(data, exec);
+            final PartitionedExecution partitionedExecution =
+                PartitionedExecution.create(this, data, PartitionedExecution.MAX_PARTITIONS);
+            if (partitionedExecution != null) {
+                m_logger.debug("Executing in " + partitionedExecution.getPartitionCount() + " partitions");
+                outData = partitionedExecution.execute(exec);
+            } else {
+                outData = execute(data, exec);
+            }
         } else {
             //FIXME: implement reexecution with loading view content and execute
             if (this instanceof InteractiveNode) {
@@ -0,0 +1,326 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableDomainCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.IDataTableDomainCreator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.RowAppender;
+import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.DuplicateKeyException;
+
+/**
+ * A container to which rows can be added from many threads concurrently. Rows are written into partitions, each of
+ * which is backed by its own {@link BufferedDataContainer} (and hence its own buffer and writer), so that serializing
+ * and writing rows scales with the number of producing threads. When the container is closed, the partitions are
+ * stitched together into one table, whose domain is the merged domain of all partitions.
+ *
+ * <p>
+ * Rows added via {@link #addRowToTable(DataRow)} are written to a partition owned by the calling thread; the rows of
+ * each thread keep their order but the order in which the rows of different threads appear in the result table is
+ * unspecified. If the row order matters, each producer should write to a partition created via
+ * {@link #createPartition()} instead: the result table contains the rows of all partitions in the order in which the
+ * partitions were created (thread-owned partitions are created upon the first row added by the thread).
+ *
+ * <p>
+ * Row keys are checked for duplicates across all partitions. Instances are created via
+ * {@link ExecutionContext#createParallelDataContainer(DataTableSpec, boolean)}.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public final class ParallelBufferedDataContainer implements RowAppender {
+
+    private final ExecutionContext m_exec;
+
+    private final DataTableSpec m_spec;
+
+    private final boolean m_initDomain;
+
+    /** All partitions in creation order, guarded by itself. */
+    private final List<PartitionContainer> m_partitions = new ArrayList<>();
+
+    /** The partitions used by {@link #addRowToTable(DataRow)}, keyed by thread id. */
+    private final Map<Long, PartitionContainer> m_threadPartitions = new ConcurrentHashMap<>();
+
+    /** Not null when closed. */
+    private BufferedDataTable m_table;
+
+    ParallelBufferedDataContainer(final ExecutionContext exec, final DataTableSpec spec, final boolean initDomain) {
+        m_exec = exec;
+        m_spec = spec;
+        m_initDomain = initDomain;
+    }
+
+    /**
+     * Creates a new partition that is appended to the already existing partitions. A partition must only be used by
+     * one thread at a time.
+     *
+     * @return a new partition
+     * @throws IllegalStateException If the container is closed.
+     */
+    public RowAppender createPartition() {
+        synchronized (m_partitions) {
+            if (isClosed()) {
+                throw new IllegalStateException("Cannot create partition: container is closed.");
+            }
+            final PartitionContainer partition = m_exec.createPartitionContainer(m_spec, m_initDomain);
+            m_partitions.add(partition);
+            return partition;
+        }
+    }
+
+    /**
+     * Adds a row to the partition owned by the calling thread. This method can be called from multiple threads
+     * concurrently.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void addRowToTable(final DataRow row) {
+        m_threadPartitions.computeIfAbsent(Thread.currentThread().getId(), id -> (PartitionContainer)createPartition())
+            .addRowToTable(row);
+    }
+
+    /**
+     * Get the number of rows that have been added so far. The result is only accurate if no rows are added
+     * concurrently.
+     *
+     * @return The number of rows in the container.
+     */
+    public long size() {
+        if (isClosed()) {
+            return m_table.size();
+        }
+        long size = 0;
+        synchronized (m_partitions) {
+            for (PartitionContainer partition : m_partitions) {
+                size += partition.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the spec the container was created with or, if closed, the spec of the result table
+     */
+    public DataTableSpec getTableSpec() {
+        return isClosed() ? m_table.getDataTableSpec() : m_spec;
+    }
+
+    /**
+     * @return whether the container has been closed, i.e., {@link #getTable()} will return the result table
+     */
+    public boolean isClosed() {
+        return m_table != null;
+    }
+
+    /**
+     * Closes all partitions and stitches them together into the result table. Must only be called once all producing
+     * threads have finished adding rows. Successive calls of <code>addRowToTable</code> will fail with an exception.
+     *
+     * @throws DuplicateKeyException If a row key has been added to more than one partition.
+     * @throws org.knime.core.data.container.DataContainerException If writing any of the partitions failed.
+     */
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        final BufferedDataTable[] tables;
+        final DataTableSpec spec;
+        synchronized (m_partitions) {
+            if (m_partitions.isEmpty()) {
+                m_partitions.add(m_exec.createPartitionContainer(m_spec, m_initDomain));
+            }
+            tables = new BufferedDataTable[m_partitions.size()];
+            for (int i = 0; i < tables.length; i++) {
+                final PartitionContainer partition = m_partitions.get(i);
+                partition.close();
+                tables[i] = partition.getTable();
+            }
+            checkForDuplicates();
+            spec = mergeDomains();
+        }
+        if (tables.length == 1) {
+            m_table = tables[0];
+        } else {
+            final BufferedDataTable concatenated;
+            try {
+                concatenated = m_exec.createConcatenateTable(m_exec, Optional.empty(), false, tables);
+            } catch (CanceledExecutionException e) {
+                // can't happen as there is no duplicate check
+                throw new IllegalStateException(e);
+            }
+            // the domain of the concatenated table is merged from the specs only, replace it by the exact one
+            m_table = spec == null || spec.equals(concatenated.getDataTableSpec()) ? concatenated
+                : m_exec.createSpecReplacerTable(concatenated, spec);
+        }
+        m_threadPartitions.clear();
+    }
+
+    /**
+     * Returns the content of this container in a BufferedDataTable.
+     *
+     * @return the result table
+     * @throws IllegalStateException If the container is not closed.
+     */
+    public BufferedDataTable getTable() {
+        if (!isClosed()) {
+            throw new IllegalStateException("Cannot get table: container is not closed.");
+        }
+        return m_table;
+    }
+
+    /** Merges the duplicate checkers of all (closed) partitions and checks for duplicates across partitions. */
+    private void checkForDuplicates() {
+        final DuplicateChecker checker = m_partitions.get(0).m_duplicateChecker;
+        try {
+            for (int i = 1; i < m_partitions.size(); i++) {
+                checker.merge(m_partitions.get(i).m_duplicateChecker);
+            }
+            checker.checkForDuplicates();
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Failed to check for duplicate row IDs", ioe);
+        } catch (DuplicateKeyException dke) {
+            final String key = dke.getKey();
+            throw new DuplicateKeyException("Found duplicate row ID \"" + key + "\" (at unknown position)", key);
+        } finally {
+            for (PartitionContainer partition : m_partitions) {
+                partition.m_duplicateChecker.clear();
+            }
+        }
+    }
+
+    /**
+     * Merges the domains of all (closed) partitions.
+     *
+     * @return the spec with the merged domain or null if the domains of the partitions cannot be merged (custom domain
+     *         creator), in which case the domain is merged from the partitions' specs
+     */
+    private DataTableSpec mergeDomains() {
+        DataTableDomainCreator merged = null;
+        try {
+            for (PartitionContainer partition : m_partitions) {
+                if (!(partition.m_domainCreator instanceof DataTableDomainCreator)) {
+                    return null;
+                }
+                final DataTableDomainCreator creator = (DataTableDomainCreator)partition.m_domainCreator;
+                if (merged == null) {
+                    merged = creator;
+                } else {
+                    merged.merge(creator);
+                }
+            }
+            return merged.createSpec();
+        } finally {
+            for (PartitionContainer partition : m_partitions) {
+                partition.m_domainCreator = null;
+            }
+        }
+    }
+
+    /**
+     * A partition, which keeps its row keys and domain to be merged with the other partitions when the parallel
+     * container is closed.
+     */
+    static final class PartitionContainer extends BufferedDataContainer {
+
+        /** The keys of this partition, checked across partitions by the parallel container. */
+        private final DuplicateChecker m_duplicateChecker = new DuplicateChecker();
+
+        /** The domain creator that has processed all rows, set on close. */
+        private IDataTableDomainCreator m_domainCreator;
+
+        PartitionContainer(final DataTableSpec spec, final boolean initDomain, final Node node,
+            final MemoryPolicy policy, final boolean forceCopyOfBlobs, final IDataRepository dataRepository,
+            final Map<Integer, ContainerTable> localTableRepository, final IWriteFileStoreHandler fileStoreHandler) {
+            super(spec, initDomain, node, policy, forceCopyOfBlobs, -1, dataRepository, localTableRepository,
+                fileStoreHandler);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void addRowKeyForDuplicateCheck(final RowKey key) {
+            try {
+                if (key.isCompact()) {
+                    m_duplicateChecker.addDefaultRowKey(key.getCompactIndex());
+                } else {
+                    m_duplicateChecker.addKey(key.getString());
+                }
+            } catch (IOException ioe) {
+                throw new IllegalStateException(
+                    ioe.getClass().getSimpleName() + " while checking for duplicate row IDs: " + ioe.getMessage(), ioe);
+            } catch (DuplicateKeyException dke) {
+                throw new DuplicateKeyException("Encountered duplicate row ID  \"" + dke.getKey() + "\"",
+                    dke.getKey());
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected DataTableSpec createFinalSpec(final IDataTableDomainCreator domainCreator) {
+            m_domainCreator = domainCreator;
+            return super.createFinalSpec(domainCreator);
+        }
+    }
+
+}
@@ -0,0 +1,501 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.inactive.InactiveBranchConsumer;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Executes a node with a distributable input (see {@link NodeModel#getInputPortRoles()}) by splitting the input table
+ * into consecutive row ranges and running one {@link StreamableOperator} per range in parallel. This is the local
+ * counterpart of a distributed streaming execution and follows the same contract:
+ * <ul>
+ * <li>Iterative nodes run {@link StreamableOperator#runIntermediate(PortInput[], ExecutionContext) runIntermediate}
+ * on all partitions as long as {@link NodeModel#iterate(StreamableOperatorInternals)} asks for it, the partition
+ * internals are combined using {@link MergeOperator#mergeIntermediate(StreamableOperatorInternals[])}.</li>
+ * <li>Distributed table outputs are written by each operator and concatenated in partition order, so the output has
+ * the same row order as a sequential execution.</li>
+ * <li>Non-distributed outputs are created by
+ * {@link NodeModel#finishStreamableExecution(StreamableOperatorInternals, ExecutionContext, PortOutput[])} from the
+ * internals combined with {@link MergeOperator#mergeFinal(StreamableOperatorInternals[])}.</li>
+ * </ul>
+ * The partitioned execution is only used if {@link KNIMEConstants#PROPERTY_PARTITIONED_EXECUTION} is set. It is
+ * restricted to nodes with exactly one distributable input, which must be a {@link BufferedDataTable}; all other inputs
+ * are passed in full to each operator.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class PartitionedExecution {
+
+    /** The maximum number of partitions, see {@link KNIMEConstants#PROPERTY_PARTITIONED_EXECUTION}. */
+    static final int MAX_PARTITIONS = Integer.getInteger(KNIMEConstants.PROPERTY_PARTITIONED_EXECUTION, 0);
+
+    /** The minimum number of rows per partition, smaller tables are split into fewer partitions. */
+    static final long MIN_ROWS_PER_PARTITION = 1000;
+
+    private final NodeModel m_model;
+
+    private final PortObject[] m_data;
+
+    private final int m_distributedPort;
+
+    private final int m_partitionCount;
+
+    private final InputPortRole[] m_inRoles;
+
+    private final OutputPortRole[] m_outRoles;
+
+    private PartitionedExecution(final NodeModel model, final PortObject[] data, final int distributedPort,
+        final int partitionCount) {
+        m_model = model;
+        m_data = data;
+        m_distributedPort = distributedPort;
+        m_partitionCount = partitionCount;
+        m_inRoles = model.getInputPortRoles();
+        m_outRoles = model.getOutputPortRoles();
+    }
+
+    /**
+     * Determines whether the node can be executed in partitions and creates the execution if so.
+     *
+     * @param model the node model
+     * @param data the input data, not including the flow variable port
+     * @param maxPartitions the maximum number of partitions
+     * @return the execution or <code>null</code> if the node is to be executed sequentially
+     */
+    static PartitionedExecution create(final NodeModel model, final PortObject[] data, final int maxPartitions) {
+        if (maxPartitions < 2 || model instanceof LoopStartNode || model instanceof LoopEndNode
+            || model instanceof InactiveBranchConsumer) {
+            return null;
+        }
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        int distributedPort = -1;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] instanceof InactiveBranchPortObject) {
+                return null;
+            }
+            if (inRoles[i].isDistributable()) {
+                if (distributedPort >= 0 || !(data[i] instanceof BufferedDataTable)) {
+                    return null;
+                }
+                distributedPort = i;
+            }
+        }
+        if (distributedPort < 0) {
+            return null;
+        }
+        final OutputPortRole[] outRoles = model.getOutputPortRoles();
+        boolean needsMerge = false;
+        for (int i = 0; i < outRoles.length; i++) {
+            if (!outRoles[i].isDistributable()) {
+                needsMerge = true;
+            } else if (!model.getOutPortType(i).equals(BufferedDataTable.TYPE)) {
+                return null;
+            }
+        }
+        if (needsMerge && model.createMergeOperator() == null) {
+            return null;
+        }
+        final long rowCount = ((BufferedDataTable)data[distributedPort]).size();
+        final int partitionCount = (int)Math.min(maxPartitions, rowCount / MIN_ROWS_PER_PARTITION);
+        if (partitionCount < 2) {
+            return null;
+        }
+        return new PartitionedExecution(model, data, distributedPort, partitionCount);
+    }
+
+    /** @return the number of partitions the input table is split into */
+    int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /**
+     * Runs the node's streamable operators on all partitions and combines their results.
+     *
+     * @param exec the context of the node execution
+     * @return the output of the node, not including the flow variable port
+     * @throws Exception any exception thrown by the operators or the merge, including cancelation
+     */
+    PortObject[] execute(final ExecutionContext exec) throws Exception {
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[m_data.length];
+        for (int i = 0; i < m_data.length; i++) {
+            inSpecs[i] = m_data[i] == null ? null : m_data[i].getSpec();
+        }
+        final StreamableOperator[] operators = new StreamableOperator[m_partitionCount];
+        for (int i = 0; i < m_partitionCount; i++) {
+            operators[i] = m_model.createStreamableOperator(new PartitionInfo(i, m_partitionCount), inSpecs);
+        }
+        final MergeOperator mergeOperator = m_model.createMergeOperator();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_partitionCount);
+
+        StreamableOperatorInternals internals = m_model.createInitialStreamableOperatorInternals();
+        // each partition reports to its own context, the contexts are not thread-safe
+        final ExecutionContext[] iterationExecs = new ExecutionContext[m_partitionCount];
+        for (int i = 0; i < m_partitionCount; i++) {
+            iterationExecs[i] = exec.createSilentSubExecutionContext(0.0);
+        }
+        int iteration = 0;
+        while (m_model.iterate(internals)) {
+            if (mergeOperator == null) {
+                throw new IllegalStateException("Node iterates on its input but doesn't provide a merge operator");
+            }
+            exec.setMessage("Iteration " + (++iteration));
+            final StreamableOperatorInternals current = internals;
+            final List<StreamableOperatorInternals> partials = runPartitions(pool, p -> {
+                if (current != null) {
+                    operators[p].loadInternals(current);
+                }
+                operators[p].runIntermediate(createInputs(p), iterationExecs[p]);
+                return operators[p].saveInternals();
+            });
+            internals = mergeOperator.mergeIntermediate(
+                partials.toArray(new StreamableOperatorInternals[m_partitionCount]));
+        }
+        exec.setMessage("");
+
+        final PortObjectSpec[] outSpecs = m_model.computeFinalOutputSpecs(internals, inSpecs);
+        final StreamableOperatorInternals finalInternals = internals;
+        final ExecutionContext runExec = exec.createSubExecutionContext(0.8);
+        final ExecutionContext[] partitionExecs = new ExecutionContext[m_partitionCount];
+        for (int i = 0; i < m_partitionCount; i++) {
+            partitionExecs[i] = runExec.createSubExecutionContext(1.0 / m_partitionCount);
+        }
+        final List<TableOutput[]> partitionOutputs = runPartitions(pool, p -> {
+            final ExecutionContext partitionExec = partitionExecs[p];
+            final TableOutput[] outputs = new TableOutput[m_outRoles.length];
+            for (int i = 0; i < outputs.length; i++) {
+                if (m_outRoles[i].isDistributable()) {
+                    outputs[i] = new TableOutput(partitionExec, tableSpec(outSpecs, i));
+                }
+            }
+            if (finalInternals != null) {
+                operators[p].loadInternals(finalInternals);
+            }
+            try {
+                operators[p].runFinal(createInputs(p), outputs, partitionExec);
+            } catch (RowOutput.OutputClosedException e) {
+                // an output doesn't accept further rows, the operator is done
+            }
+            return outputs;
+        });
+
+        final PortObject[] outData = new PortObject[m_outRoles.length];
+        if (mergeOperator != null) {
+            final StreamableOperatorInternals[] partials = new StreamableOperatorInternals[m_partitionCount];
+            for (int i = 0; i < m_partitionCount; i++) {
+                partials[i] = operators[i].saveInternals();
+            }
+            final ExecutionContext finishExec = exec.createSubExecutionContext(0.1);
+            final PortOutput[] outputs = new PortOutput[m_outRoles.length];
+            for (int i = 0; i < outputs.length; i++) {
+                if (!m_outRoles[i].isDistributable()) {
+                    outputs[i] = m_model.getOutPortType(i).equals(BufferedDataTable.TYPE)
+                        ? new TableOutput(finishExec, tableSpec(outSpecs, i)) : new PortObjectOutput();
+                }
+            }
+            m_model.finishStreamableExecution(mergeOperator.mergeFinal(partials), finishExec, outputs);
+            for (int i = 0; i < outputs.length; i++) {
+                if (outputs[i] instanceof TableOutput) {
+                    outData[i] = ((TableOutput)outputs[i]).getTable();
+                } else if (outputs[i] != null) {
+                    outData[i] = ((PortObjectOutput)outputs[i]).getPortObject();
+                }
+            }
+        }
+        final ExecutionContext concatenateExec = exec.createSubExecutionContext(0.1);
+        for (int i = 0; i < outData.length; i++) {
+            if (m_outRoles[i].isDistributable()) {
+                final BufferedDataTable[] tables = new BufferedDataTable[m_partitionCount];
+                for (int p = 0; p < m_partitionCount; p++) {
+                    tables[p] = partitionOutputs.get(p)[i].getTable();
+                }
+                outData[i] = exec.createConcatenateTable(concatenateExec.createSubProgress(1.0 / outData.length),
+                    tables);
+            }
+        }
+        exec.setProgress(1.0);
+        return outData;
+    }
+
+    /** @return the spec of the argument table output or <code>null</code> if it is unknown */
+    private static DataTableSpec tableSpec(final PortObjectSpec[] specs, final int port) {
+        return specs != null && specs[port] instanceof DataTableSpec ? (DataTableSpec)specs[port] : null;
+    }
+
+    /** Creates the inputs of the operator processing the argument partition. */
+    private PortInput[] createInputs(final int partition) {
+        final PortInput[] inputs = new PortInput[m_data.length];
+        for (int i = 0; i < m_data.length; i++) {
+            if (m_data[i] == null) {
+                continue;
+            }
+            if (i == m_distributedPort) {
+                final BufferedDataTable table = (BufferedDataTable)m_data[i];
+                final long from = table.size() * partition / m_partitionCount;
+                final long to = table.size() * (partition + 1) / m_partitionCount;
+                inputs[i] = new RangeRowInput(table, from, to);
+            } else if (m_inRoles[i].isStreamable() && m_data[i] instanceof BufferedDataTable) {
+                inputs[i] = new DataTableRowInput((BufferedDataTable)m_data[i]);
+            } else {
+                inputs[i] = new PortObjectInput(m_data[i]);
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Runs the task for all partitions in the pool and waits for them to finish. If a task fails, the tasks that
+     * haven't started yet are skipped and the first failure is rethrown once the running ones are done. If the calling
+     * thread is taken out of a thread pool it waits {@link ThreadPool#runInvisible(Callable) invisibly} as the tasks
+     * need a free thread of the global pool to run.
+     */
+    private <T> List<T> runPartitions(final ThreadPool pool, final PartitionTask<T> task) throws Exception {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<T>> futures = new ArrayList<>(m_partitionCount);
+        for (int i = 0; i < m_partitionCount; i++) {
+            final int partition = i;
+            futures.add(pool.enqueue(() -> {
+                if (failed.get()) {
+                    return null;
+                }
+                try {
+                    return task.run(partition);
+                } catch (Throwable t) {
+                    failed.set(true);
+                    throw t;
+                }
+            }));
+        }
+        final Callable<List<T>> waitForResults = () -> waitForResults(futures);
+        final ThreadPool currentPool = ThreadPool.currentPool();
+        if (currentPool == null) {
+            return waitForResults.call();
+        }
+        try {
+            return currentPool.runInvisible(waitForResults);
+        } catch (ExecutionException e) {
+            // thrown by waitForResults, wrapped by runInvisible
+            throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+        }
+    }
+
+    /** Waits for the tasks of {@link #runPartitions(ThreadPool, PartitionTask)} and collects their results. */
+    private <T> List<T> waitForResults(final List<Future<T>> futures) throws Exception {
+        final List<T> results = new ArrayList<>(m_partitionCount);
+        Throwable failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
+                cee.initCause(e);
+                throw cee;
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() == null ? e : e.getCause();
+                }
+            }
+        }
+        if (failure instanceof Exception) {
+            throw (Exception)failure;
+        } else if (failure instanceof Error) {
+            throw (Error)failure;
+        } else if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return results;
+    }
+
+    /** The work done for a single partition. */
+    @FunctionalInterface
+    private interface PartitionTask<T> {
+        T run(int partition) throws Exception;
+    }
+
+    /** Row input reading a range of rows of a table. */
+    static final class RangeRowInput extends RowInput {
+
+        private final BufferedDataTable m_table;
+
+        private final long m_from;
+
+        private final long m_to;
+
+        private CloseableRowIterator m_iterator;
+
+        private boolean m_closed;
+
+        /**
+         * @param table the table
+         * @param from the index of the first row (inclusive)
+         * @param to the index of the last row (exclusive)
+         */
+        RangeRowInput(final BufferedDataTable table, final long from, final long to) {
+            m_table = table;
+            m_from = from;
+            m_to = to;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_table.getDataTableSpec();
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            if (m_closed || m_from >= m_to) {
+                return null;
+            }
+            if (m_iterator == null) {
+                m_iterator = m_table.iteratorBuilder().filterRowsFromIndex(m_from).filterRowsToIndex(m_to - 1).build();
+            }
+            return m_iterator.hasNext() ? m_iterator.next() : null;
+        }
+
+        @Override
+        public void close() {
+            m_closed = true;
+            if (m_iterator != null) {
+                m_iterator.close();
+            }
+        }
+    }
+
+    /**
+     * Row output collecting the rows of a table output, either row by row or as a whole by
+     * {@link #setFully(BufferedDataTable)}.
+     */
+    private static final class TableOutput extends RowOutput {
+
+        private final ExecutionContext m_exec;
+
+        private final DataTableSpec m_spec;
+
+        private BufferedDataContainer m_container;
+
+        private BufferedDataTable m_table;
+
+        TableOutput(final ExecutionContext exec, final DataTableSpec spec) {
+            m_exec = exec;
+            m_spec = spec;
+        }
+
+        @Override
+        public void push(final DataRow row) {
+            if (m_table != null) {
+                throw new IllegalStateException("Output table has been set already");
+            }
+            if (m_container == null) {
+                if (m_spec == null) {
+                    throw new IllegalStateException("Output spec is unknown, the table must be set as a whole");
+                }
+                m_container = m_exec.createDataContainer(m_spec);
+            }
+            m_container.addRowToTable(row);
+        }
+
+        @Override
+        public void setFully(final BufferedDataTable table) {
+            if (m_container != null) {
+                throw new IllegalStateException("Rows were added previously");
+            }
+            m_table = table;
+        }
+
+        @Override
+        public void close() {
+            if (m_container != null && m_container.isOpen()) {
+                m_container.close();
+            }
+        }
+
+        /** @return the table, an empty one if neither rows nor a table were set */
+        BufferedDataTable getTable() {
+            if (m_table == null) {
+                if (m_container == null) {
+                    if (m_spec == null) {
+                        throw new IllegalStateException("No output table was set");
+                    }
+                    m_container = m_exec.createDataContainer(m_spec);
+                }
+                close();
+                m_table = m_container.getTable();
+            }
+            return m_table;
+        }
+    }
+}
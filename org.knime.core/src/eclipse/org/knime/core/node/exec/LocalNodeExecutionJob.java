@@ -49,7 +49,10 @@
 
 import java.util.concurrent.Future;
 
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.exec.MemoryAdmissionController.Admission;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
@@ -92,7 +95,23 @@ void setFuture(final Future<?> future) {
     @Override
     public NodeContainerExecutionStatus mainExecute() {
         SingleNodeContainer snc = (SingleNodeContainer)getNodeContainer();
-        return snc.performExecuteNode(getPortObjects());
+        if (!MemoryAdmissionController.ENABLED || !(snc instanceof NativeNodeContainer)) {
+            // components wait for their inner nodes, which would need to be admitted as well
+            return snc.performExecuteNode(getPortObjects());
+        }
+        String key = ((NativeNodeContainer)snc).getNode().getFactory().getClass().getName();
+        final Admission admission;
+        try {
+            admission = MemoryAdmissionController.getInstance().admit(key, snc.getProgressMonitor());
+        } catch (CanceledExecutionException ex) {
+            return NodeContainerExecutionStatus.FAILURE;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return NodeContainerExecutionStatus.FAILURE;
+        }
+        try (Admission a = admission) {
+            return snc.performExecuteNode(getPortObjects());
+        }
     }
 
     /**
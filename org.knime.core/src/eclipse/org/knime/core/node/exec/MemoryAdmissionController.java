@@ -0,0 +1,292 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeProgressMonitor;
+
+/**
+ * Delays the start of locally executed nodes while memory is scarce. Each node type (identified by its factory class)
+ * has a learned estimate of the memory it needs, which is the growth of the used memory (as reported by
+ * {@link MemoryAlertSystem#getUsedMemory()}) observed while the nodes of that type ran. A node is admitted if
+ * <ul>
+ * <li>no other node is currently admitted (so there is always progress), or</li>
+ * <li>the {@link MemoryAlertSystem} doesn't report low memory and the currently used memory, plus the part of the
+ * estimates of the running nodes that hasn't materialized yet, plus the estimate of the new node fit below the
+ * {@link MemoryAlertSystem#DEFAULT_USAGE_THRESHOLD usage threshold}.</li>
+ * </ul>
+ * Nodes that wait longer than {@link #DEFAULT_MAX_WAIT_MS} are admitted anyway, as a node may (indirectly) wait for the
+ * completion of another node that can't be admitted.
+ *
+ * <p>
+ * The controller is only used if {@link KNIMEConstants#PROPERTY_MEMORY_ADMISSION_CONTROL} is set. The growth
+ * observed while several nodes run is attributed to each of them, the estimates are therefore conservative.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class MemoryAdmissionController {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MemoryAdmissionController.class);
+
+    /** Whether admission control is enabled, see {@link KNIMEConstants#PROPERTY_MEMORY_ADMISSION_CONTROL}. */
+    static final boolean ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_MEMORY_ADMISSION_CONTROL);
+
+    /** Interval in which the used memory is sampled and waiting nodes re-check their admission. */
+    static final long SAMPLE_INTERVAL_MS = 200;
+
+    /** Maximum time a node waits for admission. */
+    static final long DEFAULT_MAX_WAIT_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private static MemoryAdmissionController instance;
+
+    private final LongSupplier m_usedMemory;
+
+    private final BooleanSupplier m_memoryLow;
+
+    private final long m_limit;
+
+    private final long m_maxWaitMillis;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final Condition m_changed = m_lock.newCondition();
+
+    private final Map<String, Long> m_estimates = new HashMap<>();
+
+    private final List<Admission> m_admitted = new ArrayList<>();
+
+    /**
+     * @param usedMemory supplies the currently used memory in bytes
+     * @param memoryLow supplies whether memory is currently low
+     * @param limit the used memory in bytes up to which nodes are admitted
+     * @param maxWaitMillis the maximum time a node waits for admission
+     */
+    MemoryAdmissionController(final LongSupplier usedMemory, final BooleanSupplier memoryLow, final long limit,
+        final long maxWaitMillis) {
+        m_usedMemory = usedMemory;
+        m_memoryLow = memoryLow;
+        m_limit = limit;
+        m_maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * @return the controller that observes the {@link MemoryAlertSystem}, whose sampling thread is started on first
+     *         access
+     */
+    static synchronized MemoryAdmissionController getInstance() {
+        if (instance == null) {
+            final MemoryAlertSystem mas = MemoryAlertSystem.getInstance();
+            final long limit =
+                (long)(MemoryAlertSystem.DEFAULT_USAGE_THRESHOLD * MemoryAlertSystem.getMaximumMemory());
+            final MemoryAdmissionController controller = new MemoryAdmissionController(
+                MemoryAlertSystem::getUsedMemory, mas::isMemoryLow, limit, DEFAULT_MAX_WAIT_MS);
+            new Timer("KNIME Memory Admission Sampler", true).schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    controller.sample();
+                }
+            }, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS);
+            instance = controller;
+        }
+        return instance;
+    }
+
+    /**
+     * Waits until a node of the given type can be admitted.
+     *
+     * @param key identifies the node type, e.g. the class name of the node factory
+     * @param monitor the node's progress monitor, used to check for cancellation and show that the node waits
+     * @return the admission, which must be closed when the node has finished
+     * @throws CanceledExecutionException if the node is canceled while waiting
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    Admission admit(final String key, final NodeProgressMonitor monitor)
+        throws CanceledExecutionException, InterruptedException {
+        m_lock.lockInterruptibly();
+        try {
+            final long estimate = getEstimate(key);
+            final long start = System.currentTimeMillis();
+            boolean isWaiting = false;
+            while (!canAdmit(estimate)) {
+                final long waited = System.currentTimeMillis() - start;
+                if (waited >= m_maxWaitMillis) {
+                    LOGGER.debugWithFormat("Admitting node (%s) after waiting %dms for memory to become available",
+                        key, waited);
+                    break;
+                }
+                if (!isWaiting) {
+                    isWaiting = true;
+                    LOGGER.debugWithFormat("Delaying start of node (%s, estimated %.1fMB), %d node(s) running", key,
+                        (double)estimate / FileUtils.ONE_MB, m_admitted.size());
+                    monitor.setMessage("Waiting for memory to become available");
+                }
+                monitor.checkCanceled();
+                m_changed.await(Math.min(SAMPLE_INTERVAL_MS, m_maxWaitMillis - waited), TimeUnit.MILLISECONDS);
+            }
+            if (isWaiting) {
+                monitor.setMessage((String)null);
+            }
+            final Admission admission = new Admission(key, estimate, m_usedMemory.getAsLong());
+            m_admitted.add(admission);
+            return admission;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * @param key the node type
+     * @return the learned memory estimate of the node type in bytes, 0 if the node type hasn't run yet
+     */
+    long getEstimate(final String key) {
+        m_lock.lock();
+        try {
+            final Long estimate = m_estimates.get(key);
+            return estimate == null ? 0 : estimate;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /** @return the number of currently admitted nodes */
+    int getAdmittedCount() {
+        m_lock.lock();
+        try {
+            return m_admitted.size();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    private boolean canAdmit(final long estimate) {
+        if (m_admitted.isEmpty()) {
+            return true;
+        }
+        if (m_memoryLow.getAsBoolean()) {
+            return false;
+        }
+        long outstanding = 0;
+        for (Admission a : m_admitted) {
+            outstanding += Math.max(0, a.m_estimate - a.m_peakGrowth);
+        }
+        return m_usedMemory.getAsLong() + outstanding + estimate <= m_limit;
+    }
+
+    /** Records the currently used memory for all admitted nodes and lets waiting nodes re-check their admission. */
+    void sample() {
+        m_lock.lock();
+        try {
+            if (m_admitted.isEmpty()) {
+                return;
+            }
+            final long used = m_usedMemory.getAsLong();
+            for (Admission a : m_admitted) {
+                a.m_peakGrowth = Math.max(a.m_peakGrowth, used - a.m_usedAtStart);
+            }
+            m_changed.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    private void release(final Admission admission) {
+        sample();
+        m_lock.lock();
+        try {
+            if (!m_admitted.remove(admission)) {
+                return;
+            }
+            final Long previous = m_estimates.get(admission.m_key);
+            final long observed = admission.m_peakGrowth;
+            // moving average, a single unusual run doesn't block (or admit) a node type forever
+            m_estimates.put(admission.m_key, previous == null ? observed : (previous + observed) / 2);
+            m_changed.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /** The admission of a running node, closing it releases the node's share of memory. */
+    final class Admission implements AutoCloseable {
+
+        private final String m_key;
+
+        private final long m_estimate;
+
+        private final long m_usedAtStart;
+
+        private long m_peakGrowth;
+
+        private Admission(final String key, final long estimate, final long usedAtStart) {
+            m_key = key;
+            m_estimate = estimate;
+            m_usedAtStart = usedAtStart;
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+}
@@ -0,0 +1,811 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.RowOutput.OutputClosedException;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.ConnectionContainer.ConnectionType;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+import org.knime.core.node.workflow.execresult.WorkflowExecutionResult;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Executes the content of a metanode in streamed mode. All nodes run concurrently, each node runs the
+ * {@link StreamableOperator} created by its model. A data connection is streamed through a
+ * {@link StreamingRowChannel} if the destination port is {@link InputPortRole#isStreamable() streamable} and the
+ * destination node has no other input from within the metanode (more than one would allow for cycles of nodes that
+ * wait for each other). All other connections are pipeline breakers: the output is written into a table and the
+ * destination node starts once it is complete. Rows are only written into the output table of a node if the output is
+ * needed as a table (pipeline breakers, metanode outputs and unconnected outputs); outputs that are only streamed get
+ * an empty table and the node a warning.
+ *
+ * <p>
+ * Nodes that iterate on their input (see {@link NodeModel#iterate(StreamableOperatorInternals)}) are pipeline breakers
+ * on both sides. Flow variables are only passed along with the data as present when the execution started, metanodes
+ * containing loops or other metanodes can't be streamed.
+ *
+ * <p>
+ * The nodes run in the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}. As streamed nodes wait for each
+ * other, all waits are done {@link ThreadPool#runInvisible(Callable) invisibly} so that the waiting node doesn't keep
+ * the nodes it waits for from being started.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    private final int m_queueCapacity;
+
+    private final List<StreamedNode> m_runningNodes = new ArrayList<>();
+
+    private Future<?> m_future;
+
+    private boolean m_canceled;
+
+    /**
+     * @param wfm the metanode to execute
+     * @param data its input data
+     * @param queueCapacity the number of rows buffered per streamed connection
+     */
+    StreamingNodeExecutionJob(final WorkflowManager wfm, final PortObject[] data, final int queueCapacity) {
+        super(wfm, data);
+        m_queueCapacity = queueCapacity;
+    }
+
+    /** @param future the future that represents the pending execution */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        synchronized (m_runningNodes) {
+            m_canceled = true;
+            m_runningNodes.forEach(StreamedNode::interrupt);
+        }
+        // a running job isn't interrupted, it waits for its nodes to finish
+        if (m_future != null) {
+            m_future.cancel(false);
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        WorkflowManager wfm = (WorkflowManager)getNodeContainer();
+        WorkflowExecutionResult result = new WorkflowExecutionResult(wfm.getID());
+        result.setMessage(NodeMessage.NONE);
+        Map<NodeID, StreamedNode> nodes;
+        boolean success = true;
+        try (WorkflowLock lock = wfm.lock()) {
+            nodes = createNodes(wfm);
+        } catch (IllegalStateException e) {
+            LOGGER.error(e.getMessage());
+            result.setMessage(new NodeMessage(NodeMessage.Type.ERROR, e.getMessage()));
+            nodes = Collections.emptyMap();
+            success = false;
+        }
+        CountDownLatch done = new CountDownLatch((int)nodes.values().stream().filter(n -> !n.m_wasExecuted).count());
+        synchronized (m_runningNodes) {
+            for (StreamedNode node : nodes.values()) {
+                if (node.m_wasExecuted) {
+                    continue;
+                }
+                if (m_canceled) {
+                    node.skip();
+                    done.countDown();
+                } else {
+                    m_runningNodes.add(node);
+                    KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(() -> node.execute(done));
+                }
+            }
+        }
+        awaitUninterruptibly(done);
+        for (StreamedNode node : nodes.values()) {
+            result.addNodeExecutionResult(node.m_nnc.getID(), node.m_result);
+            success &= node.m_result.isSuccess();
+        }
+        result.setSuccess(success);
+        LoadResult loadResult = new LoadResult("Streamed execution of " + wfm.getNameWithID());
+        wfm.loadExecutionResult(result, new ExecutionMonitor(), loadResult);
+        if (loadResult.hasErrors()) {
+            LOGGER.error("Errors loading the results of the streamed execution:\n"
+                + loadResult.getFilteredError("", LoadResultEntryType.Warning));
+        }
+        for (StreamedNode node : nodes.values()) {
+            if (node.m_exec != null && node.m_result.isSuccess()) {
+                // registers the temporary tables of the node
+                node.m_nnc.putOutputTablesIntoGlobalRepository(node.m_exec);
+            }
+        }
+        return result;
+    }
+
+    /** Waits for all nodes to finish, even if canceled (which interrupts the nodes). */
+    private static void awaitUninterruptibly(final CountDownLatch done) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                awaitInvisibly(() -> {
+                    done.await();
+                    return null;
+                });
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a blocking call. If the current thread is taken out of a thread pool the call is run invisibly, i.e. the
+     * pool may start another job (such as the node that is waited for) while the current thread is blocked.
+     *
+     * @param blockingCall the call that blocks
+     * @return the result of the call
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static <T> T awaitInvisibly(final BlockingCall<T> blockingCall) throws InterruptedException {
+        ThreadPool pool = ThreadPool.currentPool();
+        if (pool == null) {
+            return blockingCall.call();
+        }
+        try {
+            return pool.runInvisible(blockingCall::call);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /** A call that waits for another thread, see {@link StreamingNodeExecutionJob#awaitInvisibly(BlockingCall)}. */
+    @FunctionalInterface
+    interface BlockingCall<T> {
+
+        /**
+         * @return the result of the call
+         * @throws InterruptedException if interrupted while waiting
+         */
+        T call() throws InterruptedException;
+    }
+
+    /** Creates the nodes and decides which connections are streamed. */
+    private Map<NodeID, StreamedNode> createNodes(final WorkflowManager wfm) {
+        Map<NodeID, StreamedNode> nodes = new LinkedHashMap<>();
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            if (!(nc instanceof NativeNodeContainer)) {
+                throw new IllegalStateException(
+                    "Streamed execution only supports native nodes, found \"" + nc.getNameWithID() + "\"");
+            }
+            NativeNodeContainer nnc = (NativeNodeContainer)nc;
+            if (nnc.getNode().isModelCompatibleTo(LoopStartNode.class)
+                || nnc.getNode().isModelCompatibleTo(LoopEndNode.class)) {
+                throw new IllegalStateException(
+                    "Streamed execution does not support loops, found \"" + nc.getNameWithID() + "\"");
+            }
+            nodes.put(nc.getID(), new StreamedNode(nnc));
+        }
+        for (StreamedNode node : nodes.values()) {
+            for (int p = 0; p < node.m_outputs.length; p++) {
+                Set<ConnectionContainer> out = wfm.getOutgoingConnectionsFor(node.m_nnc.getID(), p);
+                if (out.isEmpty() || out.stream().anyMatch(c -> c.getType().isLeavingWorkflow())) {
+                    node.m_outputs[p].m_retainRows = true;
+                }
+            }
+        }
+        for (StreamedNode node : nodes.values()) {
+            if (node.m_wasExecuted) {
+                continue;
+            }
+            Set<ConnectionContainer> in = wfm.getIncomingConnectionsFor(node.m_nnc.getID());
+            boolean mayStream = !node.m_isIterative && !node.m_nnc.isInactiveBranchConsumer()
+                && in.stream().filter(c -> c.getType() == ConnectionType.STD).count() == 1;
+            InputPortRole[] roles = node.m_nnc.getNodeModel().getInputPortRoles();
+            for (ConnectionContainer c : in) {
+                int q = c.getDestPort();
+                if (c.getType() == ConnectionType.WFMIN) {
+                    node.m_inputs[q] = CompletableFuture.completedFuture(getPortObjects()[c.getSourcePort()]);
+                    continue;
+                }
+                Output source = nodes.get(c.getSource()).m_outputs[c.getSourcePort()];
+                if (mayStream && q > 0 && roles[q - 1].isStreamable() && source.isStreamable()) {
+                    StreamingRowChannel channel =
+                        new StreamingRowChannel((DataTableSpec)source.m_spec, m_queueCapacity);
+                    source.m_channels.add(channel);
+                    node.m_channels[q] = channel;
+                } else {
+                    source.m_retainRows = true;
+                    node.m_inputs[q] = source.m_result;
+                }
+            }
+        }
+        return nodes;
+    }
+
+    /** An output port of a node and its consumers. */
+    private static final class Output {
+
+        private final PortType m_type;
+
+        private final PortObjectSpec m_spec;
+
+        private final boolean m_canStream;
+
+        /** Completed with the output object once the node is done, used by non-streamed consumers. */
+        private final CompletableFuture<PortObject> m_result = new CompletableFuture<>();
+
+        private final List<StreamingRowChannel> m_channels = new ArrayList<>();
+
+        /** Whether all rows are needed as a table (pipeline breakers, metanode outputs, unconnected outputs). */
+        private boolean m_retainRows;
+
+        private PortOutput m_portOutput;
+
+        Output(final PortType type, final PortObjectSpec spec, final boolean canStream) {
+            m_type = type;
+            m_spec = spec;
+            m_canStream = canStream;
+        }
+
+        boolean isStreamable() {
+            return m_canStream && BufferedDataTable.TYPE.equals(m_type) && m_spec instanceof DataTableSpec;
+        }
+
+        boolean isTable() {
+            return BufferedDataTable.TYPE.equals(m_type);
+        }
+    }
+
+    /** A node of the metanode, executed in its own thread. */
+    private final class StreamedNode {
+
+        private final NativeNodeContainer m_nnc;
+
+        private final boolean m_wasExecuted;
+
+        private final boolean m_isIterative;
+
+        private final StreamableOperatorInternals m_initialInternals;
+
+        private final Output[] m_outputs;
+
+        /** The non-streamed inputs, indexed by node port (including the flow variable port). */
+        private final CompletableFuture<PortObject>[] m_inputs;
+
+        /** The streamed inputs, indexed by node port (including the flow variable port). */
+        private final StreamingRowChannel[] m_channels;
+
+        private NativeNodeContainerExecutionResult m_result;
+
+        private ExecutionContext m_exec;
+
+        /** The thread executing the node, guarded by this. */
+        private Thread m_thread;
+
+        /** Whether the execution was canceled, guarded by this. */
+        private boolean m_isInterrupted;
+
+        @SuppressWarnings("unchecked")
+        StreamedNode(final NativeNodeContainer nnc) {
+            m_nnc = nnc;
+            m_wasExecuted = nnc.getNodeContainerState().isExecuted();
+            NodeModel model = nnc.getNodeModel();
+            if (m_wasExecuted) {
+                m_initialInternals = null;
+                m_isIterative = false;
+            } else {
+                NodeContext.pushContext(nnc);
+                try {
+                    m_initialInternals = model.createInitialStreamableOperatorInternals();
+                    m_isIterative = model.iterate(m_initialInternals);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }
+            m_outputs = new Output[nnc.getNrOutPorts()];
+            for (int p = 0; p < m_outputs.length; p++) {
+                m_outputs[p] = new Output(nnc.getOutPort(p).getPortType(), nnc.getOutPort(p).getPortObjectSpec(),
+                    !m_wasExecuted && !m_isIterative);
+                if (m_wasExecuted) {
+                    m_outputs[p].m_result.complete(nnc.getOutPort(p).getPortObject());
+                }
+            }
+            m_inputs = new CompletableFuture[nnc.getNrInPorts()];
+            m_channels = new StreamingRowChannel[nnc.getNrInPorts()];
+            m_result = new NativeNodeContainerExecutionResult();
+            m_result.setSuccess(m_wasExecuted);
+            m_result.setMessage(NodeMessage.NONE);
+            // replaced once the node is executed; nodes that fail or are skipped get reset when the result is loaded
+            NodeExecutionResult notExecuted = new NodeExecutionResult();
+            notExecuted.setNeedsResetAfterLoad();
+            m_result.setNodeExecutionResult(notExecuted);
+        }
+
+        /** Marks the node as not executed without running it. */
+        void skip() {
+            for (Output out : m_outputs) {
+                out.m_result.completeExceptionally(new CanceledExecutionException());
+                out.m_channels.forEach(StreamingRowChannel::fail);
+            }
+        }
+
+        /** Cancels the execution by interrupting the executing thread. */
+        synchronized void interrupt() {
+            m_isInterrupted = true;
+            if (m_thread != null) {
+                m_thread.interrupt();
+            }
+        }
+
+        void execute(final CountDownLatch done) {
+            synchronized (this) {
+                if (m_isInterrupted) {
+                    skip();
+                    done.countDown();
+                    return;
+                }
+                m_thread = Thread.currentThread();
+            }
+            NodeContext.pushContext(m_nnc);
+            try {
+                PortObject[] inObjects = awaitInputs();
+                boolean inactive = !m_nnc.isInactiveBranchConsumer() && Node.containsInactiveObjects(inObjects);
+                for (StreamingRowChannel channel : m_channels) {
+                    inactive |= channel != null && !channel.awaitOpen();
+                }
+                if (inactive) {
+                    setInactive();
+                    return;
+                }
+                m_exec = m_nnc.createExecutionContext();
+                m_nnc.getNode().openFileStoreHandler(m_exec);
+                for (Output out : m_outputs) {
+                    out.m_channels.forEach(StreamingRowChannel::open);
+                }
+                PortObject[] outObjects = run(inObjects);
+                for (int p = 0; p < m_outputs.length; p++) {
+                    m_outputs[p].m_result.complete(outObjects[p]);
+                }
+                m_result.setNodeExecutionResult(createNodeExecutionResult(inObjects, outObjects));
+                m_result.setSuccess(true);
+            } catch (StreamingRowChannel.UpstreamFailedException | UpstreamSkippedException e) {
+                // not executed, just like nodes downstream of a failed node in a local workflow
+                fail();
+            } catch (Throwable t) {
+                fail();
+                String message;
+                if (t instanceof CanceledExecutionException || t instanceof InterruptedException
+                    || Thread.currentThread().isInterrupted()) {
+                    message = "Execution canceled";
+                    m_result.setMessage(new NodeMessage(NodeMessage.Type.WARNING, message));
+                } else {
+                    message = "Execute failed: " + (t.getMessage() != null && t.getMessage().length() >= 5
+                        ? t.getMessage() : ("(\"" + t.getClass().getSimpleName() + "\"): " + t.getMessage()));
+                    m_result.setMessage(new NodeMessage(NodeMessage.Type.ERROR, message));
+                    LOGGER.error(m_nnc.getNameWithID() + ": " + message, t);
+                }
+            } finally {
+                for (StreamingRowChannel channel : m_channels) {
+                    if (channel != null) {
+                        channel.getInput().close();
+                    }
+                }
+                NodeContext.removeLastContext();
+                synchronized (this) {
+                    m_thread = null;
+                }
+                // clear the flag so that the thread can be reused
+                Thread.interrupted();
+                done.countDown();
+            }
+        }
+
+        /** Waits for the non-streamed inputs; the result is indexed by node port, streamed ports are null. */
+        private PortObject[] awaitInputs() throws InterruptedException {
+            PortObject[] inObjects = new PortObject[m_inputs.length];
+            inObjects[0] = FlowVariablePortObject.INSTANCE;
+            for (int q = 0; q < m_inputs.length; q++) {
+                if (m_inputs[q] != null) {
+                    CompletableFuture<PortObject> input = m_inputs[q];
+                    try {
+                        inObjects[q] = input.isDone() ? input.get() : awaitInvisibly(() -> {
+                            try {
+                                return input.get();
+                            } catch (ExecutionException e) {
+                                throw new UpstreamSkippedException();
+                            }
+                        });
+                    } catch (ExecutionException e) {
+                        throw new UpstreamSkippedException();
+                    }
+                }
+            }
+            return inObjects;
+        }
+
+        private void setInactive() {
+            for (Output out : m_outputs) {
+                out.m_result.complete(InactiveBranchPortObject.INSTANCE);
+                out.m_channels.forEach(StreamingRowChannel::setInactive);
+            }
+            m_result.setNodeExecutionResult(m_nnc.getNode().createInactiveNodeExecutionResult());
+            m_result.setSuccess(true);
+        }
+
+        private void fail() {
+            for (Output out : m_outputs) {
+                if (out.m_portOutput instanceof TableOutput) {
+                    ((TableOutput)out.m_portOutput).fail();
+                } else {
+                    out.m_channels.forEach(StreamingRowChannel::fail);
+                }
+                out.m_result.completeExceptionally(new UpstreamSkippedException());
+            }
+            m_result.setSuccess(false);
+        }
+
+        /** Runs the operator and returns the output objects indexed by node port. */
+        private PortObject[] run(final PortObject[] inObjects) throws Exception {
+            NodeModel model = m_nnc.getNodeModel();
+            InputPortRole[] roles = model.getInputPortRoles();
+            PortObjectSpec[] inSpecs = new PortObjectSpec[inObjects.length - 1];
+            for (int q = 1; q < inObjects.length; q++) {
+                if (m_channels[q] != null) {
+                    inSpecs[q - 1] = m_channels[q].getInput().getDataTableSpec();
+                } else if (inObjects[q] != null) {
+                    inSpecs[q - 1] = inObjects[q].getSpec();
+                }
+            }
+            StreamableOperator operator = model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+            MergeOperator merge = model.createMergeOperator();
+            PortObjectSpec[] outSpecs = null;
+            if (m_isIterative) {
+                StreamableOperatorInternals internals = m_initialInternals;
+                do {
+                    m_exec.checkCanceled();
+                    operator.loadInternals(internals);
+                    operator.runIntermediate(createInputs(inObjects, roles), m_exec);
+                    StreamableOperatorInternals[] partial = new StreamableOperatorInternals[]{operator.saveInternals()};
+                    internals = merge == null ? partial[0] : merge.mergeIntermediate(partial);
+                } while (model.iterate(internals));
+                outSpecs = model.computeFinalOutputSpecs(internals, inSpecs);
+                operator.loadInternals(internals);
+            }
+            PortOutput[] outputs = new PortOutput[m_outputs.length - 1];
+            for (int p = 1; p < m_outputs.length; p++) {
+                Output out = m_outputs[p];
+                if (out.isTable()) {
+                    PortObjectSpec spec = outSpecs != null && outSpecs[p - 1] != null ? outSpecs[p - 1] : out.m_spec;
+                    out.m_portOutput = new TableOutput(this, out, (DataTableSpec)spec);
+                } else {
+                    out.m_portOutput = new PortObjectOutput();
+                }
+                outputs[p - 1] = out.m_portOutput;
+            }
+            try {
+                operator.runFinal(createInputs(inObjects, roles), outputs, m_exec);
+            } catch (OutputClosedException e) {
+                // none of the downstream nodes needs more rows
+            }
+            if (merge != null) {
+                StreamableOperatorInternals internals =
+                    merge.mergeFinal(new StreamableOperatorInternals[]{operator.saveInternals()});
+                model.finishStreamableExecution(internals, m_exec, outputs);
+            }
+            PortObject[] outObjects = new PortObject[m_outputs.length];
+            outObjects[0] = FlowVariablePortObject.INSTANCE;
+            for (int p = 1; p < m_outputs.length; p++) {
+                if (outputs[p - 1] instanceof TableOutput) {
+                    TableOutput tableOutput = (TableOutput)outputs[p - 1];
+                    tableOutput.close();
+                    outObjects[p] = tableOutput.getTable();
+                } else {
+                    outObjects[p] = ((PortObjectOutput)outputs[p - 1]).getPortObject();
+                    if (outObjects[p] == null) {
+                        throw new IllegalStateException("Output at port " + p + " was not set");
+                    }
+                }
+            }
+            return outObjects;
+        }
+
+        private PortInput[] createInputs(final PortObject[] inObjects, final InputPortRole[] roles) {
+            PortInput[] inputs = new PortInput[inObjects.length - 1];
+            for (int q = 1; q < inObjects.length; q++) {
+                if (m_channels[q] != null) {
+                    inputs[q - 1] = m_channels[q].getInput();
+                } else if (inObjects[q] instanceof BufferedDataTable && roles[q - 1].isStreamable()) {
+                    inputs[q - 1] = new DataTableRowInput((BufferedDataTable)inObjects[q]);
+                } else if (inObjects[q] != null) {
+                    inputs[q - 1] = new PortObjectInput(inObjects[q]);
+                }
+            }
+            return inputs;
+        }
+
+        private NodeExecutionResult createNodeExecutionResult(final PortObject[] inObjects,
+            final PortObject[] outObjects) {
+            Node node = m_nnc.getNode();
+            node.assignInternalHeldObjects(inObjects, null, m_exec, outObjects);
+            NodeExecutionResult result = new NodeExecutionResult();
+            String warning = node.getWarningMessageFromModel();
+            if (warning == null && isAnyOutputDropped()) {
+                warning = "Output only streamed to downstream nodes, rows are not retained";
+            }
+            result.setWarningMessage(warning);
+            if (warning != null) {
+                m_result.setMessage(new NodeMessage(NodeMessage.Type.WARNING, warning));
+            }
+            result.setInternalHeldPortObjects(node.getInternalHeldPortObjects());
+            PortObjectSpec[] outSpecs = new PortObjectSpec[outObjects.length];
+            for (int p = 0; p < outObjects.length; p++) {
+                outSpecs[p] = outObjects[p].getSpec();
+            }
+            result.setPortObjects(outObjects);
+            result.setPortObjectSpecs(outSpecs);
+            FlowObjectStack outgoingStack = node.getOutgoingFlowObjectStack();
+            List<FlowVariable> nodeFlowVars = outgoingStack.getAvailableFlowVariables().values().stream()
+                .filter(f -> f.getScope().equals(FlowVariable.Scope.Flow)).collect(Collectors.toList());
+            Collections.reverse(nodeFlowVars); // the bottom most element should remain at the bottom of the stack
+            result.setFlowVariables(nodeFlowVars);
+            return result;
+        }
+
+        private boolean isAnyOutputDropped() {
+            for (Output out : m_outputs) {
+                if (out.m_portOutput instanceof TableOutput && ((TableOutput)out.m_portOutput).isDropped()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** @return whether no downstream node needs more rows from any of the outputs */
+        boolean areAllOutputsClosed() {
+            for (int p = 1; p < m_outputs.length; p++) {
+                Output out = m_outputs[p];
+                if (!(out.m_portOutput instanceof TableOutput) || !((TableOutput)out.m_portOutput).isUnused()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Row output of a node that passes the rows to the streamed consumers. The rows are only written into a table if
+     * the output is {@link Output#m_retainRows needed as a table}, otherwise the output table is empty.
+     */
+    private static final class TableOutput extends RowOutput {
+
+        private final StreamedNode m_node;
+
+        private final List<StreamingRowChannel> m_channels;
+
+        private final boolean m_retainRows;
+
+        private final DataTableSpec m_spec;
+
+        private BufferedDataContainer m_container;
+
+        private BufferedDataTable m_table;
+
+        private boolean m_isDropped;
+
+        private boolean m_closed;
+
+        TableOutput(final StreamedNode node, final Output output, final DataTableSpec spec) {
+            m_node = node;
+            m_channels = new ArrayList<>(output.m_channels);
+            m_retainRows = output.m_retainRows;
+            m_spec = spec;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            if (m_closed) {
+                throw new IllegalStateException("Output is closed");
+            }
+            offer(row);
+            if (m_retainRows) {
+                getContainer().addRowToTable(row);
+            } else if (m_channels.isEmpty() && m_node.areAllOutputsClosed()) {
+                throw new OutputClosedException();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setFully(final BufferedDataTable table) throws InterruptedException {
+            if (m_container != null) {
+                throw new IllegalStateException("Rows were added previously");
+            }
+            // the table is already there, no need to copy the rows
+            m_table = table;
+            try (CloseableRowIterator it = table.iterator()) {
+                while (!m_channels.isEmpty() && it.hasNext()) {
+                    offer(it.next());
+                }
+            }
+            close();
+        }
+
+        private void offer(final DataRow row) throws InterruptedException {
+            for (Iterator<StreamingRowChannel> it = m_channels.iterator(); it.hasNext();) {
+                if (!it.next().offer(row)) {
+                    it.remove();
+                }
+            }
+        }
+
+        private BufferedDataContainer getContainer() {
+            if (m_container == null) {
+                m_container = m_node.m_exec.createDataContainer(m_spec != null ? m_spec : new DataTableSpec());
+            }
+            return m_container;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws InterruptedException {
+            if (m_closed) {
+                return;
+            }
+            m_closed = true;
+            for (StreamingRowChannel channel : m_channels) {
+                channel.close();
+            }
+            if (m_table == null) {
+                m_isDropped = !m_retainRows;
+                getContainer().close();
+                m_table = m_container.getTable();
+            }
+        }
+
+        void fail() {
+            m_closed = true;
+            m_channels.forEach(StreamingRowChannel::fail);
+        }
+
+        boolean isUnused() {
+            return !m_retainRows && m_channels.isEmpty();
+        }
+
+        boolean isDropped() {
+            return m_isDropped;
+        }
+
+        BufferedDataTable getTable() {
+            return m_table;
+        }
+    }
+
+    /** Thrown to a node that won't be executed because a non-streamed input isn't available. */
+    @SuppressWarnings("serial")
+    private static final class UpstreamSkippedException extends RuntimeException {
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Job manager that executes the content of a metanode in streamed mode: all nodes run concurrently, rows are passed
+ * between nodes through bounded queues and tables are only written where a node can't consume its input as a
+ * stream. See {@link StreamingNodeExecutionJob} for details.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class StreamingNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** Default number of rows buffered per streamed connection. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final String CFG_QUEUE_CAPACITY = "queue_capacity";
+
+    private int m_queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof WorkflowManager)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                    + " is only able to execute metanodes: " + nc.getNameWithID());
+        }
+        StreamingNodeExecutionJob job = new StreamingNodeExecutionJob((WorkflowManager)nc, data, m_queueCapacity);
+        Future<?> future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof WorkflowManager;
+    }
+
+    /** @return the number of rows buffered per streamed connection */
+    public int getQueueCapacity() {
+        return m_queueCapacity;
+    }
+
+    /** @param queueCapacity the number of rows buffered per streamed connection, at least 1 */
+    public void setQueueCapacity(final int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1: " + queueCapacity);
+        }
+        m_queueCapacity = queueCapacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(final NodeSettingsWO settings) {
+        settings.addInt(CFG_QUEUE_CAPACITY, m_queueCapacity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        int queueCapacity = settings.getInt(CFG_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+        if (queueCapacity < 1) {
+            throw new InvalidSettingsException("Queue capacity must be at least 1: " + queueCapacity);
+        }
+        m_queueCapacity = queueCapacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+}
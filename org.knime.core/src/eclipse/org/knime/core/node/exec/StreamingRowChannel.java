@@ -0,0 +1,241 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * A bounded queue of rows that connects the output of a streamed node to the input of one downstream node. The
+ * producer {@link #offer(DataRow) offers} rows, which block while the queue is full, and {@link #close() closes} the
+ * channel when done; the consumer reads the rows through the {@link RowInput} returned by {@link #getInput()}.
+ *
+ * <p>
+ * Before rows are passed the producer either {@link #open() opens} the channel or marks it
+ * {@link #setInactive() inactive} (the producing node is part of an inactive branch), consumers wait for that
+ * decision in {@link #awaitOpen()}. If the producer {@link #fail() fails} the consumer stops reading with an
+ * {@link UpstreamFailedException}.
+ *
+ * <p>
+ * Producer and consumer wait for each other {@link StreamingNodeExecutionJob#awaitInvisibly(
+ * StreamingNodeExecutionJob.BlockingCall) invisibly} if they run in a thread pool.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class StreamingRowChannel {
+
+    /** How long a blocked producer waits before it checks again whether the consumer closed the input. */
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private static final DataRow END_OF_STREAM = new DefaultRow(new RowKey("end-of-stream"), new DataCell[0]);
+
+    private static final DataRow UPSTREAM_FAILED = new DefaultRow(new RowKey("upstream-failed"), new DataCell[0]);
+
+    private final DataTableSpec m_spec;
+
+    private final BlockingQueue<DataRow> m_queue;
+
+    private final CountDownLatch m_decided = new CountDownLatch(1);
+
+    private volatile boolean m_inactive;
+
+    private volatile boolean m_failed;
+
+    private volatile boolean m_consumerClosed;
+
+    private volatile boolean m_producerClosed;
+
+    private boolean m_endReached;
+
+    /**
+     * @param spec the spec of the streamed table
+     * @param capacity the number of rows the channel buffers before the producer blocks
+     */
+    StreamingRowChannel(final DataTableSpec spec, final int capacity) {
+        m_spec = spec;
+        m_queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /** Called by the producer before it offers the first row. */
+    void open() {
+        m_decided.countDown();
+    }
+
+    /** Called by the producer instead of {@link #open()} if it is inactive and will never offer rows. */
+    void setInactive() {
+        m_inactive = true;
+        m_decided.countDown();
+    }
+
+    /** Called by the producer if its execution failed, the consumer will fail as well (unless the stream is already
+     * complete). */
+    void fail() {
+        if (m_producerClosed) {
+            return;
+        }
+        m_failed = true;
+        m_queue.clear();
+        m_queue.offer(UPSTREAM_FAILED);
+        m_decided.countDown();
+    }
+
+    /**
+     * Waits until the producer either opened the channel or marked it inactive.
+     *
+     * @return <code>true</code> if rows will be passed, <code>false</code> if the producer is inactive
+     * @throws InterruptedException if interrupted while waiting
+     * @throws UpstreamFailedException if the producer failed
+     */
+    boolean awaitOpen() throws InterruptedException {
+        if (m_decided.getCount() > 0) {
+            StreamingNodeExecutionJob.awaitInvisibly(() -> {
+                m_decided.await();
+                return null;
+            });
+        }
+        if (m_failed) {
+            throw new UpstreamFailedException();
+        }
+        return !m_inactive;
+    }
+
+    /** @return whether the producer failed */
+    boolean isFailed() {
+        return m_failed;
+    }
+
+    /**
+     * Passes a row to the consumer, blocks while the channel is full.
+     *
+     * @param row the row to pass
+     * @return <code>false</code> if the consumer closed its input and doesn't take any more rows
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean offer(final DataRow row) throws InterruptedException {
+        if (m_consumerClosed) {
+            return false;
+        }
+        if (m_queue.offer(row)) {
+            return true;
+        }
+        return StreamingNodeExecutionJob.awaitInvisibly(() -> {
+            while (!m_consumerClosed) {
+                if (m_queue.offer(row, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Signals the end of the stream, blocks while the channel is full.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void close() throws InterruptedException {
+        m_producerClosed = true;
+        offer(END_OF_STREAM);
+    }
+
+    /** @return the input handed to the consuming node */
+    RowInput getInput() {
+        return new RowInput() {
+
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return m_spec;
+            }
+
+            @Override
+            public DataRow poll() throws InterruptedException {
+                if (m_endReached || m_consumerClosed) {
+                    return null;
+                }
+                DataRow row = m_queue.poll();
+                if (row == null) {
+                    row = StreamingNodeExecutionJob.awaitInvisibly(m_queue::take);
+                }
+                if (row == UPSTREAM_FAILED) {
+                    m_endReached = true;
+                    throw new UpstreamFailedException();
+                }
+                if (row == END_OF_STREAM) {
+                    m_endReached = true;
+                    return null;
+                }
+                return row;
+            }
+
+            @Override
+            public void close() {
+                m_consumerClosed = true;
+                m_queue.clear();
+            }
+        };
+    }
+
+    /** Thrown to the consumer of a channel whose producer failed. */
+    @SuppressWarnings("serial")
+    static final class UpstreamFailedException extends RuntimeException {
+
+        UpstreamFailedException() {
+            super("Upstream node failed");
+        }
+    }
+
+}
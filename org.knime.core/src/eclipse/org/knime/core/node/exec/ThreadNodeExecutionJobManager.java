@@ -69,15 +69,29 @@ public class ThreadNodeExecutionJobManager extends AbstractNodeExecutionJobManag
 
     private final ThreadPool m_pool;
 
+    private final boolean m_criticalPathScheduling;
+
     public ThreadNodeExecutionJobManager() {
         this(KNIMEConstants.GLOBAL_THREAD_POOL);
     }
 
     public ThreadNodeExecutionJobManager(final ThreadPool pool) {
+        this(pool, Boolean.getBoolean(KNIMEConstants.PROPERTY_CRITICAL_PATH_SCHEDULING));
+    }
+
+    /**
+     * @param pool the pool to run the jobs in
+     * @param criticalPathScheduling if jobs that wait for a free thread are started in the order of their
+     *            estimated remaining critical path length (see {@link #getCriticalPathLength(NodeContainer)})
+     *            rather than in submission order
+     * @since 3.8
+     */
+    public ThreadNodeExecutionJobManager(final ThreadPool pool, final boolean criticalPathScheduling) {
         if (pool == null) {
             throw new NullPointerException("arg must not be null");
         }
         m_pool = pool;
+        m_criticalPathScheduling = criticalPathScheduling;
     }
 
     /** {@inheritDoc} */
@@ -88,7 +102,8 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
+        Future<?> future = m_criticalPathScheduling ? m_pool.enqueue(job, getCriticalPathLength(nc))
+            : m_pool.enqueue(job);
         job.setFuture(future);
         return job;
     }
@@ -180,4 +180,26 @@ public void saveInternals(final ReferencedFile directory) throws IOException {
     public void loadInternals(final ReferencedFile directory) throws IOException {
     }
 
+    /** Estimates the length of the longest chain of nodes pending execution that starts at the argument node, based
+     * on the connections in its workflow and the average execution durations recorded by the nodes'
+     * {@link NodeTimer}. Nodes that haven't been executed yet count as 1ms, hence on a first run the result is the
+     * number of nodes on the longest pending chain. Job managers may use it to start the nodes, which determine the
+     * overall runtime of a workflow, first.
+     *
+     * <p>The estimate is only computed if the calling thread holds the lock of the node's workflow (as it does when
+     * the framework calls {@link #submitJob(NodeContainer, PortObject[])}), otherwise 0 is returned.
+     *
+     * @param nc The node to be executed.
+     * @return estimated remaining critical path length in ms (including the node itself)
+     * @since 3.8
+     */
+    protected static long getCriticalPathLength(final NodeContainer nc) {
+        final WorkflowManager parent = nc.getParent();
+        if (parent == null || !parent.isLockedByCurrentThread()) {
+            return 0;
+        }
+        return parent.getWorkflow().getCriticalPathLength(nc.getID(),
+            n -> Math.max(1, n.getNodeTimer().getAverageExecutionDuration()));
+    }
+
 }
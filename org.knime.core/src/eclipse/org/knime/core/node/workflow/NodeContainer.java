@@ -178,6 +178,11 @@ public boolean executionInProgress() {
 
     /*--------- listener administration------------*/
 
+    /** Whether this node is contained in its parent's workflow and hence part of the parent's aggregated node
+     * counts (see {@link WorkflowManager#childStateChanged(InternalNodeContainerState, InternalNodeContainerState)}).
+     * Changed and read while holding {@link #m_nodeMutex}, together with the state and the message. */
+    private volatile boolean m_isCountedInParent;
+
     private final CopyOnWriteArraySet<NodeStateChangeListener>
         m_stateChangeListeners =
             new CopyOnWriteArraySet<NodeStateChangeListener>();
@@ -747,10 +752,39 @@ public final NodeMessage getNodeMessage() {
     * @param newMessage the nodeMessage to set
     */
    public final void setNodeMessage(final NodeMessage newMessage) {
-       NodeMessage oldMessage = m_nodeMessage;
-       m_nodeMessage = newMessage == null ? NodeMessage.NONE : newMessage;
-       if (!m_nodeMessage.equals(oldMessage)) {
-           notifyMessageListeners(new NodeMessageEvent(getID(), m_nodeMessage));
+       final NodeMessage message = newMessage == null ? NodeMessage.NONE : newMessage;
+       final NodeMessage oldMessage;
+       // the error count of the parent must match the message seen by setCountedInParent
+       synchronized (m_nodeMutex) {
+           oldMessage = m_nodeMessage;
+           m_nodeMessage = message;
+           final boolean isError = isErrorMessage(message);
+           if (m_isCountedInParent && isErrorMessage(oldMessage) != isError) {
+               m_parent.childErrorChanged(isError);
+           }
+       }
+       if (!message.equals(oldMessage)) {
+           notifyMessageListeners(new NodeMessageEvent(getID(), message));
+       }
+   }
+
+   /** @return whether the argument is an error message. */
+   static boolean isErrorMessage(final NodeMessage message) {
+       return message != null && message.getMessageType().equals(NodeMessage.Type.ERROR);
+   }
+
+   /**
+    * Adds this node to or removes it from the aggregated node counts of its parent workflow, called by the parent
+    * when the node is added to or removed from its workflow (while holding the workflow lock).
+    *
+    * @param counted whether the node is now contained in the parent's workflow
+    */
+   void setCountedInParent(final boolean counted) {
+       synchronized (m_nodeMutex) {
+           if (m_isCountedInParent != counted) {
+               m_isCountedInParent = counted;
+               m_parent.childCountChanged(m_state, isErrorMessage(m_nodeMessage), counted ? 1 : -1);
+           }
        }
    }
 
@@ -878,8 +912,12 @@ boolean setInternalState(final InternalNodeContainerState state, final boolean s
         boolean changesMade = false;
         synchronized (m_nodeMutex) {
             if (!m_state.equals(state)) {
+                InternalNodeContainerState oldState = m_state;
                 m_state = state;
                 changesMade = true;
+                if (m_isCountedInParent) {
+                    m_parent.childStateChanged(oldState, state);
+                }
             }
         }
         // TODO: This is sometimes (always?) synchronized on m_nodeMutex as
@@ -890,7 +928,9 @@ boolean setInternalState(final InternalNodeContainerState state, final boolean s
                 setDirty();
             }
             notifyStateChangeListeners(new NodeStateEvent(getID(), m_state));
-            LOGGER.debug(this.getNameWithID() + " has new state: " + m_state);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(this.getNameWithID() + " has new state: " + m_state);
+            }
         }
         return changesMade;
     }
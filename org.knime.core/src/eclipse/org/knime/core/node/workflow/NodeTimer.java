@@ -726,6 +726,16 @@ public int getNrExecsSinceStart() {
         return m_numberOfExecutionsOverall;
     }
 
+    /**
+     * @return the average duration of the executions since the start of the application in ms or -1 if the node
+     *         hasn't been executed yet.
+     * @since 3.8
+     */
+    public long getAverageExecutionDuration() {
+        final int count = m_numberOfExecutionsOverall;
+        return count == 0 ? -1 : m_executionDurationOverall / count;
+    }
+
     private void initialize() {
         m_startTime = -1;
         m_lastExecutionDuration = -1;
@@ -58,6 +58,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.ToLongFunction;
 
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.MetaPortInfo;
@@ -1027,6 +1028,39 @@ private void completePredecessorSet(final HashSet<NodeID> nodes, final NodeID id
         }
     }
 
+    /** Estimates the length of the longest chain of nodes that are still to be executed and start at the given
+     * node, which is the node's own estimated duration plus the longest such chain of any of its successors.
+     * Successors that are not marked for execution (or queued or executing) are not followed and neither are
+     * connections leaving this workflow.
+     *
+     * @param id of the node to start from
+     * @param durationEstimate the estimated duration of a single node
+     * @return the sum of estimated durations along the longest pending path
+     */
+    long getCriticalPathLength(final NodeID id, final ToLongFunction<NodeContainer> durationEstimate) {
+        return getCriticalPathLength(id, durationEstimate, new HashMap<NodeID, Long>());
+    }
+
+    private long getCriticalPathLength(final NodeID id, final ToLongFunction<NodeContainer> durationEstimate,
+        final Map<NodeID, Long> cache) {
+        final Long cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long longestSuccessorPath = 0;
+        for (ConnectionContainer cc : m_connectionsBySource.get(id)) {
+            final NodeID succ = cc.getDest();
+            if (succ.equals(getID()) || !m_nodes.get(succ).getNodeContainerState().isExecutionInProgress()) {
+                continue;
+            }
+            longestSuccessorPath =
+                Math.max(longestSuccessorPath, getCriticalPathLength(succ, durationEstimate, cache));
+        }
+        final long result = durationEstimate.applyAsLong(m_nodes.get(id)) + longestSuccessorPath;
+        cache.put(id, result);
+        return result;
+    }
+
     /**
      * Return map of node ids to set of port indices based on list of output
      * ports. The map's iterator returns the elements sorted by traversing the
@@ -186,6 +186,8 @@ InternalNodeContainerState getWFMInternalState() {
     void queueCheckForNodeStateChangeNotification(final boolean propagateChanges) {
         assert m_reentrantLock.isHeldByCurrentThread() : "Can't queue state check - lock not held by current thread";
         m_checkForNodeStateChanges = true;
+        // the parent's state computation needs to see the up-to-date state of this workflow
+        m_wfm.invalidateNodeCountsInParent();
         if (propagateChanges) {
             m_propagateChanges = true;
         }
@@ -312,6 +312,20 @@ public Thread newThread(final Runnable r) {
      */
     private final WorkflowLock m_workflowLock;
 
+    /**
+     * Number of contained nodes per internal state, maintained incrementally on state changes of the contained nodes
+     * so that {@link #computeNewState()} (called whenever the lock is released after a state change) doesn't need to
+     * visit all nodes. Guarded by the workflow lock. Changes made without holding the lock mark the counts as
+     * {@linkplain #m_nodeCountsDirty dirty}, they are then recounted.
+     */
+    private final int[] m_nrNodesInState = new int[InternalNodeContainerState.values().length];
+
+    /** Number of contained nodes with an error message, see {@link #m_nrNodesInState}. */
+    private int m_nrNodesWithError;
+
+    /** Whether {@link #m_nrNodesInState} and {@link #m_nrNodesWithError} need to be recounted. */
+    private volatile boolean m_nodeCountsDirty = true;
+
     /** see {@link #getDirectNCParent()}. */
     private final NodeContainerParent m_directNCParent;
 
@@ -795,6 +809,7 @@ public void removeNode(final NodeID nodeID) {
             }
             // and finally remove node itself as well.
             nc = m_workflow.removeNode(nodeID);
+            nc.setCountedInParent(false);
             nc.cleanup();
             // update list of obsolete node directories for non-root wfm
             ReferencedFile ncDir = nc.getNodeContainerDirectory();
@@ -918,6 +933,7 @@ private void addNodeContainer(final NodeContainer nodeContainer, final boolean p
             assert !m_workflow.containsNodeKey(id) : "\"" + nodeContainer.getNameWithID()
                 + "\" already contained in flow";
             m_workflow.putNode(id, nodeContainer);
+            nodeContainer.setCountedInParent(true);
             notifyWorkflowListeners(new WorkflowEvent(WorkflowEvent.Type.NODE_ADDED, id, null, nodeContainer));
             lock.queueCheckForNodeStateChangeNotification(propagateChanges);
         }
@@ -5488,17 +5504,12 @@ public WorkflowDataRepository getWorkflowDataRepository() {
      */
     InternalNodeContainerState computeNewState() {
         assert m_workflowLock.isHeldByCurrentThread();
-        int[] nrNodesInState = new int[InternalNodeContainerState.values().length];
-        int nrNodes = 0;
-        boolean internalNodeHasError = false;
-        for (NodeContainer ncIt : m_workflow.getNodeValues()) {
-            nrNodesInState[ncIt.getInternalState().ordinal()]++;
-            nrNodes++;
-            if ((ncIt.getNodeMessage() != null)
-                && (ncIt.getNodeMessage().getMessageType().equals(NodeMessage.Type.ERROR))) {
-                internalNodeHasError = true;
-            }
+        final int nrNodes = m_workflow.getNrNodes();
+        if (m_nodeCountsDirty || IntStream.of(m_nrNodesInState).sum() != nrNodes) {
+            recountNodes();
         }
+        final int[] nrNodesInState = m_nrNodesInState;
+        final boolean internalNodeHasError = m_nrNodesWithError > 0;
         // set summarization message if any of the internal nodes has an error
         if (internalNodeHasError) {
             setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Error in sub flow."));
@@ -5506,7 +5517,6 @@ InternalNodeContainerState computeNewState() {
             setNodeMessage(NodeMessage.NONE);
         }
         //
-        assert nrNodes == m_workflow.getNrNodes();
         InternalNodeContainerState newState = IDLE;
         // check if all outports are connected
         boolean allOutPortsConnected = getNrOutPorts() == m_workflow.getConnectionsByDest(this.getID()).size();
@@ -5582,6 +5592,107 @@ InternalNodeContainerState computeNewState() {
         return newState;
     }
 
+    /** Recounts {@link #m_nrNodesInState} and {@link #m_nrNodesWithError} by visiting all contained nodes. */
+    private void recountNodes() {
+        assert m_workflowLock.isHeldByCurrentThread();
+        // clear the flag first, changes made during the recount will set it again
+        m_nodeCountsDirty = false;
+        Arrays.fill(m_nrNodesInState, 0);
+        m_nrNodesWithError = countNodes(m_nrNodesInState);
+    }
+
+    /**
+     * Counts the contained nodes per state by visiting all of them.
+     *
+     * @param nrNodesInState the array to add the counts to, indexed by state ordinal
+     * @return the number of contained nodes with an error message
+     */
+    private int countNodes(final int[] nrNodesInState) {
+        int nrNodesWithError = 0;
+        for (NodeContainer ncIt : m_workflow.getNodeValues()) {
+            nrNodesInState[ncIt.getInternalState().ordinal()]++;
+            if (NodeContainer.isErrorMessage(ncIt.getNodeMessage())) {
+                nrNodesWithError++;
+            }
+        }
+        return nrNodesWithError;
+    }
+
+    /**
+     * Compares the incrementally maintained node counts with a full recount. Counts that are marked dirty are
+     * recounted before they are used and hence not compared. Used in tests.
+     *
+     * @return whether the counts are dirty or equal to a full recount
+     */
+    boolean isNodeCountConsistent() {
+        try (WorkflowLock lock = lock()) {
+            if (m_nodeCountsDirty) {
+                return true;
+            }
+            final int[] nrNodesInState = new int[m_nrNodesInState.length];
+            final int nrNodesWithError = countNodes(nrNodesInState);
+            return Arrays.equals(nrNodesInState, m_nrNodesInState) && nrNodesWithError == m_nrNodesWithError;
+        }
+    }
+
+    /**
+     * Called by a contained node when its state has changed (while holding the node's mutex), see
+     * {@link #m_nrNodesInState}.
+     *
+     * @param oldState the previous state of the node
+     * @param newState the new state of the node
+     */
+    void childStateChanged(final InternalNodeContainerState oldState, final InternalNodeContainerState newState) {
+        if (m_workflowLock.isHeldByCurrentThread() && !m_nodeCountsDirty) {
+            m_nrNodesInState[oldState.ordinal()]--;
+            m_nrNodesInState[newState.ordinal()]++;
+        } else {
+            m_nodeCountsDirty = true;
+        }
+    }
+
+    /**
+     * Called by a contained node when it got or lost an error message, see {@link #m_nrNodesWithError}.
+     *
+     * @param isError whether the node now has an error message
+     */
+    void childErrorChanged(final boolean isError) {
+        if (m_workflowLock.isHeldByCurrentThread() && !m_nodeCountsDirty) {
+            m_nrNodesWithError += isError ? 1 : -1;
+        } else {
+            m_nodeCountsDirty = true;
+        }
+    }
+
+    /**
+     * Called when a state check of this workflow is queued. Until it is done the assigned state of this workflow may be
+     * outdated, the parent therefore recounts its nodes, which will compute the state of this workflow.
+     */
+    void invalidateNodeCountsInParent() {
+        final WorkflowManager parent = getParent();
+        if (parent != null) {
+            parent.m_nodeCountsDirty = true;
+        }
+    }
+
+    /**
+     * Called by a node when it is added to (delta 1) or removed from (delta -1) this workflow.
+     *
+     * @param state the current state of the node
+     * @param isError whether the node has an error message
+     * @param delta 1 or -1
+     */
+    void childCountChanged(final InternalNodeContainerState state, final boolean isError, final int delta) {
+        if (m_workflowLock.isHeldByCurrentThread() && !m_nodeCountsDirty) {
+            m_nrNodesInState[state.ordinal()] += delta;
+            if (isError) {
+                m_nrNodesWithError += delta;
+            }
+        } else {
+            m_nodeCountsDirty = true;
+        }
+    }
+
     /**
      * Called by the workflow lock upon releasing the lock by a thread to finally update the internal state.
      *
@@ -75,6 +75,10 @@
  * and sorted by a merge sort like algorithm. If any duplicate keys are detected
  * during this process an exception is thrown.
  *
+ * <p>Keys of the form <code>"Row" + index</code> (as created by
+ * {@link org.knime.core.data.RowKey#createRowKey(long)}) are kept as
+ * primitive index in memory, the string is only created when writing a chunk.
+ *
  * <p>Note: This implementation is not thread-safe, it's supposed to be used
  * by a single thread only.
  *
@@ -91,12 +95,14 @@ public Chunk() throws IOException {
             m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
         }
 
-        public void addKeys(final Set<String> keys) throws IOException {
+        public void addKeys(final Set<String> keys, final LongHashSet rowIndices) throws IOException {
             if (m_out == null) {
                 throw new IllegalStateException("Chunck has already been closed");
             }
 
-            String[] sorted = keys.toArray(new String[keys.size()]);
+            String[] sorted = keys.toArray(new String[keys.size() + rowIndices.size()]);
+            int[] next = new int[]{keys.size()};
+            rowIndices.forEach(i -> sorted[next[0]++] = DEFAULT_ROW_KEY_PREFIX + i);
             Arrays.sort(sorted);
 
             for (String s : sorted) {
@@ -183,12 +189,18 @@ public boolean dispose() {
     /** The default number of streams open during merging. */
     public static final int MAX_STREAMS = 50;
 
+    /** Prefix of the keys added by {@link #addDefaultRowKey(long)}. */
+    static final String DEFAULT_ROW_KEY_PREFIX = "Row";
+
     private final int m_maxChunkSize;
 
     private final int m_maxStreams;
 
     private Set<String> m_currentChunk = new HashSet<String>();
 
+    /** Indices of the keys of the current chunk that have the form <code>"Row" + index</code>. */
+    private final LongHashSet m_currentRowIndices = new LongHashSet();
+
     private List<Chunk> m_storedChunks = new ArrayList<Chunk>();
 
     private static final boolean DISABLE_DUPLICATE_CHECK =
@@ -244,16 +256,78 @@ public void addKey(final String s) throws DuplicateKeyException,
         if (DISABLE_DUPLICATE_CHECK) {
             return;
         }
+        if (isDefaultRowKey(s)) {
+            addDefaultRowKey(Long.parseLong(s.substring(DEFAULT_ROW_KEY_PREFIX.length())));
+            return;
+        }
         // bug fix #1737: keys may be just wrappers of very large strings ...
         // we make a copy, which consist of the important characters only
         if (!m_currentChunk.add(new String(s))) {
             throw new DuplicateKeyException(s);
         }
-        if (m_currentChunk.size() >= m_maxChunkSize) {
+        if (getCurrentChunkSize() >= m_maxChunkSize) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The index is kept as is, the string is only created when the keys are written to disk. Keys added as string are
+     * compared to these keys as well.
+     *
+     * @since 3.8
+     */
+    @Override
+    public void addDefaultRowKey(final long rowIndex) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        if (!m_currentRowIndices.add(rowIndex)) {
+            throw new DuplicateKeyException(DEFAULT_ROW_KEY_PREFIX + rowIndex);
+        }
+        if (getCurrentChunkSize() >= m_maxChunkSize) {
             writeChunk();
         }
     }
 
+    private int getCurrentChunkSize() {
+        return m_currentChunk.size() + m_currentRowIndices.size();
+    }
+
+    /**
+     * Whether the argument is exactly <code>"Row" + index</code> for some long index, i.e. the string of the key
+     * created by {@link org.knime.core.data.RowKey#createRowKey(long)}. Such keys are held as index.
+     */
+    private static boolean isDefaultRowKey(final String s) {
+        final int start = DEFAULT_ROW_KEY_PREFIX.length();
+        if (!s.startsWith(DEFAULT_ROW_KEY_PREFIX) || s.length() == start) {
+            return false;
+        }
+        int firstDigit = s.charAt(start) == '-' ? start + 1 : start;
+        int nrDigits = s.length() - firstDigit;
+        if (nrDigits == 0 || nrDigits > 19 || (s.charAt(firstDigit) == '0' && (nrDigits > 1 || firstDigit > start))) {
+            // no digits, too many for a long, leading zeros or "-0"
+            return false;
+        }
+        for (int i = firstDigit; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (nrDigits == 19) {
+            // may overflow
+            try {
+                Long.parseLong(s.substring(start));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void checkForDuplicates() throws DuplicateKeyException, IOException {
@@ -267,6 +341,41 @@ public void checkForDuplicates() throws DuplicateKeyException, IOException {
         checkForDuplicates(m_storedChunks);
     }
 
+    /**
+     * Merges the keys added to the argument checker into this checker, as if
+     * they had been added to this checker. Keys that have been written to disk
+     * by the argument are not read but their chunks are handed over to this
+     * checker; they are checked when {@link #checkForDuplicates()} is called.
+     * The argument is cleared afterwards.
+     *
+     * @param other the checker to merge into this one
+     * @throws DuplicateKeyException if a key in memory of the argument has
+     *             also been added to this checker
+     * @throws IOException if an I/O error occurs
+     * @since 3.8
+     */
+    public void merge(final DuplicateChecker other)
+            throws DuplicateKeyException, IOException {
+        for (String s : other.m_currentChunk) {
+            if (!m_currentChunk.add(s)) {
+                throw new DuplicateKeyException(s);
+            }
+            if (getCurrentChunkSize() >= m_maxChunkSize) {
+                writeChunk();
+            }
+        }
+        other.m_currentChunk.clear();
+        long[] otherRowIndices = new long[other.m_currentRowIndices.size()];
+        int[] next = new int[1];
+        other.m_currentRowIndices.forEach(i -> otherRowIndices[next[0]++] = i);
+        other.m_currentRowIndices.clear();
+        for (long i : otherRowIndices) {
+            addDefaultRowKey(i);
+        }
+        m_storedChunks.addAll(other.m_storedChunks);
+        other.m_storedChunks.clear();
+    }
+
     /**
      * Clears the checker, i.e. removes all temporary files and all keys in
      * memory.
@@ -279,6 +388,7 @@ public void clear() {
         synchronized (ALL_CHUNKS) { ALL_CHUNKS.removeAll(m_storedChunks); }
         m_storedChunks.clear();
         m_currentChunk.clear();
+        m_currentRowIndices.clear();
     }
 
     /**
@@ -360,14 +470,15 @@ private void checkForDuplicates(final List<Chunk> storedChunks)
      * @throws IOException if an I/O error occurs
      */
     private void writeChunk() throws IOException {
-        if (m_currentChunk.isEmpty()) {
+        if (getCurrentChunkSize() == 0) {
             return;
         }
         Chunk c = new Chunk();
-        c.addKeys(m_currentChunk);
+        c.addKeys(m_currentChunk, m_currentRowIndices);
         c.close();
         m_storedChunks.add(c);
         m_currentChunk.clear();
+        m_currentRowIndices.clear();
     }
 
     /**
@@ -0,0 +1,378 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Duplicate checker that identifies keys by 64 bit fingerprints. The fingerprints of all keys are kept in a primitive
+ * hash set, which detects almost all potential duplicates while adding keys. The keys themselves are kept in memory up
+ * to the maximum chunk size and then appended to a temporary file, grouped by hash partition. Only if two keys have
+ * the same fingerprint, {@link #checkForDuplicates()} reads the keys of the affected partitions and compares them
+ * exactly -- in the common case of unique keys that have distinct fingerprints no temporary file is read at all.
+ *
+ * <p>
+ * If the number of keys exceeds the maximum number of fingerprints held in memory, the fingerprint set is dropped and
+ * {@link #checkForDuplicates()} sorts the spilled fingerprints partition by partition instead, which still avoids
+ * comparing and merging the keys.
+ *
+ * <p>
+ * Note: This implementation is not thread-safe, it's supposed to be used by a single thread only.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class FingerprintDuplicateChecker implements IDuplicateChecker {
+
+    /** The default maximum number of fingerprints kept in memory. */
+    public static final int MAX_FINGERPRINTS = 1 << 21;
+
+    /** Number of hash partitions, the partition of a key is given by the highest bits of its fingerprint. */
+    private static final int NR_PARTITIONS = 256;
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** Temporary files of all instances, deleted on shutdown. */
+    private static final Collection<File> ALL_FILES = new ArrayList<File>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> removeTempFiles());
+    }
+
+    private static void removeTempFiles() {
+        synchronized (ALL_FILES) {
+            for (File f : ALL_FILES) {
+                f.delete();
+            }
+            ALL_FILES.clear();
+        }
+    }
+
+    /** Location of the keys of one chunk within the temporary file. */
+    private static final class Chunk {
+        private final long[] m_offsets = new long[NR_PARTITIONS];
+
+        private final int[] m_counts = new int[NR_PARTITIONS];
+    }
+
+    private final int m_maxChunkSize;
+
+    private final int m_maxFingerprints;
+
+    /** Fingerprints of all added keys, <code>null</code> once more than the maximum number of keys were added. */
+    private LongHashSet m_fingerprints = new LongHashSet();
+
+    /** Fingerprints that were added more than once, either duplicates or collisions. */
+    private LongHashSet m_suspects = new LongHashSet();
+
+    private Set<String> m_currentChunk = new HashSet<String>();
+
+    private final List<Chunk> m_storedChunks = new ArrayList<Chunk>();
+
+    private File m_file;
+
+    private CountingOutputStream m_fileCounter;
+
+    private DataOutputStream m_fileOut;
+
+    /**
+     * Creates a new duplicate checker with default parameters.
+     */
+    public FingerprintDuplicateChecker() {
+        this(DuplicateChecker.MAX_CHUNK_SIZE, MAX_FINGERPRINTS);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param maxChunkSize the maximum number of keys kept in memory before they are written to disk
+     * @param maxFingerprints the maximum number of fingerprints kept in memory
+     */
+    public FingerprintDuplicateChecker(final int maxChunkSize, final int maxFingerprints) {
+        if (maxChunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1");
+        }
+        m_maxChunkSize = maxChunkSize;
+        m_maxFingerprints = maxFingerprints;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        // bug fix #1737: keys may be just wrappers of very large strings ...
+        // we make a copy, which consist of the important characters only
+        final String key = new String(s);
+        if (!m_currentChunk.add(key)) {
+            throw new DuplicateKeyException(s);
+        }
+        if (m_fingerprints != null) {
+            final long fingerprint = fingerprint(key);
+            if (!m_fingerprints.add(fingerprint)) {
+                // a duplicate of a key that has been written to disk or a collision, resolved at the end
+                m_suspects.add(fingerprint);
+            } else if (m_fingerprints.size() > m_maxFingerprints) {
+                // all fingerprints are compared on disk at the end
+                m_fingerprints = null;
+            }
+        }
+        if (m_currentChunk.size() >= m_maxChunkSize) {
+            writeChunk();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_storedChunks.isEmpty()) {
+            // all keys are in memory and have been compared in addKey
+            return;
+        }
+        writeChunk();
+        m_fileOut.close();
+        m_fileOut = null;
+        try (RandomAccessFile file = new RandomAccessFile(m_file, "r")) {
+            if (m_fingerprints == null) {
+                findSuspects(file);
+            }
+            if (!m_suspects.isEmpty()) {
+                compareSuspects(file);
+            }
+        }
+    }
+
+    /**
+     * Finds the fingerprints that occur more than once by sorting the fingerprints of each partition.
+     */
+    private void findSuspects(final RandomAccessFile file) throws IOException {
+        for (int p = 0; p < NR_PARTITIONS; p++) {
+            int total = 0;
+            for (Chunk c : m_storedChunks) {
+                total += c.m_counts[p];
+            }
+            final long[] fingerprints = new long[total];
+            int index = 0;
+            for (Chunk c : m_storedChunks) {
+                DataInputStream in = openPartition(file, c, p);
+                for (int i = 0; i < c.m_counts[p]; i++) {
+                    fingerprints[index++] = in.readLong();
+                    skipFully(in, in.readUnsignedShort());
+                }
+            }
+            Arrays.sort(fingerprints);
+            for (int i = 1; i < fingerprints.length; i++) {
+                if (fingerprints[i] == fingerprints[i - 1]) {
+                    m_suspects.add(fingerprints[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the keys of all suspicious fingerprints.
+     */
+    private void compareSuspects(final RandomAccessFile file) throws IOException {
+        final boolean[] isSuspectPartition = new boolean[NR_PARTITIONS];
+        m_suspects.forEach(f -> isSuspectPartition[partition(f)] = true);
+        for (int p = 0; p < NR_PARTITIONS; p++) {
+            if (!isSuspectPartition[p]) {
+                continue;
+            }
+            final Set<String> keys = new HashSet<String>();
+            for (Chunk c : m_storedChunks) {
+                DataInputStream in = openPartition(file, c, p);
+                for (int i = 0; i < c.m_counts[p]; i++) {
+                    long fingerprint = in.readLong();
+                    String key = in.readUTF();
+                    if (m_suspects.contains(fingerprint) && !keys.add(key)) {
+                        throw new DuplicateKeyException(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static DataInputStream openPartition(final RandomAccessFile file, final Chunk chunk, final int partition)
+        throws IOException {
+        file.seek(chunk.m_offsets[partition]);
+        // not closed as this would close the file
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(file.getChannel())));
+    }
+
+    private static void skipFully(final DataInputStream in, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Clears the checker, i.e. removes the temporary file and all keys in memory.
+     */
+    @Override
+    public void clear() {
+        if (m_fileOut != null) {
+            try {
+                m_fileOut.close();
+            } catch (IOException ex) {
+                // ignore, the file is deleted anyway
+            }
+            m_fileOut = null;
+        }
+        if (m_file != null) {
+            m_file.delete();
+            synchronized (ALL_FILES) {
+                ALL_FILES.remove(m_file);
+            }
+            m_file = null;
+        }
+        m_storedChunks.clear();
+        m_currentChunk.clear();
+        m_fingerprints = new LongHashSet();
+        m_suspects = new LongHashSet();
+    }
+
+    /**
+     * Appends the current chunk to the temporary file, grouped by partition, and clears the set.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeChunk() throws IOException {
+        if (m_currentChunk.isEmpty()) {
+            return;
+        }
+        if (m_fileOut == null) {
+            m_file = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+            synchronized (ALL_FILES) {
+                ALL_FILES.add(m_file);
+            }
+            m_fileCounter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
+            m_fileOut = new DataOutputStream(m_fileCounter);
+        }
+        final String[] keys = m_currentChunk.toArray(new String[m_currentChunk.size()]);
+        final long[] fingerprints = new long[keys.length];
+        final Chunk chunk = new Chunk();
+        for (int i = 0; i < keys.length; i++) {
+            fingerprints[i] = fingerprint(keys[i]);
+            chunk.m_counts[partition(fingerprints[i])]++;
+        }
+        // counting sort by partition
+        final int[] start = new int[NR_PARTITIONS];
+        for (int p = 1; p < NR_PARTITIONS; p++) {
+            start[p] = start[p - 1] + chunk.m_counts[p - 1];
+        }
+        final int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[start[partition(fingerprints[i])]++] = i;
+        }
+        int next = 0;
+        for (int p = 0; p < NR_PARTITIONS; p++) {
+            chunk.m_offsets[p] = m_fileCounter.getByteCount();
+            for (int i = 0; i < chunk.m_counts[p]; i++) {
+                int k = order[next++];
+                m_fileOut.writeLong(fingerprints[k]);
+                m_fileOut.writeUTF(keys[k]);
+            }
+        }
+        m_fileOut.flush();
+        m_storedChunks.add(chunk);
+        m_currentChunk.clear();
+    }
+
+    private static int partition(final long fingerprint) {
+        return (int)(fingerprint >>> 56);
+    }
+
+    /**
+     * Computes a 64 bit fingerprint of the argument string (FNV-1a over the UTF-16 chars, followed by the finalizer
+     * of MurmurHash3 to spread the bits).
+     *
+     * @param s the string
+     * @return its fingerprint
+     */
+    static long fingerprint(final String s) {
+        long h = 0xcbf29ce484222325L;
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= length;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -67,6 +67,19 @@ public interface IDuplicateChecker {
      */
     public void addKey(final String s) throws DuplicateKeyException, IOException;
 
+    /**
+     * Adds the key <code>"Row" + rowIndex</code>, i.e. the key created by
+     * {@link org.knime.core.data.RowKey#createRowKey(long)}. Implementations may hold the index rather than the
+     * string. This implementation calls {@link #addKey(String)}.
+     *
+     * @param rowIndex the index of the key
+     * @throws DuplicateKeyException if a duplicate within the current chunk has been detected
+     * @throws IOException if an I/O error occurs while writing the chunk to disk
+     */
+    public default void addDefaultRowKey(final long rowIndex) throws DuplicateKeyException, IOException {
+        addKey(DuplicateChecker.DEFAULT_ROW_KEY_PREFIX + rowIndex);
+    }
+
     /**
      * Checks for duplicates in all added keys. This method must only be called once after all keys have been added!
      * Multiple calls may lead to exceptions and excessive resource usage.
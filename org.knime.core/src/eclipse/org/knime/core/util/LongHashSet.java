@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Set of primitive longs using open addressing with linear probing, used by the duplicate checkers to hold
+ * fingerprints and row indices without boxing.
+ *
+ * @author agent, KNIME AG, Zurich, Switzerland
+ */
+final class LongHashSet {
+
+    /** Table of values, 0 marks an empty slot. */
+    private long[] m_table = new long[64];
+
+    private boolean m_containsZero;
+
+    private int m_size;
+
+    boolean add(final long value) {
+        if (value == 0L) {
+            if (m_containsZero) {
+                return false;
+            }
+            m_containsZero = true;
+            m_size++;
+            return true;
+        }
+        final int mask = m_table.length - 1;
+        int i = (int)value & mask;
+        while (m_table[i] != 0L) {
+            if (m_table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        m_table[i] = value;
+        m_size++;
+        if (2 * m_size > m_table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(final long value) {
+        if (value == 0L) {
+            return m_containsZero;
+        }
+        final int mask = m_table.length - 1;
+        for (int i = (int)value & mask; m_table[i] != 0L; i = (i + 1) & mask) {
+            if (m_table[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return m_size;
+    }
+
+    boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    void forEach(final LongConsumer consumer) {
+        if (m_containsZero) {
+            consumer.accept(0L);
+        }
+        for (long value : m_table) {
+            if (value != 0L) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    /** Removes all values and releases the table. */
+    void clear() {
+        m_table = new long[64];
+        m_containsZero = false;
+        m_size = 0;
+    }
+
+    private void grow() {
+        final long[] old = m_table;
+        m_table = new long[2 * old.length];
+        final int mask = m_table.length - 1;
+        for (long value : old) {
+            if (value != 0L) {
+                int i = (int)value & mask;
+                while (m_table[i] != 0L) {
+                    i = (i + 1) & mask;
+                }
+                m_table[i] = value;
+            }
+        }
+    }
+}
@@ -46,6 +46,8 @@
 package org.knime.core.util;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,8 +55,11 @@
 import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 
@@ -75,6 +80,15 @@
  * order. This class uses an internal cache to ensure this ordering; the size
  * of the cache is determined by a constructor argument.
  *
+ * <p>As of 3.8 the cache (the window of submitted but not finally processed
+ * elements) adapts to the input: if a worker is idle because a slow element
+ * blocks the output, the window is widened (up to a multiple of the configured
+ * queue size) so that the idle workers continue with subsequent elements. The
+ * window is reset to the configured size when the heap runs low (as reported
+ * by the {@link MemoryAlertSystem}). See {@link #setAdaptiveWindow(boolean)}.
+ * The worker utilization can be queried using {@link #getUtilization()} and
+ * {@link #getWorkerBusyTimes()}.
+ *
  * @param <In> The type of input to be processed. The <code>Iterable</code>
  * passed in the {@link #run(Iterable)} method contains elements of this type.
  * Each element is processed in its own (reusable) thread.
@@ -84,14 +98,52 @@
  */
 public abstract class MultiThreadWorker<In, Out> {
 
+    /** Upper bound of the adaptive window, as multiple of the configured queue size. */
+    private static final int MAX_WINDOW_GROWTH = 8;
+
+    /** Time to wait for a free window slot before the window is widened, used as long as no computation finished. */
+    private static final long DEFAULT_STALL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Lower bound of the time to wait for a free window slot before the window is widened. */
+    private static final long MIN_STALL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Upper bound of the time to wait for a free window slot before the window is widened. */
+    private static final long MAX_STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final NodeLogger m_logger = NodeLogger.getLogger(getClass());
 
     /** Limits the number of simultaneously running computations. */
     private final Semaphore m_maxActiveInstanceSemaphore;
 
     /** Limits the number of finished but not finally processed
-     * computations (used to ensure output ordering). */
-    private final Semaphore m_maxQueueSemaphore;
+     * computations (used to ensure output ordering). Its number of permits is
+     * the current {@link #m_windowSize}. */
+    private final ResizableSemaphore m_maxQueueSemaphore;
+
+    /** The current size of the window of submitted but not finally processed
+     * computations, at least {@link #m_maxQueueSize}. Only modified by the
+     * thread running the {@link #run(Iterable) run method}. */
+    private volatile int m_windowSize;
+
+    /** The largest window size so far (statistics). */
+    private int m_peakWindowSize;
+
+    /** Whether the window is adapted, see {@link #setAdaptiveWindow(boolean)}. */
+    private boolean m_isAdaptiveWindow = true;
+
+    /** Total time spent in {@link #compute(Object, long)}, in nanoseconds. */
+    private final LongAdder m_busyNanos = new LongAdder();
+
+    /** Number of finished {@link #compute(Object, long)} calls. */
+    private final LongAdder m_computedCount = new LongAdder();
+
+    /** Time spent in {@link #compute(Object, long)} per worker thread (name), in nanoseconds. */
+    private final ConcurrentHashMap<String, LongAdder> m_workerBusyNanos = new ConcurrentHashMap<>();
+
+    /** {@link System#nanoTime()} when the run method was started and finished (0 if not yet). */
+    private volatile long m_startNanos;
+
+    private volatile long m_endNanos;
 
     /** Map of finished computations, maps input index (iterator index) to
      * computation. Used to ensure output ordering. */
@@ -144,7 +196,7 @@ public MultiThreadWorker(final int maxQueueSize,
                     + " large as running instance count: " + maxQueueSize
                     + " vs. " + maxActiveInstanceSize);
         }
-        m_maxQueueSemaphore = new Semaphore(maxQueueSize);
+        m_maxQueueSemaphore = new ResizableSemaphore(maxQueueSize);
         m_maxActiveInstanceSemaphore = new Semaphore(maxActiveInstanceSize);
         m_finishedTasks = new HashMap<Long, ComputationTask>(
                 (int)(4 / 3.0 * maxQueueSize) + 1);
@@ -153,6 +205,8 @@ public MultiThreadWorker(final int maxQueueSize,
         m_nextSubmittedIndex = 0;
         m_nextFinishedIndex = 0;
         m_maxQueueSize = maxQueueSize;
+        m_windowSize = maxQueueSize;
+        m_peakWindowSize = maxQueueSize;
         m_maxActiveInstanceSize = maxActiveInstanceSize;
         m_exceptionReference = new ExceptionReference();
     }
@@ -184,6 +238,60 @@ public final int getActiveCount() {
             - m_maxActiveInstanceSemaphore.availablePermits();
     }
 
+    /** @return The current size of the window of submitted but not finally
+     * processed elements (the configured queue size unless widened, see
+     * {@link #setAdaptiveWindow(boolean)}).
+     * @since 3.8
+     */
+    public final int getWindowSize() {
+        return m_windowSize;
+    }
+
+    /** Enables or disables the adaption of the window of submitted but not
+     * finally processed elements. If enabled (the default) and a worker is
+     * idle because the oldest unprocessed element takes long to compute, the
+     * window is widened up to {@value #MAX_WINDOW_GROWTH} times the queue size
+     * given in the constructor; the time waited before widening is derived
+     * from the average computation time. It is reset to the configured queue
+     * size whenever the heap runs low. If disabled, the queue size is a hard
+     * limit (as prior 3.8). Must be called before {@link #run(Iterable)}.
+     * @param value whether to adapt the window
+     * @since 3.8
+     */
+    public final void setAdaptiveWindow(final boolean value) {
+        m_isAdaptiveWindow = value;
+    }
+
+    /** The fraction of the available worker time that was spent in
+     * {@link #compute(Object, long)} since {@link #run(Iterable)} was called
+     * (until it returned), where the available time is the elapsed time
+     * multiplied by the maximum number of simultaneously running computations.
+     * @return the utilization in [0, 1] (0 if not started)
+     * @since 3.8
+     */
+    public final double getUtilization() {
+        final long start = m_startNanos;
+        if (start == 0L) {
+            return 0.0;
+        }
+        final long end = m_endNanos != 0L ? m_endNanos : System.nanoTime();
+        final long elapsed = end - start;
+        if (elapsed <= 0L) {
+            return 0.0;
+        }
+        return Math.min(1.0, m_busyNanos.sum() / ((double)elapsed * m_maxActiveInstanceSize));
+    }
+
+    /** @return The time spent in {@link #compute(Object, long)} per worker
+     * thread (by thread name), in nanoseconds.
+     * @since 3.8
+     */
+    public final Map<String, Long> getWorkerBusyTimes() {
+        Map<String, Long> result = new TreeMap<>();
+        m_workerBusyNanos.forEach((name, nanos) -> result.put(name, nanos.sum()));
+        return result;
+    }
+
     /** Main run method to process the input. This method is to be called only
      * once per instance (subsequent calls will result in an exception).
      *
@@ -240,11 +348,12 @@ private void innerRun(final Iterable<In> inputIterable)
             throw new IllegalStateException("Can only run once");
         }
         m_mainThread = Thread.currentThread();
+        m_startNanos = System.nanoTime();
         final Executor executor = m_executor;
         try {
             for (In in : inputIterable) {
                 m_maxActiveInstanceSemaphore.acquire();
-                m_maxQueueSemaphore.acquire();
+                acquireWindowSlot();
                 m_exceptionReference.checkExceptionInMainThread();
                 if (m_isCanceled) {
                     throw new CancellationException();
@@ -265,7 +374,7 @@ private void innerRun(final Iterable<In> inputIterable)
                 m_nextSubmittedIndex += 1L;
             }
             // wait for all jobs to finish
-            m_maxQueueSemaphore.acquire(m_maxQueueSize);
+            m_maxQueueSemaphore.acquire(m_windowSize);
         } catch (InterruptedException | CancellationException ie) {
             innerCancel(true);
             m_isCanceled = true;
@@ -273,6 +382,12 @@ private void innerRun(final Iterable<In> inputIterable)
             // reset interrupted flag that was set when an exception has
             // occurred in callProcessFinished
             Thread.interrupted();
+            m_endNanos = System.nanoTime();
+        }
+        if (m_logger.isDebugEnabled()) {
+            m_logger.debugWithFormat("Processed %d elements with %d workers, utilization %.0f%%, "
+                + "window size %d (peak %d, configured %d)", m_nextSubmittedIndex, m_maxActiveInstanceSize,
+                100.0 * getUtilization(), m_windowSize, m_peakWindowSize, m_maxQueueSize);
         }
         m_exceptionReference.checkExceptionInMainThread();
         if (m_isCanceled) {
@@ -280,6 +395,61 @@ private void innerRun(final Iterable<In> inputIterable)
         }
     }
 
+    /** Acquires a slot in the window of submitted but not finally processed
+     * elements. Called by the main thread while it holds a permit of the
+     * active instance semaphore, i.e. while at least one worker is idle. If
+     * no slot becomes available within about twice the average computation
+     * time, the oldest element blocks the output and the window is widened
+     * (unless disabled, at its limit or memory is low).
+     * @throws InterruptedException If interrupted while waiting. */
+    private void acquireWindowSlot() throws InterruptedException {
+        if (!m_isAdaptiveWindow) {
+            m_maxQueueSemaphore.acquire();
+            return;
+        }
+        final int maxWindowSize = (int)Math.min(Integer.MAX_VALUE, (long)m_maxQueueSize * MAX_WINDOW_GROWTH);
+        while (true) {
+            if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                if (m_windowSize > m_maxQueueSize) {
+                    // may leave the semaphore with a negative number of permits until enough tasks are processed
+                    m_maxQueueSemaphore.reducePermits(m_windowSize - m_maxQueueSize);
+                    m_windowSize = m_maxQueueSize;
+                }
+                m_maxQueueSemaphore.acquire();
+                return;
+            }
+            if (m_windowSize >= maxWindowSize) {
+                m_maxQueueSemaphore.acquire();
+                return;
+            }
+            if (m_maxQueueSemaphore.tryAcquire(getStallNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            final int growth = Math.max(1, Math.min(m_windowSize / 2, maxWindowSize - m_windowSize));
+            m_windowSize += growth;
+            m_peakWindowSize = Math.max(m_peakWindowSize, m_windowSize);
+            m_maxQueueSemaphore.release(growth);
+        }
+    }
+
+    /** @return the time to wait for a window slot before widening the window */
+    private long getStallNanos() {
+        final long count = m_computedCount.sum();
+        if (count == 0L) {
+            return DEFAULT_STALL_NANOS;
+        }
+        final long stallNanos = 2L * (m_busyNanos.sum() / count);
+        return Math.max(MIN_STALL_NANOS, Math.min(MAX_STALL_NANOS, stallNanos));
+    }
+
+    /** Records the time spent in a single computation.
+     * @param nanos the time in nanoseconds */
+    private void recordComputation(final long nanos) {
+        m_busyNanos.add(nanos);
+        m_computedCount.increment();
+        m_workerBusyNanos.computeIfAbsent(Thread.currentThread().getName(), n -> new LongAdder()).add(nanos);
+    }
+
     /** @param executor the executor to set (null is the default -- it will
      * then use the global {@link KNIMEConstants#GLOBAL_THREAD_POOL
      * KNIME thread pool}. */
@@ -439,7 +609,12 @@ private ComputationTask(final In in, final long index) {
                 @Override
                 public Out call() throws Exception {
                     m_exceptionReference.checkExceptionInSiblingThread();
-                    return MultiThreadWorker.this.compute(in, index);
+                    final long start = System.nanoTime();
+                    try {
+                        return MultiThreadWorker.this.compute(in, index);
+                    } finally {
+                        recordComputation(System.nanoTime() - start);
+                    }
                 }
             });
             m_in = in;
@@ -464,6 +639,21 @@ protected void done() {
     }
 
 
+    /** A semaphore whose number of permits can be reduced (used for the adaptive window). */
+    @SuppressWarnings("serial")
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(final int permits) {
+            super(permits);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void reducePermits(final int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
     /** A reference to the exception that might be thrown when processing one of the workers. If set all current
      * and future work will be stopped and the exception will be rethrown when appropriate.
      */
@@ -51,6 +51,7 @@
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.ListIterator;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -78,6 +79,9 @@ public class ThreadPool {
         private final CountDownLatch m_startWaiter = new CountDownLatch(1);
         private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
 
+        /** Queued futures are started in the order of descending priority. */
+        private long m_priority;
+
         /**
          * @see FutureTask#FutureTask(Callable)
          */
@@ -301,7 +305,7 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
 
     private final ThreadPool m_parent;
 
-    private final Queue<MyFuture<?>> m_queuedFutures;
+    private final LinkedList<MyFuture<?>> m_queuedFutures;
 
     private final Set<Worker> m_runningWorkers = new HashSet<Worker>();
 
@@ -409,7 +413,7 @@ public <T> Future<T> enqueue(final Callable<T> task) {
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
             if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+                addToQueue(ftask);
             }
         }
 
@@ -446,18 +450,47 @@ private void decrementPendingJobs() {
      * @see #submit(Runnable)
      */
     public Future<?> enqueue(final Runnable r) {
+        return enqueue(r, 0);
+    }
+
+    /**
+     * Submits a Runnable task for execution like {@link #enqueue(Runnable)}. If no thread is available the task is
+     * queued ahead of all waiting tasks with a lower priority (and behind those with the same or a higher priority).
+     * Tasks that are submitted without a priority have priority 0.
+     *
+     * @param r the task to submit
+     * @param priority the priority of the task
+     * @return a Future representing pending completion of the task, and whose
+     *         <tt>get()</tt> method will return <tt>null</tt> upon completion.
+     * @since 3.8
+     */
+    public Future<?> enqueue(final Runnable r, final long priority) {
         MyFuture<?> ftask = new MyFuture<Object>(r, null);
+        ftask.m_priority = priority;
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
             if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+                addToQueue(ftask);
             }
         }
 
         return ftask;
     }
 
+    /** Adds the future to the queue behind all futures with the same or a higher priority. Must be called while
+     * holding the lock on the queue. */
+    private void addToQueue(final MyFuture<?> ftask) {
+        ListIterator<MyFuture<?>> it = m_queuedFutures.listIterator(m_queuedFutures.size());
+        while (it.hasPrevious()) {
+            if (it.previous().m_priority >= ftask.m_priority) {
+                it.next();
+                break;
+            }
+        }
+        it.add(ftask);
+    }
+
     /**
      * Tries to submits a value-returning task for immediate execution and
      * returns a Future representing the pending results of the task if a thread